@@ -0,0 +1,188 @@
+package com.reservation.tablereservationservice.application.reservation.concurrency;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reservation.tablereservationservice.TableReservationServiceApplication;
+import com.reservation.tablereservationservice.application.reservation.concurrency.sync.SynchronizedCapacityStrategy;
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacity;
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacityRepository;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlot;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlotRepository;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+
+/**
+ * CapacityStrategy 구현체별 좌석 차감 처리량/지연 비교 (H2 인메모리 DB 위에서 실제 빈으로 실행)
+ * - mode: reservation.capacity.mode 값, sync 는 SynchronizedCapacityStrategy
+ * - skew: 요청이 몰리는 정도 (HOT = key 1개, ZIPF, UNIFORM)
+ * - partySize: 인원 수 분포
+ * 요청 1건 = 트랜잭션 1개 안에서 decrease 1회이며, 재시도는 하지 않는다.
+ * 결과와 함께 success / conflict(낙관적 락 충돌) / rejected(좌석 부족, 타임아웃 등) 건수를 출력한다.
+ *
+ * 스레드 수별로 실행한다. (결과는 build/results/jmh/results-t{threads}.json)
+ * for t in 1 4 16 64; do ./gradlew jmh -Pjmh.includes=CapacityStrategyBenchmark -Pjmh.threads=$t; done
+ */
+@Warmup(time = 2)
+@Measurement(time = 3)
+public class CapacityStrategyBenchmark {
+
+	private static final int KEY_COUNT = 64;
+
+	// 측정 중에 좌석이 바닥나지 않도록 충분히 크게 둔다.
+	private static final int SEATS_PER_KEY = 1_000_000_000;
+
+	@State(Scope.Benchmark)
+	public static class Strategies {
+
+		@Param({"sync", "optimistic", "pessimistic", "atomic-update", "cas", "write-behind"})
+		String mode;
+
+		@Param({"HOT", "ZIPF", "UNIFORM"})
+		KeySkew skew;
+
+		@Param({"FIXED", "UNIFORM", "MIXED"})
+		PartySizeDistribution partySize;
+
+		ConfigurableApplicationContext context;
+		CapacityStrategy strategy;
+		TransactionTemplate transactionTemplate;
+
+		Long[] slotIds;
+		LocalDate date;
+		double[] zipfCdf;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			context = new SpringApplicationBuilder(TableReservationServiceApplication.class)
+				.run(
+					"--server.port=0",
+					"--reservation.capacity.mode=" + ("sync".equals(mode) ? "optimistic" : mode),
+					"--spring.datasource.url=jdbc:h2:mem:capacity-" + mode + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+					"--spring.datasource.driver-class-name=org.h2.Driver",
+					"--spring.datasource.hikari.maximum-pool-size=80",
+					"--spring.jpa.hibernate.ddl-auto=create-drop",
+					"--spring.sql.init.mode=never",
+					"--jwt.secret=Y2FwYWNpdHktc3RyYXRlZ3ktYmVuY2htYXJrLXNlY3JldC1rZXktMDAwMQ==",
+					"--jwt.expiration=3600000",
+					"--logging.level.root=WARN"
+				);
+
+			strategy = "sync".equals(mode)
+				? context.getBean(SynchronizedCapacityStrategy.class)
+				: context.getBean(CapacityStrategy.class);
+			transactionTemplate = context.getBean(TransactionTemplate.class);
+
+			seed();
+			zipfCdf = KeySkew.zipfCdf(KEY_COUNT);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			context.close();
+		}
+
+		private void seed() {
+			RestaurantSlotRepository slotRepository = context.getBean(RestaurantSlotRepository.class);
+			DailySlotCapacityRepository capacityRepository = context.getBean(DailySlotCapacityRepository.class);
+
+			slotIds = new Long[KEY_COUNT];
+			date = LocalDate.now().plusDays(1);
+
+			for (int i = 0; i < KEY_COUNT; i++) {
+				RestaurantSlot slot = slotRepository.save(
+					RestaurantSlot.builder()
+						.restaurantId(1L)
+						.time(LocalTime.of(0, 0).plusMinutes(i))
+						.maxCapacity(SEATS_PER_KEY)
+						.build()
+				);
+				slotIds[i] = slot.getSlotId();
+
+				capacityRepository.save(
+					DailySlotCapacity.builder()
+						.slotId(slot.getSlotId())
+						.date(date)
+						.remainingCount(SEATS_PER_KEY)
+						.build()
+				);
+			}
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Requests {
+
+		SplittableRandom random;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			random = new SplittableRandom(Thread.currentThread().threadId());
+		}
+	}
+
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	@State(Scope.Thread)
+	public static class Outcomes {
+
+		public long success;
+		public long conflict;
+		public long rejected;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			success = 0;
+			conflict = 0;
+			rejected = 0;
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	public void throughput(Strategies strategies, Requests requests, Outcomes outcomes) {
+		decrease(strategies, requests, outcomes);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SampleTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public void latency(Strategies strategies, Requests requests, Outcomes outcomes) {
+		decrease(strategies, requests, outcomes);
+	}
+
+	private static void decrease(Strategies strategies, Requests requests, Outcomes outcomes) {
+		Long slotId = strategies.slotIds[strategies.skew.next(requests.random, strategies.zipfCdf)];
+		int partySize = strategies.partySize.next(requests.random);
+
+		try {
+			strategies.transactionTemplate.executeWithoutResult(status ->
+				strategies.strategy.decrease(slotId, strategies.date, partySize)
+			);
+			outcomes.success++;
+		} catch (OptimisticLockingFailureException e) {
+			outcomes.conflict++;
+		} catch (ReservationException e) {
+			outcomes.rejected++;
+		}
+	}
+}
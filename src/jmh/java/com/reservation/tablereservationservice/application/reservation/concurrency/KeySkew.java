@@ -0,0 +1,61 @@
+package com.reservation.tablereservationservice.application.reservation.concurrency;
+
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크 요청이 고르는 (slotId, date) 분포
+ */
+public enum KeySkew {
+
+	// 모든 요청이 key 하나에 몰림 (선착순 오픈)
+	HOT {
+		@Override
+		int next(SplittableRandom random, double[] zipfCdf) {
+			return 0;
+		}
+	},
+
+	// 인기 key 에 몰리는 롱테일 (zipf, s = 1.0)
+	ZIPF {
+		@Override
+		int next(SplittableRandom random, double[] zipfCdf) {
+			double u = random.nextDouble();
+			int low = 0;
+			int high = zipfCdf.length - 1;
+
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (zipfCdf[mid] < u) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+	},
+
+	// 모든 key 가 고르게 (경합 최소)
+	UNIFORM {
+		@Override
+		int next(SplittableRandom random, double[] zipfCdf) {
+			return random.nextInt(zipfCdf.length);
+		}
+	};
+
+	abstract int next(SplittableRandom random, double[] zipfCdf);
+
+	static double[] zipfCdf(int keyCount) {
+		double[] cdf = new double[keyCount];
+		double sum = 0;
+
+		for (int i = 0; i < keyCount; i++) {
+			sum += 1.0 / (i + 1);
+			cdf[i] = sum;
+		}
+		for (int i = 0; i < keyCount; i++) {
+			cdf[i] /= sum;
+		}
+		return cdf;
+	}
+}
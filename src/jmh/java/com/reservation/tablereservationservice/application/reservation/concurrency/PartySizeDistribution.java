@@ -0,0 +1,43 @@
+package com.reservation.tablereservationservice.application.reservation.concurrency;
+
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크 요청의 인원 수 분포
+ */
+public enum PartySizeDistribution {
+
+	// 항상 2명
+	FIXED {
+		@Override
+		int next(SplittableRandom random) {
+			return 2;
+		}
+	},
+
+	// 1~8명 균등
+	UNIFORM {
+		@Override
+		int next(SplittableRandom random) {
+			return random.nextInt(1, 9);
+		}
+	},
+
+	// 2명 60%, 4명 30%, 6~8명 10%
+	MIXED {
+		@Override
+		int next(SplittableRandom random) {
+			int p = random.nextInt(100);
+
+			if (p < 60) {
+				return 2;
+			}
+			if (p < 90) {
+				return 4;
+			}
+			return random.nextInt(6, 9);
+		}
+	};
+
+	abstract int next(SplittableRandom random);
+}
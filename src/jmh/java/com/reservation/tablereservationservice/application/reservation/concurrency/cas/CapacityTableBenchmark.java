@@ -0,0 +1,117 @@
+package com.reservation.tablereservationservice.application.reservation.concurrency.cas;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityKey;
+
+/**
+ * 차감 + 복구 1회의 비용 비교
+ * - map: 이전 AtomicCasCapacityStrategy 구조 (CapacityKey -> CompletableFuture<엔트리>)
+ * - table: PackedCapacityTable (long key, 배열 카운터)
+ * gc 프로파일러의 gc.alloc.rate.norm 으로 호출당 할당량을 함께 본다.
+ *
+ * ./gradlew jmh -Pjmh.includes=CapacityTableBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class CapacityTableBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class Tables {
+
+		@Param({"1000", "100000"})
+		int keyCount;
+
+		long[] slotIds;
+		LocalDate date;
+
+		ConcurrentMap<CapacityKey, CompletableFuture<MapEntry>> map;
+		PackedCapacityTable table;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			slotIds = new long[keyCount];
+			date = LocalDate.of(2030, 1, 1);
+
+			map = new ConcurrentHashMap<>();
+			table = new PackedCapacityTable(keyCount * 2);
+
+			for (int i = 0; i < keyCount; i++) {
+				slotIds[i] = 1_000L + i;
+				map.put(new CapacityKey(slotIds[i], date), CompletableFuture.completedFuture(new MapEntry(1_000_000)));
+				table.putIfAbsent(PackedCapacityTable.pack(slotIds[i], date.toEpochDay()), 1_000_000);
+			}
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Cursor {
+
+		int next;
+
+		int nextIndex(int bound) {
+			next = (next + 1) % bound;
+			return next;
+		}
+	}
+
+	@Benchmark
+	public int map(Tables tables, Cursor cursor) {
+		long slotId = tables.slotIds[cursor.nextIndex(tables.keyCount)];
+
+		// 요청마다 Long 박싱 + CapacityKey 생성 + hashCode/equals
+		MapEntry entry = tables.map.get(new CapacityKey(slotId, tables.date)).join();
+
+		entry.stamp.incrementAndGet();
+		entry.inFlight.addAndGet(1);
+		int left = entry.remaining.decrementAndGet();
+		entry.remaining.incrementAndGet();
+		entry.inFlight.addAndGet(-1);
+		return left;
+	}
+
+	@Benchmark
+	public int table(Tables tables, Cursor cursor) {
+		long slotId = tables.slotIds[cursor.nextIndex(tables.keyCount)];
+		long key = PackedCapacityTable.pack(slotId, tables.date.toEpochDay());
+
+		PackedCapacityTable table = tables.table;
+		int index = table.indexOf(key);
+
+		table.acquire(index, key, 1);
+		int left = table.tryDecrease(index, 1, 50);
+		table.addRemaining(index, 1);
+		table.release(index, 1);
+		return left;
+	}
+
+	static class MapEntry {
+
+		final AtomicInteger remaining;
+		final AtomicInteger pendingDelta = new AtomicInteger();
+		final AtomicInteger inFlight = new AtomicInteger();
+		final AtomicLong stamp = new AtomicLong();
+
+		MapEntry(int remaining) {
+			this.remaining = new AtomicInteger(remaining);
+		}
+	}
+}
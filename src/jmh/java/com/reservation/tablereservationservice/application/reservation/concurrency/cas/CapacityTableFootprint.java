@@ -0,0 +1,62 @@
+package com.reservation.tablereservationservice.application.reservation.concurrency.cas;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.openjdk.jol.info.GraphLayout;
+
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityKey;
+
+/**
+ * 오픈된 slot-day 수별 힙 사용량 비교 (JOL GraphLayout 기준, 도달 가능한 객체 전체)
+ *
+ * ./gradlew jmhJar
+ * java -Xmx8g -cp build/libs/table-reservation-service-0.0.1-SNAPSHOT-jmh.jar \
+ *   com.reservation.tablereservationservice.application.reservation.concurrency.cas.CapacityTableFootprint
+ */
+public class CapacityTableFootprint {
+
+	private static final int[] SLOT_DAYS = {1_000_000, 2_000_000, 4_000_000};
+	private static final int DAYS = 30;
+
+	public static void main(String[] args) {
+		LocalDate base = LocalDate.of(2030, 1, 1);
+
+		System.out.printf("%-12s %16s %16s %10s%n", "slot-days", "map(bytes)", "table(bytes)", "ratio");
+
+		for (int n : SLOT_DAYS) {
+			long mapBytes = measureMap(n, base);
+			long tableBytes = measureTable(n, base);
+
+			System.out.printf("%-12d %16d %16d %9.1fx%n", n, mapBytes, tableBytes, (double)mapBytes / tableBytes);
+		}
+	}
+
+	private static long measureMap(int n, LocalDate base) {
+		ConcurrentMap<CapacityKey, CompletableFuture<CapacityTableBenchmark.MapEntry>> map = new ConcurrentHashMap<>();
+
+		for (int i = 0; i < n; i++) {
+			// 요청 DTO 에서 온 LocalDate 처럼 key 마다 별도 인스턴스
+			LocalDate date = LocalDate.ofEpochDay(base.toEpochDay() + i % DAYS);
+			map.put(
+				new CapacityKey(1L + i / DAYS, date),
+				CompletableFuture.completedFuture(new CapacityTableBenchmark.MapEntry(10))
+			);
+		}
+
+		return GraphLayout.parseInstance(map).totalSize();
+	}
+
+	private static long measureTable(int n, LocalDate base) {
+		// 최대 적재율 75% 를 넘지 않는 크기
+		PackedCapacityTable table = new PackedCapacityTable((int)(n / 0.75) + 1);
+
+		for (int i = 0; i < n; i++) {
+			table.putIfAbsent(PackedCapacityTable.pack(1L + i / DAYS, base.toEpochDay() + i % DAYS), 10);
+		}
+
+		return GraphLayout.parseInstance(table).totalSize();
+	}
+}
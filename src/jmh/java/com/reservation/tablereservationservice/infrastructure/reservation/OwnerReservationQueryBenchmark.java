@@ -0,0 +1,198 @@
+package com.reservation.tablereservationservice.infrastructure.reservation;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.reservation.tablereservationservice.TableReservationServiceApplication;
+import com.reservation.tablereservationservice.domain.reservation.OwnerReservationRow;
+import com.reservation.tablereservationservice.domain.reservation.ReservationExportRepository;
+import com.reservation.tablereservationservice.domain.reservation.ReservationExportRow;
+import com.reservation.tablereservationservice.domain.reservation.ReservationRepository;
+
+/**
+ * 점주 예약 목록 첫 페이지(20건) 조회 시간, 같은 데이터에서 접근 경로만 다르게 비교한다.
+ * - slotJoin: restaurant_slot 을 join 해 slot 의 restaurant_id 로 거른다. (변경 전)
+ * - restaurantId: reservation.restaurant_id 로 바로 거른다. idx_restaurant_visit_at_id range scan (변경 후)
+ * - ownerRows / export: 실제로 나가는 쿼리(ReservationRepository, ReservationExportRepository)를 그대로 호출한다.
+ *   ownerRows 는 Slice 라 COUNT 없이 size + 1 건을 읽는 쿼리 하나다.
+ *
+ * 데이터: 점주/식당 1,000개, 식당당 슬롯 4개, reservation rows 건 (visit_at 은 1분 간격)
+ * ./gradlew jmh -Pjmh.includes=OwnerReservationQueryBenchmark
+ */
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 5)
+@State(Scope.Benchmark)
+public class OwnerReservationQueryBenchmark {
+
+	private static final int RESTAURANTS = 1_000;
+	private static final int SLOTS_PER_RESTAURANT = 4;
+	private static final int PAGE_SIZE = 20;
+	private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+	private static final String SELECT = """
+		select r.reservation_id, r.visit_at, r.party_size, r.note, r.status,
+		       rt.restaurant_id, rt.name, u.name, u.phone
+		from reservation r
+		""";
+
+	private static final String SLOT_JOIN = SELECT + """
+		join restaurant_slot s on s.slot_id = r.slot_id
+		join restaurant rt on rt.restaurant_id = s.restaurant_id
+		join users u on u.user_id = r.user_id
+		where rt.owner_id = ? and r.visit_at >= ? and r.visit_at < ?
+		order by r.visit_at desc, r.reservation_id desc
+		limit ?
+		""";
+
+	private static final String RESTAURANT_ID = SELECT + """
+		join restaurant rt on rt.restaurant_id = r.restaurant_id
+		join users u on u.user_id = r.user_id
+		where rt.owner_id = ? and r.visit_at >= ? and r.visit_at < ?
+		order by r.visit_at desc, r.reservation_id desc
+		limit ?
+		""";
+
+	@Param({"1000000"})
+	int rows;
+
+	private ConfigurableApplicationContext context;
+	private JdbcTemplate jdbcTemplate;
+	private ReservationRepository reservationRepository;
+	private ReservationExportRepository reservationExportRepository;
+	private long spanMinutes;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(TableReservationServiceApplication.class)
+			.run(
+				"--server.port=0",
+				"--spring.datasource.url=jdbc:h2:mem:owner-query;MODE=MySQL;DB_CLOSE_DELAY=-1",
+				"--spring.datasource.driver-class-name=org.h2.Driver",
+				"--spring.jpa.hibernate.ddl-auto=create-drop",
+				"--spring.sql.init.mode=never",
+				"--jwt.secret=cmVzZXJ2YXRpb24taW5zZXJ0LWJlbmNobWFyay1zZWNyZXQta2V5LTAwMDAwMQ==",
+				"--jwt.expiration=3600000",
+				"--logging.level.root=WARN"
+			);
+
+		jdbcTemplate = context.getBean(JdbcTemplate.class);
+		reservationRepository = context.getBean(ReservationRepository.class);
+		reservationExportRepository = context.getBean(ReservationExportRepository.class);
+		spanMinutes = rows;
+
+		load();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public List<Map<String, Object>> slotJoin() {
+		return query(SLOT_JOIN);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public List<Map<String, Object>> restaurantId() {
+		return query(RESTAURANT_ID);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public List<OwnerReservationRow> ownerRows() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long ownerId = random.nextLong(1, RESTAURANTS + 1);
+		LocalDateTime from = BASE.plusMinutes(random.nextLong(spanMinutes));
+
+		return reservationRepository.findOwnerReservationRows(
+			ownerId, null, from, from.plusDays(30), PageRequest.of(0, PAGE_SIZE)
+		).getContent();
+	}
+
+	// 식당 i 의 점주는 user i 이므로 restaurantId == ownerId
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public List<ReservationExportRow> export() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long restaurantId = random.nextLong(1, RESTAURANTS + 1);
+		LocalDateTime from = BASE.plusMinutes(random.nextLong(spanMinutes));
+
+		List<ReservationExportRow> rows = new ArrayList<>();
+		reservationExportRepository.forEachByRestaurantIds(
+			List.of(restaurantId), null, from, from.plusDays(30), rows::add
+		);
+		return rows;
+	}
+
+	// 임의의 점주, 임의의 30일 구간
+	private List<Map<String, Object>> query(String sql) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long ownerId = random.nextLong(1, RESTAURANTS + 1);
+		LocalDateTime from = BASE.plusMinutes(random.nextLong(spanMinutes));
+
+		return jdbcTemplate.queryForList(sql, ownerId, Timestamp.valueOf(from),
+			Timestamp.valueOf(from.plusDays(30)), PAGE_SIZE);
+	}
+
+	// 식당 i 의 점주는 user i, 예약 x 는 슬롯 (x % 슬롯 수) + 1 에 1분 간격으로 들어간다.
+	private void load() {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		int slots = RESTAURANTS * SLOTS_PER_RESTAURANT;
+
+		jdbcTemplate.update("""
+			insert into users (user_id, email, password, name, phone, user_role, created_at, modified_at)
+			select x, concat('user', x, '@bench.com'), 'pw', concat('User ', x), concat('010-', lpad(x, 8, '0')), 'CUSTOMER', ?, ?
+			from system_range(1, ?)
+			""", now, now, RESTAURANTS);
+
+		jdbcTemplate.update("""
+			insert into restaurant (restaurant_id, owner_id, region_code, category_code, name, address,
+			  created_at, modified_at)
+			select x, x, 'RG01', 'CT01', concat('Restaurant ', x), 'Seoul', ?, ?
+			from system_range(1, ?)
+			""", now, now, RESTAURANTS);
+
+		jdbcTemplate.update("""
+			insert into restaurant_slot (slot_id, restaurant_id, time, max_capacity, created_at, modified_at)
+			select x, (x - 1) / ? + 1, cast(concat(17 + mod(x, ?), ':00:00') as time), 10, ?, ?
+			from system_range(1, ?)
+			""", SLOTS_PER_RESTAURANT, SLOTS_PER_RESTAURANT, now, now, slots);
+
+		jdbcTemplate.update("""
+			insert into reservation (reservation_id, user_id, slot_id, restaurant_id, visit_at, party_size,
+			  status, request_id, server_received_seq, created_at, modified_at)
+			select x, mod(x, ?) + 1, mod(x, ?) + 1, mod(x, ?) / ? + 1, dateadd('MINUTE', x, ?), 2,
+			  'CONFIRMED', concat('bench-', x), 0, ?, ?
+			from system_range(1, ?)
+			""", RESTAURANTS, slots, slots, SLOTS_PER_RESTAURANT, Timestamp.valueOf(BASE), now, now, rows);
+	}
+}
@@ -0,0 +1,114 @@
+package com.reservation.tablereservationservice.infrastructure.reservation;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reservation.tablereservationservice.TableReservationServiceApplication;
+import com.reservation.tablereservationservice.domain.reservation.Reservation;
+import com.reservation.tablereservationservice.domain.reservation.ReservationRepository;
+import com.reservation.tablereservationservice.domain.reservation.ReservationStatus;
+
+/**
+ * reservation insert 처리량 (rows/s), 한 번에 ROWS 건을 saveAll 로 한 트랜잭션에 저장한다.
+ * - idStrategy: table = 현재 pooled TABLE id, identity = 변경 전 IDENTITY id (META-INF/reservation-identity-orm.xml 로 덮어씀)
+ * - batchSize: hibernate.jdbc.batch_size (1 = batch 끔)
+ *
+ * IDENTITY 에서는 batchSize 와 관계없이 row 마다 insert 가 한 번씩 나간다.
+ * ./gradlew jmh -Pjmh.includes=ReservationInsertBenchmark
+ */
+@Warmup(time = 2)
+@Measurement(time = 3)
+@State(Scope.Benchmark)
+public class ReservationInsertBenchmark {
+
+	private static final int ROWS = 500;
+
+	@Param({"identity", "table"})
+	String idStrategy;
+
+	@Param({"1", "50"})
+	int batchSize;
+
+	private ConfigurableApplicationContext context;
+	private ReservationRepository reservationRepository;
+	private TransactionTemplate transactionTemplate;
+
+	// uq_user_visit_at, uq_user_request_id 에 걸리지 않도록 row 마다 다른 사용자로 저장한다.
+	private final AtomicLong userIds = new AtomicLong();
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		List<String> args = new ArrayList<>(List.of(
+			"--server.port=0",
+			"--spring.datasource.url=jdbc:h2:mem:insert-" + idStrategy + "-" + batchSize
+				+ ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+			"--spring.datasource.driver-class-name=org.h2.Driver",
+			"--spring.jpa.hibernate.ddl-auto=create-drop",
+			"--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+			"--spring.sql.init.mode=never",
+			"--jwt.secret=cmVzZXJ2YXRpb24taW5zZXJ0LWJlbmNobWFyay1zZWNyZXQta2V5LTAwMDAwMQ==",
+			"--jwt.expiration=3600000",
+			"--logging.level.root=WARN"
+		));
+
+		if ("identity".equals(idStrategy)) {
+			args.add("--spring.jpa.mapping-resources=META-INF/reservation-identity-orm.xml");
+		}
+
+		context = new SpringApplicationBuilder(TableReservationServiceApplication.class)
+			.run(args.toArray(String[]::new));
+
+		reservationRepository = context.getBean(ReservationRepository.class);
+		transactionTemplate = context.getBean(TransactionTemplate.class);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	@OperationsPerInvocation(ROWS)
+	public List<Reservation> saveAll() {
+		List<Reservation> reservations = new ArrayList<>(ROWS);
+		LocalDateTime visitAt = LocalDateTime.now().plusDays(1).withNano(0);
+
+		for (int i = 0; i < ROWS; i++) {
+			long userId = userIds.incrementAndGet();
+
+			reservations.add(Reservation.builder()
+				.userId(userId)
+				.slotId(1L)
+				.restaurantId(1L)
+				.visitAt(visitAt)
+				.partySize(2)
+				.status(ReservationStatus.CONFIRMED)
+				.requestId("bench-" + userId)
+				.build());
+		}
+
+		return transactionTemplate.execute(status -> reservationRepository.saveAll(reservations));
+	}
+}
@@ -0,0 +1,184 @@
+package com.reservation.tablereservationservice.application.reservation.availability;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityKey;
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacityRepository;
+import com.reservation.tablereservationservice.domain.reservation.SlotAvailability;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantRepository;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlotRepository;
+import com.reservation.tablereservationservice.global.annotation.ReplicaRead;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+import com.reservation.tablereservationservice.global.exception.RestaurantException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 식당별 예약 가능 현황(슬롯 x 날짜 잔여 좌석)을 메모리에 두고 조회를 DB 없이 처리한다.
+ * - 식당을 처음 조회할 때 오늘부터 horizon-days 만큼을 한 번에 읽어 스냅샷을 만든다.
+ * - 이 인스턴스의 예약/취소는 커밋 후 변경분을 바로 반영한다.
+ * - 다른 인스턴스/경로(hold, mailbox 등)의 변경과 새로 오픈된 날짜는 주기적인 reconcile 로 DB 값에 맞춘다.
+ * - 조회용 값이므로 reconcile 사이의 오차는 허용하고, 실제 예약 가능 여부는 예약 요청에서 다시 검증한다.
+ */
+@Slf4j
+@Component
+public class AvailabilitySnapshot {
+
+	private final DailySlotCapacityRepository dailySlotCapacityRepository;
+	private final RestaurantRepository restaurantRepository;
+	private final RestaurantSlotRepository restaurantSlotRepository;
+	private final Cache<Long, RestaurantAvailability> snapshots;
+	private final int horizonDays;
+	private final int maxRangeDays;
+	private final Supplier<LocalDate> today;
+
+	@Autowired
+	public AvailabilitySnapshot(
+		DailySlotCapacityRepository dailySlotCapacityRepository,
+		RestaurantRepository restaurantRepository,
+		RestaurantSlotRepository restaurantSlotRepository,
+		MeterRegistry meterRegistry,
+		@Value("${reservation.availability.maximum-size}") int maximumSize,
+		@Value("${reservation.availability.expire-after-access-minutes}") long expireAfterAccessMinutes,
+		@Value("${reservation.availability.horizon-days}") int horizonDays,
+		@Value("${reservation.availability.max-range-days}") int maxRangeDays
+	) {
+		this(dailySlotCapacityRepository, restaurantRepository, restaurantSlotRepository, maximumSize,
+			expireAfterAccessMinutes, horizonDays, maxRangeDays, LocalDate::now);
+
+		CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "availability");
+	}
+
+	AvailabilitySnapshot(
+		DailySlotCapacityRepository dailySlotCapacityRepository,
+		RestaurantRepository restaurantRepository,
+		RestaurantSlotRepository restaurantSlotRepository,
+		int maximumSize,
+		long expireAfterAccessMinutes,
+		int horizonDays,
+		int maxRangeDays,
+		Supplier<LocalDate> today
+	) {
+		this.dailySlotCapacityRepository = dailySlotCapacityRepository;
+		this.restaurantRepository = restaurantRepository;
+		this.restaurantSlotRepository = restaurantSlotRepository;
+		this.horizonDays = horizonDays;
+		this.maxRangeDays = maxRangeDays;
+		this.today = today;
+		this.snapshots = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+			.recordStats()
+			.build();
+	}
+
+	/**
+	 * [from, to] 기간의 슬롯별 잔여 좌석 (date, time 순)
+	 * 조회 가능 기간은 오늘부터 horizon-days 이며, 한 번에 max-range-days 일까지 조회한다.
+	 */
+	@ReplicaRead
+	public List<SlotAvailability> find(Long restaurantId, LocalDate from, LocalDate to) {
+		validateRange(from, to);
+
+		return snapshots.get(restaurantId, this::load).between(from, to);
+	}
+
+	/**
+	 * 좌석이 바뀐 트랜잭션이 커밋된 뒤에 반영한다. (롤백되면 그대로 둔다)
+	 * @param delta 차감이면 음수, 복구면 양수
+	 */
+	public void adjustAfterCommit(Long slotId, LocalDate date, int delta) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			adjust(slotId, date, delta);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				adjust(slotId, date, delta);
+			}
+		});
+	}
+
+	/**
+	 * 올라와 있는 스냅샷을 DB 값으로 다시 만든다. 실패한 식당은 기존 스냅샷을 유지한다.
+	 */
+	@ReplicaRead
+	@Scheduled(fixedDelayString = "${reservation.availability.reconcile-interval-ms}")
+	public void reconcile() {
+		snapshots.asMap().keySet().forEach(restaurantId -> {
+			try {
+				snapshots.asMap().replace(restaurantId, load(restaurantId));
+			} catch (RuntimeException e) {
+				log.warn("[AVAILABILITY] reconcile failed (restaurantId={}, cause={})",
+					restaurantId, e.getClass().getSimpleName());
+			}
+		});
+	}
+
+	public long size() {
+		return snapshots.estimatedSize();
+	}
+
+	public void clear() {
+		snapshots.invalidateAll();
+	}
+
+	private void adjust(Long slotId, LocalDate date, int delta) {
+		if (snapshots.estimatedSize() == 0) {
+			return;
+		}
+
+		// 슬롯 메타데이터는 캐시에서 읽으므로 DB 를 거치지 않는다.
+		restaurantSlotRepository.findById(slotId)
+			.map(slot -> snapshots.getIfPresent(slot.getRestaurantId()))
+			.ifPresent(snapshot -> snapshot.add(new CapacityKey(slotId, date), delta));
+	}
+
+	private RestaurantAvailability load(Long restaurantId) {
+		restaurantRepository.findById(restaurantId)
+			.orElseThrow(() -> new RestaurantException(ErrorCode.RESOURCE_NOT_FOUND, "Restaurant"));
+
+		LocalDate from = today.get();
+		LocalDate to = from.plusDays(horizonDays - 1);
+
+		return new RestaurantAvailability(
+			dailySlotCapacityRepository.findAvailabilityByRestaurantId(restaurantId, from, to)
+		);
+	}
+
+	private void validateRange(LocalDate from, LocalDate to) {
+		LocalDate first = today.get();
+		LocalDate last = first.plusDays(horizonDays - 1);
+
+		if (from.isAfter(to)) {
+			throw new ReservationException(ErrorCode.INVALID_INPUT_VALUE, "from 은 to 보다 늦을 수 없습니다.");
+		}
+
+		if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+			throw new ReservationException(
+				ErrorCode.INVALID_INPUT_VALUE, "한 번에 " + maxRangeDays + "일까지 조회할 수 있습니다.");
+		}
+
+		if (to.isBefore(first) || from.isAfter(last)) {
+			throw new ReservationException(ErrorCode.INVALID_INPUT_VALUE, "조회 가능 기간: " + first + " ~ " + last);
+		}
+	}
+}
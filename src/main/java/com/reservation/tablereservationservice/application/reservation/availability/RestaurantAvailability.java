@@ -0,0 +1,48 @@
+package com.reservation.tablereservationservice.application.reservation.availability;
+
+import static java.util.stream.Collectors.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityKey;
+import com.reservation.tablereservationservice.domain.reservation.SlotAvailability;
+
+/**
+ * 식당 하나의 잔여 좌석 스냅샷
+ * - 칸 구성(slot, date)은 로딩 시점에 고정되고, 잔여 좌석만 커밋된 변경분으로 갱신된다.
+ */
+class RestaurantAvailability {
+
+	private final List<SlotAvailability> slots;
+	private final Map<CapacityKey, AtomicInteger> remaining;
+
+	RestaurantAvailability(List<SlotAvailability> slots) {
+		this.slots = slots;
+		this.remaining = slots.stream()
+			.collect(toUnmodifiableMap(
+				slot -> new CapacityKey(slot.slotId(), slot.date()),
+				slot -> new AtomicInteger(slot.remainingCount())
+			));
+	}
+
+	List<SlotAvailability> between(LocalDate from, LocalDate to) {
+		return slots.stream()
+			.filter(slot -> !slot.date().isBefore(from) && !slot.date().isAfter(to))
+			.map(slot -> slot.withRemainingCount(remaining.get(new CapacityKey(slot.slotId(), slot.date())).get()))
+			.toList();
+	}
+
+	/**
+	 * 스냅샷에 없는 칸(로딩 이후 오픈)은 무시한다. 다음 reconcile 에서 채워진다.
+	 */
+	void add(CapacityKey key, int delta) {
+		AtomicInteger counter = remaining.get(key);
+
+		if (counter != null) {
+			counter.updateAndGet(current -> Math.max(current + delta, 0));
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package com.reservation.tablereservationservice.application.reservation.concurrency;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+
+/**
+ * 여러 key 를 함께 잠글 때는 이 순서(slotId, date)를 따라 교착을 피한다.
+ */
+public record CapacityKey(Long slotId, LocalDate date) implements Comparable<CapacityKey> {
+
+	private static final Comparator<CapacityKey> ORDER =
+		Comparator.comparing(CapacityKey::slotId).thenComparing(CapacityKey::date);
+
+	@Override
+	public int compareTo(CapacityKey other) {
+		return ORDER.compare(this, other);
+	}
+}
@@ -0,0 +1,23 @@
+package com.reservation.tablereservationservice.application.reservation.concurrency;
+
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+
+import lombok.Getter;
+
+/**
+ * 여러 key 를 한 번에 차감하다 좌석이 부족한 경우, 어느 key 에서 몇 명이 부족했는지 함께 전달한다.
+ * (errorCode 는 RESERVATION_CAPACITY_NOT_ENOUGH 그대로)
+ */
+@Getter
+public class CapacityShortageException extends ReservationException {
+
+	private final CapacityKey key;
+	private final int partySize;
+
+	public CapacityShortageException(CapacityKey key, int partySize) {
+		super(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH);
+		this.key = key;
+		this.partySize = partySize;
+	}
+}
@@ -1,8 +1,34 @@
 package com.reservation.tablereservationservice.application.reservation.concurrency;
 
 import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
 
 public interface CapacityStrategy {
 
 	void decrease(Long slotId, LocalDate date, int partySize);
+
+	void increase(Long slotId, LocalDate date, int partySize);
+
+	/**
+	 * 여러 (slotId, date) 를 호출한 트랜잭션 안에서 함께 차감한다.
+	 * - 항상 CapacityKey 순서로 처리하므로 같은 row 들을 다루는 요청끼리 교착이 생기지 않는다.
+	 * - 하나라도 실패하면 예외를 던지고, 앞서 차감한 좌석은 트랜잭션 롤백으로 되돌린다.
+	 * - 좌석이 부족하면 부족한 key 를 담은 CapacityShortageException 을 던진다.
+	 */
+	default void decreaseAll(Map<CapacityKey, Integer> partySizes) {
+		new TreeMap<>(partySizes).forEach((key, partySize) -> {
+			try {
+				decrease(key.slotId(), key.date(), partySize);
+			} catch (ReservationException e) {
+				if (e.getErrorCode() == ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH) {
+					throw new CapacityShortageException(key, partySize);
+				}
+				throw e;
+			}
+		});
+	}
 }
@@ -0,0 +1,54 @@
+package com.reservation.tablereservationservice.application.reservation.concurrency.atomic;
+
+import java.time.LocalDate;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityStrategy;
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacityRepository;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조건부 UPDATE 한 번으로 차감한다. (remaining_count >= partySize 일 때만 반영)
+ * - 사전 SELECT / 버전 충돌이 없으므로 재시도가 필요 없다.
+ * - 실패(0 row)했을 때만 row 를 조회해 미오픈 / 좌석 부족을 구분한다.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "reservation.capacity.mode", havingValue = "atomic-update")
+@RequiredArgsConstructor
+public class AtomicUpdateCapacityStrategy implements CapacityStrategy {
+
+	private final DailySlotCapacityRepository dailySlotCapacityRepository;
+
+	@Override
+	public void decrease(Long slotId, LocalDate date, int partySize) {
+		if (partySize <= 0) {
+			throw new ReservationException(ErrorCode.INVALID_PARTY_SIZE);
+		}
+
+		if (dailySlotCapacityRepository.decreaseIfEnough(slotId, date, partySize)) {
+			return;
+		}
+
+		if (dailySlotCapacityRepository.findBySlotIdAndDate(slotId, date).isEmpty()) {
+			throw new ReservationException(ErrorCode.RESERVATION_SLOT_NOT_OPENED);
+		}
+
+		throw new ReservationException(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH);
+	}
+
+	@Override
+	public void increase(Long slotId, LocalDate date, int partySize) {
+		if (partySize <= 0) {
+			throw new ReservationException(ErrorCode.INVALID_PARTY_SIZE);
+		}
+
+		dailySlotCapacityRepository.addRemainingCount(slotId, date, partySize);
+	}
+}
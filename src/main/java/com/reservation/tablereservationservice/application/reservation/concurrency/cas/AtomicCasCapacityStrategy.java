@@ -1,24 +1,58 @@
 package com.reservation.tablereservationservice.application.reservation.concurrency.cas;
 
 import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicInteger;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityStrategy;
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacity;
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacityRepository;
 import com.reservation.tablereservationservice.global.exception.ErrorCode;
 import com.reservation.tablereservationservice.global.exception.ReservationException;
 
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 잔여 좌석을 PackedCapacityTable 의 CAS 로 차감하는 캐시
+ * - key 는 (slotId, epochDay) 를 묶은 long 이므로 조회/차감 경로에서 객체를 만들지 않는다.
+ * - 없는 key 는 key 별 로딩 가드(CompletableFuture) 아래에서 DB 를 한 번만 읽어 채운다.
+ * - 커밋된 변경분은 delta 로 모아 주기적으로 DB 에 반영하고, 유휴 key 는 DB 값과 다시 맞춘다.
+ * - 지난 날짜의 key 는 반영할 delta 가 없으면 제거한다.
+ * - 테이블이 가득 차 올리지 못한 key 는 DB 조건부 UPDATE 로 바로 처리한다. (자리가 나면 다음 miss 때 올린다)
+ *   long 으로 묶을 수 없는 key (1970-01-01 이전 날짜 등) 도 같은 DB 경로로 처리한다.
+ * - 메모리 카운터가 기준이므로 인스턴스 하나에서만 정확하다. 여러 인스턴스가 같은 key 를 팔면
+ *   write-back 이 DB 를 음수로 만들지 않도록 막고, 초과 판매를 로그로 남긴 뒤 DB 값으로 다시 맞춘다.
+ */
+@Slf4j
+@Primary
 @Component
+@ConditionalOnProperty(name = "reservation.capacity.mode", havingValue = "cas")
 public class AtomicCasCapacityStrategy implements CapacityStrategy {
 
 	private static final int MAX_CAS_RETRY = 50; // 무한 CPU 스핀을 방지하기 위한 상한값
-	private final ConcurrentMap<CapacityKey, AtomicInteger> remainingCache = new ConcurrentHashMap<>();
 
-	public void init(Long slotId, LocalDate date, int initialRemaining) {
-		remainingCache.put(new CapacityKey(slotId, date), new AtomicInteger(initialRemaining));
+	private final DailySlotCapacityRepository dailySlotCapacityRepository;
+	private final PackedCapacityTable table;
+
+	private final ConcurrentMap<Long, CompletableFuture<Integer>> loading = new ConcurrentHashMap<>();
+
+	public AtomicCasCapacityStrategy(
+		DailySlotCapacityRepository dailySlotCapacityRepository,
+		@Value("${reservation.capacity.cas.table-capacity}") int tableCapacity
+	) {
+		this.dailySlotCapacityRepository = dailySlotCapacityRepository;
+		this.table = new PackedCapacityTable(tableCapacity);
 	}
 
 	@Override
@@ -27,40 +61,310 @@ public class AtomicCasCapacityStrategy implements CapacityStrategy {
 			throw new ReservationException(ErrorCode.INVALID_PARTY_SIZE);
 		}
 
-		CapacityKey key = new CapacityKey(slotId, date);
-		AtomicInteger remaining = remainingCache.get(key);
-		if (remaining == null) {
-			throw new IllegalStateException("capacity not initialized: " + key);
+		if (!PackedCapacityTable.isPackable(slotId, date.toEpochDay())) {
+			decreaseInDb(slotId, date, partySize);
+			return;
+		}
+
+		long key = PackedCapacityTable.pack(slotId, date.toEpochDay());
+
+		// reconcile/evict 가 커밋 전 차감분을 덮어쓰지 않도록 CAS 전에 칸을 점유한다.
+		int index = acquire(key, partySize);
+		if (index == PackedCapacityTable.NOT_FOUND) {
+			decreaseInDb(slotId, date, partySize);
+			return;
+		}
+
+		int left;
+		try {
+			left = table.tryDecrease(index, partySize, MAX_CAS_RETRY);
+		} catch (IllegalStateException e) {
+			table.release(index, partySize);
+			throw new ReservationException(ErrorCode.RESERVATION_NOT_AVAILABLE, "CAS retry exceeded");
+		}
+
+		if (left < 0) {
+			table.release(index, partySize);
+			throw new ReservationException(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH);
+		}
+
+		// 커밋된 차감만 DB 반영 대상이 되고, 롤백되면 메모리 좌석을 되돌린다.
+		onCompletion(index, -partySize, partySize);
+	}
+
+	@Override
+	public void increase(Long slotId, LocalDate date, int partySize) {
+		if (partySize <= 0) {
+			throw new ReservationException(ErrorCode.INVALID_PARTY_SIZE);
+		}
+
+		if (!PackedCapacityTable.isPackable(slotId, date.toEpochDay())) {
+			dailySlotCapacityRepository.addRemainingCount(slotId, date, partySize);
+			return;
+		}
+
+		long key = PackedCapacityTable.pack(slotId, date.toEpochDay());
+		int index = acquire(key, partySize);
+		if (index == PackedCapacityTable.NOT_FOUND) {
+			dailySlotCapacityRepository.addRemainingCount(slotId, date, partySize);
+			return;
+		}
+
+		onCompletion(index, partySize, 0);
+	}
+
+	public int getRemaining(Long slotId, LocalDate date) {
+		if (!PackedCapacityTable.isPackable(slotId, date.toEpochDay())) {
+			return remainingInDb(slotId, date);
+		}
+
+		long key = PackedCapacityTable.pack(slotId, date.toEpochDay());
+		int index = indexOrLoad(key);
+
+		if (index == PackedCapacityTable.NOT_FOUND) {
+			return remainingInDb(slotId, date);
 		}
+		return table.remaining(index);
+	}
+
+	/**
+	 * 커밋된 delta 를 key 당 UPDATE 1번으로 반영한다.
+	 */
+	@Scheduled(fixedDelayString = "${reservation.capacity.cas.flush-interval-ms}")
+	public void flush() {
+		table.forEach(this::writeBack);
+	}
 
-		for (int i = 0; i < MAX_CAS_RETRY; i++) {
-			int current = remaining.get();
+	/**
+	 * 다른 인스턴스/경로의 변경을 반영하기 위해 유휴 key 를 DB 값으로 맞추고, 지난 날짜의 key 를 제거한다.
+	 */
+	@Scheduled(fixedDelayString = "${reservation.capacity.cas.reconcile-interval-ms}")
+	public void reconcile() {
+		long today = LocalDate.now().toEpochDay();
 
-			if (current < partySize) {
-				throw new ReservationException(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH);
+		table.forEach((index, key) -> {
+			if (!writeBack(index, key)) {
+				return;
 			}
 
-			if (remaining.compareAndSet(current, current - partySize)) {
+			if (PackedCapacityTable.epochDayOf(key) < today) {
+				table.removeIfIdle(index, key);
 				return;
 			}
+
+			refresh(index, key);
+		});
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+
+	public int size() {
+		return table.size();
+	}
+
+	public void clear() {
+		table.clear();
+		loading.clear();
+	}
+
+	/**
+	 * @return 점유한 칸 index, 테이블에 자리가 없으면 NOT_FOUND
+	 */
+	private int acquire(long key, int amount) {
+		while (true) {
+			int index = indexOrLoad(key);
+
+			if (index == PackedCapacityTable.NOT_FOUND || table.acquire(index, key, amount)) {
+				return index;
+			}
+		}
+	}
+
+	private int indexOrLoad(long key) {
+		int index = table.indexOf(key);
+		if (index != PackedCapacityTable.NOT_FOUND) {
+			return index;
+		}
+		return load(key);
+	}
+
+	/**
+	 * 같은 key 의 첫 요청만 DB 를 읽고, 동시에 들어온 요청은 같은 future 를 기다린다.
+	 * 로딩이 끝나면 future 를 지우므로 실패한 key 는 다음 요청이 다시 시도한다.
+	 */
+	private int load(long key) {
+		CompletableFuture<Integer> created = new CompletableFuture<>();
+		CompletableFuture<Integer> existing = loading.putIfAbsent(key, created);
+
+		if (existing != null) {
+			try {
+				return existing.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+				throw e;
+			}
 		}
 
-		throw new ReservationException(ErrorCode.RESERVATION_NOT_AVAILABLE, "CAS retry exceeded");
+		try {
+			int index = table.indexOf(key);
+
+			if (index == PackedCapacityTable.NOT_FOUND) {
+				DailySlotCapacity capacity = dailySlotCapacityRepository.findBySlotIdAndDate(slotIdOf(key), dateOf(key))
+					.orElseThrow(() -> new ReservationException(ErrorCode.RESERVATION_SLOT_NOT_OPENED));
+
+				index = table.putIfAbsent(key, capacity.getRemainingCount());
+				if (index == PackedCapacityTable.NOT_FOUND) {
+					log.warn("[CAS] capacity table is full, fall back to DB (slotId={}, date={}, size={})",
+						slotIdOf(key), dateOf(key), table.size());
+				}
+			}
+
+			created.complete(index);
+			return index;
+		} catch (RuntimeException e) {
+			created.completeExceptionally(e);
+			throw e;
+		} finally {
+			loading.remove(key, created);
+		}
 	}
 
-	public int getRemaining(Long slotId, LocalDate date) {
-		CapacityKey key = new CapacityKey(slotId, date);
-		AtomicInteger remaining = remainingCache.get(key);
-		if (remaining == null) {
-			throw new IllegalStateException("capacity not initialized: " + key);
+	private int remainingInDb(Long slotId, LocalDate date) {
+		return dailySlotCapacityRepository.findBySlotIdAndDate(slotId, date)
+			.orElseThrow(() -> new ReservationException(ErrorCode.RESERVATION_SLOT_NOT_OPENED))
+			.getRemainingCount();
+	}
+
+	private void decreaseInDb(Long slotId, LocalDate date, int partySize) {
+		if (dailySlotCapacityRepository.decreaseIfEnough(slotId, date, partySize)) {
+			return;
 		}
-		return remaining.get();
+
+		if (dailySlotCapacityRepository.findBySlotIdAndDate(slotId, date).isEmpty()) {
+			throw new ReservationException(ErrorCode.RESERVATION_SLOT_NOT_OPENED);
+		}
+
+		throw new ReservationException(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH);
 	}
 
-	public void clear() {
-		remainingCache.clear();
+	/**
+	 * @return 반영할 delta 가 남아있지 않으면 true
+	 */
+	private boolean writeBack(int index, long key) {
+		int delta = table.drainPendingDelta(index);
+		if (delta == 0) {
+			return true;
+		}
+
+		try {
+			if (!dailySlotCapacityRepository.addRemainingCountIfNotNegative(slotIdOf(key), dateOf(key), delta)) {
+				oversold(index, key, delta);
+			}
+			return true;
+		} catch (ReservationException e) {
+			// capacity row 가 삭제된 경우: 반영할 곳이 없으므로 캐시에서도 제거한다.
+			log.warn("[CAS] capacity row not found, evict (slotId={}, date={}, delta={})",
+				slotIdOf(key), dateOf(key), delta);
+			table.removeIfIdle(index, key);
+			return false;
+		} catch (RuntimeException e) {
+			// 다음 주기에 다시 반영한다.
+			table.addPendingDelta(index, delta);
+			log.warn("[CAS] write-back failed (slotId={}, date={}, delta={})", slotIdOf(key), dateOf(key), delta, e);
+			return false;
+		}
+	}
+
+	/**
+	 * 다른 인스턴스/경로가 같은 좌석을 먼저 가져가 delta 를 반영하면 음수가 되는 경우
+	 * 이미 커밋된 예약이므로 DB 는 0 으로 맞추고, 이 인스턴스도 DB 값으로 다시 맞춰 더 팔지 않는다.
+	 */
+	private void oversold(int index, long key, int delta) {
+		Long slotId = slotIdOf(key);
+		LocalDate date = dateOf(key);
+
+		dailySlotCapacityRepository.findBySlotIdAndDate(slotId, date).ifPresent(capacity -> {
+			log.error("[CAS] write-back would go negative, oversold (slotId={}, date={}, db={}, delta={})",
+				slotId, date, capacity.getRemainingCount(), delta);
+			dailySlotCapacityRepository.decreaseIfEnough(slotId, date, capacity.getRemainingCount());
+		});
+
+		refresh(index, key);
+	}
+
+	/**
+	 * 조회 전후로 stamp 가 같고 진행 중인 차감이 없을 때만 DB 값으로 교체한다.
+	 */
+	private void refresh(int index, long key) {
+		int stamp = table.stamp(index);
+		int cached = table.remaining(index);
+
+		if (!table.isIdle(index)) {
+			return;
+		}
+
+		dailySlotCapacityRepository.findBySlotIdAndDate(slotIdOf(key), dateOf(key))
+			.ifPresentOrElse(
+				capacity -> {
+					int db = capacity.getRemainingCount();
+
+					if (db != cached && table.compareAndSetRemaining(index, stamp, cached, db)) {
+						log.info("[CAS] reconciled (slotId={}, date={}, cached={}, db={})",
+							slotIdOf(key), dateOf(key), cached, db);
+					}
+				},
+				() -> table.removeIfIdle(index, key)
+			);
+	}
+
+	/**
+	 * 트랜잭션이 없으면 바로 커밋된 것으로 처리한다. (이 경로는 객체를 만들지 않는다)
+	 * @param delta 커밋 시 DB 에 반영할 변경분
+	 * @param reserved 이미 메모리에서 차감해 둔 좌석 수 (롤백 시 복구)
+	 */
+	private void onCompletion(int index, int delta, int reserved) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			commit(index, delta, reserved);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_COMMITTED) {
+					commit(index, delta, reserved);
+				} else {
+					rollback(index, delta, reserved);
+				}
+			}
+		});
+	}
+
+	private void commit(int index, int delta, int reserved) {
+		if (reserved == 0) {
+			table.addRemaining(index, delta);
+		}
+		table.addPendingDelta(index, delta);
+		table.release(index, Math.abs(delta));
+	}
+
+	private void rollback(int index, int delta, int reserved) {
+		if (reserved != 0) {
+			table.addRemaining(index, reserved);
+		}
+		table.release(index, Math.abs(delta));
+	}
+
+	private static Long slotIdOf(long key) {
+		return PackedCapacityTable.slotIdOf(key);
 	}
 
-	public record CapacityKey(Long slotId, LocalDate date) {
+	private static LocalDate dateOf(long key) {
+		return LocalDate.ofEpochDay(PackedCapacityTable.epochDayOf(key));
 	}
 }
@@ -0,0 +1,317 @@
+package com.reservation.tablereservationservice.application.reservation.concurrency.cas;
+
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * (slotId, epochDay) 를 long 하나로 묶은 key 를 쓰는 고정 크기 open addressing 테이블
+ * - 조회와 카운터 갱신은 lock-free 이고 객체를 할당하지 않는다.
+ * - 삽입/삭제는 드물게(캐시 miss, 만료) 일어나므로 테이블 단위로 직렬화한다. 삭제된 칸은 tombstone 으로 남기고 다음 삽입 때 재사용한다.
+ * - 뒤 칸이 비어 있는 tombstone 은 바로 빈 칸으로 되돌린다.
+ * - key 는 75%, key + tombstone 은 87.5% 까지만 채워 빈 칸이 남아 있으므로 조회는 짧게 끝난다.
+ *   tombstone 때문에 막히면 어떤 key 의 탐색 경로에도 없는 tombstone 을 한 번에 비운다.
+ * - 진행 중인 차감이 칸 index 를 들고 있으므로 칸을 옮기는 rehash/resize 는 하지 않는다. 가득 차면 NOT_FOUND 를 돌려주고 호출 측이 DB 로 처리한다.
+ * - 칸 하나 = key(8B) + remaining/pendingDelta/inFlight/stamp(4B * 4) = 24B
+ */
+public class PackedCapacityTable {
+
+	static final int NOT_FOUND = -1;
+
+	private static final long EMPTY = 0L;
+	private static final long TOMBSTONE = -1L;
+
+	private static final int EPOCH_DAY_BITS = 21; // 2^21 일 = 1970-01-01 부터 약 5,700년
+	private static final long EPOCH_DAY_MASK = (1L << EPOCH_DAY_BITS) - 1;
+	private static final long MAX_SLOT_ID = (1L << (63 - EPOCH_DAY_BITS)) - 1;
+
+	private final int mask;
+	private final int maxSize;
+	private final int maxOccupied;
+
+	private final AtomicLongArray keys;
+	private final AtomicIntegerArray remaining;
+	private final AtomicIntegerArray pendingDelta;
+	private final AtomicIntegerArray inFlight;
+	private final AtomicIntegerArray stamp;
+
+	private int size;
+	private int tombstones;
+	private long removals;
+	private long removalsAtPurge;
+
+	/**
+	 * @param capacity 칸 수 (2의 거듭제곱으로 올림), 최대 75% 까지 채운다.
+	 */
+	public PackedCapacityTable(int capacity) {
+		int tableSize = Integer.highestOneBit(Math.max(capacity, 16) - 1) << 1;
+
+		this.mask = tableSize - 1;
+		this.maxSize = tableSize / 4 * 3;
+		this.maxOccupied = tableSize / 8 * 7;
+		this.keys = new AtomicLongArray(tableSize);
+		this.remaining = new AtomicIntegerArray(tableSize);
+		this.pendingDelta = new AtomicIntegerArray(tableSize);
+		this.inFlight = new AtomicIntegerArray(tableSize);
+		this.stamp = new AtomicIntegerArray(tableSize);
+	}
+
+	/**
+	 * 1970-01-01 이전 날짜처럼 표현 범위를 벗어난 key 는 false (호출 측이 DB 로 처리한다)
+	 */
+	public static boolean isPackable(long slotId, long epochDay) {
+		return slotId > 0 && slotId <= MAX_SLOT_ID && epochDay >= 0 && epochDay <= EPOCH_DAY_MASK;
+	}
+
+	public static long pack(long slotId, long epochDay) {
+		if (!isPackable(slotId, epochDay)) {
+			throw new IllegalArgumentException("unpackable key: slotId=" + slotId + ", epochDay=" + epochDay);
+		}
+		return (slotId << EPOCH_DAY_BITS) | epochDay;
+	}
+
+	public static long slotIdOf(long key) {
+		return key >>> EPOCH_DAY_BITS;
+	}
+
+	public static long epochDayOf(long key) {
+		return key & EPOCH_DAY_MASK;
+	}
+
+	public int indexOf(long key) {
+		for (int i = spread(key), probe = 0; probe <= mask; i = (i + 1) & mask, probe++) {
+			long k = keys.get(i);
+
+			if (k == key) {
+				return i;
+			}
+			if (k == EMPTY) {
+				return NOT_FOUND;
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	/**
+	 * key 가 없으면 initialRemaining 으로 추가하고, 있으면 기존 칸을 돌려준다.
+	 * @return 칸 index, 테이블이 가득 차 추가할 수 없으면 NOT_FOUND
+	 */
+	public synchronized int putIfAbsent(long key, int initialRemaining) {
+		int firstTombstone = NOT_FOUND;
+
+		for (int i = spread(key), probe = 0; probe <= mask; i = (i + 1) & mask, probe++) {
+			long k = keys.get(i);
+
+			if (k == key) {
+				return i;
+			}
+			if (k == TOMBSTONE && firstTombstone == NOT_FOUND) {
+				firstTombstone = i;
+			}
+			if (k == EMPTY) {
+				if (size >= maxSize) {
+					return NOT_FOUND;
+				}
+				if (firstTombstone != NOT_FOUND) {
+					return claimTombstone(firstTombstone, key, initialRemaining);
+				}
+				// 여기까지 tombstone 이 없었으므로 정리해도 i 가 탐색 경로의 첫 빈 칸이다.
+				if (size + tombstones < maxOccupied || purgeTombstones()) {
+					return claim(i, key, initialRemaining);
+				}
+				return NOT_FOUND;
+			}
+		}
+
+		if (firstTombstone != NOT_FOUND && size < maxSize) {
+			return claimTombstone(firstTombstone, key, initialRemaining);
+		}
+		return NOT_FOUND;
+	}
+
+	/**
+	 * 진행 중인 차감/반영할 delta 가 없을 때만 제거한다.
+	 * key 를 먼저 tombstone 으로 바꾼 뒤 inFlight 를 확인하므로, acquire 와 겹치면 둘 중 하나가 물러난다.
+	 */
+	public synchronized boolean removeIfIdle(int index, long key) {
+		if (!keys.compareAndSet(index, key, TOMBSTONE)) {
+			return false;
+		}
+
+		if (inFlight.get(index) != 0 || pendingDelta.get(index) != 0) {
+			keys.set(index, key);
+			return false;
+		}
+
+		size--;
+		tombstones++;
+		removals++;
+		reclaim(index);
+		return true;
+	}
+
+	/**
+	 * 칸을 사용 중으로 표시한다. 그 사이 key 가 제거되었다면 false 를 돌려주며, 호출 측은 다시 조회해야 한다.
+	 */
+	public boolean acquire(int index, long key, int amount) {
+		stamp.incrementAndGet(index);
+		inFlight.addAndGet(index, amount);
+
+		if (keys.get(index) != key) {
+			inFlight.addAndGet(index, -amount);
+			return false;
+		}
+		return true;
+	}
+
+	public void release(int index, int amount) {
+		inFlight.addAndGet(index, -amount);
+	}
+
+	/**
+	 * @return 차감 후 잔여 좌석, 부족하면 -1
+	 */
+	public int tryDecrease(int index, int amount, int maxRetry) {
+		for (int i = 0; i < maxRetry; i++) {
+			int current = remaining.get(index);
+
+			if (current < amount) {
+				return -1;
+			}
+			if (remaining.compareAndSet(index, current, current - amount)) {
+				return current - amount;
+			}
+		}
+		throw new IllegalStateException("CAS retry exceeded");
+	}
+
+	public int remaining(int index) {
+		return remaining.get(index);
+	}
+
+	public void addRemaining(int index, int delta) {
+		stamp.incrementAndGet(index);
+		remaining.addAndGet(index, delta);
+	}
+
+	public void addPendingDelta(int index, int delta) {
+		pendingDelta.addAndGet(index, delta);
+	}
+
+	public int drainPendingDelta(int index) {
+		return pendingDelta.getAndSet(index, 0);
+	}
+
+	public boolean isIdle(int index) {
+		return inFlight.get(index) == 0 && pendingDelta.get(index) == 0;
+	}
+
+	public int stamp(int index) {
+		return stamp.get(index);
+	}
+
+	/**
+	 * stamp 가 그대로이고 잔여 좌석이 expected 일 때만 교체한다. (reconcile 용)
+	 */
+	public boolean compareAndSetRemaining(int index, int expectedStamp, int expected, int update) {
+		return stamp.get(index) == expectedStamp && remaining.compareAndSet(index, expected, update);
+	}
+
+	public void forEach(SlotVisitor visitor) {
+		for (int i = 0; i <= mask; i++) {
+			long k = keys.get(i);
+
+			if (k != EMPTY && k != TOMBSTONE) {
+				visitor.visit(i, k);
+			}
+		}
+	}
+
+	public synchronized int size() {
+		return size;
+	}
+
+	public synchronized void clear() {
+		for (int i = 0; i <= mask; i++) {
+			keys.set(i, EMPTY);
+			remaining.set(i, 0);
+			pendingDelta.set(i, 0);
+			inFlight.set(i, 0);
+		}
+		size = 0;
+		tombstones = 0;
+	}
+
+	private int claimTombstone(int index, long key, int initialRemaining) {
+		tombstones--;
+		return claim(index, key, initialRemaining);
+	}
+
+	private int claim(int index, long key, int initialRemaining) {
+		// 값을 먼저 채운 뒤 key 를 쓰므로, key 를 본 reader 는 초기화된 값을 본다.
+		// inFlight/pendingDelta 는 제거 시점에 0 이었으므로 건드리지 않는다. (이전 key 의 acquire 가 되돌리는 중일 수 있음)
+		remaining.set(index, initialRemaining);
+		keys.set(index, key);
+
+		size++;
+		return index;
+	}
+
+	/**
+	 * 다음 칸이 비어 있으면 어떤 key 의 탐색도 이 칸을 지나가지 않으므로,
+	 * index 부터 거꾸로 이어진 tombstone 을 빈 칸으로 되돌린다.
+	 */
+	private void reclaim(int index) {
+		if (keys.get((index + 1) & mask) != EMPTY) {
+			return;
+		}
+
+		for (int i = index; keys.get(i) == TOMBSTONE; i = (i - 1) & mask) {
+			keys.set(i, EMPTY);
+			tombstones--;
+		}
+	}
+
+	/**
+	 * 살아 있는 key 의 탐색 경로(spread ~ 저장 칸)에 걸리지 않은 tombstone 을 빈 칸으로 되돌린다.
+	 * 칸을 옮기지 않으므로 진행 중인 차감의 index 와 lock-free 조회에 영향이 없다.
+	 * 지난 정리 이후 제거된 key 가 없으면 비울 tombstone 도 없으므로 건너뛴다.
+	 * @return 적재량 아래로 내려갔는지 여부
+	 */
+	private boolean purgeTombstones() {
+		if (removals == removalsAtPurge) {
+			return false;
+		}
+		removalsAtPurge = removals;
+
+		BitSet onPath = new BitSet(mask + 1);
+		for (int p = 0; p <= mask; p++) {
+			long k = keys.get(p);
+
+			if (k != EMPTY && k != TOMBSTONE) {
+				for (int i = spread(k); i != p; i = (i + 1) & mask) {
+					onPath.set(i);
+				}
+			}
+		}
+
+		for (int i = 0; i <= mask; i++) {
+			if (keys.get(i) == TOMBSTONE && !onPath.get(i)) {
+				keys.set(i, EMPTY);
+				tombstones--;
+			}
+		}
+		return size + tombstones < maxOccupied;
+	}
+
+	private int spread(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int)(h ^ (h >>> 32)) & mask;
+	}
+
+	@FunctionalInterface
+	public interface SlotVisitor {
+
+		void visit(int index, long key);
+	}
+}
@@ -0,0 +1,82 @@
+package com.reservation.tablereservationservice.application.reservation.concurrency.optimistic;
+
+import static java.util.stream.Collectors.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityKey;
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityShortageException;
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityStrategy;
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacity;
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacityRepository;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기본 모드: capacity row 조회 -> 도메인 차감 -> @Version 검증 UPDATE
+ * 충돌 시 OptimisticLockingFailureException 이 발생하며, 재시도는 ReservationOptimisticFacade 가 담당한다.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "reservation.capacity.mode", havingValue = "optimistic", matchIfMissing = true)
+@RequiredArgsConstructor
+public class OptimisticCapacityStrategy implements CapacityStrategy {
+
+	private final DailySlotCapacityRepository dailySlotCapacityRepository;
+
+	@Override
+	public void decrease(Long slotId, LocalDate date, int partySize) {
+		DailySlotCapacity capacity = dailySlotCapacityRepository.findBySlotIdAndDate(slotId, date)
+			.orElseThrow(() -> new ReservationException(ErrorCode.RESERVATION_SLOT_NOT_OPENED));
+
+		if (!capacity.decrease(partySize)) {
+			throw new ReservationException(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH);
+		}
+
+		dailySlotCapacityRepository.updateRemainingCount(capacity);
+	}
+
+	@Override
+	public void increase(Long slotId, LocalDate date, int partySize) {
+		DailySlotCapacity capacity = dailySlotCapacityRepository.findBySlotIdAndDate(slotId, date)
+			.orElseThrow(() -> new ReservationException(ErrorCode.RESERVATION_SLOT_NOT_OPENED));
+
+		capacity.increase(partySize);
+		dailySlotCapacityRepository.updateRemainingCount(capacity);
+	}
+
+	/**
+	 * 대상 row 를 IN 조회 한 번으로 읽고, 각 row 의 @Version 검증 UPDATE 는 커밋 시점에 함께 나간다.
+	 */
+	@Override
+	public void decreaseAll(Map<CapacityKey, Integer> partySizes) {
+		Map<CapacityKey, DailySlotCapacity> capacities = dailySlotCapacityRepository.findAllBySlotIdInAndDateIn(
+				partySizes.keySet().stream().map(CapacityKey::slotId).distinct().toList(),
+				partySizes.keySet().stream().map(CapacityKey::date).distinct().toList()
+			).stream()
+			.collect(toMap(capacity -> new CapacityKey(capacity.getSlotId(), capacity.getDate()), Function.identity()));
+
+		new TreeMap<>(partySizes).forEach((key, partySize) -> {
+			DailySlotCapacity capacity = capacities.get(key);
+
+			if (capacity == null) {
+				throw new ReservationException(ErrorCode.RESERVATION_SLOT_NOT_OPENED);
+			}
+
+			if (!capacity.decrease(partySize)) {
+				throw new CapacityShortageException(key, partySize);
+			}
+
+			dailySlotCapacityRepository.updateRemainingCount(capacity);
+		});
+	}
+}
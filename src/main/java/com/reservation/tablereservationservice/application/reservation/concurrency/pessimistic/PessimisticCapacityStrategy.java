@@ -0,0 +1,111 @@
+package com.reservation.tablereservationservice.application.reservation.concurrency.pessimistic;
+
+import static java.util.stream.Collectors.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityKey;
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityShortageException;
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityStrategy;
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacity;
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacityRepository;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * capacity row 를 SELECT ... FOR UPDATE 로 잠근 뒤 차감/복구한다.
+ * - 락은 호출한 트랜잭션(create/cancel)이 끝날 때 풀리므로 반드시 트랜잭션 안에서 호출해야 한다.
+ * - 락 획득 순서: 항상 daily_slot_capacity -> reservation 순서로 잡아 create/cancel 간 교착을 막는다.
+ * - 락 대기 시간은 lock timeout 힌트(3000ms)로 제한하고, 초과 시 동시성 예외로 응답한다.
+ *   MySQL 은 이 힌트를 FOR UPDATE 에 반영하지 않으므로 같은 트랜잭션에서 innodb_lock_wait_timeout 을
+ *   lock-wait-timeout-seconds 로 줄인다. (기본 50초)
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "reservation.capacity.mode", havingValue = "pessimistic")
+@Transactional(propagation = Propagation.MANDATORY)
+@RequiredArgsConstructor
+public class PessimisticCapacityStrategy implements CapacityStrategy {
+
+	private final DailySlotCapacityRepository dailySlotCapacityRepository;
+
+	@Override
+	public void decrease(Long slotId, LocalDate date, int partySize) {
+		DailySlotCapacity capacity = lock(slotId, date);
+
+		if (!capacity.decrease(partySize)) {
+			throw new ReservationException(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH);
+		}
+
+		dailySlotCapacityRepository.updateRemainingCount(capacity);
+	}
+
+	@Override
+	public void increase(Long slotId, LocalDate date, int partySize) {
+		DailySlotCapacity capacity = lock(slotId, date);
+
+		capacity.increase(partySize);
+		dailySlotCapacityRepository.updateRemainingCount(capacity);
+	}
+
+	/**
+	 * 대상 row 를 IN 조회 한 번으로 (slotId, date) 순서대로 잠근 뒤 차감한다.
+	 */
+	@Override
+	public void decreaseAll(Map<CapacityKey, Integer> partySizes) {
+		Map<CapacityKey, DailySlotCapacity> locked = lockAll(partySizes.keySet());
+
+		new TreeMap<>(partySizes).forEach((key, partySize) -> {
+			DailySlotCapacity capacity = locked.get(key);
+
+			if (capacity == null) {
+				throw new ReservationException(ErrorCode.RESERVATION_SLOT_NOT_OPENED);
+			}
+
+			if (!capacity.decrease(partySize)) {
+				throw new CapacityShortageException(key, partySize);
+			}
+
+			dailySlotCapacityRepository.updateRemainingCount(capacity);
+		});
+	}
+
+	private Map<CapacityKey, DailySlotCapacity> lockAll(Set<CapacityKey> keys) {
+		try {
+			return dailySlotCapacityRepository.findAllBySlotIdInAndDateInForUpdate(
+					keys.stream().map(CapacityKey::slotId).distinct().toList(),
+					keys.stream().map(CapacityKey::date).distinct().toList()
+				).stream()
+				.collect(toMap(capacity -> new CapacityKey(capacity.getSlotId(), capacity.getDate()), Function.identity()));
+		} catch (PessimisticLockingFailureException e) {
+			log.warn("[PESSIMISTIC-LOCK] lock wait exceeded (keys={}, cause={})", keys, e.getClass().getSimpleName());
+			throw new ReservationException(ErrorCode.RESERVATION_CONCURRENCY_ERROR);
+		}
+	}
+
+	private DailySlotCapacity lock(Long slotId, LocalDate date) {
+		try {
+			return dailySlotCapacityRepository.findBySlotIdAndDateForUpdate(slotId, date)
+				.orElseThrow(() -> new ReservationException(ErrorCode.RESERVATION_SLOT_NOT_OPENED));
+		} catch (PessimisticLockingFailureException e) {
+			log.warn("[PESSIMISTIC-LOCK] lock wait exceeded (slotId={}, date={}, cause={})",
+				slotId, date, e.getClass().getSimpleName());
+			throw new ReservationException(ErrorCode.RESERVATION_CONCURRENCY_ERROR);
+		}
+	}
+}
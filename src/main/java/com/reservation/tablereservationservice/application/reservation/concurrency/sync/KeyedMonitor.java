@@ -0,0 +1,55 @@
+package com.reservation.tablereservationservice.application.reservation.concurrency.sync;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * key 단위 모니터 테이블
+ * - 같은 key 끼리만 직렬화되고, 서로 다른 key 는 병렬로 진행된다.
+ * - 참조 카운트가 0이 되는 순간 모니터를 제거하므로, 테이블 크기는 동시에 처리 중인 key 수를 넘지 않는다.
+ */
+public class KeyedMonitor<K> {
+
+	private final ConcurrentMap<K, Monitor> monitors = new ConcurrentHashMap<>();
+
+	public <T> T execute(K key, Supplier<T> action) {
+		Monitor monitor = acquire(key);
+		try {
+			synchronized (monitor) {
+				return action.get();
+			}
+		} finally {
+			release(key);
+		}
+	}
+
+	public void execute(K key, Runnable action) {
+		execute(key, () -> {
+			action.run();
+			return null;
+		});
+	}
+
+	public int size() {
+		return monitors.size();
+	}
+
+	// compute 는 같은 key 에 대해 원자적으로 실행되므로 refCount 는 별도 동기화가 필요 없다.
+	private Monitor acquire(K key) {
+		return monitors.compute(key, (k, monitor) -> {
+			Monitor target = (monitor == null) ? new Monitor() : monitor;
+			target.refCount++;
+			return target;
+		});
+	}
+
+	private void release(K key) {
+		monitors.computeIfPresent(key, (k, monitor) -> --monitor.refCount == 0 ? null : monitor);
+	}
+
+	private static class Monitor {
+
+		private int refCount;
+	}
+}
@@ -4,6 +4,7 @@ import java.time.LocalDate;
 
 import org.springframework.stereotype.Component;
 
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityKey;
 import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityStrategy;
 import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacity;
 import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacityRepository;
@@ -17,11 +18,13 @@ import lombok.RequiredArgsConstructor;
 public class SynchronizedCapacityStrategy implements CapacityStrategy {
 
 	private final DailySlotCapacityRepository dailySlotCapacityRepository;
-	private final Object monitor = new Object();
+
+	// (slotId, date) 단위로만 직렬화한다. (서로 다른 슬롯/날짜는 병렬 처리)
+	private final KeyedMonitor<CapacityKey> monitors = new KeyedMonitor<>();
 
 	@Override
 	public void decrease(Long slotId, LocalDate date, int partySize) {
-		synchronized (monitor) {
+		monitors.execute(new CapacityKey(slotId, date), () -> {
 			DailySlotCapacity capacity = dailySlotCapacityRepository.findBySlotIdAndDate(slotId, date)
 				.orElseThrow(() -> new ReservationException(ErrorCode.RESERVATION_SLOT_NOT_OPENED));
 
@@ -30,6 +33,21 @@ public class SynchronizedCapacityStrategy implements CapacityStrategy {
 			}
 
 			dailySlotCapacityRepository.updateRemainingCount(capacity);
-		}
+		});
+	}
+
+	@Override
+	public void increase(Long slotId, LocalDate date, int partySize) {
+		monitors.execute(new CapacityKey(slotId, date), () -> {
+			DailySlotCapacity capacity = dailySlotCapacityRepository.findBySlotIdAndDate(slotId, date)
+				.orElseThrow(() -> new ReservationException(ErrorCode.RESERVATION_SLOT_NOT_OPENED));
+
+			capacity.increase(partySize);
+			dailySlotCapacityRepository.updateRemainingCount(capacity);
+		});
+	}
+
+	public int activeMonitorCount() {
+		return monitors.size();
 	}
 }
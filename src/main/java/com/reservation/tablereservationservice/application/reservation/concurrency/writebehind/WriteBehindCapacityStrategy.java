@@ -0,0 +1,267 @@
+package com.reservation.tablereservationservice.application.reservation.concurrency.writebehind;
+
+import static java.util.stream.Collectors.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityKey;
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityStrategy;
+import com.reservation.tablereservationservice.domain.reservation.CapacityDelta;
+import com.reservation.tablereservationservice.domain.reservation.CapacityDeltaRepository;
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacity;
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacityRepository;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 오픈된 (slotId, date)의 잔여 좌석을 메모리에서 관리하는 write-behind 원장
+ * - 차감/복구는 메모리에서 즉시 처리하고, 변경분은 호출한 트랜잭션 안에서 capacity_delta 에 한 줄로 남긴다.
+ *   (hot row UPDATE 대신 INSERT 이므로 같은 key 의 트랜잭션끼리 row 락을 다투지 않는다)
+ * - 주기적으로 변경분을 key 당 UPDATE 1번으로 합쳐 daily_slot_capacity 에 반영하고 지운다.
+ * - 최초 접근 시 DB row + 남아 있는 변경분으로 잔여 좌석을 복구하므로, flush 전에 종료되어도
+ *   확정/선점된 좌석과 운영자가 날짜별로 조정한 remaining_count 가 그대로 유지된다.
+ * - 메모리 원장이 기준이므로 인스턴스 하나에서만 정확하다. 여러 인스턴스가 같은 key 를 팔면
+ *   flush 가 DB 를 음수로 만들지 않도록 막고, 초과 판매를 로그로 남긴 뒤 원장을 매진으로 맞춘다.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "reservation.capacity.mode", havingValue = "write-behind")
+public class WriteBehindCapacityStrategy implements CapacityStrategy {
+
+	private final DailySlotCapacityRepository dailySlotCapacityRepository;
+	private final CapacityDeltaRepository capacityDeltaRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final int flushBatchSize;
+
+	private final ConcurrentMap<CapacityKey, LedgerEntry> ledger = new ConcurrentHashMap<>();
+
+	public WriteBehindCapacityStrategy(
+		DailySlotCapacityRepository dailySlotCapacityRepository,
+		CapacityDeltaRepository capacityDeltaRepository,
+		TransactionTemplate transactionTemplate,
+		@Value("${reservation.capacity.write-behind.flush-batch-size}") int flushBatchSize
+	) {
+		this.dailySlotCapacityRepository = dailySlotCapacityRepository;
+		this.capacityDeltaRepository = capacityDeltaRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.flushBatchSize = flushBatchSize;
+	}
+
+	@Override
+	public void decrease(Long slotId, LocalDate date, int partySize) {
+		if (partySize <= 0) {
+			throw new ReservationException(ErrorCode.INVALID_PARTY_SIZE);
+		}
+
+		LedgerEntry entry = getOrLoad(new CapacityKey(slotId, date));
+
+		while (true) {
+			int current = entry.remaining.get();
+
+			if (current < partySize) {
+				throw new ReservationException(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH);
+			}
+
+			if (entry.remaining.compareAndSet(current, current - partySize)) {
+				break;
+			}
+		}
+
+		// 변경분은 예약과 함께 커밋/롤백되고, 롤백되면 메모리 좌석을 되돌린다.
+		try {
+			capacityDeltaRepository.append(slotId, date, -partySize);
+		} catch (RuntimeException e) {
+			entry.remaining.addAndGet(partySize);
+			throw e;
+		}
+
+		afterCompletion(
+			() -> {
+			},
+			() -> entry.remaining.addAndGet(partySize)
+		);
+	}
+
+	@Override
+	public void increase(Long slotId, LocalDate date, int partySize) {
+		if (partySize <= 0) {
+			throw new ReservationException(ErrorCode.INVALID_PARTY_SIZE);
+		}
+
+		LedgerEntry entry = getOrLoad(new CapacityKey(slotId, date));
+		capacityDeltaRepository.append(slotId, date, partySize);
+
+		afterCompletion(
+			() -> entry.remaining.addAndGet(partySize),
+			() -> {
+			}
+		);
+	}
+
+	public int getRemaining(Long slotId, LocalDate date) {
+		return getOrLoad(new CapacityKey(slotId, date)).remaining.get();
+	}
+
+	/**
+	 * 남아 있는 변경분을 key 당 UPDATE 1번으로 합쳐 반영하고, 지난 날짜의 원장은 제거한다.
+	 * 반영한 변경분은 읽은 id 로만 지우므로, 그 사이 커밋된 변경분은 다음 주기에 반영된다.
+	 */
+	@Scheduled(fixedDelayString = "${reservation.capacity.write-behind.flush-interval-ms}")
+	public void flush() {
+		List<CapacityDelta> deltas;
+		boolean progressed;
+
+		do {
+			deltas = capacityDeltaRepository.findOldest(flushBatchSize);
+			progressed = false;
+
+			Map<CapacityKey, List<CapacityDelta>> byKey = deltas.stream()
+				.collect(groupingBy(delta -> new CapacityKey(delta.slotId(), delta.date())));
+
+			for (Map.Entry<CapacityKey, List<CapacityDelta>> e : byKey.entrySet()) {
+				progressed |= flush(e.getKey(), e.getValue());
+			}
+		} while (progressed && deltas.size() == flushBatchSize);
+
+		LocalDate today = LocalDate.now();
+		ledger.keySet().removeIf(key -> key.date().isBefore(today));
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+
+	public void clear() {
+		ledger.clear();
+	}
+
+	/**
+	 * @return 변경분을 반영(또는 버림)해 지웠는지 여부
+	 */
+	private boolean flush(CapacityKey key, List<CapacityDelta> pending) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> writeBack(key, pending));
+			return true;
+		} catch (RuntimeException e) {
+			// 반영할 row 가 지워진(닫힌) 날짜의 변경분은 버린다.
+			if (e instanceof ReservationException re && re.getErrorCode() == ErrorCode.RESOURCE_NOT_FOUND) {
+				log.warn("[WRITE-BEHIND] capacity row not found, drop delta (key={}, rows={})", key, pending.size());
+				capacityDeltaRepository.deleteAllById(pending.stream().map(CapacityDelta::id).toList());
+				return true;
+			}
+
+			// 다음 주기에 다시 반영한다.
+			log.warn("[WRITE-BEHIND] flush failed (key={}, rows={})", key, pending.size(), e);
+			return false;
+		}
+	}
+
+	private void writeBack(CapacityKey key, List<CapacityDelta> pending) {
+		int delta = pending.stream().mapToInt(CapacityDelta::delta).sum();
+
+		if (delta != 0
+			&& !dailySlotCapacityRepository.addRemainingCountIfNotNegative(key.slotId(), key.date(), delta)) {
+			oversold(key, delta);
+		}
+
+		capacityDeltaRepository.deleteAllById(pending.stream().map(CapacityDelta::id).toList());
+	}
+
+	/**
+	 * DB 조회는 map 밖에서 하고 putIfAbsent 로 넣는다. (computeIfAbsent 안에서 I/O 를 하면 같은 bin 의 다른 key 까지 막힌다)
+	 * 동시에 읽은 쪽은 먼저 들어간 원장을 쓴다.
+	 */
+	private LedgerEntry getOrLoad(CapacityKey key) {
+		LedgerEntry entry = ledger.get(key);
+		if (entry != null) {
+			return entry;
+		}
+
+		LedgerEntry loaded = load(key);
+		LedgerEntry existing = ledger.putIfAbsent(key, loaded);
+		return existing != null ? existing : loaded;
+	}
+
+	/**
+	 * 다른 인스턴스/경로가 같은 좌석을 먼저 가져가 delta 를 반영하면 음수가 되는 경우
+	 * 이미 커밋된 예약이므로 DB 는 0 으로 맞추고, 원장도 매진으로 두어 더 팔지 않는다.
+	 */
+	private void oversold(CapacityKey key, int delta) {
+		dailySlotCapacityRepository.findBySlotIdAndDate(key.slotId(), key.date()).ifPresent(capacity -> {
+			log.error("[WRITE-BEHIND] flush would go negative, oversold (key={}, db={}, delta={})",
+				key, capacity.getRemainingCount(), delta);
+			dailySlotCapacityRepository.decreaseIfEnough(key.slotId(), key.date(), capacity.getRemainingCount());
+		});
+
+		LedgerEntry entry = ledger.get(key);
+		if (entry != null) {
+			entry.remaining.set(0);
+		}
+	}
+
+	/**
+	 * 잔여 좌석 = DB row + 아직 반영되지 않은 변경분 (flush 와 겹치지 않도록 한 트랜잭션에서 읽는다)
+	 */
+	private LedgerEntry load(CapacityKey key) {
+		Integer remaining = transactionTemplate.execute(status -> {
+			DailySlotCapacity capacity = dailySlotCapacityRepository.findBySlotIdAndDate(key.slotId(), key.date())
+				.orElseThrow(() -> new ReservationException(ErrorCode.RESERVATION_SLOT_NOT_OPENED));
+
+			int pending = capacityDeltaRepository.sumDelta(key.slotId(), key.date());
+			if (pending != 0) {
+				log.info("[WRITE-BEHIND] recovered with unflushed delta (key={}, db={}, delta={})",
+					key, capacity.getRemainingCount(), pending);
+			}
+
+			return Math.max(capacity.getRemainingCount() + pending, 0);
+		});
+
+		return new LedgerEntry(remaining);
+	}
+
+	private void afterCompletion(Runnable onCommit, Runnable onRollback) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			onCommit.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_COMMITTED) {
+					onCommit.run();
+				} else {
+					onRollback.run();
+				}
+			}
+		});
+	}
+
+	private static class LedgerEntry {
+
+		private final AtomicInteger remaining;
+
+		LedgerEntry(int remaining) {
+			this.remaining = new AtomicInteger(remaining);
+		}
+	}
+}
@@ -0,0 +1,231 @@
+package com.reservation.tablereservationservice.application.reservation.contention;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityKey;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * (slotId, date) 별 낙관적 락 충돌률을 sliding window 로 측정해 처리 경로를 정한다.
+ * - OPTIMISTIC -> QUEUED: window 안의 시도 수가 min-samples 이상이고 충돌률이 enter-conflict-rate 이상일 때
+ * - QUEUED -> OPTIMISTIC: min-hot-ms 이상 머문 뒤, 요청이 줄었거나 충돌률이 exit-conflict-rate 이하일 때
+ * - 진입/해제 기준을 다르게 두어(hysteresis) 경계 부근에서 경로가 흔들리지 않게 한다.
+ * - QUEUED 상태에서도 probe-interval 번째 요청마다 낙관적 경로로 보내 충돌률을 계속 측정한다.
+ */
+@Slf4j
+@Component
+public class ContentionController {
+
+	private final long windowMillis;
+	private final int buckets;
+	private final int minSamples;
+	private final double enterConflictRate;
+	private final double exitConflictRate;
+	private final long minHotMillis;
+	private final int probeInterval;
+	private final LongSupplier clock;
+
+	private final ConcurrentMap<CapacityKey, KeyState> states = new ConcurrentHashMap<>();
+
+	private final MeterRegistry meterRegistry;
+	private final MultiGauge modeGauge;
+
+	@Autowired
+	public ContentionController(
+		MeterRegistry meterRegistry,
+		@Value("${reservation.contention.window-ms}") long windowMillis,
+		@Value("${reservation.contention.buckets}") int buckets,
+		@Value("${reservation.contention.min-samples}") int minSamples,
+		@Value("${reservation.contention.enter-conflict-rate}") double enterConflictRate,
+		@Value("${reservation.contention.exit-conflict-rate}") double exitConflictRate,
+		@Value("${reservation.contention.min-hot-ms}") long minHotMillis,
+		@Value("${reservation.contention.probe-interval}") int probeInterval
+	) {
+		this(meterRegistry, windowMillis, buckets, minSamples, enterConflictRate, exitConflictRate, minHotMillis,
+			probeInterval, System::currentTimeMillis);
+	}
+
+	ContentionController(
+		MeterRegistry meterRegistry,
+		long windowMillis,
+		int buckets,
+		int minSamples,
+		double enterConflictRate,
+		double exitConflictRate,
+		long minHotMillis,
+		int probeInterval,
+		LongSupplier clock
+	) {
+		if (exitConflictRate >= enterConflictRate) {
+			throw new IllegalArgumentException("exit-conflict-rate must be lower than enter-conflict-rate");
+		}
+
+		this.windowMillis = windowMillis;
+		this.buckets = buckets;
+		this.minSamples = minSamples;
+		this.enterConflictRate = enterConflictRate;
+		this.exitConflictRate = exitConflictRate;
+		this.minHotMillis = minHotMillis;
+		this.probeInterval = probeInterval;
+		this.clock = clock;
+		this.meterRegistry = meterRegistry;
+		this.modeGauge = MultiGauge.builder("reservation.contention.mode")
+			.description("(slotId, date) 별 처리 경로 (0=OPTIMISTIC, 1=QUEUED)")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 이번 요청이 탈 경로를 정한다. QUEUED 인 key 도 일부 요청은 낙관적 경로로 보내 충돌률을 측정한다.
+	 */
+	public ContentionMode route(CapacityKey key) {
+		KeyState state = stateOf(key);
+
+		if (state.mode == ContentionMode.OPTIMISTIC) {
+			return ContentionMode.OPTIMISTIC;
+		}
+
+		if (state.probe.incrementAndGet() % probeInterval == 0) {
+			return ContentionMode.OPTIMISTIC;
+		}
+
+		state.window.recordQueued(clock.getAsLong());
+		return ContentionMode.QUEUED;
+	}
+
+	public ContentionMode modeOf(CapacityKey key) {
+		KeyState state = states.get(key);
+		return state == null ? ContentionMode.OPTIMISTIC : state.mode;
+	}
+
+	public void recordSuccess(CapacityKey key) {
+		record(key, false);
+	}
+
+	public void recordConflict(CapacityKey key) {
+		record(key, true);
+	}
+
+	/**
+	 * 충돌률을 다시 평가하고, 오래 쓰이지 않은 OPTIMISTIC key 를 정리한 뒤 gauge 를 갱신한다.
+	 */
+	@Scheduled(fixedDelayString = "${reservation.contention.refresh-interval-ms}")
+	public void refresh() {
+		long now = clock.getAsLong();
+
+		states.forEach((key, state) -> {
+			evaluate(key, state, now);
+
+			if (state.mode == ContentionMode.OPTIMISTIC && now - state.lastSeenMillis > windowMillis) {
+				states.remove(key, state);
+			}
+		});
+
+		List<MultiGauge.Row<?>> rows = states.entrySet().stream()
+			.map(this::gaugeRow)
+			.toList();
+
+		modeGauge.register(rows, true);
+	}
+
+	public int trackedKeyCount() {
+		return states.size();
+	}
+
+	public void clear() {
+		states.clear();
+		modeGauge.register(List.of(), true);
+	}
+
+	private void record(CapacityKey key, boolean conflict) {
+		long now = clock.getAsLong();
+		KeyState state = stateOf(key);
+
+		state.window.record(now, conflict);
+		evaluate(key, state, now);
+	}
+
+	private void evaluate(CapacityKey key, KeyState state, long now) {
+		SlidingWindow.Snapshot snapshot = state.window.snapshot(now);
+
+		synchronized (state) {
+			if (state.mode == ContentionMode.OPTIMISTIC) {
+				if (snapshot.attempts() >= minSamples && snapshot.conflictRate() >= enterConflictRate) {
+					transition(key, state, ContentionMode.QUEUED, snapshot, now);
+				}
+				return;
+			}
+
+			if (now - state.modeSinceMillis < minHotMillis) {
+				return;
+			}
+
+			// QUEUED 상태에서는 probe 만 시도 수에 잡히므로, 한산한지 여부는 메일박스로 보낸 요청까지 합쳐 판단한다.
+			boolean quiet = snapshot.traffic() < minSamples;
+			boolean calm = snapshot.attempts() > 0 && snapshot.conflictRate() <= exitConflictRate;
+
+			if (quiet || calm) {
+				transition(key, state, ContentionMode.OPTIMISTIC, snapshot, now);
+			}
+		}
+	}
+
+	private void transition(CapacityKey key, KeyState state, ContentionMode to, SlidingWindow.Snapshot snapshot,
+		long now) {
+		log.info("[CONTENTION] {} -> {} (key={}, attempts={}, conflicts={}, queued={})",
+			state.mode, to, key, snapshot.attempts(), snapshot.conflicts(), snapshot.queued());
+
+		state.mode = to;
+		state.modeSinceMillis = now;
+
+		Counter.builder("reservation.contention.transitions")
+			.tag("to", to.name())
+			.register(meterRegistry)
+			.increment();
+	}
+
+	private KeyState stateOf(CapacityKey key) {
+		long now = clock.getAsLong();
+		KeyState state = states.computeIfAbsent(key, k -> new KeyState(new SlidingWindow(windowMillis, buckets), now));
+
+		state.lastSeenMillis = now;
+		return state;
+	}
+
+	private MultiGauge.Row<?> gaugeRow(Map.Entry<CapacityKey, KeyState> entry) {
+		CapacityKey key = entry.getKey();
+		Tags tags = Tags.of("slotId", String.valueOf(key.slotId()), "date", key.date().toString());
+
+		return MultiGauge.Row.of(tags, entry.getValue().mode.ordinal());
+	}
+
+	private static class KeyState {
+
+		private final SlidingWindow window;
+		private final AtomicInteger probe = new AtomicInteger();
+
+		private volatile ContentionMode mode = ContentionMode.OPTIMISTIC;
+		private volatile long modeSinceMillis;
+		private volatile long lastSeenMillis;
+
+		KeyState(SlidingWindow window, long now) {
+			this.window = window;
+			this.modeSinceMillis = now;
+			this.lastSeenMillis = now;
+		}
+	}
+}
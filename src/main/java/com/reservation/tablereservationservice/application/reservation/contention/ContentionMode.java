@@ -0,0 +1,13 @@
+package com.reservation.tablereservationservice.application.reservation.contention;
+
+/**
+ * (slotId, date) 별 예약 처리 경로
+ */
+public enum ContentionMode {
+
+	// 낙관적 락 1회 시도 (충돌 시 QUEUED 경로로 넘김)
+	OPTIMISTIC,
+
+	// ReservationMailbox 로 직렬화
+	QUEUED
+}
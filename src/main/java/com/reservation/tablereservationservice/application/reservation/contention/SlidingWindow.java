@@ -0,0 +1,77 @@
+package com.reservation.tablereservationservice.application.reservation.contention;
+
+/**
+ * 시간 bucket 을 돌려 쓰는 sliding window 카운터 (낙관적 시도 수 / 충돌 수 / 메일박스로 보낸 수)
+ * key 하나에 대한 짧은 임계 구역이므로 synchronized 로 충분하다.
+ */
+class SlidingWindow {
+
+	private final long bucketMillis;
+	private final long[] bucketIds;
+	private final int[] attempts;
+	private final int[] conflicts;
+	private final int[] queued;
+
+	SlidingWindow(long windowMillis, int bucketCount) {
+		this.bucketMillis = Math.max(windowMillis / bucketCount, 1);
+		this.bucketIds = new long[bucketCount];
+		this.attempts = new int[bucketCount];
+		this.conflicts = new int[bucketCount];
+		this.queued = new int[bucketCount];
+	}
+
+	synchronized void record(long nowMillis, boolean conflict) {
+		int i = bucketOf(nowMillis);
+
+		attempts[i]++;
+		if (conflict) {
+			conflicts[i]++;
+		}
+	}
+
+	synchronized void recordQueued(long nowMillis) {
+		queued[bucketOf(nowMillis)]++;
+	}
+
+	synchronized Snapshot snapshot(long nowMillis) {
+		long current = nowMillis / bucketMillis;
+		int attemptSum = 0;
+		int conflictSum = 0;
+		int queuedSum = 0;
+
+		for (int i = 0; i < bucketIds.length; i++) {
+			if (current - bucketIds[i] < bucketIds.length) {
+				attemptSum += attempts[i];
+				conflictSum += conflicts[i];
+				queuedSum += queued[i];
+			}
+		}
+
+		return new Snapshot(attemptSum, conflictSum, queuedSum);
+	}
+
+	private int bucketOf(long nowMillis) {
+		long id = nowMillis / bucketMillis;
+		int i = (int)(id % bucketIds.length);
+
+		// 한 바퀴 지난 bucket 은 비우고 재사용한다.
+		if (bucketIds[i] != id) {
+			bucketIds[i] = id;
+			attempts[i] = 0;
+			conflicts[i] = 0;
+			queued[i] = 0;
+		}
+		return i;
+	}
+
+	record Snapshot(int attempts, int conflicts, int queued) {
+
+		int traffic() {
+			return attempts + queued;
+		}
+
+		double conflictRate() {
+			return attempts == 0 ? 0.0 : (double)conflicts / attempts;
+		}
+	}
+}
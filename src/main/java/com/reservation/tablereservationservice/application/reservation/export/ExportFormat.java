@@ -0,0 +1,27 @@
+package com.reservation.tablereservationservice.application.reservation.export;
+
+import java.util.Arrays;
+
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+
+	NDJSON("application/x-ndjson", "ndjson"),
+	CSV("text/csv", "csv");
+
+	private final String contentType;
+	private final String extension;
+
+	public static ExportFormat from(String value) {
+		return Arrays.stream(values())
+			.filter(format -> format.extension.equalsIgnoreCase(value))
+			.findFirst()
+			.orElseThrow(() -> new ReservationException(ErrorCode.INVALID_INPUT_VALUE, "format: ndjson | csv"));
+	}
+}
@@ -0,0 +1,242 @@
+package com.reservation.tablereservationservice.application.reservation.export;
+
+import static java.util.stream.Collectors.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reservation.tablereservationservice.domain.reservation.ReservationExportRepository;
+import com.reservation.tablereservationservice.domain.reservation.ReservationExportRow;
+import com.reservation.tablereservationservice.domain.restaurant.Restaurant;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantRepository;
+import com.reservation.tablereservationservice.domain.user.User;
+import com.reservation.tablereservationservice.domain.user.UserRepository;
+import com.reservation.tablereservationservice.global.annotation.ReplicaRead;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationListResponseDto;
+import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationSearchDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 점주 예약 내보내기 (NDJSON / CSV)
+ * - reservation 은 JDBC 커서로 한 건씩 읽고, chunk-size 건마다 예약자를 채워 바로 내보낸다.
+ * - 예약자는 내보내기마다 크기가 제한된 캐시에 두고, chunk 안에서 캐시에 없는 id 만 IN 조회 한 번으로 채운다.
+ * - 식당 이름은 점주의 식당 목록에서 가져온다.
+ * 메모리 사용량은 기간과 관계없이 chunk + 캐시 크기로 제한된다.
+ */
+@Slf4j
+@Service
+public class ReservationExportService {
+
+	// Excel 에서 UTF-8 CSV 의 한글이 깨지지 않도록 BOM 을 붙인다.
+	private static final String UTF8_BOM = "\uFEFF";
+	private static final String CSV_HEADER =
+		"reservationId,restaurantId,restaurantName,visitAt,partySize,status,userName,userPhone,note";
+
+	private final ReservationExportRepository reservationExportRepository;
+	private final RestaurantRepository restaurantRepository;
+	private final UserRepository userRepository;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate cursorTransaction;
+	private final TransactionTemplate lookupTransaction;
+	private final int chunkSize;
+	private final int userCacheSize;
+	private final int maxRangeDays;
+
+	public ReservationExportService(
+		ReservationExportRepository reservationExportRepository,
+		RestaurantRepository restaurantRepository,
+		UserRepository userRepository,
+		ObjectMapper objectMapper,
+		TransactionTemplate transactionTemplate,
+		@Value("${reservation.export.chunk-size}") int chunkSize,
+		@Value("${reservation.export.user-cache-size}") int userCacheSize,
+		@Value("${reservation.export.max-range-days}") int maxRangeDays
+	) {
+		this.reservationExportRepository = reservationExportRepository;
+		this.restaurantRepository = restaurantRepository;
+		this.userRepository = userRepository;
+		this.objectMapper = objectMapper;
+		this.chunkSize = chunkSize;
+		this.userCacheSize = userCacheSize;
+		this.maxRangeDays = maxRangeDays;
+
+		// 커서는 readOnly 트랜잭션 하나에서 끝까지 읽고,
+		// 예약자 조회는 커서가 잡은 커넥션을 쓰지 않도록 별도 트랜잭션(커넥션)에서 한다.
+		this.cursorTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+		this.cursorTransaction.setReadOnly(true);
+		this.lookupTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+		this.lookupTransaction.setReadOnly(true);
+		this.lookupTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	/**
+	 * 응답을 시작하기 전에 검증한다. (스트리밍 중 실패는 상태 코드로 알릴 수 없다)
+	 */
+	public void validate(ReservationSearchDto searchDto) {
+		if (searchDto.getStartDate().isAfter(searchDto.getEndDate())) {
+			throw new ReservationException(ErrorCode.INVALID_INPUT_VALUE, "fromDate 는 toDate 보다 늦을 수 없습니다.");
+		}
+
+		if (ChronoUnit.DAYS.between(searchDto.getStartDate(), searchDto.getEndDate()) >= maxRangeDays) {
+			throw new ReservationException(
+				ErrorCode.INVALID_INPUT_VALUE, "한 번에 " + maxRangeDays + "일까지 내보낼 수 있습니다.");
+		}
+	}
+
+	@ReplicaRead
+	public void export(Long ownerId, ReservationSearchDto searchDto, ExportFormat format, OutputStream out)
+		throws IOException {
+		Map<Long, String> restaurantNames = restaurantRepository.findAllByOwnerId(ownerId).stream()
+			.collect(toMap(Restaurant::getRestaurantId, Restaurant::getName));
+
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		if (format == ExportFormat.CSV) {
+			writer.write(UTF8_BOM + CSV_HEADER + "\n");
+		}
+
+		if (!restaurantNames.isEmpty()) {
+			ChunkWriter chunkWriter = new ChunkWriter(writer, format, restaurantNames);
+
+			try {
+				cursorTransaction.executeWithoutResult(status -> reservationExportRepository.forEachByRestaurantIds(
+					restaurantNames.keySet(),
+					searchDto.getStatus(),
+					searchDto.getStartDate().atStartOfDay(),
+					searchDto.getEndDate().atTime(LocalTime.MAX),
+					chunkWriter::add
+				));
+				chunkWriter.flush();
+			} catch (UncheckedIOException e) {
+				// 클라이언트가 연결을 끊음
+				throw e.getCause();
+			}
+
+			log.info("[EXPORT] ownerId={}, format={}, rows={}", ownerId, format, chunkWriter.written);
+		}
+
+		writer.flush();
+	}
+
+	private String toLine(ExportFormat format, ReservationListResponseDto dto) throws IOException {
+		if (format == ExportFormat.NDJSON) {
+			return objectMapper.writeValueAsString(dto);
+		}
+
+		return Stream.of(
+				dto.getReservationId(), dto.getRestaurantId(), dto.getRestaurantName(), dto.getVisitAt(),
+				dto.getPartySize(), dto.getStatus(), dto.getUserName(), dto.getUserPhone(), dto.getNote()
+			)
+			.map(ReservationExportService::csvField)
+			.collect(joining(","));
+	}
+
+	static String csvField(Object value) {
+		if (value == null) {
+			return "";
+		}
+
+		String field = value.toString();
+
+		// 스프레드시트가 수식으로 해석하지 않도록 막는다.
+		if (!field.isEmpty() && "=+-@".indexOf(field.charAt(0)) >= 0 && !(value instanceof Number)) {
+			field = "'" + field;
+		}
+
+		if (field.contains(",") || field.contains("\"") || field.contains("\n") || field.contains("\r")) {
+			return "\"" + field.replace("\"", "\"\"") + "\"";
+		}
+		return field;
+	}
+
+	/**
+	 * chunk-size 건씩 모아 예약자를 채운 뒤 내보낸다.
+	 */
+	private class ChunkWriter {
+
+		private final Writer writer;
+		private final ExportFormat format;
+		private final Map<Long, String> restaurantNames;
+		private final Cache<Long, User> users = Caffeine.newBuilder().maximumSize(userCacheSize).build();
+		private final List<ReservationExportRow> chunk = new ArrayList<>(chunkSize);
+		private long written;
+
+		ChunkWriter(Writer writer, ExportFormat format, Map<Long, String> restaurantNames) {
+			this.writer = writer;
+			this.format = format;
+			this.restaurantNames = restaurantNames;
+		}
+
+		void add(ReservationExportRow row) {
+			chunk.add(row);
+
+			if (chunk.size() >= chunkSize) {
+				flush();
+			}
+		}
+
+		void flush() {
+			if (chunk.isEmpty()) {
+				return;
+			}
+
+			Map<Long, User> idToUser = users.getAll(
+				chunk.stream().map(ReservationExportRow::userId).filter(Objects::nonNull).distinct().toList(),
+				missing -> lookupTransaction.execute(status ->
+					userRepository.findAllById(List.copyOf(missing)).stream()
+						.collect(toMap(User::getUserId, Function.identity()))
+				)
+			);
+
+			try {
+				for (ReservationExportRow row : chunk) {
+					writer.write(toLine(format, toDto(row, idToUser.get(row.userId()))));
+					writer.write('\n');
+				}
+				writer.flush();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+
+			written += chunk.size();
+			chunk.clear();
+		}
+
+		private ReservationListResponseDto toDto(ReservationExportRow row, User user) {
+			return ReservationListResponseDto.builder()
+				.reservationId(row.reservationId())
+				.restaurantId(row.restaurantId())
+				.restaurantName(restaurantNames.get(row.restaurantId()))
+				.visitAt(row.visitAt())
+				.partySize(row.partySize())
+				.status(row.status())
+				.userName(user != null ? user.getName() : null)
+				.userPhone(user != null ? user.getPhone() : null)
+				.note(row.note())
+				.build();
+		}
+	}
+}
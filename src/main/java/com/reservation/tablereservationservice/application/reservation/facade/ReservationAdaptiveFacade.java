@@ -0,0 +1,54 @@
+package com.reservation.tablereservationservice.application.reservation.facade;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityKey;
+import com.reservation.tablereservationservice.application.reservation.contention.ContentionController;
+import com.reservation.tablereservationservice.application.reservation.contention.ContentionMode;
+import com.reservation.tablereservationservice.application.reservation.service.ReservationService;
+import com.reservation.tablereservationservice.application.reservation.soldout.SoldOutIndex;
+import com.reservation.tablereservationservice.domain.reservation.Reservation;
+import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationRequestDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * (slotId, date) 별 경합 정도에 따라 경로를 고른다.
+ * - 한산한 key: 낙관적 락 1회 시도, 충돌하면 재시도 대신 메일박스로 넘긴다.
+ * - 붐비는 key: 처음부터 메일박스로 보내 같은 row 에 대한 재시도 폭주를 막는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationAdaptiveFacade {
+
+	private final ReservationService reservationService;
+	private final ReservationMailboxFacade reservationMailboxFacade;
+	private final ContentionController contentionController;
+	private final SoldOutIndex soldOutIndex;
+
+	public Reservation create(String email, ReservationRequestDto requestDto, long serverReceivedSeq) {
+		soldOutIndex.check(requestDto.getSlotId(), requestDto.getDate(), requestDto.getPartySize());
+
+		CapacityKey key = new CapacityKey(requestDto.getSlotId(), requestDto.getDate());
+
+		if (contentionController.route(key) == ContentionMode.QUEUED) {
+			return reservationMailboxFacade.create(email, requestDto, serverReceivedSeq);
+		}
+
+		Reservation reservation;
+		try {
+			reservation = reservationService.create(email, requestDto, serverReceivedSeq);
+		} catch (OptimisticLockingFailureException e) {
+			contentionController.recordConflict(key);
+			log.info("[ADAPTIVE] optimistic conflict, hand off to mailbox (seq={}, key={})", serverReceivedSeq, key);
+
+			return reservationMailboxFacade.create(email, requestDto, serverReceivedSeq);
+		}
+
+		contentionController.recordSuccess(key);
+		return reservation;
+	}
+}
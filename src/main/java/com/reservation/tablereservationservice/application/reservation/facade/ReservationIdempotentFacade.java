@@ -0,0 +1,115 @@
+package com.reservation.tablereservationservice.application.reservation.facade;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reservation.tablereservationservice.application.reservation.service.ReservationService;
+import com.reservation.tablereservationservice.application.reservation.soldout.SoldOutIndex;
+import com.reservation.tablereservationservice.domain.reservation.Reservation;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationRequestDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 같은 (userId, requestId) 재요청에는 처음 만든 예약을 그대로 돌려준다. (좌석은 다시 차감하지 않는다)
+ * - 최근 결과는 메모리에서 바로 찾고, 없으면 (user_id, request_id) 유니크 인덱스로 조회한다.
+ * - 동시에 들어온 같은 요청은 유니크 인덱스에서 하나만 저장되고, 진 쪽은 저장된 예약을 돌려받는다.
+ * - 매진으로 기록된 (slotId, date) 요청은 트랜잭션을 열기 전에 거절한다.
+ * - requestId 가 없는 요청은 서버에서 requestId 를 만들므로 재요청을 식별하지 않는다.
+ */
+@Slf4j
+@Component
+public class ReservationIdempotentFacade {
+
+	private final ReservationService reservationService;
+	private final SoldOutIndex soldOutIndex;
+	private final Cache<RequestKey, Reservation> recent;
+	private final Counter replayCounter;
+
+	public ReservationIdempotentFacade(
+		ReservationService reservationService,
+		SoldOutIndex soldOutIndex,
+		MeterRegistry meterRegistry,
+		@Value("${reservation.idempotency.maximum-size}") int maximumSize,
+		@Value("${reservation.idempotency.ttl-minutes}") long ttlMinutes
+	) {
+		this.reservationService = reservationService;
+		this.soldOutIndex = soldOutIndex;
+		this.recent = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+			.recordStats()
+			.build();
+		this.replayCounter = meterRegistry.counter("reservation.idempotency.replays");
+
+		CaffeineCacheMetrics.monitor(meterRegistry, recent, "reservationIdempotency");
+	}
+
+	public Reservation create(Long userId, ReservationRequestDto requestDto) {
+		String requestId = requestDto.getRequestId();
+		if (requestId == null) {
+			checkSoldOut(requestDto);
+			return reservationService.create(userId, requestDto);
+		}
+
+		RequestKey key = new RequestKey(userId, requestId);
+
+		Reservation cached = recent.getIfPresent(key);
+		if (cached != null) {
+			return replay(cached);
+		}
+
+		Optional<Reservation> stored = reservationService.findByRequestId(userId, requestId);
+		if (stored.isPresent()) {
+			recent.put(key, stored.get());
+			return replay(stored.get());
+		}
+
+		// 재요청이 아닌 것을 확인한 뒤에만 매진 여부로 거절한다.
+		checkSoldOut(requestDto);
+
+		try {
+			Reservation reservation = reservationService.create(userId, requestDto);
+			recent.put(key, reservation);
+			return reservation;
+		} catch (ReservationException e) {
+			if (e.getErrorCode() != ErrorCode.RESERVATION_DUPLICATED_TIME) {
+				throw e;
+			}
+
+			// 같은 requestId 가 먼저 커밋된 경우 (유니크 인덱스 충돌)
+			Reservation winner = reservationService.findByRequestId(userId, requestId).orElseThrow(() -> e);
+			recent.put(key, winner);
+			return replay(winner);
+		}
+	}
+
+	public void clear() {
+		recent.invalidateAll();
+	}
+
+	private void checkSoldOut(ReservationRequestDto requestDto) {
+		soldOutIndex.check(requestDto.getSlotId(), requestDto.getDate(), requestDto.getPartySize());
+	}
+
+	private Reservation replay(Reservation reservation) {
+		replayCounter.increment();
+		log.info("[IDEMPOTENCY] replay (reservationId={}, reqId={})",
+			reservation.getReservationId(), reservation.getRequestId());
+
+		return reservation;
+	}
+
+	private record RequestKey(Long userId, String requestId) {
+	}
+}
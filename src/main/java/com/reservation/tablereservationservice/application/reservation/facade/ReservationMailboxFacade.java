@@ -0,0 +1,49 @@
+package com.reservation.tablereservationservice.application.reservation.facade;
+
+import java.util.concurrent.CompletionException;
+
+import org.springframework.stereotype.Component;
+
+import com.reservation.tablereservationservice.application.reservation.mailbox.ReservationMailbox;
+import com.reservation.tablereservationservice.application.reservation.service.ReservationService;
+import com.reservation.tablereservationservice.application.reservation.soldout.SoldOutIndex;
+import com.reservation.tablereservationservice.domain.reservation.Reservation;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationRequestDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검증은 요청 스레드에서, 좌석 차감과 저장은 (slotId, date) 메일박스에서 처리한다.
+ * 같은 row 에 대한 경합이 메일박스의 배치로 흡수되므로 재시도가 없다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationMailboxFacade {
+
+	private final ReservationService reservationService;
+	private final ReservationMailbox reservationMailbox;
+	private final SoldOutIndex soldOutIndex;
+
+	public Reservation create(String email, ReservationRequestDto requestDto, long serverReceivedSeq) {
+		soldOutIndex.check(requestDto.getSlotId(), requestDto.getDate(), requestDto.getPartySize());
+
+		Reservation draft = reservationService.prepare(email, requestDto, serverReceivedSeq);
+
+		try {
+			return reservationMailbox.submit(draft).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof ReservationException cause
+				&& cause.getErrorCode() == ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH) {
+				soldOutIndex.recordShortage(requestDto.getSlotId(), requestDto.getDate(), requestDto.getPartySize());
+			}
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+}
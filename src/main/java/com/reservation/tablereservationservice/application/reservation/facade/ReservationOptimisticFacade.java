@@ -1,5 +1,10 @@
 package com.reservation.tablereservationservice.application.reservation.facade;
 
+import static java.util.stream.Collectors.*;
+
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.retry.RetryContext;
@@ -9,7 +14,9 @@ import org.springframework.retry.annotation.Retryable;
 import org.springframework.retry.support.RetrySynchronizationManager;
 import org.springframework.stereotype.Component;
 
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityKey;
 import com.reservation.tablereservationservice.application.reservation.service.ReservationService;
+import com.reservation.tablereservationservice.application.reservation.soldout.SoldOutIndex;
 import com.reservation.tablereservationservice.domain.reservation.Reservation;
 import com.reservation.tablereservationservice.global.exception.ErrorCode;
 import com.reservation.tablereservationservice.global.exception.ReservationException;
@@ -24,6 +31,8 @@ import lombok.extern.slf4j.Slf4j;
 public class ReservationOptimisticFacade {
 
 	private final ReservationService reservationService;
+	private final ReservationIdempotentFacade reservationIdempotentFacade;
+	private final SoldOutIndex soldOutIndex;
 
 	@Retryable(
 		retryFor = {OptimisticLockingFailureException.class, ObjectOptimisticLockingFailureException.class},
@@ -31,6 +40,9 @@ public class ReservationOptimisticFacade {
 		backoff = @Backoff(delay = 20, multiplier = 2.0, maxDelay = 200, random = true)
 	)
 	public Reservation createWithRetry(String email, ReservationRequestDto requestDto, long serverReceivedSeq) {
+		// 매진으로 기록된 요청은 사용자 조회/트랜잭션 없이 바로 거절한다.
+		soldOutIndex.check(requestDto.getSlotId(), requestDto.getDate(), requestDto.getPartySize());
+
 		int attempt = getCurrentAttempt();
 
 		if (attempt == 1) {
@@ -56,6 +68,48 @@ public class ReservationOptimisticFacade {
 		return reservationService.create(email, requestDto, serverReceivedSeq);
 	}
 
+	/**
+	 * 일괄 예약: 한 key 라도 버전 충돌이 나면 배치 전체를 다시 시도한다.
+	 */
+	@Retryable(
+		retryFor = {OptimisticLockingFailureException.class, ObjectOptimisticLockingFailureException.class},
+		maxAttempts = 3,
+		backoff = @Backoff(delay = 20, multiplier = 2.0, maxDelay = 200, random = true)
+	)
+	public List<Reservation> createAll(Long userId, List<ReservationRequestDto> requestDtos) {
+		// 같은 (slotId, date) 는 합산한 인원으로 매진 여부를 확인한다.
+		Map<CapacityKey, Integer> partySizes = requestDtos.stream()
+			.collect(groupingBy(
+				requestDto -> new CapacityKey(requestDto.getSlotId(), requestDto.getDate()),
+				summingInt(ReservationRequestDto::getPartySize)
+			));
+		partySizes.forEach((key, partySize) -> soldOutIndex.check(key.slotId(), key.date(), partySize));
+
+		int attempt = getCurrentAttempt();
+		if (attempt > 1) {
+			log.warn("[OPT-LOCK] batch retry attempt={} (userId={}, size={})", attempt, userId, requestDtos.size());
+		}
+
+		return reservationService.createAll(userId, requestDtos);
+	}
+
+	/**
+	 * 대기열/비동기 worker 의 예약 처리: 같은 requestId 는 처음 만든 예약을 돌려주고, 버전 충돌은 재시도한다.
+	 */
+	@Retryable(
+		retryFor = {OptimisticLockingFailureException.class, ObjectOptimisticLockingFailureException.class},
+		maxAttempts = 3,
+		backoff = @Backoff(delay = 20, multiplier = 2.0, maxDelay = 200, random = true)
+	)
+	public Reservation createIdempotent(Long userId, ReservationRequestDto requestDto) {
+		int attempt = getCurrentAttempt();
+		if (attempt > 1) {
+			log.warn("[OPT-LOCK] retry attempt={} (userId={}, reqId={})", attempt, userId, requestDto.getRequestId());
+		}
+
+		return reservationIdempotentFacade.create(userId, requestDto);
+	}
+
 	@Recover
 	public Reservation recover(
 		OptimisticLockingFailureException e,
@@ -85,6 +139,54 @@ public class ReservationOptimisticFacade {
 		throw e;
 	}
 
+	@Recover
+	public Reservation recoverIdempotent(
+		OptimisticLockingFailureException e,
+		Long userId,
+		ReservationRequestDto requestDto
+	) {
+		log.error(
+			"[OPT-LOCK] retry exhausted (attempt={}, userId={}, reqId={}, cause={})",
+			getCurrentAttempt(), userId, requestDto.getRequestId(), e.getClass().getSimpleName(), e
+		);
+
+		throw new ReservationException(ErrorCode.RESERVATION_CONCURRENCY_ERROR, "재시도 횟수 초과");
+	}
+
+	@Recover
+	public Reservation recoverIdempotent(
+		ReservationException e,
+		Long userId,
+		ReservationRequestDto requestDto
+	) {
+		// 좌석 부족 등은 정상 비즈니스 실패 처리
+		throw e;
+	}
+
+	@Recover
+	public List<Reservation> recoverAll(
+		OptimisticLockingFailureException e,
+		Long userId,
+		List<ReservationRequestDto> requestDtos
+	) {
+		log.error(
+			"[OPT-LOCK] batch retry exhausted (attempt={}, userId={}, size={}, cause={})",
+			getCurrentAttempt(), userId, requestDtos.size(), e.getClass().getSimpleName(), e
+		);
+
+		throw new ReservationException(ErrorCode.RESERVATION_CONCURRENCY_ERROR, "재시도 횟수 초과");
+	}
+
+	@Recover
+	public List<Reservation> recoverAll(
+		ReservationException e,
+		Long userId,
+		List<ReservationRequestDto> requestDtos
+	) {
+		// 좌석 부족 등은 정상 비즈니스 실패 처리
+		throw e;
+	}
+
 	private int getCurrentAttempt() {
 		RetryContext context = RetrySynchronizationManager.getContext();
 		if (context == null) {
@@ -0,0 +1,91 @@
+package com.reservation.tablereservationservice.application.reservation.hold;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 만료 시각을 tick 단위 bucket 에 모아 두는 hashed timer wheel
+ * - schedule 은 어느 스레드에서나 호출할 수 있고, pending 큐에만 넣는다.
+ * - bucket 은 advance 를 호출하는 스레드(스케줄러)만 다루므로 별도 동기화가 없다.
+ * - bucket 하나에 여러 바퀴의 만료가 섞일 수 있어 deadlineTick 으로 다시 거른다.
+ * - 확정/해제된 hold 는 wheel 에서 지우지 않고, 만료 시점에 호출 측이 걸러낸다.
+ */
+public class HoldTimerWheel {
+
+	private final long tickMs;
+	private final int mask;
+	private final List<ArrayDeque<Timeout>> buckets;
+	private final Queue<SeatHold> pending = new ConcurrentLinkedQueue<>();
+
+	private long lastTick;
+
+	/**
+	 * @param wheelSize bucket 수 (2의 거듭제곱으로 올림)
+	 */
+	public HoldTimerWheel(int wheelSize, long tickMs, long startMillis) {
+		int size = Integer.highestOneBit(Math.max(wheelSize, 2) - 1) << 1;
+
+		this.tickMs = tickMs;
+		this.mask = size - 1;
+		this.buckets = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			buckets.add(new ArrayDeque<>());
+		}
+		this.lastTick = startMillis / tickMs;
+	}
+
+	public void schedule(SeatHold hold) {
+		pending.add(hold);
+	}
+
+	/**
+	 * nowMillis 까지 지난 tick 의 bucket 을 비우고 만료된 hold 를 돌려준다.
+	 */
+	public synchronized List<SeatHold> advance(long nowMillis) {
+		long targetTick = nowMillis / tickMs;
+		List<SeatHold> expired = new ArrayList<>();
+
+		transferPending(targetTick, expired);
+
+		if (targetTick <= lastTick) {
+			return expired;
+		}
+
+		// 스케줄러가 한 바퀴 이상 밀렸으면 bucket 전체를 한 번씩만 본다.
+		long steps = Math.min(targetTick - lastTick, buckets.size());
+		for (long tick = targetTick - steps + 1; tick <= targetTick; tick++) {
+			buckets.get((int)(tick & mask)).removeIf(timeout -> {
+				if (timeout.deadlineTick() <= targetTick) {
+					expired.add(timeout.hold());
+					return true;
+				}
+				return false;
+			});
+		}
+
+		lastTick = targetTick;
+		return expired;
+	}
+
+	private void transferPending(long targetTick, List<SeatHold> expired) {
+		SeatHold hold;
+
+		while ((hold = pending.poll()) != null) {
+			// 만료 시각을 tick 단위로 올림해 일찍 만료되지 않게 한다.
+			long deadlineTick = (hold.expiresAtMillis() + tickMs - 1) / tickMs;
+
+			if (deadlineTick <= targetTick) {
+				expired.add(hold);
+				continue;
+			}
+
+			buckets.get((int)(deadlineTick & mask)).add(new Timeout(hold, deadlineTick));
+		}
+	}
+
+	private record Timeout(SeatHold hold, long deadlineTick) {
+	}
+}
@@ -0,0 +1,39 @@
+package com.reservation.tablereservationservice.application.reservation.hold;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityKey;
+import com.reservation.tablereservationservice.domain.reservation.HeldSeat;
+import com.reservation.tablereservationservice.domain.reservation.Reservation;
+
+/**
+ * 좌석만 차감해 둔 확정 전 예약
+ * @param draft 확정 시 그대로 저장할 예약
+ * @param expiresAtMillis 만료 시각 (epoch millis)
+ */
+public record SeatHold(
+	String holdId,
+	Reservation draft,
+	long expiresAtMillis
+) {
+
+	public CapacityKey capacityKey() {
+		return new CapacityKey(draft.getSlotId(), draft.getVisitAt().toLocalDate());
+	}
+
+	public boolean isExpiredAt(long nowMillis) {
+		return nowMillis >= expiresAtMillis;
+	}
+
+	public HeldSeat heldSeat() {
+		return new HeldSeat(
+			holdId,
+			draft.getSlotId(),
+			draft.getVisitAt().toLocalDate(),
+			draft.getPartySize(),
+			LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAtMillis), ZoneId.systemDefault())
+		);
+	}
+}
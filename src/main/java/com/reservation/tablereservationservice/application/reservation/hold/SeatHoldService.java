@@ -0,0 +1,293 @@
+package com.reservation.tablereservationservice.application.reservation.hold;
+
+import static java.util.stream.Collectors.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Recover;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityKey;
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityStrategy;
+import com.reservation.tablereservationservice.application.reservation.service.ReservationService;
+import com.reservation.tablereservationservice.application.reservation.soldout.SoldOutIndex;
+import com.reservation.tablereservationservice.domain.reservation.HeldSeat;
+import com.reservation.tablereservationservice.domain.reservation.HeldSeatRepository;
+import com.reservation.tablereservationservice.domain.reservation.Reservation;
+import com.reservation.tablereservationservice.domain.reservation.ReservationRepository;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationRequestDto;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 2단계 예약: 좌석 선점(hold) -> 확정(confirm)
+ * - hold: 짧은 트랜잭션에서 좌석 차감과 선점 기록(held_seat)을 함께 커밋하고, 저장 전 예약은 메모리에 TTL 과 함께 보관한다.
+ * - confirm: hold 를 꺼내 reservation row 로 저장한다. (좌석은 이미 차감되어 있음)
+ * - 만료된 hold 는 timer wheel 이 모아 (slotId, date) 별로 한 번에 좌석을 복구한다.
+ * - 확정/해제/만료/회수 모두 선점 기록을 지운 트랜잭션에서만 좌석을 되돌리므로 좌석이 두 번 복구되지 않는다.
+ * - 종료 시 메모리의 hold 를 모두 해제하고, 비정상 종료로 남은 기록은 sweep 이 만료 후 회수한다.
+ */
+@Slf4j
+@Service
+public class SeatHoldService {
+
+	private final ReservationService reservationService;
+	private final CapacityStrategy capacityStrategy;
+	private final ReservationRepository reservationRepository;
+	private final HeldSeatRepository heldSeatRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final SoldOutIndex soldOutIndex;
+	private final long ttlMillis;
+	private final long sweepGraceSeconds;
+	private final int sweepBatchSize;
+
+	private final ConcurrentMap<String, SeatHold> holds = new ConcurrentHashMap<>();
+	private final HoldTimerWheel timerWheel;
+
+	public SeatHoldService(
+		ReservationService reservationService,
+		CapacityStrategy capacityStrategy,
+		ReservationRepository reservationRepository,
+		HeldSeatRepository heldSeatRepository,
+		TransactionTemplate transactionTemplate,
+		SoldOutIndex soldOutIndex,
+		@Value("${reservation.hold.ttl-seconds}") long ttlSeconds,
+		@Value("${reservation.hold.tick-ms}") long tickMs,
+		@Value("${reservation.hold.wheel-size}") int wheelSize,
+		@Value("${reservation.hold.sweep-grace-seconds}") long sweepGraceSeconds,
+		@Value("${reservation.hold.sweep-batch-size}") int sweepBatchSize
+	) {
+		this.reservationService = reservationService;
+		this.capacityStrategy = capacityStrategy;
+		this.reservationRepository = reservationRepository;
+		this.heldSeatRepository = heldSeatRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.soldOutIndex = soldOutIndex;
+		this.ttlMillis = ttlSeconds * 1000;
+		this.sweepGraceSeconds = sweepGraceSeconds;
+		this.sweepBatchSize = sweepBatchSize;
+		this.timerWheel = new HoldTimerWheel(wheelSize, tickMs, System.currentTimeMillis());
+	}
+
+	@Retryable(
+		retryFor = OptimisticLockingFailureException.class,
+		maxAttempts = 3,
+		backoff = @Backoff(delay = 20, multiplier = 2.0, maxDelay = 200, random = true)
+	)
+	public SeatHold hold(Long userId, ReservationRequestDto requestDto) {
+		soldOutIndex.check(requestDto.getSlotId(), requestDto.getDate(), requestDto.getPartySize());
+
+		String holdId = UUID.randomUUID().toString();
+		Reservation draft = reservationService.prepare(userId, requestDto, 0L);
+		SeatHold hold = new SeatHold(holdId, draft, System.currentTimeMillis() + ttlMillis);
+
+		// 좌석 차감과 선점 기록만 커밋하고 바로 트랜잭션을 끝낸다.
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				capacityStrategy.decrease(draft.getSlotId(), requestDto.getDate(), draft.getPartySize());
+				heldSeatRepository.save(hold.heldSeat());
+			});
+		} catch (ReservationException e) {
+			if (e.getErrorCode() == ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH) {
+				soldOutIndex.recordShortage(draft.getSlotId(), requestDto.getDate(), draft.getPartySize());
+			}
+			throw e;
+		}
+
+		holds.put(holdId, hold);
+		timerWheel.schedule(hold);
+
+		return hold;
+	}
+
+	@Recover
+	public SeatHold recover(OptimisticLockingFailureException e, Long userId, ReservationRequestDto requestDto) {
+		log.error("[HOLD] retry exhausted (userId={}, slotId={}, date={})",
+			userId, requestDto.getSlotId(), requestDto.getDate(), e);
+
+		throw new ReservationException(ErrorCode.RESERVATION_CONCURRENCY_ERROR, "재시도 횟수 초과");
+	}
+
+	@Recover
+	public SeatHold recover(ReservationException e, Long userId, ReservationRequestDto requestDto) {
+		// 좌석 부족 등은 정상 비즈니스 실패 처리
+		throw e;
+	}
+
+	public Reservation confirm(Long userId, String holdId) {
+		SeatHold hold = take(userId, holdId);
+
+		if (hold.isExpiredAt(System.currentTimeMillis())) {
+			// wheel 이 아직 돌지 않았을 뿐 이미 만료된 hold
+			release(hold);
+			throw new ReservationException(ErrorCode.RESERVATION_HOLD_EXPIRED);
+		}
+
+		try {
+			return transactionTemplate.execute(status -> {
+				// sweep 이 이미 좌석을 회수한 hold 는 확정하지 않는다.
+				if (!heldSeatRepository.delete(hold.holdId())) {
+					throw new ReservationException(ErrorCode.RESERVATION_HOLD_EXPIRED);
+				}
+				return reservationRepository.saveAndFlush(hold.draft());
+			});
+		} catch (DataIntegrityViolationException e) {
+			release(hold);
+			throw new ReservationException(ErrorCode.RESERVATION_DUPLICATED_TIME);
+		} catch (RuntimeException e) {
+			release(hold);
+			throw e;
+		}
+	}
+
+	public void cancel(Long userId, String holdId) {
+		release(take(userId, holdId));
+	}
+
+	@Scheduled(fixedDelayString = "${reservation.hold.tick-ms}")
+	public void expireDue() {
+		expire(System.currentTimeMillis());
+	}
+
+	/**
+	 * 만료된 hold 를 (slotId, date) 별로 합산해 key 당 한 번만 복구한다.
+	 * @return 복구한 hold 수
+	 */
+	public synchronized int expire(long nowMillis) {
+		List<SeatHold> expired = timerWheel.advance(nowMillis).stream()
+			.filter(hold -> holds.remove(hold.holdId(), hold))
+			.toList();
+
+		restore(expired.stream().map(SeatHold::heldSeat).toList());
+
+		if (!expired.isEmpty()) {
+			log.info("[HOLD] expired {} holds", expired.size());
+		}
+		return expired.size();
+	}
+
+	@Scheduled(fixedDelayString = "${reservation.hold.sweep-interval-ms}")
+	public void sweepDue() {
+		sweep(LocalDateTime.now().minusSeconds(sweepGraceSeconds));
+	}
+
+	/**
+	 * 메모리에서 사라진 hold(비정상 종료, 복구 실패)의 기록을 찾아 좌석을 되돌린다.
+	 * 살아 있는 인스턴스의 hold 는 만료 후 grace 안에 timer wheel 이 먼저 지운다.
+	 * @return 회수한 기록 수
+	 */
+	public int sweep(LocalDateTime expiredBefore) {
+		List<HeldSeat> orphans = heldSeatRepository.findExpired(expiredBefore, sweepBatchSize);
+
+		int restored = restore(orphans);
+		if (restored > 0) {
+			log.warn("[HOLD] swept {} orphan holds", restored);
+		}
+		return restored;
+	}
+
+	/**
+	 * 종료 전에 메모리의 hold 를 모두 해제해 배포/재시작으로 좌석이 묶이지 않게 한다.
+	 */
+	@PreDestroy
+	public synchronized void releaseAll() {
+		List<SeatHold> active = new ArrayList<>();
+		holds.values().forEach(hold -> {
+			if (holds.remove(hold.holdId(), hold)) {
+				active.add(hold);
+			}
+		});
+
+		restore(active.stream().map(SeatHold::heldSeat).toList());
+
+		if (!active.isEmpty()) {
+			log.info("[HOLD] released {} holds on shutdown", active.size());
+		}
+	}
+
+	public int activeHoldCount() {
+		return holds.size();
+	}
+
+	public synchronized void clear() {
+		holds.clear();
+	}
+
+	private SeatHold take(Long userId, String holdId) {
+		SeatHold hold = holds.get(holdId);
+
+		if (hold == null) {
+			throw new ReservationException(ErrorCode.RESERVATION_HOLD_EXPIRED);
+		}
+
+		if (!hold.draft().isOwner(userId)) {
+			throw new ReservationException(ErrorCode.RESERVATION_HOLD_FORBIDDEN);
+		}
+
+		// 만료 처리와 동시에 들어오면 먼저 꺼낸 쪽만 진행한다.
+		if (!holds.remove(holdId, hold)) {
+			throw new ReservationException(ErrorCode.RESERVATION_HOLD_EXPIRED);
+		}
+
+		return hold;
+	}
+
+	private void release(SeatHold hold) {
+		restore(List.of(hold.heldSeat()));
+	}
+
+	/**
+	 * (slotId, date) 별로 선점 기록을 지우고, 이 트랜잭션이 지운 기록의 인원만큼만 좌석을 되돌린다.
+	 * 실패하면 기록이 그대로 남으므로 sweep 이 다시 회수한다.
+	 * @return 좌석을 되돌린 기록 수
+	 */
+	private int restore(Collection<HeldSeat> heldSeats) {
+		Map<CapacityKey, List<HeldSeat>> byKey = heldSeats.stream()
+			.collect(groupingBy(heldSeat -> new CapacityKey(heldSeat.slotId(), heldSeat.date())));
+
+		int restored = 0;
+		for (Map.Entry<CapacityKey, List<HeldSeat>> entry : byKey.entrySet()) {
+			CapacityKey key = entry.getKey();
+
+			try {
+				List<HeldSeat> deleted = transactionTemplate.execute(status -> {
+					List<HeldSeat> owned = entry.getValue().stream()
+						.filter(heldSeat -> heldSeatRepository.delete(heldSeat.holdId()))
+						.toList();
+
+					int partySize = owned.stream().mapToInt(HeldSeat::partySize).sum();
+					if (partySize > 0) {
+						capacityStrategy.increase(key.slotId(), key.date(), partySize);
+					}
+					return owned;
+				});
+
+				if (!deleted.isEmpty()) {
+					soldOutIndex.restockAfterCommit(key.slotId(), key.date());
+				}
+				restored += deleted.size();
+			} catch (RuntimeException e) {
+				log.warn("[HOLD] release failed, left for sweep (key={}, holds={}, cause={})",
+					key, entry.getValue().size(), e.getClass().getSimpleName());
+			}
+		}
+		return restored;
+	}
+}
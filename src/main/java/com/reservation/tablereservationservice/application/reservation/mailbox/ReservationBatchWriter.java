@@ -0,0 +1,110 @@
+package com.reservation.tablereservationservice.application.reservation.mailbox;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityKey;
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityStrategy;
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacity;
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacityRepository;
+import com.reservation.tablereservationservice.domain.reservation.Reservation;
+import com.reservation.tablereservationservice.domain.reservation.ReservationRepository;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메일박스 한 배치를 하나의 트랜잭션으로 기록한다.
+ * - 좌석 차감 1번 + reservation INSERT(saveAll) 로 묶어 커밋한다.
+ * - 차감은 CapacityStrategy 를 거치므로 메모리 카운터를 쓰는 모드(cas, write-behind)와도 어긋나지 않는다.
+ * - 배치 전체가 실패하면 ReservationMailbox 가 writeOne 으로 건별 재처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationBatchWriter {
+
+	private final CapacityStrategy capacityStrategy;
+	private final DailySlotCapacityRepository dailySlotCapacityRepository;
+	private final ReservationRepository reservationRepository;
+
+	/**
+	 * @param drafts serverReceivedSeq 순으로 정렬된 저장 전 예약
+	 * @return drafts 와 같은 순서의 건별 결과
+	 */
+	@Transactional
+	public List<Outcome> writeBatch(CapacityKey key, List<Reservation> drafts) {
+		DailySlotCapacity capacity = dailySlotCapacityRepository.findBySlotIdAndDate(key.slotId(), key.date())
+			.orElse(null);
+
+		if (capacity == null) {
+			return drafts.stream()
+				.map(draft -> Outcome.failure(new ReservationException(ErrorCode.RESERVATION_SLOT_NOT_OPENED)))
+				.toList();
+		}
+
+		// 선착순으로 좌석을 배정하고, 남은 좌석보다 큰 요청만 실패시킨다.
+		// (메모리 카운터 모드에서는 DB 값이 추정치이므로 차감이 실패하면 건별 재처리로 넘긴다)
+		int remaining = capacity.getRemainingCount();
+		int total = 0;
+		List<Reservation> accepted = new ArrayList<>();
+		Outcome[] outcomes = new Outcome[drafts.size()];
+
+		for (int i = 0; i < drafts.size(); i++) {
+			Reservation draft = drafts.get(i);
+
+			if (draft.getPartySize() > remaining) {
+				outcomes[i] = Outcome.failure(new ReservationException(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH));
+				continue;
+			}
+
+			remaining -= draft.getPartySize();
+			total += draft.getPartySize();
+			accepted.add(draft);
+		}
+
+		if (accepted.isEmpty()) {
+			return List.of(outcomes);
+		}
+
+		// 메일박스 밖의 경로(cancel 등)가 좌석을 바꿨다면 예외로 배치를 롤백하고 건별로 재처리한다.
+		capacityStrategy.decrease(key.slotId(), key.date(), total);
+
+		List<Reservation> saved = reservationRepository.saveAll(accepted);
+
+		int savedIndex = 0;
+		for (int i = 0; i < outcomes.length; i++) {
+			if (outcomes[i] == null) {
+				outcomes[i] = Outcome.success(saved.get(savedIndex++));
+			}
+		}
+
+		return List.of(outcomes);
+	}
+
+	@Transactional
+	public Reservation writeOne(CapacityKey key, Reservation draft) {
+		capacityStrategy.decrease(key.slotId(), key.date(), draft.getPartySize());
+
+		try {
+			return reservationRepository.saveAndFlush(draft);
+		} catch (DataIntegrityViolationException e) {
+			throw new ReservationException(ErrorCode.RESERVATION_DUPLICATED_TIME);
+		}
+	}
+
+	public record Outcome(Reservation reservation, RuntimeException failure) {
+
+		static Outcome success(Reservation reservation) {
+			return new Outcome(reservation, null);
+		}
+
+		static Outcome failure(RuntimeException failure) {
+			return new Outcome(null, failure);
+		}
+	}
+}
@@ -0,0 +1,156 @@
+package com.reservation.tablereservationservice.application.reservation.mailbox;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityKey;
+import com.reservation.tablereservationservice.domain.reservation.Reservation;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * (slotId, date) 별 단일 writer 메일박스
+ * - 요청은 serverReceivedSeq 순으로 정렬된 큐에 쌓이고, key 당 가상 스레드 하나만 큐를 비운다.
+ * - 앞 배치를 커밋하는 동안 쌓인 요청을 다음 배치로 묶으므로, 경합이 클수록 배치가 커진다. (group commit)
+ * - 결과는 요청마다 CompletableFuture 로 돌려준다.
+ */
+@Slf4j
+@Component
+public class ReservationMailbox {
+
+	private static final Comparator<Command> FCFS = Comparator.comparingLong(c -> c.draft().getServerReceivedSeq());
+
+	private final ReservationBatchWriter batchWriter;
+	private final int maxBatchSize;
+
+	private final ConcurrentMap<CapacityKey, Lane> lanes = new ConcurrentHashMap<>();
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	public ReservationMailbox(
+		ReservationBatchWriter batchWriter,
+		@Value("${reservation.mailbox.max-batch-size}") int maxBatchSize
+	) {
+		this.batchWriter = batchWriter;
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	public CompletableFuture<Reservation> submit(Reservation draft) {
+		CapacityKey key = new CapacityKey(draft.getSlotId(), draft.getVisitAt().toLocalDate());
+		Command command = new Command(draft, new CompletableFuture<>());
+
+		Lane lane = lanes.computeIfAbsent(key, Lane::new);
+		lane.queue.add(command);
+		schedule(lane);
+
+		return command.result();
+	}
+
+	/**
+	 * 지난 날짜의 빈 메일박스를 정리한다.
+	 */
+	@Scheduled(cron = "0 0 * * * *")
+	public void evictExpiredLanes() {
+		LocalDate today = LocalDate.now();
+
+		lanes.values().removeIf(lane ->
+			lane.key.date().isBefore(today) && lane.queue.isEmpty() && !lane.running.get()
+		);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.close();
+	}
+
+	private void schedule(Lane lane) {
+		if (lane.running.compareAndSet(false, true)) {
+			executor.execute(() -> drain(lane));
+		}
+	}
+
+	private void drain(Lane lane) {
+		try {
+			List<Command> batch = new ArrayList<>(maxBatchSize);
+
+			while (lane.queue.drainTo(batch, maxBatchSize) > 0) {
+				process(lane.key, batch);
+				batch.clear();
+			}
+		} finally {
+			lane.running.set(false);
+
+			// running 해제 직전에 들어온 요청이 남지 않도록 다시 확인한다.
+			if (!lane.queue.isEmpty()) {
+				schedule(lane);
+			}
+		}
+	}
+
+	private void process(CapacityKey key, List<Command> batch) {
+		List<Reservation> drafts = batch.stream().map(Command::draft).toList();
+		List<ReservationBatchWriter.Outcome> outcomes;
+
+		try {
+			outcomes = batchWriter.writeBatch(key, drafts);
+		} catch (RuntimeException e) {
+			log.warn("[MAILBOX] group commit failed, fallback to single writes (key={}, size={}, cause={})",
+				key, batch.size(), e.getClass().getSimpleName());
+
+			outcomes = drafts.stream().map(draft -> writeOne(key, draft)).toList();
+		}
+
+		for (int i = 0; i < batch.size(); i++) {
+			ReservationBatchWriter.Outcome outcome = outcomes.get(i);
+			CompletableFuture<Reservation> result = batch.get(i).result();
+
+			if (outcome.failure() == null) {
+				result.complete(outcome.reservation());
+			} else {
+				result.completeExceptionally(outcome.failure());
+			}
+		}
+	}
+
+	private ReservationBatchWriter.Outcome writeOne(CapacityKey key, Reservation draft) {
+		try {
+			return ReservationBatchWriter.Outcome.success(batchWriter.writeOne(key, draft));
+		} catch (DataIntegrityViolationException e) {
+			return ReservationBatchWriter.Outcome.failure(
+				new ReservationException(ErrorCode.RESERVATION_DUPLICATED_TIME)
+			);
+		} catch (RuntimeException e) {
+			return ReservationBatchWriter.Outcome.failure(e);
+		}
+	}
+
+	private record Command(Reservation draft, CompletableFuture<Reservation> result) {
+	}
+
+	private static class Lane {
+
+		private final CapacityKey key;
+		private final PriorityBlockingQueue<Command> queue = new PriorityBlockingQueue<>(16, FCFS);
+		private final AtomicBoolean running = new AtomicBoolean(false);
+
+		Lane(CapacityKey key) {
+			this.key = key;
+		}
+	}
+}
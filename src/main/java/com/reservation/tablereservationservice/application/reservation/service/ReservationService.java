@@ -2,20 +2,35 @@ package com.reservation.tablereservationservice.application.reservation.service;
 
 import static java.util.stream.Collectors.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.function.Function;
 
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacity;
-import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacityRepository;
+import com.reservation.tablereservationservice.application.reservation.availability.AvailabilitySnapshot;
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityKey;
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityShortageException;
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityStrategy;
+import com.reservation.tablereservationservice.application.reservation.soldout.SoldOutIndex;
+import com.reservation.tablereservationservice.domain.reservation.OwnerReservationRow;
 import com.reservation.tablereservationservice.domain.reservation.Reservation;
+import com.reservation.tablereservationservice.domain.reservation.ReservationCursor;
 import com.reservation.tablereservationservice.domain.reservation.ReservationRepository;
 import com.reservation.tablereservationservice.domain.reservation.ReservationStatus;
 import com.reservation.tablereservationservice.domain.restaurant.Restaurant;
@@ -24,6 +39,8 @@ import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlot;
 import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlotRepository;
 import com.reservation.tablereservationservice.domain.user.User;
 import com.reservation.tablereservationservice.domain.user.UserRepository;
+import com.reservation.tablereservationservice.global.annotation.ReplicaRead;
+import com.reservation.tablereservationservice.global.concurrent.FanOutExecutor;
 import com.reservation.tablereservationservice.global.exception.ErrorCode;
 import com.reservation.tablereservationservice.global.exception.ReservationException;
 import com.reservation.tablereservationservice.presentation.common.PageResponseDto;
@@ -39,16 +56,20 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ReservationService {
 
+	// keyset 조회 순서: (visitAt desc, reservationId desc)
+	private static final Sort KEYSET_ORDER = Sort.by(Sort.Direction.DESC, "visitAt");
+
 	private final UserRepository userRepository;
 	private final RestaurantSlotRepository restaurantSlotRepository;
-	private final DailySlotCapacityRepository dailySlotCapacityRepository;
+	private final CapacityStrategy capacityStrategy;
 	private final ReservationRepository reservationRepository;
 	private final RestaurantRepository restaurantRepository;
+	private final FanOutExecutor fanOutExecutor;
+	private final SoldOutIndex soldOutIndex;
+	private final AvailabilitySnapshot availabilitySnapshot;
 
 	@Transactional
-	public Reservation create(String email, ReservationRequestDto requestDto) {
-		User user = userRepository.fetchByEmail(email);
-
+	public Reservation create(Long userId, ReservationRequestDto requestDto) {
 		RestaurantSlot slot = restaurantSlotRepository.fetchById(requestDto.getSlotId());
 
 		validatePartySize(requestDto.getPartySize(), slot);
@@ -56,149 +77,270 @@ public class ReservationService {
 		LocalDateTime visitAt = LocalDateTime.of(requestDto.getDate(), slot.getTime());
 
 		// 중복 시간대 예약 검증
-		validateDuplicatedTime(user.getUserId(), visitAt);
-
-		DailySlotCapacity capacity = dailySlotCapacityRepository
-			.findBySlotIdAndDate(slot.getSlotId(), requestDto.getDate())
-			.orElseThrow(() -> new ReservationException(ErrorCode.RESERVATION_SLOT_NOT_OPENED));
+		validateDuplicatedTime(userId, visitAt);
 
 		// 수량 검증 및 차감
-		decreaseCapacity(capacity, requestDto.getPartySize());
+		decrease(slot.getSlotId(), requestDto.getDate(), requestDto.getPartySize());
 
 		Reservation reservation = Reservation.builder()
-			.userId(user.getUserId())
+			.userId(userId)
 			.slotId(slot.getSlotId())
+			.restaurantId(slot.getRestaurantId())
 			.visitAt(visitAt)
 			.partySize(requestDto.getPartySize())
 			.note(requestDto.getNote())
 			.status(ReservationStatus.CONFIRMED)
+			.requestId(resolveRequestId(requestDto))
 			.build();
 
 		try {
-			return reservationRepository.save(reservation);
+			return reservationRepository.saveAndFlush(reservation);
 		} catch (DataIntegrityViolationException e) {
 			throw new ReservationException(ErrorCode.RESERVATION_DUPLICATED_TIME);
 		}
 
 	}
 
+	/**
+	 * 여러 건을 한 트랜잭션에서 모두 예약하거나 모두 실패시킨다.
+	 * - 슬롯 조회, 중복 시간대 검증, 좌석 차감 대상 조회를 각각 IN 조회 한 번으로 처리한다.
+	 * - 같은 (slotId, date) 는 인원을 합산해 한 번만 차감하고, 좌석이 부족한 key 는 SoldOutIndex 에 기록한다.
+	 */
+	@Transactional
+	public List<Reservation> createAll(Long userId, List<ReservationRequestDto> requestDtos) {
+		Map<Long, RestaurantSlot> idToSlot = restaurantSlotRepository.findAllById(
+				requestDtos.stream().map(ReservationRequestDto::getSlotId).distinct().toList()
+			).stream()
+			.collect(toMap(RestaurantSlot::getSlotId, Function.identity()));
+
+		List<Reservation> reservations = requestDtos.stream()
+			.map(requestDto -> {
+				RestaurantSlot slot = idToSlot.get(requestDto.getSlotId());
+				if (slot == null) {
+					throw new ReservationException(
+						ErrorCode.RESOURCE_NOT_FOUND,
+						"RestaurantSlot (slotId=" + requestDto.getSlotId() + ")"
+					);
+				}
+
+				validatePartySize(requestDto.getPartySize(), slot);
+
+				return Reservation.builder()
+					.userId(userId)
+					.slotId(slot.getSlotId())
+					.restaurantId(slot.getRestaurantId())
+					.visitAt(LocalDateTime.of(requestDto.getDate(), slot.getTime()))
+					.partySize(requestDto.getPartySize())
+					.note(requestDto.getNote())
+					.status(ReservationStatus.CONFIRMED)
+					.requestId(resolveRequestId(requestDto))
+					.build();
+			})
+			.toList();
+
+		// 중복 시간대 예약 검증 (요청 내 중복 + 기존 예약)
+		validateDuplicatedTimes(userId, reservations);
+
+		// 수량 검증 및 차감
+		Map<CapacityKey, Integer> partySizes = reservations.stream()
+			.collect(groupingBy(
+				reservation -> new CapacityKey(reservation.getSlotId(), reservation.getVisitAt().toLocalDate()),
+				summingInt(Reservation::getPartySize)
+			));
+		try {
+			capacityStrategy.decreaseAll(partySizes);
+		} catch (CapacityShortageException e) {
+			soldOutIndex.recordShortage(e.getKey().slotId(), e.getKey().date(), e.getPartySize());
+			throw e;
+		}
+		partySizes.forEach((key, partySize) ->
+			availabilitySnapshot.adjustAfterCommit(key.slotId(), key.date(), -partySize)
+		);
+
+		try {
+			return reservationRepository.saveAllAndFlush(reservations);
+		} catch (DataIntegrityViolationException e) {
+			throw new ReservationException(ErrorCode.RESERVATION_DUPLICATED_TIME);
+		}
+	}
+
 	// 테스트 전용 오버로딩 메서드
 	@Transactional
 	public Reservation create(String email, ReservationRequestDto requestDto, long serverReceivedSeq) {
+		Reservation reservation = prepare(email, requestDto, serverReceivedSeq);
+
+		// 수량 검증 및 차감
+		decrease(reservation.getSlotId(), requestDto.getDate(), reservation.getPartySize());
+
+		try {
+			return reservationRepository.saveAndFlush(reservation);
+		} catch (DataIntegrityViolationException e) {
+			throw new ReservationException(ErrorCode.RESERVATION_DUPLICATED_TIME);
+		}
+
+	}
+
+	// 테스트 전용: 부하 테스트 요청은 토큰 없이 이메일로 사용자를 찾는다.
+	@Transactional(readOnly = true)
+	public Reservation prepare(String email, ReservationRequestDto requestDto, long serverReceivedSeq) {
 		User user = userRepository.fetchByEmail(email);
 
+		return prepare(user.getUserId(), requestDto, serverReceivedSeq);
+	}
+
+	/**
+	 * DB 를 거치지 않는 요청 검증 (슬롯은 캐시에서 읽는다)
+	 */
+	public RestaurantSlot validate(ReservationRequestDto requestDto) {
 		RestaurantSlot slot = restaurantSlotRepository.fetchById(requestDto.getSlotId());
 
 		validatePartySize(requestDto.getPartySize(), slot);
 
-		LocalDateTime visitAt = LocalDateTime.of(requestDto.getDate(), slot.getTime());
+		return slot;
+	}
 
-		// 중복 시간대 예약 검증
-		validateDuplicatedTime(user.getUserId(), visitAt);
+	/**
+	 * 좌석 차감 전까지의 검증만 수행하고 저장 전 예약을 만든다.
+	 * 좌석 차감과 저장은 호출 측(create, ReservationMailbox, SeatHoldService)이 담당한다.
+	 */
+	@Transactional(readOnly = true)
+	public Reservation prepare(Long userId, ReservationRequestDto requestDto, long serverReceivedSeq) {
+		RestaurantSlot slot = restaurantSlotRepository.fetchById(requestDto.getSlotId());
 
-		DailySlotCapacity capacity = dailySlotCapacityRepository
-			.findBySlotIdAndDate(slot.getSlotId(), requestDto.getDate())
-			.orElseThrow(() -> new ReservationException(ErrorCode.RESERVATION_SLOT_NOT_OPENED));
+		validatePartySize(requestDto.getPartySize(), slot);
 
-		// 수량 검증 및 차감
-		decreaseCapacity(capacity, requestDto.getPartySize());
+		LocalDateTime visitAt = LocalDateTime.of(requestDto.getDate(), slot.getTime());
 
-		Reservation reservation = Reservation.builder()
-			.userId(user.getUserId())
+		// 중복 시간대 예약 검증
+		validateDuplicatedTime(userId, visitAt);
+
+		return Reservation.builder()
+			.userId(userId)
 			.slotId(slot.getSlotId())
+			.restaurantId(slot.getRestaurantId())
 			.visitAt(visitAt)
 			.partySize(requestDto.getPartySize())
 			.note(requestDto.getNote())
 			.status(ReservationStatus.CONFIRMED)
-			.requestId(requestDto.getRequestId())
+			.requestId(resolveRequestId(requestDto))
 			.serverReceivedSeq(serverReceivedSeq)
 			.build();
-
-		try {
-			return reservationRepository.save(reservation);
-		} catch (DataIntegrityViolationException e) {
-			throw new ReservationException(ErrorCode.RESERVATION_DUPLICATED_TIME);
-		}
-
 	}
 
+	/**
+	 * 같은 사용자가 같은 requestId 로 이미 만든 예약 (재요청 응답용)
+	 */
 	@Transactional(readOnly = true)
+	public Optional<Reservation> findByRequestId(Long userId, String requestId) {
+		return reservationRepository.findByUserIdAndRequestId(userId, requestId);
+	}
+
+	/**
+	 * 목록 조회는 트랜잭션 없이 조회마다 커넥션을 잡는다.
+	 * 독립적인 조회를 동시에 실행하는 동안 커넥션 하나를 붙잡고 기다리지 않기 위함이다.
+	 */
+	@ReplicaRead
 	public PageResponseDto<ReservationListResponseDto> findMyReservations(
-		String email,
+		Long userId,
 		ReservationSearchDto searchDto
 	) {
-		User user = userRepository.fetchByEmail(email);
-
-		// page reservation 조회
-		Page<Reservation> page =
-			reservationRepository.findMyReservations(
-				user.getUserId(),
-				searchDto.getStatus(),
-				searchDto.getStartDate().atStartOfDay(),
-				searchDto.getEndDate().atTime(LocalTime.MAX),
-				searchDto.getPageable()
-			);
-
-		if (page.isEmpty()) {
+		Pageable pageable = searchDto.getPageable();
+		ReservationCursor cursor = decodeCursor(searchDto);
+		LocalDateTime from = searchDto.getStartDate().atStartOfDay();
+		LocalDateTime to = searchDto.getEndDate().atTime(LocalTime.MAX);
+
+		// cursor 가 있으면 keyset, 없으면 page 번호로 조회
+		Slice<Reservation> reservations = cursor == null
+			? reservationRepository.findMyReservations(userId, searchDto.getStatus(), from, to,
+				keysetCompatible(pageable))
+			: toSlice(reservationRepository.findMyReservationsAfter(
+				userId, searchDto.getStatus(), from, to, cursor, pageable.getPageSize() + 1), pageable);
+
+		if (reservations.isEmpty()) {
 			return PageResponseDto.from(Page.empty(searchDto.getPageable()));
 		}
 
-		Map<Long, User> idToUser = Map.of(user.getUserId(), user);
-		Page<ReservationListResponseDto> dtoPage = createReservationListDtoPage(page, idToUser);
+		// 응답에 이름/연락처가 필요하므로 예약이 있을 때만 조회한다.
+		// user 조회와 slot -> restaurant 조회는 서로 독립적이므로 동시에 실행한다.
+		Slice<ReservationListResponseDto> dtoSlice = fanOutExecutor.join(
+			() -> loadUserMap(List.of(userId)),
+			() -> {
+				Map<Long, RestaurantSlot> idToSlot = loadSlotMap(reservations);
+				return new SlotLookup(idToSlot, loadRestaurantMap(idToSlot));
+			},
+			(idToUser, lookup) -> createReservationListDtoSlice(reservations, idToUser, lookup.idToSlot(),
+				lookup.idToRestaurant())
+		);
 
-		return PageResponseDto.from(dtoPage);
+		return PageResponseDto.from(dtoSlice, nextCursor(reservations, ReservationCursor::of, searchDto));
 	}
 
-	@Transactional(readOnly = true)
+	/**
+	 * 예약/식당/예약자를 join 한 번으로 읽어 바로 응답으로 옮긴다. (page 번호/cursor 조회 모두 COUNT 가 없다)
+	 */
+	@ReplicaRead
 	public PageResponseDto<ReservationListResponseDto> findOwnerReservations(
-		String email,
+		Long ownerId,
 		ReservationSearchDto searchDto
 	) {
-		User owner = userRepository.fetchByEmail(email);
-
-		List<Long> restaurantIds = restaurantRepository.findAllByOwnerId(owner.getUserId()).stream()
-			.map(Restaurant::getRestaurantId)
-			.toList();
-
-		if (restaurantIds.isEmpty()) {
-			return PageResponseDto.from(Page.empty(searchDto.getPageable()));
-		}
-
-		// page reservation 조회
-		Page<Reservation> page = reservationRepository.findOwnerReservations(
-			restaurantIds,
-			searchDto.getStatus(),
-			searchDto.getStartDate().atStartOfDay(),
-			searchDto.getEndDate().atTime(LocalTime.MAX),
-			searchDto.getPageable()
+		Pageable pageable = searchDto.getPageable();
+		ReservationCursor cursor = decodeCursor(searchDto);
+		LocalDateTime from = searchDto.getStartDate().atStartOfDay();
+		LocalDateTime to = searchDto.getEndDate().atTime(LocalTime.MAX);
+
+		// cursor 가 있으면 keyset, 없으면 page 번호로 조회 (page 번호 조회도 size + 1 건만 읽는다)
+		Slice<OwnerReservationRow> rows = cursor == null
+			? reservationRepository.findOwnerReservationRows(ownerId, searchDto.getStatus(), from, to,
+				keysetCompatible(pageable))
+			: toSlice(reservationRepository.findOwnerReservationRowsAfter(
+				ownerId, searchDto.getStatus(), from, to, cursor, pageable.getPageSize() + 1), pageable);
+
+		return PageResponseDto.from(
+			rows.map(ReservationListResponseDto::from),
+			nextCursor(rows, OwnerReservationRow::cursor, searchDto)
 		);
+	}
 
-		if (page.isEmpty()) {
-			return PageResponseDto.from(Page.empty(searchDto.getPageable()));
+	private ReservationCursor decodeCursor(ReservationSearchDto searchDto) {
+		return searchDto.getCursor() == null ? null : ReservationCursor.decode(searchDto.getCursor());
+	}
+
+	/**
+	 * 기본 정렬(visitAt desc)이면 reservationId 로 순서를 고정해, 첫 페이지도 keyset 으로 이어 받을 수 있게 한다.
+	 */
+	private Pageable keysetCompatible(Pageable pageable) {
+		if (!KEYSET_ORDER.equals(pageable.getSort())) {
+			return pageable;
 		}
+		return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+			KEYSET_ORDER.and(Sort.by(Sort.Direction.DESC, "reservationId")));
+	}
 
-		// owner는 예약자(user)가 여러 명이므로 userMap을 따로 구성
-		List<Long> userIds = page.getContent().stream()
-			.map(Reservation::getUserId)
-			.distinct()
-			.toList();
+	// limit + 1 건을 읽어 다음 페이지 여부를 판단한다. (COUNT 없음)
+	private <T> Slice<T> toSlice(List<T> rows, Pageable pageable) {
+		boolean hasNext = rows.size() > pageable.getPageSize();
+		List<T> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
 
-		Map<Long, User> idToUser = userRepository.findAllById(userIds).stream()
-			.collect(toMap(User::getUserId, Function.identity()));
+		return new SliceImpl<>(content, PageRequest.of(0, pageable.getPageSize()), hasNext);
+	}
 
-		Page<ReservationListResponseDto> dtoPage = createReservationListDtoPage(page, idToUser);
+	private <T> String nextCursor(Slice<T> slice, Function<T, ReservationCursor> toCursor,
+		ReservationSearchDto searchDto) {
+		boolean keyset = searchDto.getCursor() != null || KEYSET_ORDER.equals(searchDto.getPageable().getSort());
 
-		return PageResponseDto.from(dtoPage);
+		if (!keyset || !slice.hasNext()) {
+			return null;
+		}
+		return toCursor.apply(slice.getContent().getLast()).encode();
 	}
 
-	private Page<ReservationListResponseDto> createReservationListDtoPage(
-		Page<Reservation> page,
-		Map<Long, User> idToUser
+	private Slice<ReservationListResponseDto> createReservationListDtoSlice(
+		Slice<Reservation> reservations,
+		Map<Long, User> idToUser,
+		Map<Long, RestaurantSlot> idToSlot,
+		Map<Long, Restaurant> idToRestaurant
 	) {
-		Map<Long, RestaurantSlot> idToSlot = loadSlotMap(page);
-		Map<Long, Restaurant> idToRestaurant = loadRestaurantMap(idToSlot);
-
-		return page.map(reservation -> {
+		return reservations.map(reservation -> {
 			User user = idToUser.get(reservation.getUserId());
 			if (user == null) {
 				throw new ReservationException(
@@ -228,27 +370,49 @@ public class ReservationService {
 	}
 
 	@Transactional
-	public Reservation cancel(String email, Long reservationId) {
-		User user = userRepository.fetchByEmail(email);
-
+	public Reservation cancel(Long userId, Long reservationId) {
 		Reservation reservation = reservationRepository.fetchById(reservationId);
 
 		LocalDateTime now = LocalDateTime.now();
-		validateCancelable(user.getUserId(), reservation, now);
+		validateCancelable(userId, reservation, now);
 		reservation.cancel();
 
-		DailySlotCapacity capacity = dailySlotCapacityRepository
-			.findBySlotIdAndDate(reservation.getSlotId(), reservation.getVisitAt().toLocalDate())
-			.orElseThrow(() -> new ReservationException(ErrorCode.RESERVATION_SLOT_NOT_OPENED));
-
-		restoreCapacity(capacity, reservation.getPartySize());
+		capacityStrategy.increase(
+			reservation.getSlotId(),
+			reservation.getVisitAt().toLocalDate(),
+			reservation.getPartySize()
+		);
 		reservationRepository.updateStatus(reservation);
+		soldOutIndex.restockAfterCommit(reservation.getSlotId(), reservation.getVisitAt().toLocalDate());
+		availabilitySnapshot.adjustAfterCommit(
+			reservation.getSlotId(),
+			reservation.getVisitAt().toLocalDate(),
+			reservation.getPartySize()
+		);
 
 		return reservation;
 	}
 
-	private Map<Long, RestaurantSlot> loadSlotMap(Page<Reservation> page) {
-		List<Long> slotIds = page.getContent().stream()
+	// 좌석이 부족했던 인원을 기록해 같은 요청은 facade 에서 바로 거절한다.
+	private void decrease(Long slotId, LocalDate date, int partySize) {
+		try {
+			capacityStrategy.decrease(slotId, date, partySize);
+			availabilitySnapshot.adjustAfterCommit(slotId, date, -partySize);
+		} catch (ReservationException e) {
+			if (e.getErrorCode() == ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH) {
+				soldOutIndex.recordShortage(slotId, date, partySize);
+			}
+			throw e;
+		}
+	}
+
+	private Map<Long, User> loadUserMap(List<Long> userIds) {
+		return userRepository.findAllById(userIds).stream()
+			.collect(toMap(User::getUserId, Function.identity()));
+	}
+
+	private Map<Long, RestaurantSlot> loadSlotMap(Slice<Reservation> reservations) {
+		List<Long> slotIds = reservations.getContent().stream()
 			.map(Reservation::getSlotId)
 			.distinct()
 			.toList();
@@ -267,23 +431,35 @@ public class ReservationService {
 			.collect(toMap(Restaurant::getRestaurantId, Function.identity()));
 	}
 
+	// requestId 없이 들어온 요청은 재요청을 식별할 수 없으므로 서버에서 만든다.
+	private String resolveRequestId(ReservationRequestDto requestDto) {
+		return requestDto.getRequestId() != null ? requestDto.getRequestId() : UUID.randomUUID().toString();
+	}
+
 	private void validateDuplicatedTime(Long userId, LocalDateTime visitAt) {
 		if (reservationRepository.existsByUserIdAndVisitAtAndStatus(userId, visitAt, ReservationStatus.CONFIRMED)) {
 			throw new ReservationException(ErrorCode.RESERVATION_DUPLICATED_TIME);
 		}
 	}
 
-	private void validatePartySize(int partySize, RestaurantSlot slot) {
-		if (!slot.canAcceptPartySize(partySize)) {
-			throw new ReservationException(ErrorCode.INVALID_PARTY_SIZE);
+	private void validateDuplicatedTimes(Long userId, List<Reservation> reservations) {
+		Set<LocalDateTime> visitAts = new HashSet<>();
+
+		for (Reservation reservation : reservations) {
+			if (!visitAts.add(reservation.getVisitAt())) {
+				throw new ReservationException(ErrorCode.RESERVATION_DUPLICATED_TIME);
+			}
+		}
+
+		if (reservationRepository.existsByUserIdAndVisitAtInAndStatus(userId, visitAts, ReservationStatus.CONFIRMED)) {
+			throw new ReservationException(ErrorCode.RESERVATION_DUPLICATED_TIME);
 		}
 	}
 
-	private void decreaseCapacity(DailySlotCapacity capacity, int partySize) {
-		if (!capacity.decrease(partySize)) {
-			throw new ReservationException(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH);
+	private void validatePartySize(int partySize, RestaurantSlot slot) {
+		if (!slot.canAcceptPartySize(partySize)) {
+			throw new ReservationException(ErrorCode.INVALID_PARTY_SIZE);
 		}
-		dailySlotCapacityRepository.updateRemainingCount(capacity);
 	}
 
 	private void validateCancelable(Long userId, Reservation reservation, LocalDateTime now) {
@@ -300,9 +476,6 @@ public class ReservationService {
 		}
 	}
 
-	private void restoreCapacity(DailySlotCapacity capacity, int partySize) {
-		capacity.increase(partySize);
-		dailySlotCapacityRepository.updateRemainingCount(capacity);
+	private record SlotLookup(Map<Long, RestaurantSlot> idToSlot, Map<Long, Restaurant> idToRestaurant) {
 	}
-
 }
@@ -0,0 +1,97 @@
+package com.reservation.tablereservationservice.application.reservation.soldout;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityKey;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 좌석이 부족했던 (slotId, date) 를 기억해 같은 요청을 DB 작업 없이 바로 거절한다.
+ * - 값은 "잔여 좌석 < bound" 를 뜻한다. partySize 가 bound 이상인 요청만 거절하며, bound 가 1 이면 매진이다.
+ * - 좌석 부족으로 실패한 요청이 기록하고, 좌석이 돌아오면(취소/hold 해제) 커밋 후 지운다.
+ * - 다른 인스턴스의 취소는 알 수 없으므로 ttl 이 지나면 다시 DB 로 확인한다.
+ */
+@Component
+public class SoldOutIndex {
+
+	private final Cache<CapacityKey, Integer> shortages;
+	private final Counter rejectCounter;
+
+	@Autowired
+	public SoldOutIndex(
+		MeterRegistry meterRegistry,
+		@Value("${reservation.sold-out.maximum-size}") int maximumSize,
+		@Value("${reservation.sold-out.ttl-seconds}") long ttlSeconds
+	) {
+		this(meterRegistry, maximumSize, ttlSeconds, Ticker.systemTicker());
+	}
+
+	SoldOutIndex(MeterRegistry meterRegistry, int maximumSize, long ttlSeconds, Ticker ticker) {
+		this.shortages = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.ticker(ticker)
+			.build();
+		this.rejectCounter = meterRegistry.counter("reservation.sold-out.rejections");
+	}
+
+	/**
+	 * 남은 좌석으로는 받을 수 없는 인원이면 RESERVATION_CAPACITY_NOT_ENOUGH 를 던진다.
+	 */
+	public void check(Long slotId, LocalDate date, int partySize) {
+		Integer bound = shortages.getIfPresent(new CapacityKey(slotId, date));
+
+		if (bound != null && partySize >= bound) {
+			rejectCounter.increment();
+			throw new ReservationException(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH);
+		}
+	}
+
+	/**
+	 * partySize 명을 차감하지 못했다 = 잔여 좌석이 partySize 보다 적다.
+	 */
+	public void recordShortage(Long slotId, LocalDate date, int partySize) {
+		shortages.asMap().merge(new CapacityKey(slotId, date), partySize, Math::min);
+	}
+
+	/**
+	 * 좌석이 돌아오는 트랜잭션이 커밋된 뒤에 지운다. (롤백되면 그대로 둔다)
+	 */
+	public void restockAfterCommit(Long slotId, LocalDate date) {
+		CapacityKey key = new CapacityKey(slotId, date);
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			shortages.invalidate(key);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				shortages.invalidate(key);
+			}
+		});
+	}
+
+	public long size() {
+		return shortages.estimatedSize();
+	}
+
+	public void clear() {
+		shortages.invalidateAll();
+	}
+}
@@ -0,0 +1,134 @@
+package com.reservation.tablereservationservice.application.reservation.waiting;
+
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.reservation.tablereservationservice.application.reservation.service.ReservationService;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+import com.reservation.tablereservationservice.global.request.RequestSequenceGenerator;
+import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationRequestDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 요청 검증만 하고 대기표를 돌려준 뒤, 예약 처리는 고정 크기 worker 가 맡는다.
+ * - 요청 스레드는 DB 경합/재시도 backoff 를 기다리지 않는다.
+ * - worker 는 workers 개, 대기 큐는 queue-capacity 로 제한하며 넘치면 받지 않는다.
+ * - worker 는 다른 생성 경로와 함께 쓰는 in-flight 상한에 자리가 날 때까지 기다린 뒤 처리한다.
+ * - 처리와 재시도/실패 매핑은 WaitingRoom 과 같은 WaitingTicketProcessor 를 쓴다.
+ */
+@Component
+public class ReservationAsyncAcceptor {
+
+	private final ReservationService reservationService;
+	private final WaitingTicketProcessor ticketProcessor;
+	private final RequestSequenceGenerator sequenceGenerator;
+	private final WaitingTicketStore ticketStore;
+	private final ReservationInFlightLimiter inFlightLimiter;
+	private final Executor executor;
+
+	@Autowired
+	public ReservationAsyncAcceptor(
+		ReservationService reservationService,
+		WaitingTicketProcessor ticketProcessor,
+		RequestSequenceGenerator sequenceGenerator,
+		WaitingTicketStore ticketStore,
+		ReservationInFlightLimiter inFlightLimiter,
+		MeterRegistry meterRegistry,
+		@Value("${reservation.async.workers}") int workers,
+		@Value("${reservation.async.queue-capacity}") int queueCapacity
+	) {
+		this(reservationService, ticketProcessor, sequenceGenerator, ticketStore, inFlightLimiter,
+			newWorkerPool(workers, queueCapacity));
+
+		ThreadPoolExecutor pool = (ThreadPoolExecutor)executor;
+		meterRegistry.gauge("reservation.async.queued", pool, p -> p.getQueue().size());
+		meterRegistry.gauge("reservation.async.active", pool, ThreadPoolExecutor::getActiveCount);
+	}
+
+	ReservationAsyncAcceptor(
+		ReservationService reservationService,
+		WaitingTicketProcessor ticketProcessor,
+		RequestSequenceGenerator sequenceGenerator,
+		WaitingTicketStore ticketStore,
+		ReservationInFlightLimiter inFlightLimiter,
+		Executor executor
+	) {
+		this.reservationService = reservationService;
+		this.ticketProcessor = ticketProcessor;
+		this.sequenceGenerator = sequenceGenerator;
+		this.ticketStore = ticketStore;
+		this.inFlightLimiter = inFlightLimiter;
+		this.executor = executor;
+	}
+
+	public WaitingTicket accept(Long userId, ReservationRequestDto requestDto) {
+		// 슬롯/인원 검증은 접수 시점에 바로 실패시킨다.
+		reservationService.validate(requestDto);
+
+		WaitingTicket ticket = new WaitingTicket(
+			UUID.randomUUID().toString(),
+			userId,
+			sequenceGenerator.next(),
+			requestDto
+		);
+		ticketStore.register(ticket);
+
+		try {
+			executor.execute(() -> process(ticket));
+		} catch (RejectedExecutionException e) {
+			ticketStore.remove(ticket);
+			throw new ReservationException(ErrorCode.WAITING_ROOM_FULL);
+		}
+
+		return ticket;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (executor instanceof ExecutorService executorService) {
+			executorService.close();
+		}
+	}
+
+	private void process(WaitingTicket ticket) {
+		try {
+			inFlightLimiter.acquire();
+		} catch (InterruptedException e) {
+			// 종료 중: 처리하지 못한 대기표는 실패로 끝낸다.
+			Thread.currentThread().interrupt();
+			ticket.fail(ErrorCode.WAITING_ROOM_FULL, System.currentTimeMillis());
+			return;
+		}
+
+		try {
+			ticket.admit();
+			ticketProcessor.process(ticket);
+		} finally {
+			inFlightLimiter.release();
+		}
+	}
+
+	private static ThreadPoolExecutor newWorkerPool(int workers, int queueCapacity) {
+		return new ThreadPoolExecutor(
+			workers,
+			workers,
+			0L,
+			TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			Thread.ofVirtual().name("reservation-async-", 0).factory(),
+			new ThreadPoolExecutor.AbortPolicy()
+		);
+	}
+}
@@ -0,0 +1,83 @@
+package com.reservation.tablereservationservice.application.reservation.waiting;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 좌석을 차감하는 모든 예약 생성 경로가 함께 쓰는 동시 처리 상한
+ * - 대기열(WaitingRoom)은 자리가 있을 때만 꺼내고, 비동기 worker 는 자리가 날 때까지 기다린다.
+ * - 바로 처리하는 경로(예약/일괄 예약/선점)는 acquire-timeout-ms 까지만 기다리고, 넘으면 WAITING_ROOM_FULL 로 거절한다.
+ */
+@Component
+public class ReservationInFlightLimiter {
+
+	private final int maxInFlight;
+	private final long acquireTimeoutMs;
+	private final Semaphore permits;
+
+	@Autowired
+	public ReservationInFlightLimiter(
+		MeterRegistry meterRegistry,
+		@Value("${reservation.in-flight.max}") int maxInFlight,
+		@Value("${reservation.in-flight.acquire-timeout-ms}") long acquireTimeoutMs
+	) {
+		this(maxInFlight, acquireTimeoutMs);
+
+		meterRegistry.gauge("reservation.in-flight", this, ReservationInFlightLimiter::inFlight);
+	}
+
+	ReservationInFlightLimiter(int maxInFlight, long acquireTimeoutMs) {
+		this.maxInFlight = maxInFlight;
+		this.acquireTimeoutMs = acquireTimeoutMs;
+		this.permits = new Semaphore(maxInFlight, true);
+	}
+
+	/**
+	 * 바로 처리하는 경로: 자리를 얻지 못하면 작업을 실행하지 않고 거절한다.
+	 */
+	public <T> T call(Supplier<T> task) {
+		boolean acquired;
+		try {
+			acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			acquired = false;
+		}
+
+		if (!acquired) {
+			throw new ReservationException(ErrorCode.WAITING_ROOM_FULL);
+		}
+
+		try {
+			return task.get();
+		} finally {
+			permits.release();
+		}
+	}
+
+	public boolean tryAcquire() {
+		return permits.tryAcquire();
+	}
+
+	public void acquire() throws InterruptedException {
+		permits.acquire();
+	}
+
+	public void release() {
+		permits.release();
+	}
+
+	public int inFlight() {
+		return maxInFlight - permits.availablePermits();
+	}
+}
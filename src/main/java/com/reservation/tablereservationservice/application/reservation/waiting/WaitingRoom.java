@@ -0,0 +1,172 @@
+package com.reservation.tablereservationservice.application.reservation.waiting;
+
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+import com.reservation.tablereservationservice.global.request.RequestSequenceGenerator;
+import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationRequestDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 예약 오픈 시점의 요청을 받아두고 일정한 속도로 예약 처리에 흘려보내는 대기열
+ * - 도착 순서는 RequestSequenceGenerator 의 seq 로 정하고, seq 순으로 꺼낸다. (FCFS)
+ * - release-interval-ms 마다 최대 release-per-tick 건을 꺼내되, 다른 생성 경로와 함께 쓰는 in-flight 상한에 자리가 있을 때만 꺼낸다.
+ * - 대기 인원은 자리를 먼저 CAS 로 잡은 뒤 넣으므로 동시에 들어와도 max-waiting 을 넘지 않는다.
+ */
+@Component
+public class WaitingRoom {
+
+	private static final Comparator<WaitingTicket> FCFS = Comparator.comparingLong(WaitingTicket::getSeq);
+
+	private final WaitingTicketProcessor ticketProcessor;
+	private final RequestSequenceGenerator sequenceGenerator;
+	private final WaitingTicketStore ticketStore;
+	private final ReservationInFlightLimiter inFlightLimiter;
+	private final Executor executor;
+	private final int releasePerTick;
+	private final int maxWaiting;
+
+	private final PriorityBlockingQueue<WaitingTicket> queue = new PriorityBlockingQueue<>(1024, FCFS);
+	private final AtomicInteger waiting = new AtomicInteger();
+	private final AtomicLong releasedSeq = new AtomicLong();
+
+	@Autowired
+	public WaitingRoom(
+		WaitingTicketProcessor ticketProcessor,
+		RequestSequenceGenerator sequenceGenerator,
+		WaitingTicketStore ticketStore,
+		ReservationInFlightLimiter inFlightLimiter,
+		MeterRegistry meterRegistry,
+		@Value("${reservation.waiting-room.release-per-tick}") int releasePerTick,
+		@Value("${reservation.waiting-room.max-waiting}") int maxWaiting
+	) {
+		this(ticketProcessor, sequenceGenerator, ticketStore, inFlightLimiter,
+			Executors.newVirtualThreadPerTaskExecutor(), releasePerTick, maxWaiting);
+
+		meterRegistry.gauge("reservation.waiting-room.waiting", waiting);
+	}
+
+	WaitingRoom(
+		WaitingTicketProcessor ticketProcessor,
+		RequestSequenceGenerator sequenceGenerator,
+		WaitingTicketStore ticketStore,
+		ReservationInFlightLimiter inFlightLimiter,
+		Executor executor,
+		int releasePerTick,
+		int maxWaiting
+	) {
+		this.ticketProcessor = ticketProcessor;
+		this.sequenceGenerator = sequenceGenerator;
+		this.ticketStore = ticketStore;
+		this.inFlightLimiter = inFlightLimiter;
+		this.executor = executor;
+		this.releasePerTick = releasePerTick;
+		this.maxWaiting = maxWaiting;
+	}
+
+	public WaitingTicket enter(Long userId, ReservationRequestDto requestDto) {
+		if (!tryReserveWaiting()) {
+			throw new ReservationException(ErrorCode.WAITING_ROOM_FULL);
+		}
+
+		try {
+			WaitingTicket ticket = new WaitingTicket(
+				UUID.randomUUID().toString(),
+				userId,
+				sequenceGenerator.next(),
+				requestDto
+			);
+
+			ticketStore.register(ticket);
+			queue.add(ticket);
+
+			return ticket;
+		} catch (RuntimeException e) {
+			waiting.decrementAndGet();
+			throw e;
+		}
+	}
+
+	/**
+	 * 마지막으로 꺼낸 요청 이후 몇 번째인지 (다른 경로도 같은 seq 를 쓰므로 실제 대기 인원보다 클 수 있다)
+	 */
+	public long positionOf(WaitingTicket ticket) {
+		if (ticket.getStatus() != WaitingStatus.WAITING) {
+			return 0;
+		}
+		return Math.max(ticket.getSeq() - releasedSeq.get(), 1);
+	}
+
+	@Scheduled(fixedDelayString = "${reservation.waiting-room.release-interval-ms}")
+	public void release() {
+		for (int released = 0; released < releasePerTick; released++) {
+			if (!inFlightLimiter.tryAcquire()) {
+				return;
+			}
+
+			WaitingTicket ticket = queue.poll();
+			if (ticket == null) {
+				inFlightLimiter.release();
+				return;
+			}
+			waiting.decrementAndGet();
+
+			ticket.admit();
+			releasedSeq.accumulateAndGet(ticket.getSeq(), Math::max);
+			executor.execute(() -> process(ticket));
+		}
+	}
+
+	public int waitingCount() {
+		return waiting.get();
+	}
+
+	public void clear() {
+		queue.clear();
+		waiting.set(0);
+		releasedSeq.set(0);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (executor instanceof ExecutorService executorService) {
+			executorService.close();
+		}
+	}
+
+	private boolean tryReserveWaiting() {
+		while (true) {
+			int current = waiting.get();
+
+			if (current >= maxWaiting) {
+				return false;
+			}
+			if (waiting.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	private void process(WaitingTicket ticket) {
+		try {
+			ticketProcessor.process(ticket);
+		} finally {
+			inFlightLimiter.release();
+		}
+	}
+}
@@ -0,0 +1,8 @@
+package com.reservation.tablereservationservice.application.reservation.waiting;
+
+public enum WaitingStatus {
+	WAITING,
+	PROCESSING,
+	CONFIRMED,
+	FAILED
+}
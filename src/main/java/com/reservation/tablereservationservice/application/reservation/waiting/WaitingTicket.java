@@ -0,0 +1,72 @@
+package com.reservation.tablereservationservice.application.reservation.waiting;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import com.reservation.tablereservationservice.domain.reservation.Reservation;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationRequestDto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * 대기열에 들어온 예약 요청 한 건
+ * 상태는 대기열 worker 가 바꾸고 조회 API 가 읽으므로 volatile 로 둔다.
+ */
+@Getter
+public class WaitingTicket {
+
+	private final String token;
+	private final Long userId;
+	private final long seq;
+	private final ReservationRequestDto requestDto;
+
+	private volatile WaitingStatus status = WaitingStatus.WAITING;
+	private volatile Reservation reservation;
+	private volatile ErrorCode errorCode;
+	private volatile long finishedAtMillis;
+
+	@Getter(AccessLevel.NONE)
+	private final CompletableFuture<WaitingTicket> finished = new CompletableFuture<>();
+
+	public WaitingTicket(String token, Long userId, long seq, ReservationRequestDto requestDto) {
+		this.token = token;
+		this.userId = userId;
+		this.seq = seq;
+		this.requestDto = requestDto;
+	}
+
+	public boolean isOwner(Long userId) {
+		return this.userId.equals(userId);
+	}
+
+	public boolean isFinished() {
+		return status == WaitingStatus.CONFIRMED || status == WaitingStatus.FAILED;
+	}
+
+	/**
+	 * 처리가 끝나면(이미 끝났다면 바로) action 을 실행한다.
+	 */
+	public void whenFinished(Consumer<WaitingTicket> action) {
+		finished.thenAccept(action);
+	}
+
+	void admit() {
+		this.status = WaitingStatus.PROCESSING;
+	}
+
+	void confirm(Reservation reservation, long nowMillis) {
+		this.reservation = reservation;
+		this.finishedAtMillis = nowMillis;
+		this.status = WaitingStatus.CONFIRMED;
+		finished.complete(this);
+	}
+
+	void fail(ErrorCode errorCode, long nowMillis) {
+		this.errorCode = errorCode;
+		this.finishedAtMillis = nowMillis;
+		this.status = WaitingStatus.FAILED;
+		finished.complete(this);
+	}
+}
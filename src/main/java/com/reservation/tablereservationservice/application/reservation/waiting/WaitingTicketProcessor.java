@@ -0,0 +1,38 @@
+package com.reservation.tablereservationservice.application.reservation.waiting;
+
+import org.springframework.stereotype.Component;
+
+import com.reservation.tablereservationservice.application.reservation.facade.ReservationOptimisticFacade;
+import com.reservation.tablereservationservice.domain.reservation.Reservation;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * WaitingRoom 과 ReservationAsyncAcceptor 가 꺼낸 대기표를 예약으로 처리한다.
+ * - 버전 충돌 재시도는 ReservationOptimisticFacade.createIdempotent 의 @Retryable 이 맡는다.
+ * - 비즈니스 실패는 그 에러 코드로, 예상하지 못한 예외는 INTERNAL_SERVER_ERROR 로 대기표를 끝낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitingTicketProcessor {
+
+	private final ReservationOptimisticFacade reservationOptimisticFacade;
+
+	public void process(WaitingTicket ticket) {
+		try {
+			Reservation reservation = reservationOptimisticFacade.createIdempotent(
+				ticket.getUserId(), ticket.getRequestDto()
+			);
+			ticket.confirm(reservation, System.currentTimeMillis());
+		} catch (ReservationException e) {
+			ticket.fail(e.getErrorCode(), System.currentTimeMillis());
+		} catch (RuntimeException e) {
+			log.error("[WAITING-TICKET] reservation failed (seq={}, token={})", ticket.getSeq(), ticket.getToken(), e);
+			ticket.fail(ErrorCode.INTERNAL_SERVER_ERROR, System.currentTimeMillis());
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package com.reservation.tablereservationservice.application.reservation.waiting;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+
+/**
+ * 대기열(WaitingRoom)과 비동기 접수(ReservationAsyncAcceptor)가 함께 쓰는 대기표 저장소
+ * 끝난 대기표는 result-ttl-seconds 동안 조회할 수 있다.
+ */
+@Component
+public class WaitingTicketStore {
+
+	private final ConcurrentMap<String, WaitingTicket> tickets = new ConcurrentHashMap<>();
+	private final long resultTtlMillis;
+
+	public WaitingTicketStore(@Value("${reservation.ticket.result-ttl-seconds}") long resultTtlSeconds) {
+		this.resultTtlMillis = resultTtlSeconds * 1000;
+	}
+
+	public void register(WaitingTicket ticket) {
+		tickets.put(ticket.getToken(), ticket);
+	}
+
+	public void remove(WaitingTicket ticket) {
+		tickets.remove(ticket.getToken(), ticket);
+	}
+
+	public WaitingTicket fetch(Long userId, String token) {
+		WaitingTicket ticket = tickets.get(token);
+
+		// 다른 사용자의 대기표는 존재 여부도 드러내지 않는다.
+		if (ticket == null || !ticket.isOwner(userId)) {
+			throw new ReservationException(ErrorCode.RESOURCE_NOT_FOUND, "WaitingTicket");
+		}
+
+		return ticket;
+	}
+
+	@Scheduled(cron = "0 * * * * *")
+	public void evictFinished() {
+		evictFinished(System.currentTimeMillis());
+	}
+
+	public void evictFinished(long nowMillis) {
+		tickets.values().removeIf(ticket ->
+			ticket.isFinished() && nowMillis - ticket.getFinishedAtMillis() >= resultTtlMillis
+		);
+	}
+
+	public int size() {
+		return tickets.size();
+	}
+
+	public void clear() {
+		tickets.clear();
+	}
+}
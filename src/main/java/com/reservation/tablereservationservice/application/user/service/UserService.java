@@ -41,7 +41,7 @@ public class UserService {
 			throw new UserException(ErrorCode.INVALID_PASSWORD);
 		}
 
-		String accessToken = jwtProvider.createAccessToken(user.getEmail(), user.getUserRole());
+		String accessToken = jwtProvider.createAccessToken(user);
 
 		return LoginResponseDto.builder()
 			.email(user.getEmail())
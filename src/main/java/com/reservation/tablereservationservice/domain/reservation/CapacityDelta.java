@@ -0,0 +1,15 @@
+package com.reservation.tablereservationservice.domain.reservation;
+
+import java.time.LocalDate;
+
+/**
+ * 메모리 원장(write-behind)에서 커밋됐지만 아직 daily_slot_capacity 에 반영되지 않은 좌석 변경분
+ * (예약/선점과 같은 트랜잭션에 남기므로, 인스턴스가 내려가도 DB row + 변경분으로 잔여 좌석을 복구한다)
+ */
+public record CapacityDelta(
+	Long id,
+	Long slotId,
+	LocalDate date,
+	int delta
+) {
+}
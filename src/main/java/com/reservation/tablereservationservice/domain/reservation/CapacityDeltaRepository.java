@@ -0,0 +1,24 @@
+package com.reservation.tablereservationservice.domain.reservation;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface CapacityDeltaRepository {
+
+	void append(Long slotId, LocalDate date, int delta);
+
+	/**
+	 * 아직 반영되지 않은 변경분의 합 (없으면 0)
+	 */
+	int sumDelta(Long slotId, LocalDate date);
+
+	/**
+	 * 먼저 남긴 변경분부터 최대 limit 건 가져온다.
+	 */
+	List<CapacityDelta> findOldest(int limit);
+
+	void deleteAllById(Collection<Long> ids);
+
+	void deleteAll();
+}
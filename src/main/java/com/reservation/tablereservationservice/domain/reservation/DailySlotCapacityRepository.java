@@ -1,6 +1,8 @@
 package com.reservation.tablereservationservice.domain.reservation;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface DailySlotCapacityRepository {
@@ -9,9 +11,41 @@ public interface DailySlotCapacityRepository {
 
 	Optional<DailySlotCapacity> findBySlotIdAndDateForUpdate(Long restaurantSlotId, LocalDate date);
 
+	/**
+	 * slotIds x dates 조합에 해당하는 capacity 를 한 번의 IN 조회로 가져온다. (slotId, date 순 정렬)
+	 */
+	List<DailySlotCapacity> findAllBySlotIdInAndDateIn(Collection<Long> slotIds, Collection<LocalDate> dates);
+
+	/**
+	 * findAllBySlotIdInAndDateIn 과 같되 (slotId, date) 순서로 행 잠금을 건다.
+	 */
+	List<DailySlotCapacity> findAllBySlotIdInAndDateInForUpdate(Collection<Long> slotIds, Collection<LocalDate> dates);
+
+	/**
+	 * 식당의 [from, to] 기간 capacity 를 슬롯 시간과 함께 한 번에 가져온다. (date, time 순 정렬)
+	 */
+	List<SlotAvailability> findAvailabilityByRestaurantId(Long restaurantId, LocalDate from, LocalDate to);
+
 	DailySlotCapacity save(DailySlotCapacity dailySlotCapacity);
 
 	void updateRemainingCount(DailySlotCapacity capacity);
 
+	/**
+	 * 버전 검증 없이 remaining_count 에 delta 를 더한다. (음수면 차감)
+	 */
+	void addRemainingCount(Long slotId, LocalDate date, int delta);
+
+	/**
+	 * remaining_count + delta 가 0 이상일 때만 더한다. (메모리 카운터의 write-back 용)
+	 * @return 반영 여부 (false: 반영하면 음수가 되어 건너뜀)
+	 */
+	boolean addRemainingCountIfNotNegative(Long slotId, LocalDate date, int delta);
+
+	/**
+	 * 잔여 좌석이 partySize 이상일 때만 차감한다.
+	 * @return 차감 성공 여부 (false: 좌석 부족 또는 미오픈)
+	 */
+	boolean decreaseIfEnough(Long slotId, LocalDate date, int partySize);
+
 	void deleteAll();
 }
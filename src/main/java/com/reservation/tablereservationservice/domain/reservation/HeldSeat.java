@@ -0,0 +1,16 @@
+package com.reservation.tablereservationservice.domain.reservation;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 좌석만 차감해 둔 선점 기록 (인스턴스가 내려가도 차감한 좌석을 되돌릴 수 있도록 DB 에 남긴다)
+ */
+public record HeldSeat(
+	String holdId,
+	Long slotId,
+	LocalDate date,
+	int partySize,
+	LocalDateTime expiresAt
+) {
+}
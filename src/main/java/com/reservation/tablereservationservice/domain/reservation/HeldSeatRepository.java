@@ -0,0 +1,21 @@
+package com.reservation.tablereservationservice.domain.reservation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface HeldSeatRepository {
+
+	void save(HeldSeat heldSeat);
+
+	/**
+	 * @return 이 호출이 기록을 지웠는지 여부 (false: 이미 확정/해제/회수됨)
+	 */
+	boolean delete(String holdId);
+
+	/**
+	 * expiresAt 이 before 보다 이른 기록을 만료 순으로 최대 limit 건 가져온다.
+	 */
+	List<HeldSeat> findExpired(LocalDateTime before, int limit);
+
+	void deleteAll();
+}
@@ -0,0 +1,24 @@
+package com.reservation.tablereservationservice.domain.reservation;
+
+import java.time.LocalDateTime;
+
+/**
+ * 점주 예약 목록 한 줄: reservation + restaurant + 예약자(users) 를 한 번의 조회로 읽은 결과
+ * 엔티티/도메인 객체를 만들지 않고 쿼리 결과를 바로 담는다.
+ */
+public record OwnerReservationRow(
+	Long reservationId,
+	LocalDateTime visitAt,
+	Integer partySize,
+	String note,
+	ReservationStatus status,
+	Long restaurantId,
+	String restaurantName,
+	String userName,
+	String userPhone
+) {
+
+	public ReservationCursor cursor() {
+		return new ReservationCursor(visitAt, reservationId);
+	}
+}
@@ -11,6 +11,7 @@ public class Reservation {
 	private Long reservationId;
 	private Long userId;
 	private Long slotId;
+	private Long restaurantId;
 	private LocalDateTime visitAt;
 	private Integer partySize;
 	private String note;
@@ -19,12 +20,14 @@ public class Reservation {
 	private long serverReceivedSeq;
 
 	@Builder
-	public Reservation(Long reservationId, Long userId, Long slotId, LocalDateTime visitAt, Integer partySize,
+	public Reservation(Long reservationId, Long userId, Long slotId, Long restaurantId, LocalDateTime visitAt,
+		Integer partySize,
 		String note, ReservationStatus status, String requestId, long serverReceivedSeq
 	) {
 		this.reservationId = reservationId;
 		this.userId = userId;
 		this.slotId = slotId;
+		this.restaurantId = restaurantId;
 		this.visitAt = visitAt;
 		this.partySize = partySize;
 		this.note = note;
@@ -0,0 +1,41 @@
+package com.reservation.tablereservationservice.domain.reservation;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+
+/**
+ * 목록 keyset 페이지의 위치: (visitAt desc, reservationId desc) 순서에서 마지막으로 본 예약
+ * 클라이언트에는 내용을 알 수 없는 문자열(base64url)로만 내려준다.
+ */
+public record ReservationCursor(LocalDateTime visitAt, Long reservationId) {
+
+	private static final String DELIMITER = "|";
+
+	public static ReservationCursor of(Reservation reservation) {
+		return new ReservationCursor(reservation.getVisitAt(), reservation.getReservationId());
+	}
+
+	public static ReservationCursor decode(String cursor) {
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int index = decoded.indexOf(DELIMITER);
+
+			return new ReservationCursor(
+				LocalDateTime.parse(decoded.substring(0, index)),
+				Long.parseLong(decoded.substring(index + 1))
+			);
+		} catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+			throw new ReservationException(ErrorCode.INVALID_INPUT_VALUE, "cursor");
+		}
+	}
+
+	public String encode() {
+		String raw = visitAt + DELIMITER + reservationId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
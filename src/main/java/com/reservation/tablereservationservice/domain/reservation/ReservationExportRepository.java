@@ -0,0 +1,21 @@
+package com.reservation.tablereservationservice.domain.reservation;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+public interface ReservationExportRepository {
+
+	/**
+	 * 식당들의 [from, to] 예약을 forward-only 커서로 한 건씩 넘긴다. 결과를 메모리에 모으지 않는다.
+	 * (restaurantId, visitAt, reservationId) 순서이며 idx_restaurant_visit_at_id 순서 그대로 읽는다.
+	 * @param status null 이면 전체
+	 */
+	void forEachByRestaurantIds(
+		Collection<Long> restaurantIds,
+		ReservationStatus status,
+		LocalDateTime from,
+		LocalDateTime to,
+		Consumer<ReservationExportRow> action
+	);
+}
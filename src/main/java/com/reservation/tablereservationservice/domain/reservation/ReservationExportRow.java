@@ -0,0 +1,17 @@
+package com.reservation.tablereservationservice.domain.reservation;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기용 reservation 한 줄 (이름/연락처는 id 로만 들고 있고 내보낼 때 채운다)
+ */
+public record ReservationExportRow(
+	Long reservationId,
+	Long userId,
+	Long restaurantId,
+	LocalDateTime visitAt,
+	int partySize,
+	String note,
+	ReservationStatus status
+) {
+}
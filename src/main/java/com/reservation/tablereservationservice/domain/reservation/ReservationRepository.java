@@ -1,18 +1,38 @@
 package com.reservation.tablereservationservice.domain.reservation;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import java.util.Optional;
 
 public interface ReservationRepository {
 
 	Reservation save(Reservation reservation);
 
+	List<Reservation> saveAll(List<Reservation> reservations);
+
+	/**
+	 * INSERT 를 즉시 flush 한다. 유니크 제약 위반을 호출 지점에서 DataIntegrityViolationException 으로 받을 때 사용한다.
+	 * (id 가 TABLE 전략이라 save 만으로는 INSERT 가 커밋 시점까지 미뤄진다)
+	 */
+	Reservation saveAndFlush(Reservation reservation);
+
+	List<Reservation> saveAllAndFlush(List<Reservation> reservations);
+
 	boolean existsByUserIdAndVisitAtAndStatus(Long userId, LocalDateTime visitAt, ReservationStatus reservationStatus);
 
+	boolean existsByUserIdAndVisitAtInAndStatus(
+		Long userId,
+		Collection<LocalDateTime> visitAts,
+		ReservationStatus reservationStatus
+	);
+
+	Optional<Reservation> findByUserIdAndRequestId(Long userId, String requestId);
+
 	Page<Reservation> findMyReservations(
 		Long userId,
 		ReservationStatus status,
@@ -21,14 +41,41 @@ public interface ReservationRepository {
 		Pageable pageable
 	);
 
-	Page<Reservation> findOwnerReservations(
-		List<Long> restaurantIds,
+	/**
+	 * 점주 예약 목록을 reservation/restaurant/users join 한 번으로 읽는다. (COUNT 없이 다음 페이지 여부만 판단)
+	 */
+	Slice<OwnerReservationRow> findOwnerReservationRows(
+		Long ownerId,
 		ReservationStatus status,
 		LocalDateTime from,
 		LocalDateTime to,
 		Pageable pageable
 	);
 
+	/**
+	 * keyset 페이지: cursor 다음부터 (visitAt desc, reservationId desc) 순으로 최대 limit 건 (COUNT 없음)
+	 * @param cursor null 이면 첫 페이지
+	 */
+	List<Reservation> findMyReservationsAfter(
+		Long userId,
+		ReservationStatus status,
+		LocalDateTime from,
+		LocalDateTime to,
+		ReservationCursor cursor,
+		int limit
+	);
+
+	List<OwnerReservationRow> findOwnerReservationRowsAfter(
+		Long ownerId,
+		ReservationStatus status,
+		LocalDateTime from,
+		LocalDateTime to,
+		ReservationCursor cursor,
+		int limit
+	);
+
+	int sumPartySize(Long slotId, ReservationStatus status, LocalDateTime from, LocalDateTime to);
+
 	Optional<Reservation> findById(Long reservationId);
 
 	Reservation fetchById(Long reservationId);
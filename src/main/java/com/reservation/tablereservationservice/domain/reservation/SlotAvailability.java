@@ -0,0 +1,20 @@
+package com.reservation.tablereservationservice.domain.reservation;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 예약 가능 현황 한 칸: (slot, date) 의 잔여 좌석
+ * capacity + slot 을 한 번의 조회로 읽은 결과를 바로 담는다.
+ */
+public record SlotAvailability(
+	Long slotId,
+	LocalTime time,
+	LocalDate date,
+	Integer remainingCount
+) {
+
+	public SlotAvailability withRemainingCount(int remainingCount) {
+		return new SlotAvailability(slotId, time, date, remainingCount);
+	}
+}
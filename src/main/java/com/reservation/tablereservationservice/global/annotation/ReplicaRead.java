@@ -0,0 +1,15 @@
+package com.reservation.tablereservationservice.global.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 이 메서드 안의 readOnly 트랜잭션은 replica 로 보낸다. (replica 가 꺼져 있거나 지연되면 primary)
+ * 방금 쓴 값을 다시 읽어야 하는 조회(중복/재요청 검증, 좌석 로딩)에는 붙이지 않는다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplicaRead {
+}
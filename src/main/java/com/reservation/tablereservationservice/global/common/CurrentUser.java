@@ -1,6 +1,22 @@
 package com.reservation.tablereservationservice.global.common;
 
+import java.security.Principal;
+
+import com.reservation.tablereservationservice.domain.user.UserRole;
+
+/**
+ * access token 에서 꺼낸 로그인 사용자 정보 (DB 조회 없이 만들어진다)
+ * Authentication#getName() 은 기존과 같이 이메일을 돌려준다.
+ */
 public record CurrentUser(
     Long userId,
-    String email
-) {}
+    String email,
+    UserRole role,
+    String name
+) implements Principal {
+
+	@Override
+	public String getName() {
+		return email;
+	}
+}
@@ -0,0 +1,95 @@
+package com.reservation.tablereservationservice.global.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.reservation.tablereservationservice.global.datasource.ReplicaReadScope;
+
+/**
+ * 서로 독립적인 조회를 가상 스레드에서 동시에 실행하고 결과를 합친다.
+ * - 호출마다 executor 를 열고 닫으므로, 호출이 끝나면 시작한 작업도 모두 끝나 있다.
+ * - 한쪽이 실패하면 다른 쪽을 인터럽트하고 먼저 실패한 예외를 그대로 던진다.
+ * - 동시에 실행되는 조회 수는 max-concurrency 로 제한한다. (커넥션 풀보다 작게 둔다)
+ * - 호출한 스레드의 ReplicaReadScope 를 작업 스레드에 넘기고, 작업이 끝나면 원래 값으로 되돌린다.
+ */
+@Component
+public class FanOutExecutor {
+
+	private final Semaphore permits;
+
+	public FanOutExecutor(@Value("${reservation.lookup.max-concurrency}") int maxConcurrency) {
+		this.permits = new Semaphore(maxConcurrency);
+	}
+
+	public <A, B, R> R join(Supplier<A> left, Supplier<B> right, BiFunction<A, B, R> combiner) {
+		boolean replicaRead = ReplicaReadScope.isActive();
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			CompletableFuture<A> a = CompletableFuture.supplyAsync(() -> bounded(left, replicaRead), executor);
+			CompletableFuture<B> b = CompletableFuture.supplyAsync(() -> bounded(right, replicaRead), executor);
+
+			// 둘 다 끝나거나 한쪽이 실패할 때까지 기다린다.
+			CompletableFuture.anyOf(CompletableFuture.allOf(a, b), failureOf(a), failureOf(b))
+				.exceptionally(e -> null)
+				.join();
+
+			if (a.isCompletedExceptionally() || b.isCompletedExceptionally()) {
+				executor.shutdownNow();
+				rethrow(a.isCompletedExceptionally() ? a : b);
+			}
+
+			return combiner.apply(a.join(), b.join());
+		}
+	}
+
+	private <T> T bounded(Supplier<T> supplier, boolean replicaRead) {
+		try {
+			permits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CompletionException(e);
+		}
+
+		boolean previous = ReplicaReadScope.isActive();
+		ReplicaReadScope.set(replicaRead);
+		try {
+			return supplier.get();
+		} finally {
+			ReplicaReadScope.set(previous);
+			permits.release();
+		}
+	}
+
+	// 실패했을 때만 완료되는 future (성공하면 끝나지 않는다)
+	private static CompletableFuture<Void> failureOf(CompletableFuture<?> future) {
+		CompletableFuture<Void> failed = new CompletableFuture<>();
+		future.whenComplete((result, e) -> {
+			if (e != null) {
+				failed.complete(null);
+			}
+		});
+		return failed;
+	}
+
+	private static void rethrow(CompletableFuture<?> failed) {
+		try {
+			failed.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+}
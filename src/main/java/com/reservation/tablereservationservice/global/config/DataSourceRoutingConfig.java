@@ -0,0 +1,79 @@
+package com.reservation.tablereservationservice.global.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.reservation.tablereservationservice.global.datasource.ReplicaLagMonitor;
+import com.reservation.tablereservationservice.global.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * reservation.datasource.replica.enabled=true 일 때 primary/replica 두 커넥션 풀을 두고 경로를 나눈다.
+ * - primary 는 spring.datasource(.hikari), replica 는 reservation.datasource.replica.hikari 설정을 쓴다.
+ * - 풀 이름(primary/replica)이 hikaricp.connections.* 메트릭의 pool 태그로 나간다.
+ * - 꺼져 있으면 이 설정은 빠지고 기존처럼 spring.datasource 하나만 쓴다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "reservation.datasource.replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	@Bean
+	@ConfigurationProperties("reservation.datasource.replica.hikari")
+	public HikariDataSource replicaDataSource() {
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setPoolName("replica");
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	@Bean
+	public ReplicaLagMonitor replicaLagMonitor(
+		@Qualifier("primaryDataSource") DataSource primaryDataSource,
+		@Qualifier("replicaDataSource") DataSource replicaDataSource,
+		@Value("${reservation.datasource.replica.max-staleness-ms}") long maxStalenessMillis,
+		MeterRegistry meterRegistry
+	) {
+		return new ReplicaLagMonitor(
+			new JdbcTemplate(primaryDataSource),
+			new JdbcTemplate(replicaDataSource),
+			maxStalenessMillis,
+			meterRegistry
+		);
+	}
+
+	@Bean
+	public ReplicaRoutingDataSource routingDataSource(
+		@Qualifier("primaryDataSource") DataSource primaryDataSource,
+		@Qualifier("replicaDataSource") DataSource replicaDataSource,
+		ReplicaLagMonitor replicaLagMonitor,
+		MeterRegistry meterRegistry
+	) {
+		return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry);
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(@Qualifier("routingDataSource") DataSource routingDataSource) {
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+}
@@ -0,0 +1,5 @@
+package com.reservation.tablereservationservice.global.datasource;
+
+public enum DataSourceRoute {
+	PRIMARY, REPLICA
+}
@@ -0,0 +1,131 @@
+package com.reservation.tablereservationservice.global.datasource;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * primary 에 쓴 heartbeat 가 replica 에 보이기까지의 지연으로 replica 사용 여부를 정한다.
+ * - 인스턴스마다 자기 row 에 현재 시각을 쓰고, replica 에서 읽은 값과의 차이를 지연으로 본다. (시계 차이 영향 없음)
+ * - 조회 실패/row 없음은 지연을 모르는 것으로 보고 primary 로 돌린다.
+ * - max-staleness-ms 가 0 이하이면 검사하지 않는다. (복제 없이 두 인스턴스를 띄우는 로컬 환경)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+	private static final long UNKNOWN = -1L;
+
+	private final String instanceId = UUID.randomUUID().toString();
+
+	private final JdbcTemplate primary;
+	private final JdbcTemplate replica;
+	private final long maxStalenessMillis;
+	private final LongSupplier clock;
+
+	private volatile boolean usable;
+	private volatile long lagMillis = UNKNOWN;
+
+	public ReplicaLagMonitor(
+		JdbcTemplate primary,
+		JdbcTemplate replica,
+		long maxStalenessMillis,
+		MeterRegistry meterRegistry
+	) {
+		this(primary, replica, maxStalenessMillis, System::currentTimeMillis);
+
+		Gauge.builder("reservation.datasource.replica.lag", this, monitor -> monitor.lagMillis)
+			.baseUnit("milliseconds")
+			.register(meterRegistry);
+		Gauge.builder("reservation.datasource.replica.usable", this, monitor -> monitor.usable ? 1 : 0)
+			.register(meterRegistry);
+	}
+
+	ReplicaLagMonitor(JdbcTemplate primary, JdbcTemplate replica, long maxStalenessMillis, LongSupplier clock) {
+		this.primary = primary;
+		this.replica = replica;
+		this.maxStalenessMillis = maxStalenessMillis;
+		this.clock = clock;
+		this.usable = maxStalenessMillis <= 0;
+	}
+
+	@PostConstruct
+	public void init() {
+		if (maxStalenessMillis <= 0) {
+			log.info("[REPLICA] staleness check disabled");
+			return;
+		}
+
+		primary.execute("""
+			create table if not exists replica_heartbeat (
+			  instance_id varchar(36) not null primary key,
+			  beat_at bigint not null
+			)
+			""");
+		check();
+	}
+
+	@Scheduled(fixedDelayString = "${reservation.datasource.replica.check-interval-ms}")
+	public void check() {
+		if (maxStalenessMillis <= 0) {
+			return;
+		}
+
+		long lag;
+		try {
+			beat();
+			List<Long> beats = replica.queryForList(
+				"select beat_at from replica_heartbeat where instance_id = ?", Long.class, instanceId);
+			lag = beats.isEmpty() ? UNKNOWN : Math.max(clock.getAsLong() - beats.get(0), 0);
+		} catch (RuntimeException e) {
+			log.warn("[REPLICA] heartbeat check failed (cause={})", e.getClass().getSimpleName());
+			lag = UNKNOWN;
+		}
+
+		boolean nowUsable = lag != UNKNOWN && lag <= maxStalenessMillis;
+		if (nowUsable != usable) {
+			log.warn("[REPLICA] {} (lag={}ms, max={}ms)", nowUsable ? "back in rotation" : "fallback to primary",
+				lag, maxStalenessMillis);
+		}
+
+		lagMillis = lag;
+		usable = nowUsable;
+	}
+
+	public boolean isUsable() {
+		return usable;
+	}
+
+	public long getLagMillis() {
+		return lagMillis;
+	}
+
+	@PreDestroy
+	public void removeHeartbeat() {
+		if (maxStalenessMillis <= 0) {
+			return;
+		}
+
+		try {
+			primary.update("delete from replica_heartbeat where instance_id = ?", instanceId);
+		} catch (RuntimeException e) {
+			log.warn("[REPLICA] heartbeat cleanup failed (cause={})", e.getClass().getSimpleName());
+		}
+	}
+
+	private void beat() {
+		long now = clock.getAsLong();
+
+		if (primary.update("update replica_heartbeat set beat_at = ? where instance_id = ?", now, instanceId) == 0) {
+			primary.update("insert into replica_heartbeat (instance_id, beat_at) values (?, ?)", instanceId, now);
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package com.reservation.tablereservationservice.global.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class ReplicaReadAspect {
+
+	@Around("@annotation(com.reservation.tablereservationservice.global.annotation.ReplicaRead)")
+	public Object readFromReplica(ProceedingJoinPoint joinPoint) throws Throwable {
+		// 바깥 @ReplicaRead 가 범위를 닫는다.
+		if (ReplicaReadScope.isActive()) {
+			return joinPoint.proceed();
+		}
+
+		ReplicaReadScope.enter();
+		try {
+			return joinPoint.proceed();
+		} finally {
+			ReplicaReadScope.exit();
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package com.reservation.tablereservationservice.global.datasource;
+
+/**
+ * 현재 스레드가 @ReplicaRead 메서드 안에 있는지 표시한다.
+ * - 자식 스레드에 자동으로 물려주지 않는다. (풀 스레드가 값을 계속 들고 있게 되므로)
+ * - fan-out 조회는 FanOutExecutor 가 제출 시점의 값을 작업에 넘기고 끝나면 되돌린다.
+ */
+public final class ReplicaReadScope {
+
+	private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+	private ReplicaReadScope() {
+	}
+
+	public static boolean isActive() {
+		return Boolean.TRUE.equals(ACTIVE.get());
+	}
+
+	public static void enter() {
+		ACTIVE.set(Boolean.TRUE);
+	}
+
+	public static void exit() {
+		ACTIVE.remove();
+	}
+
+	public static void set(boolean active) {
+		if (active) {
+			enter();
+		} else {
+			exit();
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package com.reservation.tablereservationservice.global.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * @ReplicaRead 범위의 readOnly 트랜잭션만 replica 로, 나머지는 primary 로 보낸다.
+ * - replica 가 max-staleness 이상 지연되었거나 상태를 모르면 primary 로 돌린다.
+ * - 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 경로를 정하도록 LazyConnectionDataSourceProxy 뒤에 둔다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+	private final ReplicaLagMonitor lagMonitor;
+	private final Counter primaryCounter;
+	private final Counter replicaCounter;
+
+	public ReplicaRoutingDataSource(
+		DataSource primary,
+		DataSource replica,
+		ReplicaLagMonitor lagMonitor,
+		MeterRegistry meterRegistry
+	) {
+		this.lagMonitor = lagMonitor;
+		this.primaryCounter = meterRegistry.counter("reservation.datasource.route", "route", "primary");
+		this.replicaCounter = meterRegistry.counter("reservation.datasource.route", "route", "replica");
+
+		setTargetDataSources(Map.of(DataSourceRoute.PRIMARY, primary, DataSourceRoute.REPLICA, replica));
+		setDefaultTargetDataSource(primary);
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		DataSourceRoute route = route();
+
+		(route == DataSourceRoute.REPLICA ? replicaCounter : primaryCounter).increment();
+		return route;
+	}
+
+	DataSourceRoute route() {
+		boolean replicaRead = ReplicaReadScope.isActive()
+			&& TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+
+		return replicaRead && lagMonitor.isUsable() ? DataSourceRoute.REPLICA : DataSourceRoute.PRIMARY;
+	}
+}
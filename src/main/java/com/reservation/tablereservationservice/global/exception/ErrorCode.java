@@ -27,6 +27,7 @@ public enum ErrorCode {
 	// 403 Forbidden
 	ACCESS_DENIED("접근 권한이 없습니다.", HttpStatus.FORBIDDEN),
 	RESERVATION_FORBIDDEN("본인의 예약만 취소할 수 있습니다.", HttpStatus.FORBIDDEN),
+	RESERVATION_HOLD_FORBIDDEN("본인이 선점한 좌석만 확정/해제할 수 있습니다.", HttpStatus.FORBIDDEN),
 
 	// 404 Not Found
 	RESOURCE_NOT_FOUND("%s를(을) 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
@@ -36,12 +37,16 @@ public enum ErrorCode {
 	// 예약 정책 충돌
 	RESERVATION_DUPLICATED_TIME("동시간대에 이미 예약이 존재합니다.", HttpStatus.CONFLICT),
 	RESERVATION_CAPACITY_NOT_ENOUGH("예약 가능 좌석이 부족합니다.", HttpStatus.CONFLICT),
+	RESERVATION_HOLD_EXPIRED("좌석 선점 시간이 만료되었습니다. 다시 시도해주세요.", HttpStatus.CONFLICT),
 	// 동시성 충돌
 	RESERVATION_NOT_AVAILABLE("다른 예약이 선점되었습니다.", HttpStatus.CONFLICT),
 	RESERVATION_CONCURRENCY_ERROR("현재 예약 요청이 많아 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요.", HttpStatus.CONFLICT),
 
 	// 500 Internal Server Error
-	INTERNAL_SERVER_ERROR("서버 내부 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+	INTERNAL_SERVER_ERROR("서버 내부 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+
+	// 503 Service Unavailable
+	WAITING_ROOM_FULL("대기 인원이 많아 요청을 받을 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
 
 	private final String message;
 	private final HttpStatus status;
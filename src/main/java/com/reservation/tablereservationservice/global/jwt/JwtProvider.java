@@ -13,10 +13,13 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import com.reservation.tablereservationservice.domain.user.User;
 import com.reservation.tablereservationservice.domain.user.UserRole;
+import com.reservation.tablereservationservice.global.common.CurrentUser;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -27,7 +30,9 @@ public class JwtProvider {
 	private final SecretKey secretKey;
 	private final long expirationMs;
 
+	private static final String CLAIM_USER_ID = "uid";
 	private static final String CLAIM_ROLE = "role";
+	private static final String CLAIM_NAME = "name";
 	private static final String ROLE_PREFIX = "ROLE_";
 
 	public JwtProvider(
@@ -39,13 +44,18 @@ public class JwtProvider {
 		this.expirationMs = expirationMs;
 	}
 
-	public String createAccessToken(String email, UserRole role) {
+	/**
+	 * 요청마다 사용자를 다시 조회하지 않도록 userId, role, 이름을 함께 담는다.
+	 */
+	public String createAccessToken(User user) {
 		Date now = new Date();
 		Date expiry = new Date(now.getTime() + expirationMs);
 
 		return Jwts.builder()
-			.setSubject(email)
-			.claim(CLAIM_ROLE, role.name())
+			.setSubject(user.getEmail())
+			.claim(CLAIM_USER_ID, user.getUserId())
+			.claim(CLAIM_ROLE, user.getUserRole().name())
+			.claim(CLAIM_NAME, user.getName())
 			.setIssuedAt(now)
 			.setExpiration(expiry)
 			.signWith(secretKey, SignatureAlgorithm.HS256)
@@ -55,14 +65,24 @@ public class JwtProvider {
 	public Authentication getAuthenticationFromAccessToken(String accessToken) {
 		Claims claims = parseClaims(accessToken);
 
-		String email = claims.getSubject();
-		List<GrantedAuthority> authorities = extractAuthorities(claims);
+		// userId 가 없는 이전 형식의 토큰은 다시 로그인하도록 거부한다.
+		Long userId = claims.get(CLAIM_USER_ID, Long.class);
+		if (userId == null) {
+			throw new MalformedJwtException("missing claim: " + CLAIM_USER_ID);
+		}
 
-		return new UsernamePasswordAuthenticationToken(email, null, authorities);
+		String role = claims.get(CLAIM_ROLE, String.class);
+		CurrentUser currentUser = new CurrentUser(
+			userId,
+			claims.getSubject(),
+			StringUtils.hasText(role) ? UserRole.valueOf(role) : null,
+			claims.get(CLAIM_NAME, String.class)
+		);
+
+		return new UsernamePasswordAuthenticationToken(currentUser, null, extractAuthorities(role));
 	}
 
-	private List<GrantedAuthority> extractAuthorities(Claims claims) {
-		String role = claims.get(CLAIM_ROLE, String.class);
+	private List<GrantedAuthority> extractAuthorities(String role) {
 		if (!StringUtils.hasText(role)) {
 			return List.of();
 		}
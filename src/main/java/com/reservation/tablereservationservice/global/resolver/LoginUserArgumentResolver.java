@@ -31,11 +31,10 @@ public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver
 			return null;
 		}
 
-		Object principal = authentication.getPrincipal();
-		if (!(principal instanceof String)) {
+		if (!(authentication.getPrincipal() instanceof CurrentUser currentUser)) {
 			return null;
 		}
 
-		return new CurrentUser(null, (String)principal);
+		return currentUser;
 	}
 }
@@ -0,0 +1,73 @@
+package com.reservation.tablereservationservice.infrastructure.reservation.backfill;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * reservation / daily_slot_capacity 의 TABLE(pooled) id 가 기존 IDENTITY id 와 겹치지 않도록
+ * id_generator 값을 MAX(id) 뒤로 옮긴다.
+ * - pooled 는 읽은 값을 할당 구간의 끝으로 쓰므로 MAX(id) + allocationSize + 1 까지 올린다.
+ * - 이미 그 뒤에 있으면 그대로 두므로 기동마다 실행해도 된다.
+ * - 첫 insert 전에 끝나도록 스키마 생성(EntityManagerFactory) 직후 실행한다.
+ */
+@Slf4j
+@Component
+public class PooledIdGeneratorSeeder {
+
+	// ReservationEntity, DailySlotCapacityEntity 의 @TableGenerator allocationSize
+	private static final int ALLOCATION_SIZE = 50;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public PooledIdGeneratorSeeder(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	@PostConstruct
+	public void seedOnStartup() {
+		seed();
+	}
+
+	public void seed() {
+		seed("reservation", "reservation", "reservation_id");
+		seed("daily_slot_capacity", "daily_slot_capacity", "capacity_id");
+	}
+
+	private void seed(String genName, String table, String idColumn) {
+		Long maxId = jdbcTemplate.queryForObject(
+			"select coalesce(max(" + idColumn + "), 0) from " + table, Long.class
+		);
+		long nextVal = maxId + ALLOCATION_SIZE + 1;
+
+		if (raise(genName, nextVal)) {
+			log.info("[ID-GENERATOR] {} next_val raised to {} (max id={})", genName, nextVal, maxId);
+			return;
+		}
+
+		Integer rows = jdbcTemplate.queryForObject(
+			"select count(*) from id_generator where gen_name = ?", Integer.class, genName
+		);
+		if (rows > 0) {
+			return;
+		}
+
+		try {
+			jdbcTemplate.update("insert into id_generator (gen_name, next_val) values (?, ?)", genName, nextVal);
+			log.info("[ID-GENERATOR] {} next_val seeded to {} (max id={})", genName, nextVal, maxId);
+		} catch (DuplicateKeyException e) {
+			// 다른 인스턴스가 먼저 넣었다.
+			raise(genName, nextVal);
+		}
+	}
+
+	private boolean raise(String genName, long nextVal) {
+		return jdbcTemplate.update(
+			"update id_generator set next_val = ? where gen_name = ? and next_val < ?", nextVal, genName, nextVal
+		) > 0;
+	}
+}
@@ -0,0 +1,131 @@
+package com.reservation.tablereservationservice.infrastructure.reservation.backfill;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reservation.tablereservationservice.infrastructure.reservation.repository.ReservationEntityRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * restaurant_id 컬럼이 생기기 전에 저장된 reservation row 를 채운다.
+ * - reservation_id 구간(batch-size)마다 짧은 트랜잭션으로 UPDATE 해 한 번에 많은 row 를 잠그지 않는다.
+ * - 이미 채워진 row 는 건너뛰므로 중간에 멈춰도 다시 실행하면 이어서 채운다.
+ * - 채울 row 가 없으면 바로 끝나므로 기본으로 켜 두고 배포마다 실행한다.
+ * - 다 채우면 컬럼을 NOT NULL 로 바꾼다. 점주 조회/내보내기는 restaurant_id 로만 거르므로 비어 있는 row 를 남기지 않는다.
+ *   (restaurant_id 를 쓰지 않는 구버전 인스턴스가 남아 있는 동안은 enforce-not-null 을 끈다)
+ */
+@Slf4j
+@Component
+public class ReservationRestaurantIdBackfill {
+
+	private final ReservationEntityRepository reservationEntityRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final JdbcTemplate jdbcTemplate;
+	private final boolean enabled;
+	private final boolean enforceNotNull;
+	private final int batchSize;
+
+	public ReservationRestaurantIdBackfill(
+		ReservationEntityRepository reservationEntityRepository,
+		TransactionTemplate transactionTemplate,
+		JdbcTemplate jdbcTemplate,
+		@Value("${reservation.backfill.restaurant-id.enabled}") boolean enabled,
+		@Value("${reservation.backfill.restaurant-id.enforce-not-null}") boolean enforceNotNull,
+		@Value("${reservation.backfill.restaurant-id.batch-size}") int batchSize
+	) {
+		this.reservationEntityRepository = reservationEntityRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.jdbcTemplate = jdbcTemplate;
+		this.enabled = enabled;
+		this.enforceNotNull = enforceNotNull;
+		this.batchSize = batchSize;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void runOnStartup() {
+		if (!enabled) {
+			return;
+		}
+		backfill();
+		if (enforceNotNull) {
+			enforceNotNull();
+		}
+	}
+
+	/**
+	 * @return 채운 row 수
+	 */
+	public long backfill() {
+		if (!reservationEntityRepository.existsByRestaurantIdIsNull()) {
+			return 0;
+		}
+
+		long maxId = reservationEntityRepository.findMaxReservationId();
+		long updated = 0;
+
+		for (long fromId = 0; fromId < maxId; fromId += batchSize) {
+			long from = fromId;
+			long to = Math.min(fromId + batchSize, maxId);
+
+			Integer rows = transactionTemplate.execute(status ->
+				reservationEntityRepository.backfillRestaurantId(from, to)
+			);
+			updated += rows;
+		}
+
+		log.info("[BACKFILL] reservation.restaurant_id filled {} rows (maxId={})", updated, maxId);
+		return updated;
+	}
+
+	/**
+	 * 비어 있는 row 가 없을 때만 restaurant_id 를 NOT NULL 로 바꾼다. 이미 NOT NULL 이면 아무것도 하지 않는다.
+	 * (슬롯이 지워져 채우지 못한 row 가 있으면 바꾸지 않고 로그로 남긴다)
+	 *
+	 * @return 이번 호출에서 바꿨는지
+	 */
+	public boolean enforceNotNull() {
+		if (!isRestaurantIdNullable()) {
+			return false;
+		}
+
+		if (reservationEntityRepository.existsByRestaurantIdIsNull()) {
+			log.error("[BACKFILL] reservation.restaurant_id still has NULL rows (slot removed?), NOT NULL not applied");
+			return false;
+		}
+
+		String productName = jdbcTemplate.execute(
+			(ConnectionCallback<String>)con -> con.getMetaData().getDatabaseProductName()
+		);
+		jdbcTemplate.execute("MySQL".equalsIgnoreCase(productName)
+			? "alter table reservation modify restaurant_id bigint not null"
+			: "alter table reservation alter column restaurant_id set not null");
+
+		log.info("[BACKFILL] reservation.restaurant_id set to NOT NULL");
+		return true;
+	}
+
+	private boolean isRestaurantIdNullable() {
+		return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>)con -> {
+			DatabaseMetaData meta = con.getMetaData();
+			boolean upper = meta.storesUpperCaseIdentifiers();
+
+			try (ResultSet rs = meta.getColumns(
+				con.getCatalog(),
+				con.getSchema(),
+				upper ? "RESERVATION" : "reservation",
+				upper ? "RESTAURANT_ID" : "restaurant_id"
+			)) {
+				return rs.next() && rs.getInt("NULLABLE") != DatabaseMetaData.columnNoNulls;
+			}
+		}));
+	}
+}
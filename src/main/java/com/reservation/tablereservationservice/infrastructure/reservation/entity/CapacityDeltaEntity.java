@@ -0,0 +1,49 @@
+package com.reservation.tablereservationservice.infrastructure.reservation.entity;
+
+import java.time.LocalDate;
+
+import com.reservation.tablereservationservice.infrastructure.common.entity.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@Table(
+	name = "capacity_delta",
+	indexes = {
+		// 재기동 시 key 별 미반영 변경분 합계
+		@Index(name = "idx_slot_date", columnList = "slot_id, date")
+	}
+)
+@NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
+public class CapacityDeltaEntity extends BaseTimeEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long deltaId;
+
+	@Column(nullable = false)
+	private Long slotId;
+
+	@Column(nullable = false)
+	private LocalDate date;
+
+	@Column(nullable = false)
+	private Integer delta;
+
+	@Builder
+	public CapacityDeltaEntity(Long slotId, LocalDate date, Integer delta) {
+		this.slotId = slotId;
+		this.date = date;
+		this.delta = delta;
+	}
+}
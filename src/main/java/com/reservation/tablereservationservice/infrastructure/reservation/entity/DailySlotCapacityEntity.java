@@ -10,6 +10,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.UniqueConstraint;
 import jakarta.persistence.Version;
 import lombok.Builder;
@@ -30,8 +31,17 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 public class DailySlotCapacityEntity extends BaseTimeEntity {
 
+	// IDENTITY 는 insert 마다 id 를 받아와야 해서 JDBC batch 가 꺼진다. id 를 allocationSize 만큼 미리 받아 둔다. (pooled)
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "daily_slot_capacity_id")
+	@TableGenerator(
+		name = "daily_slot_capacity_id",
+		table = "id_generator",
+		pkColumnName = "gen_name",
+		valueColumnName = "next_val",
+		pkColumnValue = "daily_slot_capacity",
+		allocationSize = 50
+	)
 	private Long capacityId;
 
 	@Column(nullable = false)
@@ -0,0 +1,65 @@
+package com.reservation.tablereservationservice.infrastructure.reservation.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Persistable;
+
+import com.reservation.tablereservationservice.infrastructure.common.entity.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@Table(
+	name = "held_seat",
+	indexes = {
+		@Index(name = "idx_expires_at", columnList = "expires_at")
+	}
+)
+@NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
+public class HeldSeatEntity extends BaseTimeEntity implements Persistable<String> {
+
+	// holdId 는 서버에서 만든 UUID 라 save 시 merge(SELECT) 대신 바로 INSERT 한다.
+	@Id
+	@Column(length = 36)
+	private String holdId;
+
+	@Column(nullable = false)
+	private Long slotId;
+
+	@Column(nullable = false)
+	private LocalDate date;
+
+	@Column(nullable = false)
+	private Integer partySize;
+
+	@Column(nullable = false)
+	private LocalDateTime expiresAt;
+
+	@Builder
+	public HeldSeatEntity(String holdId, Long slotId, LocalDate date, Integer partySize, LocalDateTime expiresAt) {
+		this.holdId = holdId;
+		this.slotId = slotId;
+		this.date = date;
+		this.partySize = partySize;
+		this.expiresAt = expiresAt;
+	}
+
+	@Override
+	public String getId() {
+		return holdId;
+	}
+
+	@Override
+	public boolean isNew() {
+		return getCreatedAt() == null;
+	}
+}
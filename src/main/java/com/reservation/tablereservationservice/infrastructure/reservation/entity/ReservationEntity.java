@@ -12,7 +12,9 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.UniqueConstraint;
 import lombok.Builder;
 import lombok.Getter;
@@ -26,15 +28,34 @@ import lombok.NoArgsConstructor;
 		@UniqueConstraint(
 			name = "uq_user_visit_at",
 			columnNames = {"user_id", "visit_at"}
+		),
+		@UniqueConstraint(
+			name = "uq_user_request_id",
+			columnNames = {"user_id", "request_id"}
 		)
+	},
+	indexes = {
+		// 슬롯별 예약 인원 합계(sumPartySize) 의 visit_at 범위 조회
+		@Index(name = "idx_slot_visit_at_id", columnList = "slot_id, visit_at, reservation_id"),
+		// 점주 목록: restaurant_slot join 없이 식당별 (visit_at, reservation_id) 역순 range scan
+		@Index(name = "idx_restaurant_visit_at_id", columnList = "restaurant_id, visit_at, reservation_id")
 	}
 )
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 
 public class ReservationEntity extends BaseTimeEntity {
 
+	// IDENTITY 는 insert 마다 id 를 받아와야 해서 JDBC batch 가 꺼진다. id 를 allocationSize 만큼 미리 받아 둔다. (pooled)
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "reservation_id")
+	@TableGenerator(
+		name = "reservation_id",
+		table = "id_generator",
+		pkColumnName = "gen_name",
+		valueColumnName = "next_val",
+		pkColumnValue = "reservation",
+		allocationSize = 50
+	)
 	private Long reservationId;
 
 	@Column(nullable = false)
@@ -43,6 +64,10 @@ public class ReservationEntity extends BaseTimeEntity {
 	@Column(nullable = false)
 	private Long slotId;
 
+	// restaurant_slot.restaurant_id 를 예약 시점에 복사해 둔다. (기존 DB 는 ReservationRestaurantIdBackfill 이 채우고 NOT NULL 로 바꾼다)
+	@Column(nullable = false)
+	private Long restaurantId;
+
 	@Column(nullable = false)
 	private LocalDateTime visitAt;
 
@@ -62,10 +87,11 @@ public class ReservationEntity extends BaseTimeEntity {
 	private long serverReceivedSeq;
 
 	@Builder
-	public ReservationEntity(Long userId, Long slotId, LocalDateTime visitAt, Integer partySize,
+	public ReservationEntity(Long userId, Long slotId, Long restaurantId, LocalDateTime visitAt, Integer partySize,
 		String note, ReservationStatus status, String requestId, long serverReceivedSeq) {
 		this.userId = userId;
 		this.slotId = slotId;
+		this.restaurantId = restaurantId;
 		this.visitAt = visitAt;
 		this.partySize = partySize;
 		this.note = note;
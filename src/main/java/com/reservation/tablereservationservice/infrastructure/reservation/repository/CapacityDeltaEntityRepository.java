@@ -0,0 +1,25 @@
+package com.reservation.tablereservationservice.infrastructure.reservation.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.reservation.tablereservationservice.infrastructure.reservation.entity.CapacityDeltaEntity;
+
+public interface CapacityDeltaEntityRepository extends JpaRepository<CapacityDeltaEntity, Long> {
+
+	@Query("""
+			select coalesce(sum(c.delta), 0)
+			from CapacityDeltaEntity c
+			where c.slotId = :slotId
+			  and c.date = :date
+		""")
+	long sumDelta(@Param("slotId") Long slotId, @Param("date") LocalDate date);
+
+	@Query("select c from CapacityDeltaEntity c order by c.deltaId")
+	List<CapacityDeltaEntity> findOldest(Pageable limit);
+}
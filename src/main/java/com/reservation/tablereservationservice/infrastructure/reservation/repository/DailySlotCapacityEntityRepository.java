@@ -1,25 +1,127 @@
 package com.reservation.tablereservationservice.infrastructure.reservation.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import com.reservation.tablereservationservice.domain.reservation.SlotAvailability;
 import com.reservation.tablereservationservice.infrastructure.reservation.entity.DailySlotCapacityEntity;
 
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 public interface DailySlotCapacityEntityRepository extends JpaRepository<DailySlotCapacityEntity, Long> {
 
 	Optional<DailySlotCapacityEntity> findBySlotIdAndDate(Long slotSlotId, LocalDate date);
 
+	// MySQL 은 lock timeout 힌트를 무시하므로 JpaDailySlotCapacityRepository 가 innodb_lock_wait_timeout 을 함께 줄인다.
 	@Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select d from DailySlotCapacityEntity d where d.slotId = :slotId and d.date = :date")
-    Optional<DailySlotCapacityEntity> findBySlotIdAndDateForUpdate(
-        @Param("slotId") Long slotId,
-        @Param("date") LocalDate date
-    );
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+	@Query("select d from DailySlotCapacityEntity d where d.slotId = :slotId and d.date = :date")
+	Optional<DailySlotCapacityEntity> findBySlotIdAndDateForUpdate(
+		@Param("slotId") Long slotId,
+		@Param("date") LocalDate date
+	);
+
+	@Query("""
+			select d from DailySlotCapacityEntity d
+			where d.slotId in :slotIds
+			  and d.date in :dates
+			order by d.slotId, d.date
+		""")
+	List<DailySlotCapacityEntity> findAllBySlotIdInAndDateIn(
+		@Param("slotIds") Collection<Long> slotIds,
+		@Param("dates") Collection<LocalDate> dates
+	);
+
+	// 여러 요청이 같은 row 들을 잠가도 항상 (slotId, date) 순서로 잡으므로 교착이 생기지 않는다.
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+	@Query("""
+			select d from DailySlotCapacityEntity d
+			where d.slotId in :slotIds
+			  and d.date in :dates
+			order by d.slotId, d.date
+		""")
+	List<DailySlotCapacityEntity> findAllBySlotIdInAndDateInForUpdate(
+		@Param("slotIds") Collection<Long> slotIds,
+		@Param("dates") Collection<LocalDate> dates
+	);
+
+	@Query("""
+			select new com.reservation.tablereservationservice.domain.reservation.SlotAvailability(
+			    s.slotId, s.time, d.date, d.remainingCount
+			)
+			from DailySlotCapacityEntity d
+			join RestaurantSlotEntity s on s.slotId = d.slotId
+			where s.restaurantId = :restaurantId
+			  and d.date between :from and :to
+			order by d.date, s.time
+		""")
+	List<SlotAvailability> findAvailabilityByRestaurantId(
+		@Param("restaurantId") Long restaurantId,
+		@Param("from") LocalDate from,
+		@Param("to") LocalDate to
+	);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+			update DailySlotCapacityEntity d
+			set d.remainingCount = d.remainingCount + :delta,
+			    d.version = d.version + 1,
+			    d.modifiedAt = :now
+			where d.slotId = :slotId
+			  and d.date = :date
+		""")
+	int addRemainingCount(
+		@Param("slotId") Long slotId,
+		@Param("date") LocalDate date,
+		@Param("delta") int delta,
+		@Param("now") LocalDateTime now
+	);
+
+	// 여러 인스턴스가 각자 메모리에서 차감한 값을 반영해도 remaining_count 가 음수가 되지 않는다.
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+			update DailySlotCapacityEntity d
+			set d.remainingCount = d.remainingCount + :delta,
+			    d.version = d.version + 1,
+			    d.modifiedAt = :now
+			where d.slotId = :slotId
+			  and d.date = :date
+			  and d.remainingCount + :delta >= 0
+		""")
+	int addRemainingCountIfNotNegative(
+		@Param("slotId") Long slotId,
+		@Param("date") LocalDate date,
+		@Param("delta") int delta,
+		@Param("now") LocalDateTime now
+	);
+
+	// remaining_count >= :partySize 조건으로 검증과 차감을 한 문장에서 처리한다. (0 이면 좌석 부족 또는 미오픈)
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+			update DailySlotCapacityEntity d
+			set d.remainingCount = d.remainingCount - :partySize,
+			    d.version = d.version + 1,
+			    d.modifiedAt = :now
+			where d.slotId = :slotId
+			  and d.date = :date
+			  and d.remainingCount >= :partySize
+		""")
+	int decreaseIfEnough(
+		@Param("slotId") Long slotId,
+		@Param("date") LocalDate date,
+		@Param("partySize") int partySize,
+		@Param("now") LocalDateTime now
+	);
 }
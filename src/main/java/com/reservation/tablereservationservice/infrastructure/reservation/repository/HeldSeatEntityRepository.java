@@ -0,0 +1,23 @@
+package com.reservation.tablereservationservice.infrastructure.reservation.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.reservation.tablereservationservice.infrastructure.reservation.entity.HeldSeatEntity;
+
+public interface HeldSeatEntityRepository extends JpaRepository<HeldSeatEntity, String> {
+
+	// 확정/해제/회수가 동시에 들어와도 DELETE 가 1 을 돌려준 쪽만 좌석을 되돌린다.
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("delete from HeldSeatEntity h where h.holdId = :holdId")
+	int deleteByHoldId(@Param("holdId") String holdId);
+
+	@Query("select h from HeldSeatEntity h where h.expiresAt < :before order by h.expiresAt")
+	List<HeldSeatEntity> findExpired(@Param("before") LocalDateTime before, Pageable limit);
+}
@@ -0,0 +1,83 @@
+package com.reservation.tablereservationservice.infrastructure.reservation.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.reservation.tablereservationservice.domain.reservation.ReservationExportRepository;
+import com.reservation.tablereservationservice.domain.reservation.ReservationExportRow;
+import com.reservation.tablereservationservice.domain.reservation.ReservationStatus;
+
+/**
+ * 엔티티/영속성 컨텍스트 없이 JDBC 커서로 읽는다.
+ * MySQL 은 datasource url 에 useCursorFetch=true 를 두어야 fetch-size 단위로 서버 커서에서 가져온다.
+ * (없으면 드라이버가 결과 전체를 메모리에 올린다)
+ * reservation.restaurant_id 로 바로 거르고 정렬하므로 (restaurant_id, visit_at, reservation_id) 인덱스 순서대로 읽는다.
+ */
+@Repository
+public class JdbcReservationExportRepository implements ReservationExportRepository {
+
+	private static final String SELECT = """
+		select r.reservation_id, r.user_id, r.restaurant_id, r.visit_at, r.party_size, r.note, r.status
+		from reservation r
+		where r.restaurant_id in (:restaurantIds)
+		  and r.visit_at between :from and :to
+		""";
+
+	private static final String ORDER_BY = """
+		order by r.restaurant_id, r.visit_at, r.reservation_id
+		""";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	public JdbcReservationExportRepository(
+		DataSource dataSource,
+		@Value("${reservation.export.fetch-size}") int fetchSize
+	) {
+		JdbcTemplate template = new JdbcTemplate(dataSource);
+		template.setFetchSize(fetchSize);
+
+		this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+	}
+
+	@Override
+	public void forEachByRestaurantIds(
+		Collection<Long> restaurantIds,
+		ReservationStatus status,
+		LocalDateTime from,
+		LocalDateTime to,
+		Consumer<ReservationExportRow> action
+	) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue("restaurantIds", restaurantIds)
+			.addValue("from", from)
+			.addValue("to", to);
+
+		String sql = SELECT;
+		if (status != null) {
+			sql += "  and r.status = :status\n";
+			params.addValue("status", status.name());
+		}
+
+		jdbcTemplate.query(sql + ORDER_BY, params, (RowCallbackHandler)rs -> action.accept(
+			new ReservationExportRow(
+				rs.getLong("reservation_id"),
+				rs.getLong("user_id"),
+				rs.getLong("restaurant_id"),
+				rs.getObject("visit_at", LocalDateTime.class),
+				rs.getInt("party_size"),
+				rs.getString("note"),
+				ReservationStatus.valueOf(rs.getString("status"))
+			)
+		));
+	}
+}
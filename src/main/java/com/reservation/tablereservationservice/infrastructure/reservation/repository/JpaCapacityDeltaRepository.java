@@ -0,0 +1,59 @@
+package com.reservation.tablereservationservice.infrastructure.reservation.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import com.reservation.tablereservationservice.domain.reservation.CapacityDelta;
+import com.reservation.tablereservationservice.domain.reservation.CapacityDeltaRepository;
+import com.reservation.tablereservationservice.infrastructure.reservation.entity.CapacityDeltaEntity;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class JpaCapacityDeltaRepository implements CapacityDeltaRepository {
+
+	private final CapacityDeltaEntityRepository capacityDeltaEntityRepository;
+
+	@Override
+	public void append(Long slotId, LocalDate date, int delta) {
+		capacityDeltaEntityRepository.save(
+			CapacityDeltaEntity.builder()
+				.slotId(slotId)
+				.date(date)
+				.delta(delta)
+				.build()
+		);
+	}
+
+	@Override
+	public int sumDelta(Long slotId, LocalDate date) {
+		return Math.toIntExact(capacityDeltaEntityRepository.sumDelta(slotId, date));
+	}
+
+	@Override
+	public List<CapacityDelta> findOldest(int limit) {
+		return capacityDeltaEntityRepository.findOldest(PageRequest.of(0, limit)).stream()
+			.map(entity -> new CapacityDelta(
+				entity.getDeltaId(),
+				entity.getSlotId(),
+				entity.getDate(),
+				entity.getDelta()
+			))
+			.toList();
+	}
+
+	@Override
+	public void deleteAllById(Collection<Long> ids) {
+		capacityDeltaEntityRepository.deleteAllByIdInBatch(ids);
+	}
+
+	@Override
+	public void deleteAll() {
+		capacityDeltaEntityRepository.deleteAll();
+	}
+}
@@ -1,6 +1,9 @@
 package com.reservation.tablereservationservice.infrastructure.reservation.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.stereotype.Repository;
@@ -8,6 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacity;
 import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacityRepository;
+import com.reservation.tablereservationservice.domain.reservation.SlotAvailability;
 import com.reservation.tablereservationservice.global.exception.ErrorCode;
 import com.reservation.tablereservationservice.global.exception.ReservationException;
 import com.reservation.tablereservationservice.infrastructure.reservation.entity.DailySlotCapacityEntity;
@@ -20,6 +24,7 @@ import lombok.RequiredArgsConstructor;
 public class JpaDailySlotCapacityRepository implements DailySlotCapacityRepository {
 
 	private final DailySlotCapacityEntityRepository dailySlotCapacityEntityRepository;
+	private final LockWaitTimeout lockWaitTimeout;
 
 	@Override
 	public Optional<DailySlotCapacity> findBySlotIdAndDate(Long slotId, LocalDate date) {
@@ -30,11 +35,35 @@ public class JpaDailySlotCapacityRepository implements DailySlotCapacityReposito
 
 	@Override
 	public Optional<DailySlotCapacity> findBySlotIdAndDateForUpdate(Long slotId, LocalDate date) {
+		lockWaitTimeout.applyToCurrentTransaction();
 		return dailySlotCapacityEntityRepository
 			.findBySlotIdAndDateForUpdate(slotId, date)
 			.map(ReservationMapper.INSTANCE::toDomain);
 	}
 
+	@Override
+	public List<DailySlotCapacity> findAllBySlotIdInAndDateIn(Collection<Long> slotIds, Collection<LocalDate> dates) {
+		return dailySlotCapacityEntityRepository.findAllBySlotIdInAndDateIn(slotIds, dates).stream()
+			.map(ReservationMapper.INSTANCE::toDomain)
+			.toList();
+	}
+
+	@Override
+	public List<DailySlotCapacity> findAllBySlotIdInAndDateInForUpdate(
+		Collection<Long> slotIds,
+		Collection<LocalDate> dates
+	) {
+		lockWaitTimeout.applyToCurrentTransaction();
+		return dailySlotCapacityEntityRepository.findAllBySlotIdInAndDateInForUpdate(slotIds, dates).stream()
+			.map(ReservationMapper.INSTANCE::toDomain)
+			.toList();
+	}
+
+	@Override
+	public List<SlotAvailability> findAvailabilityByRestaurantId(Long restaurantId, LocalDate from, LocalDate to) {
+		return dailySlotCapacityEntityRepository.findAvailabilityByRestaurantId(restaurantId, from, to);
+	}
+
 	@Override
 	public DailySlotCapacity save(DailySlotCapacity dailySlotCapacity) {
 		DailySlotCapacityEntity entity = ReservationMapper.INSTANCE.toEntity(dailySlotCapacity);
@@ -54,6 +83,35 @@ public class JpaDailySlotCapacityRepository implements DailySlotCapacityReposito
 		// save() 호출 없음 -> 영속성 컨텍스트 변경 감지로 UPDATE
 	}
 
+	@Override
+	@Transactional
+	public void addRemainingCount(Long slotId, LocalDate date, int delta) {
+		int updated = dailySlotCapacityEntityRepository.addRemainingCount(slotId, date, delta, LocalDateTime.now());
+
+		if (updated == 0) {
+			throw new ReservationException(ErrorCode.RESOURCE_NOT_FOUND, "DailySlotCapacity");
+		}
+	}
+
+	@Override
+	@Transactional
+	public boolean addRemainingCountIfNotNegative(Long slotId, LocalDate date, int delta) {
+		int updated = dailySlotCapacityEntityRepository.addRemainingCountIfNotNegative(
+			slotId, date, delta, LocalDateTime.now()
+		);
+
+		if (updated == 0 && dailySlotCapacityEntityRepository.findBySlotIdAndDate(slotId, date).isEmpty()) {
+			throw new ReservationException(ErrorCode.RESOURCE_NOT_FOUND, "DailySlotCapacity");
+		}
+		return updated == 1;
+	}
+
+	@Override
+	@Transactional
+	public boolean decreaseIfEnough(Long slotId, LocalDate date, int partySize) {
+		return dailySlotCapacityEntityRepository.decreaseIfEnough(slotId, date, partySize, LocalDateTime.now()) == 1;
+	}
+
 	@Override
 	public void deleteAll() {
 		dailySlotCapacityEntityRepository.deleteAll();
@@ -0,0 +1,58 @@
+package com.reservation.tablereservationservice.infrastructure.reservation.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.reservation.tablereservationservice.domain.reservation.HeldSeat;
+import com.reservation.tablereservationservice.domain.reservation.HeldSeatRepository;
+import com.reservation.tablereservationservice.infrastructure.reservation.entity.HeldSeatEntity;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class JpaHeldSeatRepository implements HeldSeatRepository {
+
+	private final HeldSeatEntityRepository heldSeatEntityRepository;
+
+	@Override
+	public void save(HeldSeat heldSeat) {
+		heldSeatEntityRepository.save(
+			HeldSeatEntity.builder()
+				.holdId(heldSeat.holdId())
+				.slotId(heldSeat.slotId())
+				.date(heldSeat.date())
+				.partySize(heldSeat.partySize())
+				.expiresAt(heldSeat.expiresAt())
+				.build()
+		);
+	}
+
+	@Override
+	@Transactional
+	public boolean delete(String holdId) {
+		return heldSeatEntityRepository.deleteByHoldId(holdId) == 1;
+	}
+
+	@Override
+	public List<HeldSeat> findExpired(LocalDateTime before, int limit) {
+		return heldSeatEntityRepository.findExpired(before, PageRequest.of(0, limit)).stream()
+			.map(entity -> new HeldSeat(
+				entity.getHoldId(),
+				entity.getSlotId(),
+				entity.getDate(),
+				entity.getPartySize(),
+				entity.getExpiresAt()
+			))
+			.toList();
+	}
+
+	@Override
+	public void deleteAll() {
+		heldSeatEntityRepository.deleteAll();
+	}
+}
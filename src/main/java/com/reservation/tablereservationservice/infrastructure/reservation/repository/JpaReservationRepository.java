@@ -1,14 +1,19 @@
 package com.reservation.tablereservationservice.infrastructure.reservation.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 
+import com.reservation.tablereservationservice.domain.reservation.OwnerReservationRow;
 import com.reservation.tablereservationservice.domain.reservation.Reservation;
+import com.reservation.tablereservationservice.domain.reservation.ReservationCursor;
 import com.reservation.tablereservationservice.domain.reservation.ReservationRepository;
 import com.reservation.tablereservationservice.domain.reservation.ReservationStatus;
 import com.reservation.tablereservationservice.global.exception.ErrorCode;
@@ -32,6 +37,36 @@ public class JpaReservationRepository implements ReservationRepository {
 		return ReservationMapper.INSTANCE.toDomain(saved);
 	}
 
+	@Override
+	public List<Reservation> saveAll(List<Reservation> reservations) {
+		List<ReservationEntity> entities = reservations.stream()
+			.map(ReservationMapper.INSTANCE::toEntity)
+			.toList();
+
+		return reservationEntityRepository.saveAll(entities).stream()
+			.map(ReservationMapper.INSTANCE::toDomain)
+			.toList();
+	}
+
+	@Override
+	public Reservation saveAndFlush(Reservation reservation) {
+		ReservationEntity entity = ReservationMapper.INSTANCE.toEntity(reservation);
+
+		ReservationEntity saved = reservationEntityRepository.saveAndFlush(entity);
+		return ReservationMapper.INSTANCE.toDomain(saved);
+	}
+
+	@Override
+	public List<Reservation> saveAllAndFlush(List<Reservation> reservations) {
+		List<ReservationEntity> entities = reservations.stream()
+			.map(ReservationMapper.INSTANCE::toEntity)
+			.toList();
+
+		return reservationEntityRepository.saveAllAndFlush(entities).stream()
+			.map(ReservationMapper.INSTANCE::toDomain)
+			.toList();
+	}
+
 	@Override
 	public boolean existsByUserIdAndVisitAtAndStatus(
 		Long userId,
@@ -41,6 +76,21 @@ public class JpaReservationRepository implements ReservationRepository {
 		return reservationEntityRepository.existsByUserIdAndVisitAtAndStatus(userId, visitAt, reservationStatus);
 	}
 
+	@Override
+	public boolean existsByUserIdAndVisitAtInAndStatus(
+		Long userId,
+		Collection<LocalDateTime> visitAts,
+		ReservationStatus reservationStatus
+	) {
+		return reservationEntityRepository.existsByUserIdAndVisitAtInAndStatus(userId, visitAts, reservationStatus);
+	}
+
+	@Override
+	public Optional<Reservation> findByUserIdAndRequestId(Long userId, String requestId) {
+		return reservationEntityRepository.findByUserIdAndRequestId(userId, requestId)
+			.map(ReservationMapper.INSTANCE::toDomain);
+	}
+
 	@Override
 		public Page<Reservation> findMyReservations(
 			Long userId,
@@ -57,15 +107,55 @@ public class JpaReservationRepository implements ReservationRepository {
 		}
 
 	@Override
-	public Page<Reservation> findOwnerReservations(
-		List<Long> restaurantIds,
+	public Slice<OwnerReservationRow> findOwnerReservationRows(
+		Long ownerId,
 		ReservationStatus status,
 		LocalDateTime from,
 		LocalDateTime to,
 		Pageable pageable
 	) {
-		return reservationEntityRepository.findOwnerReservations(restaurantIds, status, from, to, pageable)
-			.map(ReservationMapper.INSTANCE::toDomain);
+		return reservationEntityRepository.findOwnerReservationRows(ownerId, status, from, to, pageable);
+	}
+
+	@Override
+	public List<Reservation> findMyReservationsAfter(
+		Long userId,
+		ReservationStatus status,
+		LocalDateTime from,
+		LocalDateTime to,
+		ReservationCursor cursor,
+		int limit
+	) {
+		return reservationEntityRepository.findMyReservationsAfter(
+				userId, status, from, to,
+				cursor == null ? null : cursor.visitAt(),
+				cursor == null ? null : cursor.reservationId(),
+				PageRequest.of(0, limit)
+			).stream()
+			.map(ReservationMapper.INSTANCE::toDomain)
+			.toList();
+	}
+
+	@Override
+	public List<OwnerReservationRow> findOwnerReservationRowsAfter(
+		Long ownerId,
+		ReservationStatus status,
+		LocalDateTime from,
+		LocalDateTime to,
+		ReservationCursor cursor,
+		int limit
+	) {
+		return reservationEntityRepository.findOwnerReservationRowsAfter(
+			ownerId, status, from, to,
+			cursor == null ? null : cursor.visitAt(),
+			cursor == null ? null : cursor.reservationId(),
+			PageRequest.of(0, limit)
+		);
+	}
+
+	@Override
+	public int sumPartySize(Long slotId, ReservationStatus status, LocalDateTime from, LocalDateTime to) {
+		return (int)reservationEntityRepository.sumPartySize(slotId, status, from, to);
 	}
 
 	@Override
@@ -0,0 +1,77 @@
+package com.reservation.tablereservationservice.infrastructure.reservation.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SELECT ... FOR UPDATE 의 락 대기 시간을 호출한 트랜잭션 동안만 줄인다.
+ * - Hibernate 의 MySQL dialect 는 jakarta.persistence.lock.timeout 힌트를 FOR UPDATE 에 반영하지 않아
+ *   innodb_lock_wait_timeout(기본 50초) 까지 기다린다. 그래서 MySQL 에서는 세션 변수를 직접 줄이고,
+ *   커넥션이 풀로 돌아가기 전(beforeCompletion)에 전역 기본값으로 되돌린다.
+ * - 그 밖의 DB 는 lock timeout 힌트를 따르므로 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+class LockWaitTimeout {
+
+	private final JdbcTemplate jdbcTemplate;
+	private final long timeoutSeconds;
+
+	private volatile Boolean mySql;
+
+	LockWaitTimeout(
+		JdbcTemplate jdbcTemplate,
+		@Value("${reservation.capacity.pessimistic.lock-wait-timeout-seconds}") long timeoutSeconds
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.timeoutSeconds = timeoutSeconds;
+	}
+
+	/**
+	 * 트랜잭션마다 처음 한 번만 적용한다.
+	 */
+	void applyToCurrentTransaction() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()
+			|| TransactionSynchronizationManager.hasResource(this)
+			|| !isMySql()) {
+			return;
+		}
+
+		jdbcTemplate.execute("set session innodb_lock_wait_timeout = " + timeoutSeconds);
+		TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void beforeCompletion() {
+				try {
+					jdbcTemplate.execute("set session innodb_lock_wait_timeout = default");
+				} catch (RuntimeException e) {
+					log.warn("[LOCK-WAIT] failed to reset innodb_lock_wait_timeout", e);
+				}
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(LockWaitTimeout.this);
+			}
+		});
+	}
+
+	private boolean isMySql() {
+		Boolean cached = mySql;
+		if (cached == null) {
+			String productName = jdbcTemplate.execute(
+				(ConnectionCallback<String>)con -> con.getMetaData().getDatabaseProductName()
+			);
+			cached = "MySQL".equalsIgnoreCase(productName);
+			mySql = cached;
+		}
+		return cached;
+	}
+}
@@ -1,14 +1,19 @@
 package com.reservation.tablereservationservice.infrastructure.reservation.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.reservation.tablereservationservice.domain.reservation.OwnerReservationRow;
 import com.reservation.tablereservationservice.domain.reservation.ReservationStatus;
 import com.reservation.tablereservationservice.infrastructure.reservation.entity.ReservationEntity;
 
@@ -16,6 +21,14 @@ public interface ReservationEntityRepository extends JpaRepository<ReservationEn
 
 	boolean existsByUserIdAndVisitAtAndStatus(Long userId, LocalDateTime visitAt, ReservationStatus status);
 
+	boolean existsByUserIdAndVisitAtInAndStatus(
+		Long userId,
+		Collection<LocalDateTime> visitAts,
+		ReservationStatus status
+	);
+
+	Optional<ReservationEntity> findByUserIdAndRequestId(Long userId, String requestId);
+
 	Page<ReservationEntity> findByUserIdAndVisitAtGreaterThanEqualAndVisitAtLessThan(
 		Long userId,
 		LocalDateTime from,
@@ -31,20 +44,108 @@ public interface ReservationEntityRepository extends JpaRepository<ReservationEn
 		Pageable pageable
 	);
 
+	// 점주 대시보드: 엔티티를 만들지 않고 목록에 필요한 컬럼만 한 번에 읽는다.
+	// reservation.restaurant_id 로 바로 거르므로 (restaurant_id, visit_at, reservation_id) 인덱스 range scan 이 된다.
+	// Slice 반환이므로 COUNT 없이 size + 1 건을 읽어 다음 페이지 여부만 판단한다.
 	@Query("""
-			select r
+			select new com.reservation.tablereservationservice.domain.reservation.OwnerReservationRow(
+			  r.reservationId, r.visitAt, r.partySize, r.note, r.status,
+			  rt.restaurantId, rt.name, u.name, u.phone)
 			from ReservationEntity r
-			join RestaurantSlotEntity s on s.slotId = r.slotId
-			where s.restaurantId in :restaurantIds
+			join RestaurantEntity rt on rt.restaurantId = r.restaurantId
+			join UserEntity u on u.userId = r.userId
+			where rt.ownerId = :ownerId
 			  and (:status is null or r.status = :status)
 			  and r.visitAt >= :from
 			  and r.visitAt < :to
 		""")
-	Page<ReservationEntity> findOwnerReservations(
-		@Param("restaurantIds") List<Long> restaurantIds,
+	Slice<OwnerReservationRow> findOwnerReservationRows(
+		@Param("ownerId") Long ownerId,
 		@Param("status") ReservationStatus status,
 		@Param("from") LocalDateTime from,
 		@Param("to") LocalDateTime to,
 		Pageable pageable
 	);
+
+	// (visitAt, reservationId) 가 cursor 보다 앞선 row 부터 인덱스를 따라 읽는다. List 반환이므로 COUNT 가 없다.
+	@Query("""
+			select r
+			from ReservationEntity r
+			where r.userId = :userId
+			  and (:status is null or r.status = :status)
+			  and r.visitAt >= :from
+			  and r.visitAt < :to
+			  and (:cursorVisitAt is null
+			    or r.visitAt < :cursorVisitAt
+			    or (r.visitAt = :cursorVisitAt and r.reservationId < :cursorId))
+			order by r.visitAt desc, r.reservationId desc
+		""")
+	List<ReservationEntity> findMyReservationsAfter(
+		@Param("userId") Long userId,
+		@Param("status") ReservationStatus status,
+		@Param("from") LocalDateTime from,
+		@Param("to") LocalDateTime to,
+		@Param("cursorVisitAt") LocalDateTime cursorVisitAt,
+		@Param("cursorId") Long cursorId,
+		Pageable limit
+	);
+
+	@Query("""
+			select new com.reservation.tablereservationservice.domain.reservation.OwnerReservationRow(
+			  r.reservationId, r.visitAt, r.partySize, r.note, r.status,
+			  rt.restaurantId, rt.name, u.name, u.phone)
+			from ReservationEntity r
+			join RestaurantEntity rt on rt.restaurantId = r.restaurantId
+			join UserEntity u on u.userId = r.userId
+			where rt.ownerId = :ownerId
+			  and (:status is null or r.status = :status)
+			  and r.visitAt >= :from
+			  and r.visitAt < :to
+			  and (:cursorVisitAt is null
+			    or r.visitAt < :cursorVisitAt
+			    or (r.visitAt = :cursorVisitAt and r.reservationId < :cursorId))
+			order by r.visitAt desc, r.reservationId desc
+		""")
+	List<OwnerReservationRow> findOwnerReservationRowsAfter(
+		@Param("ownerId") Long ownerId,
+		@Param("status") ReservationStatus status,
+		@Param("from") LocalDateTime from,
+		@Param("to") LocalDateTime to,
+		@Param("cursorVisitAt") LocalDateTime cursorVisitAt,
+		@Param("cursorId") Long cursorId,
+		Pageable limit
+	);
+
+	@Query("""
+			select coalesce(sum(r.partySize), 0)
+			from ReservationEntity r
+			where r.slotId = :slotId
+			  and r.status = :status
+			  and r.visitAt >= :from
+			  and r.visitAt < :to
+		""")
+	long sumPartySize(
+		@Param("slotId") Long slotId,
+		@Param("status") ReservationStatus status,
+		@Param("from") LocalDateTime from,
+		@Param("to") LocalDateTime to
+	);
+
+	boolean existsByRestaurantIdIsNull();
+
+	@Query("select coalesce(max(r.reservationId), 0) from ReservationEntity r")
+	long findMaxReservationId();
+
+	/**
+	 * (fromId, toId] 구간에서 restaurant_id 가 비어 있는 row 를 restaurant_slot 값으로 채운다.
+	 */
+	@Modifying
+	@Query("""
+			update ReservationEntity r
+			set r.restaurantId = (select s.restaurantId from RestaurantSlotEntity s where s.slotId = r.slotId)
+			where r.restaurantId is null
+			  and r.reservationId > :fromId
+			  and r.reservationId <= :toId
+		""")
+	int backfillRestaurantId(@Param("fromId") long fromId, @Param("toId") long toId);
 }
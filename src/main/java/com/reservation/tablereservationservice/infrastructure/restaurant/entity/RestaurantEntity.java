@@ -11,6 +11,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,7 +19,7 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "restaurant")
+@Table(name = "restaurant", indexes = @Index(name = "idx_owner_id", columnList = "owner_id"))
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 public class RestaurantEntity extends BaseTimeEntity {
 
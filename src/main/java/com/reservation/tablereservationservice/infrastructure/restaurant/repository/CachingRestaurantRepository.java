@@ -0,0 +1,105 @@
+package com.reservation.tablereservationservice.infrastructure.restaurant.repository;
+
+import static java.util.stream.Collectors.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reservation.tablereservationservice.domain.restaurant.Restaurant;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 식당 메타데이터를 restaurantId 로 캐시한다. (CachingRestaurantSlotRepository 와 같은 정책)
+ * 점주별 목록(findAllByOwnerId)은 식당 추가 시 무효화 범위가 달라 캐시하지 않는다.
+ */
+@Slf4j
+@Primary
+@Repository
+public class CachingRestaurantRepository implements RestaurantRepository {
+
+	private final JpaRestaurantRepository delegate;
+	private final Cache<Long, Restaurant> cache;
+	private final int maximumSize;
+	private final boolean warmUp;
+
+	public CachingRestaurantRepository(
+		JpaRestaurantRepository delegate,
+		MeterRegistry meterRegistry,
+		@Value("${reservation.cache.restaurant.maximum-size}") int maximumSize,
+		@Value("${reservation.cache.restaurant.ttl-minutes}") long ttlMinutes,
+		@Value("${reservation.cache.warm-up}") boolean warmUp
+	) {
+		this.delegate = delegate;
+		this.maximumSize = maximumSize;
+		this.warmUp = warmUp;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+			.recordStats()
+			.build();
+
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "restaurant");
+	}
+
+	@Override
+	public Optional<Restaurant> findById(Long restaurantId) {
+		return Optional.ofNullable(cache.get(restaurantId, id -> delegate.findById(id).orElse(null)));
+	}
+
+	@Override
+	public List<Restaurant> findAllByOwnerId(Long ownerId) {
+		return delegate.findAllByOwnerId(ownerId);
+	}
+
+	@Override
+	public List<Restaurant> findAllById(List<Long> restaurantIds) {
+		return new ArrayList<>(cache.getAll(restaurantIds, missing ->
+			delegate.findAllById(List.copyOf(missing)).stream()
+				.collect(toMap(Restaurant::getRestaurantId, Function.identity()))
+		).values());
+	}
+
+	@Override
+	public Restaurant save(Restaurant restaurant) {
+		Restaurant saved = delegate.save(restaurant);
+		cache.invalidate(saved.getRestaurantId());
+		return saved;
+	}
+
+	@Override
+	public void deleteAll() {
+		delegate.deleteAll();
+		cache.invalidateAll();
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		if (!warmUp) {
+			return;
+		}
+
+		List<Restaurant> restaurants = delegate.findAll(maximumSize);
+		restaurants.forEach(restaurant -> cache.put(restaurant.getRestaurantId(), restaurant));
+
+		log.info("[CACHE] restaurant warmed up ({} entries)", restaurants.size());
+	}
+
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+}
@@ -0,0 +1,113 @@
+package com.reservation.tablereservationservice.infrastructure.restaurant.repository;
+
+import static java.util.stream.Collectors.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlot;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlotRepository;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.RestaurantException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 슬롯 메타데이터(거의 바뀌지 않음)를 로컬에 두는 read-through 캐시
+ * - 크기/TTL 로 제거되며, 이 인스턴스의 save/deleteAll 은 즉시 무효화한다.
+ * - 다른 인스턴스에서 바뀐 값은 TTL 이 지나야 반영된다.
+ * - 없는 slotId 는 캐시하지 않는다.
+ */
+@Slf4j
+@Primary
+@Repository
+public class CachingRestaurantSlotRepository implements RestaurantSlotRepository {
+
+	private final JpaRestaurantSlotRepository delegate;
+	private final Cache<Long, RestaurantSlot> cache;
+	private final int maximumSize;
+	private final boolean warmUp;
+
+	public CachingRestaurantSlotRepository(
+		JpaRestaurantSlotRepository delegate,
+		MeterRegistry meterRegistry,
+		@Value("${reservation.cache.slot.maximum-size}") int maximumSize,
+		@Value("${reservation.cache.slot.ttl-minutes}") long ttlMinutes,
+		@Value("${reservation.cache.warm-up}") boolean warmUp
+	) {
+		this.delegate = delegate;
+		this.maximumSize = maximumSize;
+		this.warmUp = warmUp;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+			.recordStats()
+			.build();
+
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "restaurantSlot");
+	}
+
+	@Override
+	public Optional<RestaurantSlot> findById(Long slotId) {
+		return Optional.ofNullable(cache.get(slotId, id -> delegate.findById(id).orElse(null)));
+	}
+
+	@Override
+	public RestaurantSlot save(RestaurantSlot restaurantSlot) {
+		RestaurantSlot saved = delegate.save(restaurantSlot);
+		cache.invalidate(saved.getSlotId());
+		return saved;
+	}
+
+	@Override
+	public RestaurantSlot fetchById(Long slotId) {
+		return findById(slotId)
+			.orElseThrow(() -> new RestaurantException(ErrorCode.RESOURCE_NOT_FOUND, "Restaurant"));
+	}
+
+	/**
+	 * 캐시에 없는 id 만 IN 조회 한 번으로 채운다.
+	 */
+	@Override
+	public List<RestaurantSlot> findAllById(List<Long> slotIds) {
+		return new ArrayList<>(cache.getAll(slotIds, missing ->
+			delegate.findAllById(List.copyOf(missing)).stream()
+				.collect(toMap(RestaurantSlot::getSlotId, Function.identity()))
+		).values());
+	}
+
+	@Override
+	public void deleteAll() {
+		delegate.deleteAll();
+		cache.invalidateAll();
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		if (!warmUp) {
+			return;
+		}
+
+		List<RestaurantSlot> slots = delegate.findAll(maximumSize);
+		slots.forEach(slot -> cache.put(slot.getSlotId(), slot));
+
+		log.info("[CACHE] restaurantSlot warmed up ({} entries)", slots.size());
+	}
+
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+}
@@ -3,6 +3,8 @@ package com.reservation.tablereservationservice.infrastructure.restaurant.reposi
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
 import com.reservation.tablereservationservice.domain.restaurant.Restaurant;
@@ -46,6 +48,16 @@ public class JpaRestaurantRepository implements RestaurantRepository {
 		return RestaurantMapper.INSTANCE.toDomain(saved);
 	}
 
+	/**
+	 * 캐시 warm-up 용: restaurantId 순으로 최대 limit 건
+	 */
+	public List<Restaurant> findAll(int limit) {
+		return restaurantEntityRepository.findAll(PageRequest.of(0, limit, Sort.by("restaurantId")))
+			.stream()
+			.map(RestaurantMapper.INSTANCE::toDomain)
+			.toList();
+	}
+
 	@Override
 	public void deleteAll() {
 		restaurantEntityRepository.deleteAll();
@@ -3,6 +3,8 @@ package com.reservation.tablereservationservice.infrastructure.restaurant.reposi
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
 import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlot;
@@ -49,6 +51,16 @@ public class JpaRestaurantSlotRepository implements RestaurantSlotRepository {
 			.toList();
 	}
 
+	/**
+	 * 캐시 warm-up 용: slotId 순으로 최대 limit 건
+	 */
+	public List<RestaurantSlot> findAll(int limit) {
+		return restaurantSlotEntityRepository.findAll(PageRequest.of(0, limit, Sort.by("slotId")))
+			.stream()
+			.map(RestaurantMapper.INSTANCE::toDomain)
+			.toList();
+	}
+
 	@Override
 	public void deleteAll() {
 		restaurantSlotEntityRepository.deleteAll();
@@ -3,6 +3,7 @@ package com.reservation.tablereservationservice.presentation.common;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -11,21 +12,35 @@ import lombok.Getter;
 @AllArgsConstructor
 public class PageResponseDto<T> {
 
+	// keyset 페이지는 COUNT 를 하지 않으므로 전체 건수/페이지 수를 알 수 없다.
+	private static final int UNKNOWN = -1;
+
 	private List<T> content;
 	private int page;
 	private int size;
 	private long totalElements;
 	private int totalPages;
 	private boolean hasNext;
+	private String nextCursor;
 
 	public static <T> PageResponseDto<T> from(Page<T> page) {
+		return from(page, null);
+	}
+
+	/**
+	 * @param nextCursor 다음 페이지를 keyset 으로 이어 받을 cursor (없으면 null)
+	 */
+	public static <T> PageResponseDto<T> from(Slice<T> slice, String nextCursor) {
+		Page<T> page = slice instanceof Page<T> counted ? counted : null;
+
 		return new PageResponseDto<>(
-			page.getContent(),
-			page.getNumber(),
-			page.getSize(),
-			page.getTotalElements(),
-			page.getTotalPages(),
-			page.hasNext()
+			slice.getContent(),
+			slice.getNumber(),
+			slice.getSize(),
+			page != null ? page.getTotalElements() : UNKNOWN,
+			page != null ? page.getTotalPages() : UNKNOWN,
+			slice.hasNext(),
+			nextCursor
 		);
 	}
 }
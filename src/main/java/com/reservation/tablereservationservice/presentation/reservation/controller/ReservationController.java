@@ -1,9 +1,18 @@
 package com.reservation.tablereservationservice.presentation.reservation.controller;
 
+import java.io.IOException;
+import java.util.List;
+
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -11,10 +20,26 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.reservation.tablereservationservice.application.reservation.export.ExportFormat;
+import com.reservation.tablereservationservice.application.reservation.export.ReservationExportService;
+import com.reservation.tablereservationservice.application.reservation.facade.ReservationAdaptiveFacade;
+import com.reservation.tablereservationservice.application.reservation.facade.ReservationIdempotentFacade;
+import com.reservation.tablereservationservice.application.reservation.facade.ReservationMailboxFacade;
 import com.reservation.tablereservationservice.application.reservation.facade.ReservationOptimisticFacade;
+import com.reservation.tablereservationservice.application.reservation.hold.SeatHold;
+import com.reservation.tablereservationservice.application.reservation.hold.SeatHoldService;
 import com.reservation.tablereservationservice.application.reservation.service.ReservationService;
+import com.reservation.tablereservationservice.application.reservation.waiting.ReservationAsyncAcceptor;
+import com.reservation.tablereservationservice.application.reservation.waiting.ReservationInFlightLimiter;
+import com.reservation.tablereservationservice.application.reservation.waiting.WaitingRoom;
+import com.reservation.tablereservationservice.application.reservation.waiting.WaitingTicket;
+import com.reservation.tablereservationservice.application.reservation.waiting.WaitingTicketStore;
 import com.reservation.tablereservationservice.domain.reservation.Reservation;
 import com.reservation.tablereservationservice.global.annotation.CustomerOnly;
 import com.reservation.tablereservationservice.global.annotation.LoginUser;
@@ -23,10 +48,13 @@ import com.reservation.tablereservationservice.global.common.CurrentUser;
 import com.reservation.tablereservationservice.global.request.RequestSequenceGenerator;
 import com.reservation.tablereservationservice.presentation.common.ApiResponse;
 import com.reservation.tablereservationservice.presentation.common.PageResponseDto;
+import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationBatchRequestDto;
 import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationListResponseDto;
 import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationRequestDto;
 import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationResponseDto;
 import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationSearchDto;
+import com.reservation.tablereservationservice.presentation.reservation.dto.SeatHoldResponseDto;
+import com.reservation.tablereservationservice.presentation.reservation.dto.WaitingTicketResponseDto;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -36,9 +64,20 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/reservations")
 public class ReservationController {
 
+	private static final long TICKET_STREAM_TIMEOUT_MS = 30_000L;
+
 	private final ReservationService reservationService;
 	private final ReservationOptimisticFacade reservationOptimisticFacade;
+	private final ReservationMailboxFacade reservationMailboxFacade;
+	private final ReservationAdaptiveFacade reservationAdaptiveFacade;
+	private final ReservationIdempotentFacade reservationIdempotentFacade;
 	private final RequestSequenceGenerator sequenceGenerator;
+	private final SeatHoldService seatHoldService;
+	private final WaitingRoom waitingRoom;
+	private final WaitingTicketStore ticketStore;
+	private final ReservationAsyncAcceptor reservationAsyncAcceptor;
+	private final ReservationInFlightLimiter inFlightLimiter;
+	private final ReservationExportService reservationExportService;
 
 	@CustomerOnly
 	@PostMapping
@@ -46,12 +85,132 @@ public class ReservationController {
 		@Valid @RequestBody ReservationRequestDto requestDto,
 		@LoginUser CurrentUser user
 	) {
-		Reservation reservation = reservationService.create(user.email(), requestDto);
+		// 대기열/비동기 접수와 같은 in-flight 상한 안에서만 처리한다.
+		Reservation reservation = inFlightLimiter.call(
+			() -> reservationIdempotentFacade.create(user.userId(), requestDto)
+		);
 		ReservationResponseDto responseDto = ReservationResponseDto.from(reservation);
 
 		return ApiResponse.success("예약 요청 성공", responseDto);
 	}
 
+	/**
+	 * Prefer: respond-async 요청은 검증 후 바로 202 와 대기표를 돌려주고, 결과는 /tickets/{ticketId} 로 조회한다.
+	 */
+	@CustomerOnly
+	@ResponseStatus(HttpStatus.ACCEPTED)
+	@PostMapping(headers = "Prefer=respond-async")
+	public ApiResponse<WaitingTicketResponseDto> createAsync(
+		@Valid @RequestBody ReservationRequestDto requestDto,
+		@LoginUser CurrentUser user
+	) {
+		WaitingTicket ticket = reservationAsyncAcceptor.accept(user.userId(), requestDto);
+		WaitingTicketResponseDto responseDto = WaitingTicketResponseDto.from(ticket);
+
+		return ApiResponse.success(HttpStatus.ACCEPTED, "예약 접수 성공", responseDto);
+	}
+
+	@CustomerOnly
+	@GetMapping("/tickets/{ticketId}")
+	public ApiResponse<WaitingTicketResponseDto> getTicket(@PathVariable String ticketId, @LoginUser CurrentUser user) {
+		WaitingTicket ticket = ticketStore.fetch(user.userId(), ticketId);
+		WaitingTicketResponseDto responseDto = WaitingTicketResponseDto.from(ticket);
+
+		return ApiResponse.success("예약 처리 상태 조회 성공", responseDto);
+	}
+
+	/**
+	 * 처리가 끝나면 result 이벤트 한 번을 보내고 스트림을 닫는다.
+	 */
+	@CustomerOnly
+	@GetMapping(value = "/tickets/{ticketId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamTicket(@PathVariable String ticketId, @LoginUser CurrentUser user) {
+		WaitingTicket ticket = ticketStore.fetch(user.userId(), ticketId);
+		SseEmitter emitter = new SseEmitter(TICKET_STREAM_TIMEOUT_MS);
+
+		ticket.whenFinished(finished -> {
+			try {
+				emitter.send(SseEmitter.event()
+					.name("result")
+					.data(ApiResponse.success("예약 처리 완료", WaitingTicketResponseDto.from(finished))));
+				emitter.complete();
+			} catch (IOException | IllegalStateException e) {
+				emitter.completeWithError(e);
+			}
+		});
+
+		return emitter;
+	}
+
+	@CustomerOnly
+	@PostMapping("/batch")
+	public ApiResponse<List<ReservationResponseDto>> createAll(
+		@Valid @RequestBody ReservationBatchRequestDto requestDto,
+		@LoginUser CurrentUser user
+	) {
+		List<Reservation> reservations = inFlightLimiter.call(
+			() -> reservationOptimisticFacade.createAll(user.userId(), requestDto.getItems())
+		);
+		List<ReservationResponseDto> responseDto = reservations.stream()
+			.map(ReservationResponseDto::from)
+			.toList();
+
+		return ApiResponse.success("일괄 예약 요청 성공", responseDto);
+	}
+
+	@CustomerOnly
+	@PostMapping("/waiting-room")
+	public ApiResponse<WaitingTicketResponseDto> enterWaitingRoom(
+		@Valid @RequestBody ReservationRequestDto requestDto,
+		@LoginUser CurrentUser user
+	) {
+		WaitingTicket ticket = waitingRoom.enter(user.userId(), requestDto);
+		WaitingTicketResponseDto responseDto = WaitingTicketResponseDto.of(ticket, waitingRoom.positionOf(ticket));
+
+		return ApiResponse.success("대기열 등록 성공", responseDto);
+	}
+
+	@CustomerOnly
+	@GetMapping("/waiting-room/{token}")
+	public ApiResponse<WaitingTicketResponseDto> getWaitingTicket(
+		@PathVariable String token,
+		@LoginUser CurrentUser user
+	) {
+		WaitingTicket ticket = ticketStore.fetch(user.userId(), token);
+		WaitingTicketResponseDto responseDto = WaitingTicketResponseDto.of(ticket, waitingRoom.positionOf(ticket));
+
+		return ApiResponse.success("대기 상태 조회 성공", responseDto);
+	}
+
+	@CustomerOnly
+	@PostMapping("/holds")
+	public ApiResponse<SeatHoldResponseDto> hold(
+		@Valid @RequestBody ReservationRequestDto requestDto,
+		@LoginUser CurrentUser user
+	) {
+		SeatHold hold = inFlightLimiter.call(() -> seatHoldService.hold(user.userId(), requestDto));
+		SeatHoldResponseDto responseDto = SeatHoldResponseDto.from(hold);
+
+		return ApiResponse.success("좌석 선점 성공", responseDto);
+	}
+
+	@CustomerOnly
+	@PostMapping("/holds/{holdId}/confirm")
+	public ApiResponse<ReservationResponseDto> confirmHold(@PathVariable String holdId, @LoginUser CurrentUser user) {
+		Reservation reservation = seatHoldService.confirm(user.userId(), holdId);
+		ReservationResponseDto responseDto = ReservationResponseDto.from(reservation);
+
+		return ApiResponse.success("예약 확정 성공", responseDto);
+	}
+
+	@CustomerOnly
+	@DeleteMapping("/holds/{holdId}")
+	public ApiResponse<Void> cancelHold(@PathVariable String holdId, @LoginUser CurrentUser user) {
+		seatHoldService.cancel(user.userId(), holdId);
+
+		return ApiResponse.success("좌석 선점 해제 성공");
+	}
+
 	@PostMapping("/test")
 	public ApiResponse<ReservationResponseDto> create_test(
 		@Valid @RequestBody ReservationRequestDto requestDto,
@@ -66,6 +225,34 @@ public class ReservationController {
 		return ApiResponse.success("예약 요청 성공", responseDto);
 	}
 
+	@PostMapping("/test/mailbox")
+	public ApiResponse<ReservationResponseDto> create_test_mailbox(
+		@Valid @RequestBody ReservationRequestDto requestDto,
+		@RequestHeader("X-User-Email") String email
+	) {
+
+		long serverReceivedSeq = sequenceGenerator.next();
+
+		Reservation reservation = reservationMailboxFacade.create(email, requestDto, serverReceivedSeq);
+		ReservationResponseDto responseDto = ReservationResponseDto.from(reservation);
+
+		return ApiResponse.success("예약 요청 성공", responseDto);
+	}
+
+	@PostMapping("/test/adaptive")
+	public ApiResponse<ReservationResponseDto> create_test_adaptive(
+		@Valid @RequestBody ReservationRequestDto requestDto,
+		@RequestHeader("X-User-Email") String email
+	) {
+
+		long serverReceivedSeq = sequenceGenerator.next();
+
+		Reservation reservation = reservationAdaptiveFacade.create(email, requestDto, serverReceivedSeq);
+		ReservationResponseDto responseDto = ReservationResponseDto.from(reservation);
+
+		return ApiResponse.success("예약 요청 성공", responseDto);
+	}
+
 	@CustomerOnly
 	@GetMapping("/me")
 	public ApiResponse<PageResponseDto<ReservationListResponseDto>> findMyReservations(
@@ -76,7 +263,7 @@ public class ReservationController {
 
 		searchDto.setPageable(pageable);
 		PageResponseDto<ReservationListResponseDto> responseDto = reservationService.findMyReservations(
-			user.email(),
+			user.userId(),
 			searchDto
 		);
 
@@ -93,7 +280,7 @@ public class ReservationController {
 
 		searchDto.setPageable(pageable);
 		PageResponseDto<ReservationListResponseDto> responseDto = reservationService.findOwnerReservations(
-			user.email(),
+			user.userId(),
 			searchDto
 		);
 
@@ -101,10 +288,35 @@ public class ReservationController {
 
 	}
 
+	/**
+	 * 기간 내 예약을 한 줄씩 내려준다. (format: ndjson | csv, 페이지/COUNT 없음)
+	 */
+	@OwnerOnly
+	@GetMapping("/owner/export")
+	public ResponseEntity<StreamingResponseBody> exportOwnerReservations(
+		@ModelAttribute ReservationSearchDto searchDto,
+		@RequestParam(defaultValue = "ndjson") String format,
+		@LoginUser CurrentUser user
+	) {
+		ExportFormat exportFormat = ExportFormat.from(format);
+		reservationExportService.validate(searchDto);
+
+		StreamingResponseBody body = out ->
+			reservationExportService.export(user.userId(), searchDto, exportFormat, out);
+
+		return ResponseEntity.ok()
+			.contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+			.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+				.filename("reservations." + exportFormat.getExtension())
+				.build()
+				.toString())
+			.body(body);
+	}
+
 	@CustomerOnly
 	@PostMapping("/{reservationId}/cancel")
 	public ApiResponse<ReservationResponseDto> cancel(@PathVariable Long reservationId, @LoginUser CurrentUser user) {
-		Reservation reservation = reservationService.cancel(user.email(), reservationId);
+		Reservation reservation = reservationService.cancel(user.userId(), reservationId);
 		ReservationResponseDto responseDto = ReservationResponseDto.from(reservation);
 
 		return ApiResponse.success("예약 취소 성공", responseDto);
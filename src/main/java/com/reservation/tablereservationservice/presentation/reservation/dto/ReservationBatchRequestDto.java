@@ -0,0 +1,20 @@
+package com.reservation.tablereservationservice.presentation.reservation.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationBatchRequestDto {
+
+	@NotEmpty(message = "예약 항목은 1건 이상이어야 합니다.")
+	@Size(max = 20, message = "한 번에 최대 20건까지 예약할 수 있습니다.")
+	private List<@Valid ReservationRequestDto> items;
+}
@@ -2,6 +2,7 @@ package com.reservation.tablereservationservice.presentation.reservation.dto;
 
 import java.time.LocalDateTime;
 
+import com.reservation.tablereservationservice.domain.reservation.OwnerReservationRow;
 import com.reservation.tablereservationservice.domain.reservation.Reservation;
 import com.reservation.tablereservationservice.domain.reservation.ReservationStatus;
 import com.reservation.tablereservationservice.domain.restaurant.Restaurant;
@@ -57,4 +58,18 @@ public class ReservationListResponseDto {
 			.status(reservation.getStatus())
 			.build();
 	}
+
+	public static ReservationListResponseDto from(OwnerReservationRow row) {
+		return ReservationListResponseDto.builder()
+			.userName(row.userName())
+			.userPhone(row.userPhone())
+			.note(row.note())
+			.reservationId(row.reservationId())
+			.restaurantId(row.restaurantId())
+			.restaurantName(row.restaurantName())
+			.visitAt(row.visitAt())
+			.partySize(row.partySize())
+			.status(row.status())
+			.build();
+	}
 }
@@ -16,6 +16,11 @@ public class ReservationSearchDto {
 	private LocalDate toDate;
 	private ReservationStatus status;
 
+	/**
+	 * 이전 응답의 nextCursor (있으면 page 번호 대신 keyset 으로 이어서 조회)
+	 */
+	private String cursor;
+
 	private Pageable pageable;
 
 	/**
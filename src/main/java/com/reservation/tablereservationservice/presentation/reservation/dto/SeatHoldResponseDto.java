@@ -0,0 +1,40 @@
+package com.reservation.tablereservationservice.presentation.reservation.dto;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import com.reservation.tablereservationservice.application.reservation.hold.SeatHold;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class SeatHoldResponseDto {
+
+	private String holdId;
+	private Long slotId;
+	private Integer partySize;
+	private LocalDateTime visitAt;
+	private LocalDateTime expiresAt;
+
+	@Builder
+	public SeatHoldResponseDto(String holdId, Long slotId, Integer partySize, LocalDateTime visitAt,
+		LocalDateTime expiresAt) {
+		this.holdId = holdId;
+		this.slotId = slotId;
+		this.partySize = partySize;
+		this.visitAt = visitAt;
+		this.expiresAt = expiresAt;
+	}
+
+	public static SeatHoldResponseDto from(SeatHold hold) {
+		return SeatHoldResponseDto.builder()
+			.holdId(hold.holdId())
+			.slotId(hold.draft().getSlotId())
+			.partySize(hold.draft().getPartySize())
+			.visitAt(hold.draft().getVisitAt())
+			.expiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(hold.expiresAtMillis()), ZoneId.systemDefault()))
+			.build();
+	}
+}
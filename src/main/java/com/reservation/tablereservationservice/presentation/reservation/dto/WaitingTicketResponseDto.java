@@ -0,0 +1,51 @@
+package com.reservation.tablereservationservice.presentation.reservation.dto;
+
+import com.reservation.tablereservationservice.application.reservation.waiting.WaitingStatus;
+import com.reservation.tablereservationservice.application.reservation.waiting.WaitingTicket;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class WaitingTicketResponseDto {
+
+	private String token;
+	private WaitingStatus status;
+	private long position;
+	private ReservationResponseDto reservation;
+	private String errorCode;
+	private String errorMessage;
+
+	@Builder
+	public WaitingTicketResponseDto(String token, WaitingStatus status, long position,
+		ReservationResponseDto reservation, String errorCode, String errorMessage) {
+		this.token = token;
+		this.status = status;
+		this.position = position;
+		this.reservation = reservation;
+		this.errorCode = errorCode;
+		this.errorMessage = errorMessage;
+	}
+
+	public static WaitingTicketResponseDto from(WaitingTicket ticket) {
+		return of(ticket, 0);
+	}
+
+	public static WaitingTicketResponseDto of(WaitingTicket ticket, long position) {
+		WaitingTicketResponseDtoBuilder builder = WaitingTicketResponseDto.builder()
+			.token(ticket.getToken())
+			.status(ticket.getStatus())
+			.position(position);
+
+		if (ticket.getReservation() != null) {
+			builder.reservation(ReservationResponseDto.from(ticket.getReservation()));
+		}
+
+		if (ticket.getErrorCode() != null) {
+			builder.errorCode(ticket.getErrorCode().name())
+				.errorMessage(ticket.getErrorCode().getMessage());
+		}
+
+		return builder.build();
+	}
+}
@@ -0,0 +1,41 @@
+package com.reservation.tablereservationservice.presentation.restaurant.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.reservation.tablereservationservice.application.reservation.availability.AvailabilitySnapshot;
+import com.reservation.tablereservationservice.presentation.common.ApiResponse;
+import com.reservation.tablereservationservice.presentation.restaurant.dto.SlotAvailabilityResponseDto;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/restaurants")
+public class RestaurantController {
+
+	private final AvailabilitySnapshot availabilitySnapshot;
+
+	/**
+	 * 슬롯별/날짜별 잔여 좌석 (메모리 스냅샷에서 응답하며 DB 를 조회하지 않는다)
+	 */
+	@GetMapping("/{restaurantId}/availability")
+	public ApiResponse<List<SlotAvailabilityResponseDto>> getAvailability(
+		@PathVariable Long restaurantId,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+	) {
+		List<SlotAvailabilityResponseDto> responseDto = availabilitySnapshot.find(restaurantId, from, to).stream()
+			.map(SlotAvailabilityResponseDto::from)
+			.toList();
+
+		return ApiResponse.success("예약 가능 현황 조회 성공", responseDto);
+	}
+}
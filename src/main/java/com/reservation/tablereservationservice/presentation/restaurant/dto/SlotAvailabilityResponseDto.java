@@ -0,0 +1,35 @@
+package com.reservation.tablereservationservice.presentation.restaurant.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.reservation.tablereservationservice.domain.reservation.SlotAvailability;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class SlotAvailabilityResponseDto {
+
+	private LocalDate date;
+	private Long slotId;
+	private LocalTime time;
+	private Integer remainingCount;
+
+	@Builder
+	public SlotAvailabilityResponseDto(LocalDate date, Long slotId, LocalTime time, Integer remainingCount) {
+		this.date = date;
+		this.slotId = slotId;
+		this.time = time;
+		this.remainingCount = remainingCount;
+	}
+
+	public static SlotAvailabilityResponseDto from(SlotAvailability availability) {
+		return SlotAvailabilityResponseDto.builder()
+			.date(availability.date())
+			.slotId(availability.slotId())
+			.time(availability.time())
+			.remainingCount(availability.remainingCount())
+			.build();
+	}
+}
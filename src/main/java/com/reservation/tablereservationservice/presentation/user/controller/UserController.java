@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.reservation.tablereservationservice.application.user.service.UserService;
 import com.reservation.tablereservationservice.domain.user.User;
+import com.reservation.tablereservationservice.global.common.CurrentUser;
 import com.reservation.tablereservationservice.presentation.common.ApiResponse;
 import com.reservation.tablereservationservice.presentation.user.dto.LoginRequestDto;
 import com.reservation.tablereservationservice.presentation.user.dto.LoginResponseDto;
@@ -43,8 +44,8 @@ public class UserController {
 
 	@GetMapping("/me")
 	public ApiResponse<LoginUserResponseDto> getLoginUser(Authentication authentication) {
-		String email = (String)authentication.getPrincipal();
-		LoginUserResponseDto responseDto = userService.getCurrentUser(email);
+		CurrentUser user = (CurrentUser)authentication.getPrincipal();
+		LoginUserResponseDto responseDto = userService.getCurrentUser(user.email());
 
 		return ApiResponse.success("사용자 정보 조회 성공", responseDto);
 	}
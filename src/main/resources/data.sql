@@ -39,20 +39,32 @@ VALUES
 SET @fcfs_date := CURDATE();
 SET @load_start_date := DATE_ADD(@fcfs_date, INTERVAL 1 DAY);
 
+-- daily_slot_capacity 는 TABLE(id_generator) id 를 쓰므로 id 를 직접 넣고,
+-- 애플리케이션이 발급할 id 가 겹치지 않도록 generator 값을 MAX(id) 뒤로 옮겨 둔다. (PooledIdGeneratorSeeder 와 같은 규칙)
+
 -- 정합성 테스트용 (Hot Row 1개, 수량 10개, version 초기값 0)
 INSERT INTO daily_slot_capacity
-(slot_id, date, remaining_count, version, created_at, modified_at)
+(capacity_id, slot_id, date, remaining_count, version, created_at, modified_at)
 VALUES
-(1, @fcfs_date, 10, 0, @now, @now);
+(1, 1, @fcfs_date, 10, 0, @now, @now);
 
 -- 지속 부하용 (7일치 생성, version 초기값 0)
 INSERT INTO daily_slot_capacity
-(slot_id, date, remaining_count, version, created_at, modified_at)
+(capacity_id, slot_id, date, remaining_count, version, created_at, modified_at)
 VALUES
-(1, DATE_ADD(@load_start_date, INTERVAL 0 DAY), 10, 0, @now, @now),
-(1, DATE_ADD(@load_start_date, INTERVAL 1 DAY), 10, 0, @now, @now),
-(1, DATE_ADD(@load_start_date, INTERVAL 2 DAY), 10, 0, @now, @now),
-(1, DATE_ADD(@load_start_date, INTERVAL 3 DAY), 10, 0, @now, @now),
-(1, DATE_ADD(@load_start_date, INTERVAL 4 DAY), 10, 0, @now, @now),
-(1, DATE_ADD(@load_start_date, INTERVAL 5 DAY), 10, 0, @now, @now),
-(1, DATE_ADD(@load_start_date, INTERVAL 6 DAY), 10, 0, @now, @now);
+(2, 1, DATE_ADD(@load_start_date, INTERVAL 0 DAY), 10, 0, @now, @now),
+(3, 1, DATE_ADD(@load_start_date, INTERVAL 1 DAY), 10, 0, @now, @now),
+(4, 1, DATE_ADD(@load_start_date, INTERVAL 2 DAY), 10, 0, @now, @now),
+(5, 1, DATE_ADD(@load_start_date, INTERVAL 3 DAY), 10, 0, @now, @now),
+(6, 1, DATE_ADD(@load_start_date, INTERVAL 4 DAY), 10, 0, @now, @now),
+(7, 1, DATE_ADD(@load_start_date, INTERVAL 5 DAY), 10, 0, @now, @now),
+(8, 1, DATE_ADD(@load_start_date, INTERVAL 6 DAY), 10, 0, @now, @now);
+
+-- pooled 는 읽은 값을 할당 구간(50)의 끝으로 쓰므로 MAX(id) + 50 + 1
+INSERT INTO id_generator (gen_name, next_val)
+SELECT 'daily_slot_capacity', COALESCE(MAX(capacity_id), 0) + 51 FROM daily_slot_capacity
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generator (gen_name, next_val)
+SELECT 'reservation', COALESCE(MAX(reservation_id), 0) + 51 FROM reservation
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
@@ -0,0 +1,144 @@
+package com.reservation.tablereservationservice.application.reservation.availability;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacityRepository;
+import com.reservation.tablereservationservice.domain.reservation.SlotAvailability;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantRepository;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlotRepository;
+import com.reservation.tablereservationservice.fixture.RestaurantFixture;
+import com.reservation.tablereservationservice.fixture.RestaurantSlotFixture;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilitySnapshotTest {
+
+	private static final Long RESTAURANT_ID = 100L;
+	private static final Long SLOT_ID = 10L;
+	private static final LocalDate TODAY = LocalDate.of(2030, 1, 1);
+	private static final LocalTime TIME = LocalTime.of(19, 0);
+
+	@Mock
+	private DailySlotCapacityRepository dailySlotCapacityRepository;
+
+	@Mock
+	private RestaurantRepository restaurantRepository;
+
+	@Mock
+	private RestaurantSlotRepository restaurantSlotRepository;
+
+	private AvailabilitySnapshot availabilitySnapshot;
+
+	@BeforeEach
+	void setUp() {
+		availabilitySnapshot = new AvailabilitySnapshot(dailySlotCapacityRepository, restaurantRepository,
+			restaurantSlotRepository, 100, 10, 60, 31, () -> TODAY);
+	}
+
+	@Test
+	@DisplayName("식당별로 처음 한 번만 DB 를 읽고, 이후 조회는 스냅샷에서 기간만 잘라 응답한다.")
+	void find_loadsOncePerRestaurant() {
+		// given
+		givenSnapshot(
+			new SlotAvailability(SLOT_ID, TIME, TODAY, 10),
+			new SlotAvailability(SLOT_ID, TIME, TODAY.plusDays(1), 4)
+		);
+
+		// when
+		List<SlotAvailability> first = availabilitySnapshot.find(RESTAURANT_ID, TODAY, TODAY.plusDays(6));
+		List<SlotAvailability> second = availabilitySnapshot.find(RESTAURANT_ID, TODAY.plusDays(1), TODAY.plusDays(1));
+
+		// then
+		assertThat(first).extracting(SlotAvailability::remainingCount).containsExactly(10, 4);
+		assertThat(second).extracting(SlotAvailability::date).containsExactly(TODAY.plusDays(1));
+
+		then(dailySlotCapacityRepository).should(times(1))
+			.findAvailabilityByRestaurantId(RESTAURANT_ID, TODAY, TODAY.plusDays(59));
+	}
+
+	@Test
+	@DisplayName("예약/취소 변경분은 DB 조회 없이 스냅샷에 반영되고, 0 아래로 내려가지 않는다.")
+	void adjustAfterCommit_updatesLoadedSnapshot() {
+		// given
+		givenSnapshot(new SlotAvailability(SLOT_ID, TIME, TODAY, 10));
+		given(restaurantSlotRepository.findById(SLOT_ID))
+			.willReturn(Optional.of(RestaurantSlotFixture.slot().slotId(SLOT_ID).restaurantId(RESTAURANT_ID).build()));
+		availabilitySnapshot.find(RESTAURANT_ID, TODAY, TODAY);
+
+		// when
+		availabilitySnapshot.adjustAfterCommit(SLOT_ID, TODAY, -4);
+		availabilitySnapshot.adjustAfterCommit(SLOT_ID, TODAY, 2);
+
+		// then
+		assertThat(availabilitySnapshot.find(RESTAURANT_ID, TODAY, TODAY))
+			.extracting(SlotAvailability::remainingCount).containsExactly(8);
+
+		availabilitySnapshot.adjustAfterCommit(SLOT_ID, TODAY, -20);
+		assertThat(availabilitySnapshot.find(RESTAURANT_ID, TODAY, TODAY))
+			.extracting(SlotAvailability::remainingCount).containsExactly(0);
+
+		then(dailySlotCapacityRepository).should(times(1)).findAvailabilityByRestaurantId(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("reconcile 은 올라와 있는 식당의 스냅샷을 DB 값으로 다시 만든다.")
+	void reconcile_reloadsFromDb() {
+		// given
+		given(restaurantRepository.findById(RESTAURANT_ID))
+			.willReturn(Optional.of(RestaurantFixture.restaurant().restaurantId(RESTAURANT_ID).build()));
+		given(dailySlotCapacityRepository.findAvailabilityByRestaurantId(RESTAURANT_ID, TODAY, TODAY.plusDays(59)))
+			.willReturn(List.of(new SlotAvailability(SLOT_ID, TIME, TODAY, 10)))
+			.willReturn(List.of(
+				new SlotAvailability(SLOT_ID, TIME, TODAY, 3),
+				new SlotAvailability(SLOT_ID, TIME, TODAY.plusDays(1), 10)
+			));
+		availabilitySnapshot.find(RESTAURANT_ID, TODAY, TODAY);
+
+		// when
+		availabilitySnapshot.reconcile();
+
+		// then
+		assertThat(availabilitySnapshot.find(RESTAURANT_ID, TODAY, TODAY.plusDays(1)))
+			.extracting(SlotAvailability::remainingCount).containsExactly(3, 10);
+	}
+
+	@Test
+	@DisplayName("조회 기간이 뒤집혔거나, 너무 길거나, 조회 가능 기간을 벗어나면 INVALID_INPUT_VALUE")
+	void find_invalidRange() {
+		assertInvalid(TODAY.plusDays(1), TODAY);
+		assertInvalid(TODAY, TODAY.plusDays(31));
+		assertInvalid(TODAY.plusDays(60), TODAY.plusDays(61));
+		assertInvalid(TODAY.minusDays(7), TODAY.minusDays(1));
+
+		then(dailySlotCapacityRepository).shouldHaveNoInteractions();
+	}
+
+	private void givenSnapshot(SlotAvailability... slots) {
+		given(restaurantRepository.findById(RESTAURANT_ID))
+			.willReturn(Optional.of(RestaurantFixture.restaurant().restaurantId(RESTAURANT_ID).build()));
+		given(dailySlotCapacityRepository.findAvailabilityByRestaurantId(RESTAURANT_ID, TODAY, TODAY.plusDays(59)))
+			.willReturn(List.of(slots));
+	}
+
+	private void assertInvalid(LocalDate from, LocalDate to) {
+		assertThatThrownBy(() -> availabilitySnapshot.find(RESTAURANT_ID, from, to))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
+				.isEqualTo(ErrorCode.INVALID_INPUT_VALUE));
+	}
+}
@@ -0,0 +1,153 @@
+package com.reservation.tablereservationservice.application.reservation.concurrency.atomic;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacity;
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacityRepository;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlot;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlotRepository;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+
+@SpringBootTest(properties = "reservation.capacity.mode=atomic-update")
+@ActiveProfiles("test")
+class AtomicUpdateCapacityStrategyTest {
+
+	@Autowired
+	private AtomicUpdateCapacityStrategy capacityStrategy;
+
+	@Autowired
+	private DailySlotCapacityRepository dailySlotCapacityRepository;
+
+	@Autowired
+	private RestaurantSlotRepository restaurantSlotRepository;
+
+	private Long slotId;
+	private LocalDate date;
+
+	@BeforeEach
+	void setUp() {
+		dailySlotCapacityRepository.deleteAll();
+		restaurantSlotRepository.deleteAll();
+
+		date = LocalDate.now();
+
+		RestaurantSlot slot = restaurantSlotRepository.save(
+			RestaurantSlot.builder()
+				.restaurantId(1L)
+				.time(LocalTime.of(12, 0))
+				.maxCapacity(10)
+				.build()
+		);
+		slotId = slot.getSlotId();
+
+		dailySlotCapacityRepository.save(
+			DailySlotCapacity.builder()
+				.slotId(slotId)
+				.date(date)
+				.remainingCount(10)
+				.build()
+		);
+	}
+
+	@Test
+	@DisplayName("10명이 동시에 2명씩 예약하면 5명은 성공, 5명은 좌석부족이다. (atomic-update)")
+	void concurrency_test() throws InterruptedException {
+		int threadCount = 10;
+
+		ExecutorService pool = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch ready = new CountDownLatch(threadCount);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(threadCount);
+
+		Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+		AtomicInteger success = new AtomicInteger();
+		AtomicInteger notEnough = new AtomicInteger();
+
+		for (int i = 0; i < threadCount; i++) {
+			pool.submit(() -> {
+				try {
+					ready.countDown();
+					start.await();
+
+					capacityStrategy.decrease(slotId, date, 2);
+					success.incrementAndGet();
+
+				} catch (ReservationException e) {
+					if (e.getErrorCode() == ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH) {
+						notEnough.incrementAndGet();
+					} else {
+						errors.add(e);
+					}
+				} catch (Throwable t) {
+					errors.add(t);
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		ready.await();
+		start.countDown();
+		done.await();
+		pool.shutdown();
+
+		assertThat(errors).as("예상 못한 예외 목록").isEmpty();
+		assertThat(success.get()).isEqualTo(5);
+		assertThat(notEnough.get()).isEqualTo(5);
+
+		DailySlotCapacity result = dailySlotCapacityRepository.findBySlotIdAndDate(slotId, date).orElseThrow();
+		assertThat(result.getRemainingCount()).isEqualTo(0);
+	}
+
+	@Test
+	@DisplayName("좌석이 부족하면 차감되지 않고 좌석부족 예외가 발생한다.")
+	void decrease_notEnough() {
+		assertThatThrownBy(() -> capacityStrategy.decrease(slotId, date, 11))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> {
+				ReservationException re = (ReservationException)ex;
+				assertThat(re.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH);
+			});
+
+		DailySlotCapacity result = dailySlotCapacityRepository.findBySlotIdAndDate(slotId, date).orElseThrow();
+		assertThat(result.getRemainingCount()).isEqualTo(10);
+	}
+
+	@Test
+	@DisplayName("오픈되지 않은 날짜면 미오픈 예외가 발생한다.")
+	void decrease_notOpened() {
+		assertThatThrownBy(() -> capacityStrategy.decrease(slotId, date.plusDays(1), 1))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> {
+				ReservationException re = (ReservationException)ex;
+				assertThat(re.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_SLOT_NOT_OPENED);
+			});
+	}
+
+	@Test
+	@DisplayName("취소 시 차감한 좌석만큼 복구된다.")
+	void increase_restoresSeats() {
+		capacityStrategy.decrease(slotId, date, 4);
+		capacityStrategy.increase(slotId, date, 4);
+
+		DailySlotCapacity result = dailySlotCapacityRepository.findBySlotIdAndDate(slotId, date).orElseThrow();
+		assertThat(result.getRemainingCount()).isEqualTo(10);
+	}
+}
@@ -1,8 +1,10 @@
 package com.reservation.tablereservationservice.application.reservation.concurrency.cas;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
@@ -16,26 +18,58 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacity;
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacityRepository;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlot;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlotRepository;
 import com.reservation.tablereservationservice.global.exception.ErrorCode;
 import com.reservation.tablereservationservice.global.exception.ReservationException;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+	"reservation.capacity.mode=cas",
+	"reservation.capacity.cas.table-capacity=1024"
+})
 @ActiveProfiles("test")
 class AtomicCasCapacityStrategyTest {
 
 	@Autowired
 	private AtomicCasCapacityStrategy capacityStrategy;
 
+	@MockitoSpyBean
+	private DailySlotCapacityRepository dailySlotCapacityRepository;
+
+	@Autowired
+	private RestaurantSlotRepository restaurantSlotRepository;
+
 	private Long slotId;
 	private LocalDate date;
 
 	@BeforeEach
 	void setUp() {
 		capacityStrategy.clear();
-		slotId = 1L;
+		dailySlotCapacityRepository.deleteAll();
+		restaurantSlotRepository.deleteAll();
+
 		date = LocalDate.now();
-		capacityStrategy.init(slotId, date, 10);
+
+		RestaurantSlot slot = restaurantSlotRepository.save(
+			RestaurantSlot.builder()
+				.restaurantId(1L)
+				.time(LocalTime.of(12, 0))
+				.maxCapacity(10)
+				.build()
+		);
+		slotId = slot.getSlotId();
+
+		dailySlotCapacityRepository.save(
+			DailySlotCapacity.builder()
+				.slotId(slotId)
+				.date(date)
+				.remainingCount(10)
+				.build()
+		);
 	}
 
 	@Test
@@ -133,4 +167,165 @@ class AtomicCasCapacityStrategyTest {
 		assertThat(notEnough.get()).isEqualTo(5);
 		assertThat(capacityStrategy.getRemaining(slotId, date)).isEqualTo(0);
 	}
+
+	@Test
+	@DisplayName("캐시에 없는 key 는 동시에 요청해도 DB 에서 한 번만 읽어 채운다.")
+	void hydrate_onceUnderConcurrentMiss() throws InterruptedException {
+		int threadCount = 10;
+
+		ExecutorService pool = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch ready = new CountDownLatch(threadCount);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(threadCount);
+
+		for (int i = 0; i < threadCount; i++) {
+			pool.submit(() -> {
+				try {
+					ready.countDown();
+					start.await();
+					capacityStrategy.getRemaining(slotId, date);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		ready.await();
+		start.countDown();
+		done.await();
+		pool.shutdown();
+
+		verify(dailySlotCapacityRepository, times(1)).findBySlotIdAndDate(slotId, date);
+	}
+
+	@Test
+	@DisplayName("차감분은 flush 시 DB 에 반영되고, DB 가 바뀌면 reconcile 시 캐시가 DB 값으로 맞춰진다.")
+	void writeBack_andReconcile() {
+		// given
+		capacityStrategy.decrease(slotId, date, 3);
+
+		// when - write-back
+		capacityStrategy.flush();
+
+		// then
+		assertThat(dailySlotCapacityRepository.findBySlotIdAndDate(slotId, date).orElseThrow().getRemainingCount())
+			.isEqualTo(7);
+
+		// when - 다른 경로에서 좌석 2개 복구
+		dailySlotCapacityRepository.addRemainingCount(slotId, date, 2);
+		capacityStrategy.reconcile();
+
+		// then
+		assertThat(capacityStrategy.getRemaining(slotId, date)).isEqualTo(9);
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스가 먼저 좌석을 가져가 write-back 이 음수가 되면 DB 를 0 으로 맞추고 캐시도 DB 값으로 맞춘다.")
+	void writeBack_neverGoesNegative() {
+		// given - 이 인스턴스가 3석, 다른 인스턴스가 9석을 팔았다.
+		capacityStrategy.decrease(slotId, date, 3);
+		dailySlotCapacityRepository.addRemainingCount(slotId, date, -9);
+
+		// when
+		capacityStrategy.flush();
+
+		// then
+		assertThat(dailySlotCapacityRepository.findBySlotIdAndDate(slotId, date).orElseThrow().getRemainingCount())
+			.isZero();
+		assertThat(capacityStrategy.getRemaining(slotId, date)).isZero();
+	}
+
+	@Test
+	@DisplayName("지난 날짜의 key 는 reconcile 시 캐시에서 제거된다.")
+	void reconcile_evictsPastDate() {
+		// given
+		LocalDate yesterday = date.minusDays(1);
+		dailySlotCapacityRepository.save(
+			DailySlotCapacity.builder()
+				.slotId(slotId)
+				.date(yesterday)
+				.remainingCount(10)
+				.build()
+		);
+		capacityStrategy.getRemaining(slotId, yesterday);
+
+		// when
+		capacityStrategy.reconcile();
+		capacityStrategy.getRemaining(slotId, yesterday);
+
+		// then - 제거되었으므로 다시 DB 에서 읽는다.
+		verify(dailySlotCapacityRepository, times(2)).findBySlotIdAndDate(slotId, yesterday);
+	}
+
+	@Test
+	@DisplayName("테이블이 가득 차면 새 key 는 예외 없이 DB 조건부 UPDATE 로 차감한다.")
+	void decrease_fallsBackToDb_whenTableFull() {
+		// given - 16칸(최대 12 key) 테이블을 다른 날짜로 채운다.
+		AtomicCasCapacityStrategy small = new AtomicCasCapacityStrategy(dailySlotCapacityRepository, 16);
+
+		for (int day = 1; day <= 12; day++) {
+			LocalDate other = date.plusDays(day);
+			dailySlotCapacityRepository.save(
+				DailySlotCapacity.builder()
+					.slotId(slotId)
+					.date(other)
+					.remainingCount(10)
+					.build()
+			);
+			small.getRemaining(slotId, other);
+		}
+		assertThat(small.size()).isEqualTo(12);
+
+		// when
+		small.decrease(slotId, date, 3);
+
+		// then - flush 없이 DB 에 바로 반영된다.
+		verify(dailySlotCapacityRepository).decreaseIfEnough(slotId, date, 3);
+		assertThat(small.size()).isEqualTo(12);
+		assertThat(small.getRemaining(slotId, date)).isEqualTo(7);
+		assertThatThrownBy(() -> small.decrease(slotId, date, 8))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
+				.isEqualTo(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH));
+	}
+
+	@Test
+	@DisplayName("1970-01-01 이전 날짜는 key 로 묶을 수 없으므로 캐시를 거치지 않고 DB 조건부 UPDATE 로 처리한다.")
+	void decrease_preEpochDate_fallsBackToDb() {
+		// given
+		LocalDate preEpoch = LocalDate.of(1969, 12, 31);
+		dailySlotCapacityRepository.save(
+			DailySlotCapacity.builder()
+				.slotId(slotId)
+				.date(preEpoch)
+				.remainingCount(10)
+				.build()
+		);
+
+		// when
+		capacityStrategy.decrease(slotId, preEpoch, 3);
+		capacityStrategy.increase(slotId, preEpoch, 1);
+
+		// then
+		verify(dailySlotCapacityRepository).decreaseIfEnough(slotId, preEpoch, 3);
+		assertThat(capacityStrategy.size()).isZero();
+		assertThat(capacityStrategy.getRemaining(slotId, preEpoch)).isEqualTo(8);
+		assertThatThrownBy(() -> capacityStrategy.decrease(slotId, preEpoch, 9))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
+				.isEqualTo(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH));
+	}
+
+	@Test
+	@DisplayName("열리지 않은 1970-01-01 이전 날짜는 500 대신 RESERVATION_SLOT_NOT_OPENED 로 거절한다.")
+	void decrease_preEpochDate_notOpened() {
+		LocalDate preEpoch = LocalDate.of(1900, 1, 1);
+
+		assertThatThrownBy(() -> capacityStrategy.decrease(slotId, preEpoch, 1))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
+				.isEqualTo(ErrorCode.RESERVATION_SLOT_NOT_OPENED));
+	}
 }
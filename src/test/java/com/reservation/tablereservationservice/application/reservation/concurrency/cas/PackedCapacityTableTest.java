@@ -0,0 +1,112 @@
+package com.reservation.tablereservationservice.application.reservation.concurrency.cas;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PackedCapacityTableTest {
+
+	@Test
+	@DisplayName("slotId 와 epochDay 를 long 하나로 묶었다가 그대로 풀 수 있다.")
+	void pack_andUnpack() {
+		long epochDay = LocalDate.of(2030, 1, 1).toEpochDay();
+
+		long key = PackedCapacityTable.pack(123_456L, epochDay);
+
+		assertThat(PackedCapacityTable.slotIdOf(key)).isEqualTo(123_456L);
+		assertThat(PackedCapacityTable.epochDayOf(key)).isEqualTo(epochDay);
+	}
+
+	@Test
+	@DisplayName("표현 범위를 벗어난 slotId 는 묶을 수 없다.")
+	void pack_outOfRange() {
+		assertThatThrownBy(() -> PackedCapacityTable.pack(0L, 1L))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> PackedCapacityTable.pack(1L << 42, 1L))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("1970-01-01 이전 날짜는 묶을 수 없는 key 로 판단한다.")
+	void isPackable_preEpoch() {
+		assertThat(PackedCapacityTable.isPackable(1L, LocalDate.of(1969, 12, 31).toEpochDay())).isFalse();
+		assertThat(PackedCapacityTable.isPackable(1L, LocalDate.of(1970, 1, 1).toEpochDay())).isTrue();
+		assertThat(PackedCapacityTable.isPackable(0L, 1L)).isFalse();
+	}
+
+	@Test
+	@DisplayName("남은 좌석보다 많이 차감하면 -1 을 돌려주고 값은 그대로다.")
+	void tryDecrease() {
+		PackedCapacityTable table = new PackedCapacityTable(16);
+		int index = table.putIfAbsent(PackedCapacityTable.pack(1L, 1L), 5);
+
+		assertThat(table.tryDecrease(index, 3, 10)).isEqualTo(2);
+		assertThat(table.tryDecrease(index, 3, 10)).isEqualTo(-1);
+		assertThat(table.remaining(index)).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("사용 중인 칸은 제거되지 않고, 제거된 칸은 다음 삽입 때 재사용된다.")
+	void removeIfIdle_andReuseTombstone() {
+		PackedCapacityTable table = new PackedCapacityTable(16);
+		long key = PackedCapacityTable.pack(1L, 1L);
+		int index = table.putIfAbsent(key, 5);
+
+		// 사용 중이면 제거되지 않는다.
+		assertThat(table.acquire(index, key, 1)).isTrue();
+		assertThat(table.removeIfIdle(index, key)).isFalse();
+		assertThat(table.indexOf(key)).isEqualTo(index);
+
+		// 사용이 끝나면 제거된다.
+		table.release(index, 1);
+		assertThat(table.removeIfIdle(index, key)).isTrue();
+		assertThat(table.indexOf(key)).isEqualTo(PackedCapacityTable.NOT_FOUND);
+		assertThat(table.acquire(index, key, 1)).isFalse();
+		assertThat(table.size()).isZero();
+
+		// 같은 key 를 다시 넣으면 tombstone 칸을 재사용한다.
+		assertThat(table.putIfAbsent(key, 7)).isEqualTo(index);
+		assertThat(table.remaining(index)).isEqualTo(7);
+	}
+
+	@Test
+	@DisplayName("최대 적재량(75%)을 넘기면 NOT_FOUND 를 돌려주고, 제거된 칸이 생기면 다시 추가할 수 있다.")
+	void putIfAbsent_full() {
+		PackedCapacityTable table = new PackedCapacityTable(16);
+
+		for (long slotId = 1; slotId <= 12; slotId++) {
+			table.putIfAbsent(PackedCapacityTable.pack(slotId, 1L), 1);
+		}
+
+		assertThat(table.putIfAbsent(PackedCapacityTable.pack(13L, 1L), 1)).isEqualTo(PackedCapacityTable.NOT_FOUND);
+
+		long removed = PackedCapacityTable.pack(1L, 1L);
+		assertThat(table.removeIfIdle(table.indexOf(removed), removed)).isTrue();
+
+		assertThat(table.putIfAbsent(PackedCapacityTable.pack(13L, 1L), 1)).isNotEqualTo(PackedCapacityTable.NOT_FOUND);
+		assertThat(table.size()).isEqualTo(12);
+	}
+
+	@Test
+	@DisplayName("넣고 빼기를 반복해도 tombstone 이 자리를 막지 않고 다른 key 조회가 유지된다.")
+	void removeIfIdle_reclaimsTombstones() {
+		PackedCapacityTable table = new PackedCapacityTable(16);
+		long kept = PackedCapacityTable.pack(1L, 1L);
+		table.putIfAbsent(kept, 3);
+
+		for (long epochDay = 1; epochDay <= 1_000; epochDay++) {
+			long key = PackedCapacityTable.pack(2L, epochDay);
+			int index = table.putIfAbsent(key, 1);
+
+			assertThat(index).isNotEqualTo(PackedCapacityTable.NOT_FOUND);
+			assertThat(table.removeIfIdle(index, key)).isTrue();
+		}
+
+		assertThat(table.size()).isEqualTo(1);
+		assertThat(table.remaining(table.indexOf(kept))).isEqualTo(3);
+		assertThat(table.indexOf(PackedCapacityTable.pack(2L, 1_000L))).isEqualTo(PackedCapacityTable.NOT_FOUND);
+	}
+}
@@ -0,0 +1,217 @@
+package com.reservation.tablereservationservice.application.reservation.concurrency.pessimistic;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityKey;
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacity;
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacityRepository;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlot;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlotRepository;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+
+@SpringBootTest(properties = "reservation.capacity.mode=pessimistic")
+@ActiveProfiles("test")
+class PessimisticCapacityStrategyTest {
+
+	@Autowired
+	private PessimisticCapacityStrategy capacityStrategy;
+
+	@Autowired
+	private DailySlotCapacityRepository dailySlotCapacityRepository;
+
+	@Autowired
+	private RestaurantSlotRepository restaurantSlotRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private Long slotId;
+	private LocalDate date;
+
+	@BeforeEach
+	void setUp() {
+		dailySlotCapacityRepository.deleteAll();
+		restaurantSlotRepository.deleteAll();
+
+		date = LocalDate.now();
+
+		RestaurantSlot slot = restaurantSlotRepository.save(
+			RestaurantSlot.builder()
+				.restaurantId(1L)
+				.time(LocalTime.of(12, 0))
+				.maxCapacity(10)
+				.build()
+		);
+		slotId = slot.getSlotId();
+
+		dailySlotCapacityRepository.save(
+			DailySlotCapacity.builder()
+				.slotId(slotId)
+				.date(date)
+				.remainingCount(10)
+				.build()
+		);
+	}
+
+	@Test
+	@DisplayName("10명이 동시에 2명씩 예약하면 5명은 성공, 5명은 좌석부족이다. (pessimistic)")
+	void concurrency_test() throws InterruptedException {
+		int threadCount = 10;
+
+		ExecutorService pool = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch ready = new CountDownLatch(threadCount);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(threadCount);
+
+		Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+		AtomicInteger success = new AtomicInteger();
+		AtomicInteger notEnough = new AtomicInteger();
+
+		for (int i = 0; i < threadCount; i++) {
+			pool.submit(() -> {
+				try {
+					ready.countDown();
+					start.await();
+
+					transactionTemplate.executeWithoutResult(status -> capacityStrategy.decrease(slotId, date, 2));
+					success.incrementAndGet();
+
+				} catch (ReservationException e) {
+					if (e.getErrorCode() == ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH) {
+						notEnough.incrementAndGet();
+					} else {
+						errors.add(e);
+					}
+				} catch (Throwable t) {
+					errors.add(t);
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		ready.await();
+		start.countDown();
+		done.await();
+		pool.shutdown();
+
+		assertThat(errors).as("예상 못한 예외 목록").isEmpty();
+		assertThat(success.get()).isEqualTo(5);
+		assertThat(notEnough.get()).isEqualTo(5);
+
+		DailySlotCapacity result = dailySlotCapacityRepository.findBySlotIdAndDate(slotId, date).orElseThrow();
+		assertThat(result.getRemainingCount()).isEqualTo(0);
+	}
+
+	@Test
+	@DisplayName("트랜잭션 밖에서 호출하면 락이 즉시 풀리므로 예외가 발생한다.")
+	void decrease_withoutTransaction_throws() {
+		assertThatThrownBy(() -> capacityStrategy.decrease(slotId, date, 1))
+			.isInstanceOf(IllegalTransactionStateException.class);
+	}
+
+	@Test
+	@DisplayName("여러 날짜를 함께 차감하다 하나라도 부족하면 모두 롤백된다.")
+	void decreaseAll_rollsBackAll_whenAnyNotEnough() {
+		LocalDate nextDate = date.plusDays(1);
+		saveCapacity(nextDate, 1);
+
+		Map<CapacityKey, Integer> partySizes = Map.of(
+			new CapacityKey(slotId, date), 2,
+			new CapacityKey(slotId, nextDate), 2
+		);
+
+		assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(
+			status -> capacityStrategy.decreaseAll(partySizes)
+		))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
+				.isEqualTo(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH));
+
+		assertThat(dailySlotCapacityRepository.findBySlotIdAndDate(slotId, date).orElseThrow().getRemainingCount())
+			.isEqualTo(10);
+		assertThat(dailySlotCapacityRepository.findBySlotIdAndDate(slotId, nextDate).orElseThrow().getRemainingCount())
+			.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("같은 row 들을 서로 다른 순서로 요청해도 (slotId, date) 순으로 잠그므로 교착 없이 모두 처리된다.")
+	void decreaseAll_noDeadlock_whenRequestedInOppositeOrder() throws InterruptedException {
+		LocalDate nextDate = date.plusDays(1);
+		saveCapacity(nextDate, 10);
+
+		CapacityKey first = new CapacityKey(slotId, date);
+		CapacityKey second = new CapacityKey(slotId, nextDate);
+
+		int threadCount = 10;
+
+		ExecutorService pool = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(threadCount);
+
+		Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+
+		for (int i = 0; i < threadCount; i++) {
+			Map<CapacityKey, Integer> partySizes = new LinkedHashMap<>();
+			if (i % 2 == 0) {
+				partySizes.put(first, 1);
+				partySizes.put(second, 1);
+			} else {
+				partySizes.put(second, 1);
+				partySizes.put(first, 1);
+			}
+
+			pool.submit(() -> {
+				try {
+					start.await();
+					transactionTemplate.executeWithoutResult(status -> capacityStrategy.decreaseAll(partySizes));
+				} catch (Throwable t) {
+					errors.add(t);
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		start.countDown();
+		done.await();
+		pool.shutdown();
+
+		assertThat(errors).as("예상 못한 예외 목록").isEmpty();
+		assertThat(dailySlotCapacityRepository.findBySlotIdAndDate(slotId, date).orElseThrow().getRemainingCount())
+			.isZero();
+		assertThat(dailySlotCapacityRepository.findBySlotIdAndDate(slotId, nextDate).orElseThrow().getRemainingCount())
+			.isZero();
+	}
+
+	private void saveCapacity(LocalDate targetDate, int remainingCount) {
+		dailySlotCapacityRepository.save(
+			DailySlotCapacity.builder()
+				.slotId(slotId)
+				.date(targetDate)
+				.remainingCount(remainingCount)
+				.build()
+		);
+	}
+}
@@ -1,14 +1,20 @@
 package com.reservation.tablereservationservice.application.reservation.concurrency.sync;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacity;
 import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacityRepository;
@@ -32,7 +39,7 @@ class SynchronizedCapacityStrategyTest {
 	@Autowired
 	private SynchronizedCapacityStrategy capacityStrategy;
 
-	@Autowired
+	@MockitoSpyBean
 	private DailySlotCapacityRepository dailySlotCapacityRepository;
 
 	@Autowired
@@ -43,27 +50,14 @@ class SynchronizedCapacityStrategyTest {
 
 	@BeforeEach
 	void setUp() {
+		dailySlotCapacityRepository.deleteAll();
+		restaurantSlotRepository.deleteAll();
+
 		// 테스트 날짜
 		date = LocalDate.now();
 
-		// 슬롯 생성
-		RestaurantSlot slot = restaurantSlotRepository.save(
-			RestaurantSlot.builder()
-				.restaurantId(1L)
-				.time(LocalTime.of(12, 0))
-				.maxCapacity(10)
-				.build()
-		);
-		slotId = slot.getSlotId();
-
-		// 좌석 수량 생성 (10석)
-		dailySlotCapacityRepository.save(
-			DailySlotCapacity.builder()
-				.slotId(slotId)
-				.date(date)
-				.remainingCount(10)
-				.build()
-		);
+		// 슬롯 + 좌석 수량 생성 (10석)
+		slotId = createOpenedSlot(LocalTime.of(12, 0), 10);
 	}
 
 	@Test
@@ -160,4 +154,126 @@ class SynchronizedCapacityStrategyTest {
 		DailySlotCapacity result = dailySlotCapacityRepository.findBySlotIdAndDate(slotId, date).orElseThrow();
 		assertThat(result.getRemainingCount()).isEqualTo(0);
 	}
+
+	@Test
+	@DisplayName("한 슬롯이 처리 중이어도 다른 슬롯의 예약은 대기 없이 진행된다. (key 단위 락)")
+	void independentSlots_doNotBlockEachOther() throws Exception {
+		// given
+		Long otherSlotId = createOpenedSlot(LocalTime.of(13, 0), 10);
+
+		CountDownLatch hotSlotEntered = new CountDownLatch(1);
+		CountDownLatch releaseHotSlot = new CountDownLatch(1);
+
+		// slotId 의 capacity 조회를 락을 잡은 상태로 붙잡아 둔다.
+		willAnswer(invocation -> {
+			hotSlotEntered.countDown();
+			releaseHotSlot.await();
+			return invocation.callRealMethod();
+		}).given(dailySlotCapacityRepository).findBySlotIdAndDate(eq(slotId), eq(date));
+
+		CompletableFuture<Void> hot = CompletableFuture.runAsync(() -> capacityStrategy.decrease(slotId, date, 1));
+		assertThat(hotSlotEntered.await(3, TimeUnit.SECONDS)).isTrue();
+
+		// when
+		CompletableFuture<Void> other =
+			CompletableFuture.runAsync(() -> capacityStrategy.decrease(otherSlotId, date, 1));
+
+		// then - 단일 monitor 였다면 hot 슬롯이 끝날 때까지 대기하므로 타임아웃이 난다.
+		assertThatCode(() -> other.get(3, TimeUnit.SECONDS)).doesNotThrowAnyException();
+
+		releaseHotSlot.countDown();
+		hot.get(3, TimeUnit.SECONDS);
+
+		assertThat(dailySlotCapacityRepository.findBySlotIdAndDate(slotId, date).orElseThrow().getRemainingCount())
+			.isEqualTo(9);
+		assertThat(dailySlotCapacityRepository.findBySlotIdAndDate(otherSlotId, date).orElseThrow().getRemainingCount())
+			.isEqualTo(9);
+		assertThat(capacityStrategy.activeMonitorCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("여러 슬롯에 동시에 예약이 몰려도 슬롯별 정합성이 유지되고, 처리 후 락 테이블은 비워진다.")
+	void multiSlot_consistency() throws InterruptedException {
+		// given - 기존 슬롯 포함 5개 슬롯, 슬롯당 20명이 1명씩 예약 (슬롯당 10석)
+		int slotCount = 5;
+		int threadsPerSlot = 20;
+
+		List<Long> slotIds = new ArrayList<>();
+		slotIds.add(slotId);
+		for (int i = 1; i < slotCount; i++) {
+			slotIds.add(createOpenedSlot(LocalTime.of(12 + i, 0), 10));
+		}
+
+		int threadCount = slotCount * threadsPerSlot;
+
+		ExecutorService pool = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch ready = new CountDownLatch(threadCount);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(threadCount);
+
+		Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+		AtomicInteger success = new AtomicInteger();
+		AtomicInteger notEnough = new AtomicInteger();
+
+		for (int i = 0; i < threadCount; i++) {
+			Long targetSlotId = slotIds.get(i % slotCount);
+			pool.submit(() -> {
+				try {
+					ready.countDown();
+					start.await();
+
+					capacityStrategy.decrease(targetSlotId, date, 1);
+					success.incrementAndGet();
+
+				} catch (ReservationException e) {
+					if (e.getErrorCode() == ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH) {
+						notEnough.incrementAndGet();
+					} else {
+						errors.add(e);
+					}
+				} catch (Throwable t) {
+					errors.add(t);
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		ready.await();
+		start.countDown();
+		done.await();
+		pool.shutdown();
+
+		// then
+		assertThat(errors).as("예상 못한 예외 목록").isEmpty();
+		assertThat(success.get()).isEqualTo(slotCount * 10);
+		assertThat(notEnough.get()).isEqualTo(threadCount - slotCount * 10);
+
+		for (Long id : slotIds) {
+			DailySlotCapacity result = dailySlotCapacityRepository.findBySlotIdAndDate(id, date).orElseThrow();
+			assertThat(result.getRemainingCount()).isEqualTo(0);
+		}
+
+		assertThat(capacityStrategy.activeMonitorCount()).isZero();
+	}
+
+	private Long createOpenedSlot(LocalTime time, int capacity) {
+		RestaurantSlot slot = restaurantSlotRepository.save(
+			RestaurantSlot.builder()
+				.restaurantId(1L)
+				.time(time)
+				.maxCapacity(capacity)
+				.build()
+		);
+
+		dailySlotCapacityRepository.save(
+			DailySlotCapacity.builder()
+				.slotId(slot.getSlotId())
+				.date(date)
+				.remainingCount(capacity)
+				.build()
+		);
+
+		return slot.getSlotId();
+	}
 }
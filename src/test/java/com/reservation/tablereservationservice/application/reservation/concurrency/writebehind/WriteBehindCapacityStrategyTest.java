@@ -0,0 +1,248 @@
+package com.reservation.tablereservationservice.application.reservation.concurrency.writebehind;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reservation.tablereservationservice.application.reservation.hold.SeatHold;
+import com.reservation.tablereservationservice.application.reservation.hold.SeatHoldService;
+import com.reservation.tablereservationservice.domain.reservation.CapacityDeltaRepository;
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacity;
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacityRepository;
+import com.reservation.tablereservationservice.domain.reservation.HeldSeatRepository;
+import com.reservation.tablereservationservice.domain.reservation.ReservationRepository;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlot;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlotRepository;
+import com.reservation.tablereservationservice.domain.user.User;
+import com.reservation.tablereservationservice.domain.user.UserRepository;
+import com.reservation.tablereservationservice.fixture.UserFixture;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationRequestDto;
+
+@SpringBootTest(properties = "reservation.capacity.mode=write-behind")
+@ActiveProfiles("test")
+class WriteBehindCapacityStrategyTest {
+
+	@Autowired
+	private WriteBehindCapacityStrategy capacityStrategy;
+
+	@Autowired
+	private DailySlotCapacityRepository dailySlotCapacityRepository;
+
+	@Autowired
+	private RestaurantSlotRepository restaurantSlotRepository;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private CapacityDeltaRepository capacityDeltaRepository;
+
+	@Autowired
+	private HeldSeatRepository heldSeatRepository;
+
+	@Autowired
+	private SeatHoldService seatHoldService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private RestaurantSlot slot;
+	private LocalDate date;
+
+	@BeforeEach
+	void setUp() {
+		capacityStrategy.clear();
+		seatHoldService.clear();
+		capacityDeltaRepository.deleteAll();
+		heldSeatRepository.deleteAll();
+		reservationRepository.deleteAll();
+		dailySlotCapacityRepository.deleteAll();
+		userRepository.deleteAll();
+
+		date = LocalDate.now().plusDays(1);
+
+		slot = restaurantSlotRepository.save(
+			RestaurantSlot.builder()
+				.restaurantId(1L)
+				.time(LocalTime.of(12, 0))
+				.maxCapacity(10)
+				.build()
+		);
+
+		dailySlotCapacityRepository.save(
+			DailySlotCapacity.builder()
+				.slotId(slot.getSlotId())
+				.date(date)
+				.remainingCount(10)
+				.build()
+		);
+	}
+
+	@Test
+	@DisplayName("10명이 동시에 2명씩 예약하면 5명은 성공, 5명은 좌석부족이고 flush 후 DB에 반영된다. (write-behind)")
+	void concurrency_test() throws InterruptedException {
+		int threadCount = 10;
+
+		ExecutorService pool = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch ready = new CountDownLatch(threadCount);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(threadCount);
+
+		Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+		AtomicInteger success = new AtomicInteger();
+		AtomicInteger notEnough = new AtomicInteger();
+
+		for (int i = 0; i < threadCount; i++) {
+			pool.submit(() -> {
+				try {
+					ready.countDown();
+					start.await();
+
+					capacityStrategy.decrease(slot.getSlotId(), date, 2);
+					success.incrementAndGet();
+
+				} catch (ReservationException e) {
+					if (e.getErrorCode() == ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH) {
+						notEnough.incrementAndGet();
+					} else {
+						errors.add(e);
+					}
+				} catch (Throwable t) {
+					errors.add(t);
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		ready.await();
+		start.countDown();
+		done.await();
+		pool.shutdown();
+
+		assertThat(errors).as("예상 못한 예외 목록").isEmpty();
+		assertThat(success.get()).isEqualTo(5);
+		assertThat(notEnough.get()).isEqualTo(5);
+		assertThat(capacityStrategy.getRemaining(slot.getSlotId(), date)).isEqualTo(0);
+
+		capacityStrategy.flush();
+
+		DailySlotCapacity result = dailySlotCapacityRepository.findBySlotIdAndDate(slot.getSlotId(), date)
+			.orElseThrow();
+		assertThat(result.getRemainingCount()).isEqualTo(0);
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스가 먼저 좌석을 가져가 flush 가 음수가 되면 DB 를 0 으로 맞추고 원장도 매진으로 둔다.")
+	void flush_neverGoesNegative() {
+		// given - 이 인스턴스가 3석, 다른 인스턴스가 9석을 팔았다.
+		capacityStrategy.decrease(slot.getSlotId(), date, 3);
+		dailySlotCapacityRepository.addRemainingCount(slot.getSlotId(), date, -9);
+
+		// when
+		capacityStrategy.flush();
+
+		// then
+		DailySlotCapacity result = dailySlotCapacityRepository.findBySlotIdAndDate(slot.getSlotId(), date)
+			.orElseThrow();
+		assertThat(result.getRemainingCount()).isZero();
+		assertThat(capacityStrategy.getRemaining(slot.getSlotId(), date)).isZero();
+	}
+
+	@Test
+	@DisplayName("재기동(원장 비어있음) 시 DB row 와 아직 반영되지 않은 변경분으로 잔여 좌석을 복구한다.")
+	void recover_fromUnflushedDelta() {
+		// given - 3명 차감이 커밋됐지만 flush 전에 종료된 상황
+		capacityStrategy.decrease(slot.getSlotId(), date, 3);
+		capacityStrategy.clear();
+
+		// when
+		int remaining = capacityStrategy.getRemaining(slot.getSlotId(), date);
+		capacityStrategy.flush();
+
+		// then
+		assertThat(remaining).isEqualTo(7);
+
+		DailySlotCapacity result = dailySlotCapacityRepository.findBySlotIdAndDate(slot.getSlotId(), date)
+			.orElseThrow();
+		assertThat(result.getRemainingCount()).isEqualTo(7);
+		assertThat(capacityDeltaRepository.findOldest(10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("재기동 시 운영자가 날짜별로 조정한 remaining_count 를 슬롯 최대 인원으로 덮어쓰지 않는다.")
+	void recover_keepsAdjustedRemainingCount() {
+		// given - 운영자가 이 날짜만 6석으로 줄였고, 2명 차감 후 flush 전에 종료
+		dailySlotCapacityRepository.addRemainingCount(slot.getSlotId(), date, -4);
+		capacityStrategy.decrease(slot.getSlotId(), date, 2);
+		capacityStrategy.clear();
+
+		// when
+		int remaining = capacityStrategy.getRemaining(slot.getSlotId(), date);
+
+		// then
+		assertThat(remaining).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("선점 중에 비정상 종료되면 선점 좌석은 복구 후에도 차감된 채로 남고, sweep 이 한 번만 되돌린다.")
+	void recover_withOutstandingHold_thenSweep() {
+		// given - 3명 선점 후 flush 전에 종료 (메모리의 원장/선점 모두 사라짐)
+		User customer = userRepository.save(UserFixture.customer().build());
+		SeatHold hold = seatHoldService.hold(
+			customer.getUserId(),
+			new ReservationRequestDto(UUID.randomUUID().toString(), slot.getSlotId(), date, 3, "note")
+		);
+		capacityStrategy.clear();
+		seatHoldService.clear();
+
+		// when
+		int recovered = capacityStrategy.getRemaining(slot.getSlotId(), date);
+		int swept = seatHoldService.sweep(hold.heldSeat().expiresAt().plusSeconds(1));
+		capacityStrategy.flush();
+
+		// then
+		assertThat(recovered).isEqualTo(7);
+		assertThat(swept).isEqualTo(1);
+		assertThat(capacityStrategy.getRemaining(slot.getSlotId(), date)).isEqualTo(10);
+
+		DailySlotCapacity result = dailySlotCapacityRepository.findBySlotIdAndDate(slot.getSlotId(), date)
+			.orElseThrow();
+		assertThat(result.getRemainingCount()).isEqualTo(10);
+	}
+
+	@Test
+	@DisplayName("트랜잭션이 롤백되면 메모리 좌석과 변경분이 함께 되돌아간다.")
+	void rollback_restoresLedgerAndDelta() {
+		// when
+		transactionTemplate.executeWithoutResult(status -> {
+			capacityStrategy.decrease(slot.getSlotId(), date, 4);
+			status.setRollbackOnly();
+		});
+
+		// then
+		assertThat(capacityStrategy.getRemaining(slot.getSlotId(), date)).isEqualTo(10);
+		assertThat(capacityDeltaRepository.findOldest(10)).isEmpty();
+	}
+}
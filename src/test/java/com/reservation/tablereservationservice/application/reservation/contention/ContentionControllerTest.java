@@ -0,0 +1,128 @@
+package com.reservation.tablereservationservice.application.reservation.contention;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityKey;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ContentionControllerTest {
+
+	private static final long WINDOW_MS = 1_000;
+	private static final int MIN_SAMPLES = 10;
+	private static final long MIN_HOT_MS = 5_000;
+	private static final int PROBE_INTERVAL = 5;
+
+	private static final CapacityKey KEY = new CapacityKey(1L, LocalDate.of(2026, 1, 1));
+
+	private final AtomicLong now = new AtomicLong(1_000_000);
+
+	private SimpleMeterRegistry meterRegistry;
+	private ContentionController controller;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		controller = new ContentionController(meterRegistry, WINDOW_MS, 10, MIN_SAMPLES, 0.3, 0.05, MIN_HOT_MS,
+			PROBE_INTERVAL, now::get);
+	}
+
+	@Test
+	@DisplayName("시도 수가 min-samples 미만이면 모두 충돌해도 낙관적 경로를 유지한다.")
+	void staysOptimistic_belowMinSamples() {
+		record(MIN_SAMPLES - 1, MIN_SAMPLES - 1);
+
+		assertThat(controller.modeOf(KEY)).isEqualTo(ContentionMode.OPTIMISTIC);
+		assertThat(controller.route(KEY)).isEqualTo(ContentionMode.OPTIMISTIC);
+	}
+
+	@Test
+	@DisplayName("충돌률이 진입 기준 이상이면 QUEUED 로 바뀌고, gauge 와 전환 카운터에 반영된다.")
+	void switchesToQueued_whenConflictRateHigh() {
+		record(10, 3);
+
+		controller.refresh();
+
+		assertThat(controller.modeOf(KEY)).isEqualTo(ContentionMode.QUEUED);
+		assertThat(meterRegistry.get("reservation.contention.mode")
+			.tag("slotId", "1").tag("date", "2026-01-01").gauge().value()).isEqualTo(1.0);
+		assertThat(meterRegistry.get("reservation.contention.transitions")
+			.tag("to", "QUEUED").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("QUEUED 상태에서는 probe-interval 번째 요청만 낙관적 경로로 보낸다.")
+	void route_probesWhileQueued() {
+		record(10, 10);
+
+		int optimistic = 0;
+		for (int i = 0; i < PROBE_INTERVAL * 4; i++) {
+			if (controller.route(KEY) == ContentionMode.OPTIMISTIC) {
+				optimistic++;
+			}
+		}
+
+		assertThat(optimistic).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("충돌률이 진입/해제 기준 사이면 min-hot-ms 가 지나도 QUEUED 를 유지한다.")
+	void staysQueued_betweenThresholds() {
+		record(10, 10);
+		now.addAndGet(MIN_HOT_MS - 500);
+
+		// 10% 충돌: 진입 기준(30%) 미만이지만 해제 기준(5%) 초과
+		record(20, 2);
+		now.addAndGet(500);
+		controller.refresh();
+
+		assertThat(controller.modeOf(KEY)).isEqualTo(ContentionMode.QUEUED);
+	}
+
+	@Test
+	@DisplayName("충돌률이 해제 기준 이하로 떨어져도 min-hot-ms 가 지나야 낙관적 경로로 돌아간다.")
+	void returnsToOptimistic_afterMinHotDwell() {
+		record(10, 10);
+		now.addAndGet(MIN_HOT_MS - 500);
+
+		record(20, 0);
+		assertThat(controller.modeOf(KEY)).isEqualTo(ContentionMode.QUEUED);
+
+		now.addAndGet(500);
+		controller.refresh();
+
+		assertThat(controller.modeOf(KEY)).isEqualTo(ContentionMode.OPTIMISTIC);
+		assertThat(meterRegistry.get("reservation.contention.transitions")
+			.tag("to", "OPTIMISTIC").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("요청이 끊긴 key 는 refresh 에서 낙관적 경로로 돌아간 뒤 정리된다.")
+	void refresh_evictsIdleKey() {
+		record(10, 10);
+		now.addAndGet(MIN_HOT_MS);
+
+		controller.refresh();
+
+		assertThat(controller.trackedKeyCount()).isZero();
+		assertThat(meterRegistry.get("reservation.contention.transitions")
+			.tag("to", "OPTIMISTIC").counter().count()).isEqualTo(1.0);
+	}
+
+	private void record(int attempts, int conflicts) {
+		for (int i = 0; i < attempts; i++) {
+			if (i < conflicts) {
+				controller.recordConflict(KEY);
+			} else {
+				controller.recordSuccess(KEY);
+			}
+		}
+	}
+}
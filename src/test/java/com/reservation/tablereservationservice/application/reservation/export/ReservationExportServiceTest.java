@@ -0,0 +1,180 @@
+package com.reservation.tablereservationservice.application.reservation.export;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.reservation.tablereservationservice.domain.reservation.ReservationExportRepository;
+import com.reservation.tablereservationservice.domain.reservation.ReservationExportRow;
+import com.reservation.tablereservationservice.domain.reservation.ReservationStatus;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantRepository;
+import com.reservation.tablereservationservice.domain.user.UserRepository;
+import com.reservation.tablereservationservice.fixture.RestaurantFixture;
+import com.reservation.tablereservationservice.fixture.UserFixture;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationSearchDto;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationExportServiceTest {
+
+	private static final Long OWNER_ID = 2L;
+	private static final Long RESTAURANT_ID = 100L;
+	private static final LocalDateTime VISIT_AT = LocalDateTime.of(2030, 1, 1, 19, 0);
+
+	private final ObjectMapper objectMapper = JsonMapper.builder()
+		.findAndAddModules()
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+		.build();
+
+	@Mock
+	private ReservationExportRepository reservationExportRepository;
+
+	@Mock
+	private RestaurantRepository restaurantRepository;
+
+	@Mock
+	private UserRepository userRepository;
+
+	private ReservationExportService reservationExportService;
+	private ReservationSearchDto searchDto;
+
+	@BeforeEach
+	void setUp() {
+		reservationExportService = new ReservationExportService(reservationExportRepository, restaurantRepository,
+			userRepository, objectMapper, new TransactionTemplate(mock(PlatformTransactionManager.class)), 2, 100,
+			366);
+
+		searchDto = new ReservationSearchDto();
+		searchDto.setFromDate(LocalDate.of(2030, 1, 1));
+		searchDto.setToDate(LocalDate.of(2030, 12, 31));
+	}
+
+	@Test
+	@DisplayName("CSV: chunk 마다 캐시에 없는 예약자만 조회하고, 쉼표/따옴표/수식 시작 값을 이스케이프한다.")
+	void export_csv() throws Exception {
+		// given: chunk-size 2, 예약자 1 이 두 chunk 에 걸쳐 있음
+		givenRestaurant();
+		givenRows(
+			row(1L, 1L, "창가, \"조용한\" 자리"),
+			row(2L, 2L, null),
+			row(3L, 1L, "=SUM(A1)")
+		);
+		given(userRepository.findAllById(anyList())).willReturn(List.of(
+			UserFixture.customer().userId(1L).name("김철수").phone("010-1111-1111").build(),
+			UserFixture.customer().userId(2L).name("이영희").phone("010-2222-2222").build()
+		));
+
+		// when
+		String[] lines = export(ExportFormat.CSV).split("\n");
+
+		// then
+		assertThat(lines).containsExactly(
+			"\uFEFFreservationId,restaurantId,restaurantName,visitAt,partySize,status,userName,userPhone,note",
+			"1,100,강남 한상,2030-01-01T19:00,2,CONFIRMED,김철수,010-1111-1111,\"창가, \"\"조용한\"\" 자리\"",
+			"2,100,강남 한상,2030-01-01T19:00,2,CONFIRMED,이영희,010-2222-2222,",
+			"3,100,강남 한상,2030-01-01T19:00,2,CONFIRMED,김철수,010-1111-1111,'=SUM(A1)"
+		);
+		then(userRepository).should(times(1)).findAllById(anyList());
+	}
+
+	@Test
+	@DisplayName("NDJSON: 한 줄에 예약 하나를 목록 응답과 같은 필드로 내보낸다.")
+	void export_ndjson() throws Exception {
+		// given
+		givenRestaurant();
+		givenRows(row(1L, 1L, "note"));
+		given(userRepository.findAllById(List.of(1L))).willReturn(List.of(
+			UserFixture.customer().userId(1L).name("김철수").build()
+		));
+
+		// when
+		String[] lines = export(ExportFormat.NDJSON).split("\n");
+
+		// then
+		assertThat(lines).hasSize(1);
+
+		JsonNode json = objectMapper.readTree(lines[0]);
+		assertThat(json.get("reservationId").asLong()).isEqualTo(1L);
+		assertThat(json.get("restaurantName").asText()).isEqualTo("강남 한상");
+		assertThat(json.get("userName").asText()).isEqualTo("김철수");
+		assertThat(json.get("visitAt").asText()).isEqualTo("2030-01-01T19:00:00");
+	}
+
+	@Test
+	@DisplayName("식당이 없는 점주는 reservation 을 조회하지 않는다.")
+	void export_noRestaurant() throws Exception {
+		// given
+		given(restaurantRepository.findAllByOwnerId(OWNER_ID)).willReturn(List.of());
+
+		// when
+		String csv = export(ExportFormat.CSV);
+
+		// then
+		assertThat(csv).startsWith("\uFEFFreservationId,").hasLineCount(1);
+		then(reservationExportRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("기간이 뒤집혔거나 max-range-days 를 넘으면 응답 전에 INVALID_INPUT_VALUE")
+	void validate_invalidRange() {
+		searchDto.setToDate(LocalDate.of(2031, 1, 2));
+		assertInvalid(searchDto);
+
+		searchDto.setToDate(LocalDate.of(2029, 12, 31));
+		assertInvalid(searchDto);
+	}
+
+	private void givenRestaurant() {
+		given(restaurantRepository.findAllByOwnerId(OWNER_ID)).willReturn(List.of(
+			RestaurantFixture.restaurant().restaurantId(RESTAURANT_ID).build()
+		));
+	}
+
+	@SuppressWarnings("unchecked")
+	private void givenRows(ReservationExportRow... rows) {
+		willAnswer(invocation -> {
+			Consumer<ReservationExportRow> action = invocation.getArgument(4);
+			List.of(rows).forEach(action);
+			return null;
+		}).given(reservationExportRepository).forEachByRestaurantIds(any(), any(), any(), any(), any(Consumer.class));
+	}
+
+	private ReservationExportRow row(Long reservationId, Long userId, String note) {
+		return new ReservationExportRow(reservationId, userId, RESTAURANT_ID, VISIT_AT, 2, note,
+			ReservationStatus.CONFIRMED);
+	}
+
+	private String export(ExportFormat format) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		reservationExportService.export(OWNER_ID, searchDto, format, out);
+		return out.toString(StandardCharsets.UTF_8);
+	}
+
+	private void assertInvalid(ReservationSearchDto searchDto) {
+		assertThatThrownBy(() -> reservationExportService.validate(searchDto))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
+				.isEqualTo(ErrorCode.INVALID_INPUT_VALUE));
+	}
+}
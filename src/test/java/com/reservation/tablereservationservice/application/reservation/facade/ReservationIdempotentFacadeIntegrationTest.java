@@ -0,0 +1,157 @@
+package com.reservation.tablereservationservice.application.reservation.facade;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacity;
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacityRepository;
+import com.reservation.tablereservationservice.domain.reservation.Reservation;
+import com.reservation.tablereservationservice.domain.reservation.ReservationRepository;
+import com.reservation.tablereservationservice.domain.restaurant.Restaurant;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantRepository;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlot;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlotRepository;
+import com.reservation.tablereservationservice.domain.user.User;
+import com.reservation.tablereservationservice.domain.user.UserRepository;
+import com.reservation.tablereservationservice.fixture.DailySlotCapacityFixture;
+import com.reservation.tablereservationservice.fixture.RestaurantFixture;
+import com.reservation.tablereservationservice.fixture.RestaurantSlotFixture;
+import com.reservation.tablereservationservice.fixture.UserFixture;
+import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationRequestDto;
+
+@SpringBootTest(properties = "reservation.capacity.mode=atomic-update")
+@ActiveProfiles("test")
+class ReservationIdempotentFacadeIntegrationTest {
+
+	private static final LocalDate BASE_DATE = LocalDate.of(2030, 1, 1);
+
+	@Autowired
+	private ReservationIdempotentFacade reservationIdempotentFacade;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private RestaurantRepository restaurantRepository;
+
+	@Autowired
+	private RestaurantSlotRepository restaurantSlotRepository;
+
+	@Autowired
+	private DailySlotCapacityRepository dailySlotCapacityRepository;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	private User customer;
+	private RestaurantSlot restaurantSlot;
+
+	@BeforeEach
+	void setUp() {
+		reservationIdempotentFacade.clear();
+
+		customer = userRepository.save(UserFixture.customer().build());
+		User owner = userRepository.save(UserFixture.owner().build());
+
+		Restaurant restaurant = restaurantRepository.save(
+			RestaurantFixture.restaurant()
+				.ownerId(owner.getUserId())
+				.build()
+		);
+
+		restaurantSlot = restaurantSlotRepository.save(
+			RestaurantSlotFixture.slot()
+				.restaurantId(restaurant.getRestaurantId())
+				.time(LocalTime.of(19, 0))
+				.maxCapacity(10)
+				.build()
+		);
+
+		dailySlotCapacityRepository.save(
+			DailySlotCapacityFixture.capacity()
+				.slotId(restaurantSlot.getSlotId())
+				.date(BASE_DATE)
+				.remainingCount(10)
+				.build()
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		reservationIdempotentFacade.clear();
+		reservationRepository.deleteAll();
+		dailySlotCapacityRepository.deleteAll();
+		restaurantSlotRepository.deleteAll();
+		restaurantRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("같은 requestId 로 동시에 요청하면 예약은 한 건만 저장되고 모두 같은 예약을 돌려받는다.")
+	void create_concurrentSameRequestId_returnsSameReservation() throws InterruptedException {
+		// given
+		int threadCount = 8;
+		ReservationRequestDto requestDto = new ReservationRequestDto(
+			"req-concurrent-1", restaurantSlot.getSlotId(), BASE_DATE, 2, "note"
+		);
+
+		ExecutorService pool = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch ready = new CountDownLatch(threadCount);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(threadCount);
+
+		Queue<Long> reservationIds = new ConcurrentLinkedQueue<>();
+		Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+
+		// when
+		for (int i = 0; i < threadCount; i++) {
+			pool.submit(() -> {
+				try {
+					ready.countDown();
+					start.await();
+
+					Reservation reservation = reservationIdempotentFacade.create(customer.getUserId(), requestDto);
+					reservationIds.add(reservation.getReservationId());
+				} catch (Throwable t) {
+					errors.add(t);
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		ready.await();
+		start.countDown();
+		done.await();
+		pool.shutdown();
+
+		// then
+		assertThat(errors).as("예상 못한 예외 목록").isEmpty();
+		assertThat(reservationIds).hasSize(threadCount);
+		assertThat(reservationIds.stream().distinct()).hasSize(1);
+
+		Reservation stored = reservationRepository.findByUserIdAndRequestId(customer.getUserId(), "req-concurrent-1")
+			.orElseThrow();
+		assertThat(reservationIds).containsOnly(stored.getReservationId());
+
+		DailySlotCapacity capacity = dailySlotCapacityRepository.findBySlotIdAndDate(
+			restaurantSlot.getSlotId(), BASE_DATE
+		).orElseThrow();
+		assertThat(capacity.getRemainingCount()).isEqualTo(8);
+	}
+}
@@ -0,0 +1,154 @@
+package com.reservation.tablereservationservice.application.reservation.facade;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.reservation.tablereservationservice.application.reservation.service.ReservationService;
+import com.reservation.tablereservationservice.application.reservation.soldout.SoldOutIndex;
+import com.reservation.tablereservationservice.domain.reservation.Reservation;
+import com.reservation.tablereservationservice.domain.reservation.ReservationStatus;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationRequestDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationIdempotentFacadeTest {
+
+	private static final Long USER_ID = 1L;
+	private static final LocalDate BASE_DATE = LocalDate.of(2026, 1, 10);
+
+	@Mock
+	private ReservationService reservationService;
+
+	private SoldOutIndex soldOutIndex;
+	private ReservationIdempotentFacade facade;
+
+	@BeforeEach
+	void setUp() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		soldOutIndex = new SoldOutIndex(meterRegistry, 100, 5);
+		facade = new ReservationIdempotentFacade(reservationService, soldOutIndex, meterRegistry, 100, 10);
+	}
+
+	@Test
+	@DisplayName("같은 requestId 로 다시 요청하면 저장 없이 처음 예약을 돌려준다")
+	void create_replay_returnsCachedReservation() {
+		// given
+		ReservationRequestDto req = new ReservationRequestDto("req-1", 10L, BASE_DATE, 2, "note");
+		Reservation reservation = reservation("req-1");
+
+		given(reservationService.findByRequestId(USER_ID, "req-1")).willReturn(Optional.empty());
+		given(reservationService.create(USER_ID, req)).willReturn(reservation);
+
+		// when
+		Reservation first = facade.create(USER_ID, req);
+		Reservation replayed = facade.create(USER_ID, req);
+
+		// then
+		assertThat(replayed).isSameAs(first);
+		verify(reservationService, times(1)).create(USER_ID, req);
+		verify(reservationService, times(1)).findByRequestId(USER_ID, "req-1");
+	}
+
+	@Test
+	@DisplayName("메모리에 없어도 DB 에 같은 requestId 예약이 있으면 그 예약을 돌려준다")
+	void create_storedRequestId_returnsStoredReservation() {
+		// given
+		ReservationRequestDto req = new ReservationRequestDto("req-1", 10L, BASE_DATE, 2, "note");
+		Reservation stored = reservation("req-1");
+
+		given(reservationService.findByRequestId(USER_ID, "req-1")).willReturn(Optional.of(stored));
+
+		// when
+		Reservation result = facade.create(USER_ID, req);
+
+		// then
+		assertThat(result).isSameAs(stored);
+		verify(reservationService, never()).create(anyLong(), any());
+	}
+
+	@Test
+	@DisplayName("동시에 들어온 같은 요청이 유니크 인덱스에서 지면 먼저 저장된 예약을 돌려준다")
+	void create_concurrentDuplicate_returnsWinner() {
+		// given
+		ReservationRequestDto req = new ReservationRequestDto("req-1", 10L, BASE_DATE, 2, "note");
+		Reservation winner = reservation("req-1");
+
+		given(reservationService.findByRequestId(USER_ID, "req-1"))
+			.willReturn(Optional.empty(), Optional.of(winner));
+		given(reservationService.create(USER_ID, req))
+			.willThrow(new ReservationException(ErrorCode.RESERVATION_DUPLICATED_TIME));
+
+		// when
+		Reservation result = facade.create(USER_ID, req);
+
+		// then
+		assertThat(result).isSameAs(winner);
+	}
+
+	@Test
+	@DisplayName("같은 시간대의 다른 예약과 충돌하면 기존과 같이 예외가 발생한다")
+	void create_duplicatedTime_throws() {
+		// given
+		ReservationRequestDto req = new ReservationRequestDto("req-2", 10L, BASE_DATE, 2, "note");
+
+		given(reservationService.findByRequestId(USER_ID, "req-2")).willReturn(Optional.empty());
+		given(reservationService.create(USER_ID, req))
+			.willThrow(new ReservationException(ErrorCode.RESERVATION_DUPLICATED_TIME));
+
+		// when & then
+		assertThatThrownBy(() -> facade.create(USER_ID, req))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
+				.isEqualTo(ErrorCode.RESERVATION_DUPLICATED_TIME));
+	}
+
+	@Test
+	@DisplayName("매진으로 기록된 슬롯은 예약 생성 없이 바로 거절하고, 재요청은 그대로 돌려준다")
+	void create_soldOut_rejectsBeforeCreate() {
+		// given
+		soldOutIndex.recordShortage(10L, BASE_DATE, 1);
+
+		ReservationRequestDto req = new ReservationRequestDto("req-3", 10L, BASE_DATE, 2, "note");
+		ReservationRequestDto replayReq = new ReservationRequestDto("req-1", 10L, BASE_DATE, 2, "note");
+		Reservation stored = reservation("req-1");
+
+		given(reservationService.findByRequestId(USER_ID, "req-3")).willReturn(Optional.empty());
+		given(reservationService.findByRequestId(USER_ID, "req-1")).willReturn(Optional.of(stored));
+
+		// when & then
+		assertThatThrownBy(() -> facade.create(USER_ID, req))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
+				.isEqualTo(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH));
+
+		assertThat(facade.create(USER_ID, replayReq)).isSameAs(stored);
+		verify(reservationService, never()).create(anyLong(), any());
+	}
+
+	private Reservation reservation(String requestId) {
+		return Reservation.builder()
+			.reservationId(999L)
+			.userId(USER_ID)
+			.slotId(10L)
+			.visitAt(LocalDateTime.of(BASE_DATE, LocalTime.of(19, 0)))
+			.partySize(2)
+			.status(ReservationStatus.CONFIRMED)
+			.requestId(requestId)
+			.build();
+	}
+}
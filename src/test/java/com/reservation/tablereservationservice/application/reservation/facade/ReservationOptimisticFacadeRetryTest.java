@@ -0,0 +1,83 @@
+package com.reservation.tablereservationservice.application.reservation.facade;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.reservation.tablereservationservice.domain.reservation.Reservation;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationRequestDto;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReservationOptimisticFacadeRetryTest {
+
+	@Autowired
+	private ReservationOptimisticFacade reservationOptimisticFacade;
+
+	@MockitoBean
+	private ReservationIdempotentFacade reservationIdempotentFacade;
+
+	@Test
+	@DisplayName("대기열/비동기 worker 경로도 낙관적 락 충돌은 @Retryable 로 재시도한다.")
+	void createIdempotent_retriesConflict() {
+		// given
+		Reservation reservation = mock(Reservation.class);
+		given(reservationIdempotentFacade.create(eq(1L), any()))
+			.willThrow(new OptimisticLockingFailureException("conflict"))
+			.willReturn(reservation);
+
+		// when
+		Reservation result = reservationOptimisticFacade.createIdempotent(1L, request());
+
+		// then
+		assertThat(result).isSameAs(reservation);
+		verify(reservationIdempotentFacade, times(2)).create(eq(1L), any());
+	}
+
+	@Test
+	@DisplayName("재시도를 다 쓰면 RESERVATION_CONCURRENCY_ERROR 로 실패한다.")
+	void createIdempotent_retryExhausted() {
+		// given
+		given(reservationIdempotentFacade.create(eq(1L), any()))
+			.willThrow(new OptimisticLockingFailureException("conflict"));
+
+		// when & then
+		assertThatThrownBy(() -> reservationOptimisticFacade.createIdempotent(1L, request()))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
+				.isEqualTo(ErrorCode.RESERVATION_CONCURRENCY_ERROR));
+
+		verify(reservationIdempotentFacade, times(3)).create(eq(1L), any());
+	}
+
+	@Test
+	@DisplayName("좌석 부족 같은 비즈니스 실패는 재시도하지 않고 그대로 던진다.")
+	void createIdempotent_businessFailure_notRetried() {
+		// given
+		given(reservationIdempotentFacade.create(eq(1L), any()))
+			.willThrow(new ReservationException(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH));
+
+		// when & then
+		assertThatThrownBy(() -> reservationOptimisticFacade.createIdempotent(1L, request()))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
+				.isEqualTo(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH));
+
+		verify(reservationIdempotentFacade, times(1)).create(eq(1L), any());
+	}
+
+	private ReservationRequestDto request() {
+		return new ReservationRequestDto("req-1", 10L, LocalDate.of(2030, 1, 10), 2, null);
+	}
+}
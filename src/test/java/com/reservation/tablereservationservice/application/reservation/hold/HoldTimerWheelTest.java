@@ -0,0 +1,68 @@
+package com.reservation.tablereservationservice.application.reservation.hold;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.reservation.tablereservationservice.domain.reservation.Reservation;
+import com.reservation.tablereservationservice.fixture.ReservationFixture;
+
+class HoldTimerWheelTest {
+
+	private static final long TICK_MS = 100;
+	private static final long START = 1_000_000;
+
+	@Test
+	@DisplayName("만료 시각 전에는 꺼내지 않고, 지난 tick 에서 한 번에 꺼낸다.")
+	void advance_expiresOnlyDue() {
+		HoldTimerWheel wheel = new HoldTimerWheel(8, TICK_MS, START);
+		SeatHold first = hold("h1", START + 250);
+		SeatHold second = hold("h2", START + 280);
+		SeatHold later = hold("h3", START + 500);
+		wheel.schedule(first);
+		wheel.schedule(second);
+		wheel.schedule(later);
+
+		assertThat(wheel.advance(START + 200)).isEmpty();
+		assertThat(wheel.advance(START + 300)).containsExactlyInAnyOrder(first, second);
+		assertThat(wheel.advance(START + 400)).isEmpty();
+		assertThat(wheel.advance(START + 500)).containsExactly(later);
+	}
+
+	@Test
+	@DisplayName("한 바퀴보다 긴 TTL 도 해당 바퀴가 되어서야 만료된다.")
+	void advance_multipleRounds() {
+		// 8 bucket * 100ms = 한 바퀴 800ms
+		HoldTimerWheel wheel = new HoldTimerWheel(8, TICK_MS, START);
+		SeatHold hold = hold("h1", START + 2_000);
+		wheel.schedule(hold);
+
+		for (long now = START + TICK_MS; now < START + 2_000; now += TICK_MS) {
+			assertThat(wheel.advance(now)).isEmpty();
+		}
+		assertThat(wheel.advance(START + 2_000)).containsExactly(hold);
+	}
+
+	@Test
+	@DisplayName("스케줄러가 한 바퀴 이상 밀려도 지난 hold 를 모두 꺼낸다.")
+	void advance_afterLongPause() {
+		HoldTimerWheel wheel = new HoldTimerWheel(8, TICK_MS, START);
+		SeatHold a = hold("a", START + 300);
+		SeatHold b = hold("b", START + 700);
+		wheel.schedule(a);
+		wheel.schedule(b);
+		wheel.advance(START + 100);
+
+		List<SeatHold> expired = wheel.advance(START + 10_000);
+
+		assertThat(expired).containsExactlyInAnyOrder(a, b);
+	}
+
+	private SeatHold hold(String holdId, long expiresAtMillis) {
+		Reservation draft = ReservationFixture.confirmed().build();
+		return new SeatHold(holdId, draft, expiresAtMillis);
+	}
+}
@@ -0,0 +1,244 @@
+package com.reservation.tablereservationservice.application.reservation.hold;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacityRepository;
+import com.reservation.tablereservationservice.domain.reservation.HeldSeatRepository;
+import com.reservation.tablereservationservice.domain.reservation.Reservation;
+import com.reservation.tablereservationservice.domain.reservation.ReservationRepository;
+import com.reservation.tablereservationservice.domain.reservation.ReservationStatus;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlot;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlotRepository;
+import com.reservation.tablereservationservice.domain.user.User;
+import com.reservation.tablereservationservice.domain.user.UserRepository;
+import com.reservation.tablereservationservice.fixture.DailySlotCapacityFixture;
+import com.reservation.tablereservationservice.fixture.RestaurantSlotFixture;
+import com.reservation.tablereservationservice.fixture.UserFixture;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationRequestDto;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SeatHoldServiceTest {
+
+	private static final LocalDate BASE_DATE = LocalDate.of(2030, 1, 1);
+	private static final long TTL_MILLIS = 300_000;
+
+	@Autowired
+	private SeatHoldService seatHoldService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private RestaurantSlotRepository restaurantSlotRepository;
+
+	@Autowired
+	private DailySlotCapacityRepository dailySlotCapacityRepository;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private HeldSeatRepository heldSeatRepository;
+
+	private User customer;
+	private User other;
+	private RestaurantSlot slot;
+
+	@BeforeEach
+	void setUp() {
+		seatHoldService.clear();
+		heldSeatRepository.deleteAll();
+		reservationRepository.deleteAll();
+		dailySlotCapacityRepository.deleteAll();
+		restaurantSlotRepository.deleteAll();
+		userRepository.deleteAll();
+
+		customer = userRepository.save(UserFixture.customer().build());
+		other = userRepository.save(UserFixture.customer().email("other@test.com").phone("010-0000-0002").build());
+
+		slot = restaurantSlotRepository.save(
+			RestaurantSlotFixture.slot()
+				.time(LocalTime.of(19, 0))
+				.maxCapacity(10)
+				.build()
+		);
+
+		dailySlotCapacityRepository.save(
+			DailySlotCapacityFixture.capacity()
+				.slotId(slot.getSlotId())
+				.date(BASE_DATE)
+				.remainingCount(10)
+				.build()
+		);
+	}
+
+	@Test
+	@DisplayName("선점하면 좌석만 차감되고, 확정하면 CONFIRMED 예약이 저장된다.")
+	void hold_thenConfirm() {
+		// when
+		SeatHold hold = seatHoldService.hold(customer.getUserId(), request(3));
+
+		// then - 좌석만 차감
+		assertThat(remaining()).isEqualTo(7);
+		assertThat(reservationRepository.existsByUserIdAndVisitAtAndStatus(
+			customer.getUserId(), hold.draft().getVisitAt(), ReservationStatus.CONFIRMED
+		)).isFalse();
+
+		// when
+		Reservation confirmed = seatHoldService.confirm(customer.getUserId(), hold.holdId());
+
+		// then
+		assertThat(confirmed.getReservationId()).isNotNull();
+		assertThat(confirmed.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+		assertThat(remaining()).isEqualTo(7);
+	}
+
+	@Test
+	@DisplayName("만료된 선점은 timer wheel 이 좌석을 복구하고, 이후 확정은 실패한다.")
+	void expire_releasesSeats() {
+		// given
+		SeatHold first = seatHoldService.hold(customer.getUserId(), request(3));
+		SeatHold second = seatHoldService.hold(other.getUserId(), request(2));
+		assertThat(remaining()).isEqualTo(5);
+
+		// when
+		int expired = seatHoldService.expire(System.currentTimeMillis() + TTL_MILLIS + 1_000);
+
+		// then
+		assertThat(expired).isEqualTo(2);
+		assertThat(remaining()).isEqualTo(10);
+
+		assertThatThrownBy(() -> seatHoldService.confirm(customer.getUserId(), first.holdId()))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> {
+				ReservationException re = (ReservationException)ex;
+				assertThat(re.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_HOLD_EXPIRED);
+			});
+		assertThat(second.holdId()).isNotEqualTo(first.holdId());
+	}
+
+	@Test
+	@DisplayName("확정된 선점은 만료 시점에 좌석을 다시 복구하지 않는다.")
+	void confirmed_notReleasedOnExpire() {
+		// given
+		SeatHold hold = seatHoldService.hold(customer.getUserId(), request(3));
+		seatHoldService.confirm(customer.getUserId(), hold.holdId());
+
+		// when
+		int expired = seatHoldService.expire(System.currentTimeMillis() + TTL_MILLIS + 1_000);
+
+		// then
+		assertThat(expired).isZero();
+		assertThat(remaining()).isEqualTo(7);
+	}
+
+	@Test
+	@DisplayName("다른 사용자의 선점은 확정할 수 없다.")
+	void confirm_forbidden() {
+		// given
+		SeatHold hold = seatHoldService.hold(customer.getUserId(), request(3));
+
+		// when & then
+		assertThatThrownBy(() -> seatHoldService.confirm(other.getUserId(), hold.holdId()))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> {
+				ReservationException re = (ReservationException)ex;
+				assertThat(re.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_HOLD_FORBIDDEN);
+			});
+	}
+
+	@Test
+	@DisplayName("선점을 해제하면 좌석이 바로 복구된다.")
+	void cancel_releasesSeats() {
+		// given
+		SeatHold hold = seatHoldService.hold(customer.getUserId(), request(4));
+
+		// when
+		seatHoldService.cancel(customer.getUserId(), hold.holdId());
+
+		// then
+		assertThat(remaining()).isEqualTo(10);
+		assertThat(seatHoldService.activeHoldCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("종료 시 메모리의 선점을 모두 해제해 좌석을 복구한다.")
+	void releaseAll_onShutdown() {
+		// given
+		seatHoldService.hold(customer.getUserId(), request(3));
+		seatHoldService.hold(other.getUserId(), request(2));
+		assertThat(remaining()).isEqualTo(5);
+
+		// when
+		seatHoldService.releaseAll();
+
+		// then
+		assertThat(remaining()).isEqualTo(10);
+		assertThat(seatHoldService.activeHoldCount()).isZero();
+		assertThat(seatHoldService.sweep(LocalDateTime.now().plusDays(1))).isZero();
+	}
+
+	@Test
+	@DisplayName("메모리의 선점을 잃어도(비정상 종료) 만료된 선점 기록을 sweep 이 회수해 좌석을 복구한다.")
+	void sweep_restoresLostHolds() {
+		// given - 재기동으로 메모리의 hold 만 사라진 상황
+		SeatHold hold = seatHoldService.hold(customer.getUserId(), request(3));
+		seatHoldService.clear();
+
+		// when - 아직 만료 전이면 회수하지 않는다
+		int early = seatHoldService.sweep(LocalDateTime.now());
+
+		// then
+		assertThat(early).isZero();
+		assertThat(remaining()).isEqualTo(7);
+
+		// when
+		int swept = seatHoldService.sweep(hold.heldSeat().expiresAt().plusSeconds(1));
+
+		// then
+		assertThat(swept).isEqualTo(1);
+		assertThat(remaining()).isEqualTo(10);
+	}
+
+	@Test
+	@DisplayName("sweep 이 회수한 선점은 확정할 수 없고 좌석도 다시 복구하지 않는다.")
+	void confirm_afterSweep_fails() {
+		// given
+		SeatHold hold = seatHoldService.hold(customer.getUserId(), request(3));
+		seatHoldService.sweep(hold.heldSeat().expiresAt().plusSeconds(1));
+
+		// when & then
+		assertThatThrownBy(() -> seatHoldService.confirm(customer.getUserId(), hold.holdId()))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> {
+				ReservationException re = (ReservationException)ex;
+				assertThat(re.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_HOLD_EXPIRED);
+			});
+		assertThat(remaining()).isEqualTo(10);
+	}
+
+	private ReservationRequestDto request(int partySize) {
+		return new ReservationRequestDto(UUID.randomUUID().toString(), slot.getSlotId(), BASE_DATE, partySize, "note");
+	}
+
+	private int remaining() {
+		return dailySlotCapacityRepository.findBySlotIdAndDate(slot.getSlotId(), BASE_DATE)
+			.orElseThrow()
+			.getRemainingCount();
+	}
+}
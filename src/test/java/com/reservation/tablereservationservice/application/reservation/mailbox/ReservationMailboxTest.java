@@ -0,0 +1,203 @@
+package com.reservation.tablereservationservice.application.reservation.mailbox;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacity;
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacityRepository;
+import com.reservation.tablereservationservice.domain.reservation.Reservation;
+import com.reservation.tablereservationservice.domain.reservation.ReservationRepository;
+import com.reservation.tablereservationservice.domain.reservation.ReservationStatus;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlot;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlotRepository;
+import com.reservation.tablereservationservice.fixture.ReservationFixture;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReservationMailboxTest {
+
+	@Autowired
+	private ReservationMailbox reservationMailbox;
+
+	@Autowired
+	private DailySlotCapacityRepository dailySlotCapacityRepository;
+
+	@Autowired
+	private RestaurantSlotRepository restaurantSlotRepository;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	private RestaurantSlot slot;
+	private LocalDate date;
+
+	private final AtomicLong seq = new AtomicLong();
+
+	@BeforeEach
+	void setUp() {
+		reservationRepository.deleteAll();
+		dailySlotCapacityRepository.deleteAll();
+		restaurantSlotRepository.deleteAll();
+
+		date = LocalDate.now().plusDays(1);
+
+		slot = restaurantSlotRepository.save(
+			RestaurantSlot.builder()
+				.restaurantId(1L)
+				.time(LocalTime.of(12, 0))
+				.maxCapacity(10)
+				.build()
+		);
+
+		dailySlotCapacityRepository.save(
+			DailySlotCapacity.builder()
+				.slotId(slot.getSlotId())
+				.date(date)
+				.remainingCount(10)
+				.build()
+		);
+	}
+
+	@Test
+	@DisplayName("20명이 동시에 1명씩 예약하면 10명은 성공, 10명은 좌석부족이다. (mailbox)")
+	void concurrency_test() throws InterruptedException {
+		int threadCount = 20;
+
+		ExecutorService pool = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch ready = new CountDownLatch(threadCount);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(threadCount);
+
+		Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+		AtomicInteger success = new AtomicInteger();
+		AtomicInteger notEnough = new AtomicInteger();
+
+		for (int i = 0; i < threadCount; i++) {
+			long userId = i + 1;
+			pool.submit(() -> {
+				try {
+					ready.countDown();
+					start.await();
+
+					reservationMailbox.submit(draft(userId, 1)).join();
+					success.incrementAndGet();
+
+				} catch (CompletionException e) {
+					if (e.getCause() instanceof ReservationException re
+						&& re.getErrorCode() == ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH) {
+						notEnough.incrementAndGet();
+					} else {
+						errors.add(e);
+					}
+				} catch (Throwable t) {
+					errors.add(t);
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		ready.await();
+		start.countDown();
+		done.await();
+		pool.shutdown();
+
+		assertThat(errors).as("예상 못한 예외 목록").isEmpty();
+		assertThat(success.get()).isEqualTo(10);
+		assertThat(notEnough.get()).isEqualTo(10);
+
+		DailySlotCapacity result = dailySlotCapacityRepository.findBySlotIdAndDate(slot.getSlotId(), date)
+			.orElseThrow();
+		assertThat(result.getRemainingCount()).isEqualTo(0);
+		assertThat(reservationRepository.sumPartySize(
+			slot.getSlotId(),
+			ReservationStatus.CONFIRMED,
+			date.atStartOfDay(),
+			date.plusDays(1).atStartOfDay()
+		)).isEqualTo(10);
+	}
+
+	@Test
+	@DisplayName("먼저 접수된 요청부터 좌석을 배정하고, 남은 좌석보다 큰 요청만 실패한다.")
+	void fcfs_order() {
+		// given - 4명, 4명, 4명(실패), 2명 순서로 접수
+		List<CompletableFuture<Reservation>> results = new ArrayList<>();
+		int[] partySizes = {4, 4, 4, 2};
+
+		// when
+		for (int i = 0; i < partySizes.length; i++) {
+			results.add(reservationMailbox.submit(draft(i + 1L, partySizes[i])));
+		}
+		CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+
+		// then
+		assertThat(results.get(0)).isCompleted().isNotCompletedExceptionally();
+		assertThat(results.get(1)).isCompleted().isNotCompletedExceptionally();
+		assertThat(results.get(2)).isCompletedExceptionally();
+		assertThat(results.get(3)).isCompleted().isNotCompletedExceptionally();
+
+		DailySlotCapacity result = dailySlotCapacityRepository.findBySlotIdAndDate(slot.getSlotId(), date)
+			.orElseThrow();
+		assertThat(result.getRemainingCount()).isEqualTo(0);
+	}
+
+	@Test
+	@DisplayName("배치 중 중복 시간대 예약이 있으면 건별로 다시 처리해 나머지는 성공한다.")
+	void fallback_whenBatchFails() {
+		// given - 같은 사용자가 같은 시간대에 이미 예약한 상태
+		reservationRepository.save(
+			ReservationFixture.confirmed()
+				.userId(1L)
+				.slotId(slot.getSlotId())
+				.visitAt(date.atTime(slot.getTime()))
+				.partySize(1)
+				.build()
+		);
+
+		// when
+		CompletableFuture<Reservation> duplicated = reservationMailbox.submit(draft(1L, 1));
+		CompletableFuture<Reservation> other = reservationMailbox.submit(draft(2L, 1));
+		CompletableFuture.allOf(duplicated, other).exceptionally(e -> null).join();
+
+		// then
+		assertThatThrownBy(duplicated::join)
+			.isInstanceOf(CompletionException.class)
+			.satisfies(ex -> {
+				ReservationException re = (ReservationException)ex.getCause();
+				assertThat(re.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_DUPLICATED_TIME);
+			});
+		assertThat(other.join().getReservationId()).isNotNull();
+	}
+
+	private Reservation draft(Long userId, int partySize) {
+		return ReservationFixture.confirmed()
+			.userId(userId)
+			.slotId(slot.getSlotId())
+			.visitAt(date.atTime(slot.getTime()))
+			.partySize(partySize)
+			.serverReceivedSeq(seq.incrementAndGet())
+			.build();
+	}
+}
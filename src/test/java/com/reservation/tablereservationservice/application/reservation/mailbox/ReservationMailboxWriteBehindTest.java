@@ -0,0 +1,125 @@
+package com.reservation.tablereservationservice.application.reservation.mailbox;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reservation.tablereservationservice.application.reservation.concurrency.writebehind.WriteBehindCapacityStrategy;
+import com.reservation.tablereservationservice.domain.reservation.CapacityDeltaRepository;
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacity;
+import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacityRepository;
+import com.reservation.tablereservationservice.domain.reservation.Reservation;
+import com.reservation.tablereservationservice.domain.reservation.ReservationRepository;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlot;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlotRepository;
+import com.reservation.tablereservationservice.fixture.ReservationFixture;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+
+@SpringBootTest(properties = "reservation.capacity.mode=write-behind")
+@ActiveProfiles("test")
+class ReservationMailboxWriteBehindTest {
+
+	@Autowired
+	private ReservationMailbox reservationMailbox;
+
+	@Autowired
+	private WriteBehindCapacityStrategy capacityStrategy;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private CapacityDeltaRepository capacityDeltaRepository;
+
+	@Autowired
+	private DailySlotCapacityRepository dailySlotCapacityRepository;
+
+	@Autowired
+	private RestaurantSlotRepository restaurantSlotRepository;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	private RestaurantSlot slot;
+	private LocalDate date;
+
+	private final AtomicLong seq = new AtomicLong();
+
+	@BeforeEach
+	void setUp() {
+		capacityStrategy.clear();
+		capacityDeltaRepository.deleteAll();
+		reservationRepository.deleteAll();
+		dailySlotCapacityRepository.deleteAll();
+		restaurantSlotRepository.deleteAll();
+
+		date = LocalDate.now().plusDays(1);
+
+		slot = restaurantSlotRepository.save(
+			RestaurantSlot.builder()
+				.restaurantId(1L)
+				.time(LocalTime.of(12, 0))
+				.maxCapacity(10)
+				.build()
+		);
+
+		dailySlotCapacityRepository.save(
+			DailySlotCapacity.builder()
+				.slotId(slot.getSlotId())
+				.date(date)
+				.remainingCount(10)
+				.build()
+		);
+	}
+
+	@Test
+	@DisplayName("메일박스도 메모리 원장으로 차감하므로, flush 전 DB 값보다 좌석이 적으면 원장 기준으로 거절하고 DB 와 어긋나지 않는다.")
+	void mailbox_decreasesThroughLedger() {
+		// given - 메일박스 밖에서 6명을 팔았지만 아직 flush 되지 않음 (원장 4, DB 10)
+		transactionTemplate.executeWithoutResult(status -> capacityStrategy.decrease(slot.getSlotId(), date, 6));
+
+		// when
+		CompletableFuture<Reservation> first = reservationMailbox.submit(draft(1L, 4));
+		CompletableFuture<Reservation> second = reservationMailbox.submit(draft(2L, 2));
+		CompletableFuture.allOf(first, second).exceptionally(e -> null).join();
+
+		// then
+		assertThat(first.join().getReservationId()).isNotNull();
+		assertThatThrownBy(second::join)
+			.isInstanceOf(CompletionException.class)
+			.satisfies(ex -> {
+				ReservationException re = (ReservationException)ex.getCause();
+				assertThat(re.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH);
+			});
+
+		assertThat(capacityStrategy.getRemaining(slot.getSlotId(), date)).isZero();
+
+		capacityStrategy.flush();
+		DailySlotCapacity result = dailySlotCapacityRepository.findBySlotIdAndDate(slot.getSlotId(), date)
+			.orElseThrow();
+		assertThat(result.getRemainingCount()).isZero();
+	}
+
+	private Reservation draft(Long userId, int partySize) {
+		return ReservationFixture.confirmed()
+			.userId(userId)
+			.slotId(slot.getSlotId())
+			.visitAt(date.atTime(slot.getTime()))
+			.partySize(partySize)
+			.serverReceivedSeq(seq.incrementAndGet())
+			.build();
+	}
+}
@@ -102,7 +102,7 @@ class ReservationServiceIntegrationTest {
 		ReservationRequestDto req = createReservationRequest(restaurantSlot.getSlotId(), date, partySize, "note");
 
 		// when
-		Reservation saved = reservationService.create(customer.getEmail(), req);
+		Reservation saved = reservationService.create(customer.getUserId(), req);
 
 		// then
 		assertThat(saved.getReservationId()).isNotNull();
@@ -133,10 +133,10 @@ class ReservationServiceIntegrationTest {
 		ReservationRequestDto firstReq = createReservationRequest(restaurantSlot.getSlotId(), date, 2, "");
 		ReservationRequestDto secondReq = createReservationRequest(restaurantSlot.getSlotId(), date, 2, "");
 
-		reservationService.create(customer.getEmail(), firstReq);
+		reservationService.create(customer.getUserId(), firstReq);
 
 		// when & then
-		assertThatThrownBy(() -> reservationService.create(customer.getEmail(), secondReq))
+		assertThatThrownBy(() -> reservationService.create(customer.getUserId(), secondReq))
 			.isInstanceOf(ReservationException.class)
 			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
 				.isEqualTo(ErrorCode.RESERVATION_DUPLICATED_TIME));
@@ -158,7 +158,7 @@ class ReservationServiceIntegrationTest {
 		ReservationRequestDto req = createReservationRequest(restaurantSlot.getSlotId(), date, partySize, "");
 
 		// when & then
-		assertThatThrownBy(() -> reservationService.create(customer.getEmail(), req))
+		assertThatThrownBy(() -> reservationService.create(customer.getUserId(), req))
 			.isInstanceOf(ReservationException.class)
 			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
 				.isEqualTo(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH));
@@ -176,7 +176,7 @@ class ReservationServiceIntegrationTest {
 		ReservationRequestDto req = createReservationRequest(restaurantSlot.getSlotId(), BASE_DATE, 2, "");
 
 		// when & then
-		assertThatThrownBy(() -> reservationService.create(customer.getEmail(), req))
+		assertThatThrownBy(() -> reservationService.create(customer.getUserId(), req))
 			.isInstanceOf(ReservationException.class)
 			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
 				.isEqualTo(ErrorCode.RESERVATION_SLOT_NOT_OPENED));
@@ -197,11 +197,11 @@ class ReservationServiceIntegrationTest {
 		ReservationRequestDto outRangeReq =
 			createReservationRequest(restaurantSlot.getSlotId(), outRangeDate, 2, "note");
 
-		Reservation inRange = reservationService.create(customer.getEmail(), inRangeReq);
-		Reservation outRange = reservationService.create(customer.getEmail(), outRangeReq);
+		Reservation inRange = reservationService.create(customer.getUserId(), inRangeReq);
+		Reservation outRange = reservationService.create(customer.getUserId(), outRangeReq);
 
 		// outRange를 취소해서 status 필터도 같이 검증
-		reservationService.cancel(customer.getEmail(), outRange.getReservationId());
+		reservationService.cancel(customer.getUserId(), outRange.getReservationId());
 
 		ReservationSearchDto searchDto = createSearchDto(
 			BASE_DATE.minusDays(3),
@@ -211,7 +211,7 @@ class ReservationServiceIntegrationTest {
 
 		// when
 		PageResponseDto<ReservationListResponseDto> result =
-			reservationService.findMyReservations(customer.getEmail(), searchDto);
+			reservationService.findMyReservations(customer.getUserId(), searchDto);
 
 		// then
 		assertThat(result.getContent()).hasSize(1);
@@ -233,9 +233,9 @@ class ReservationServiceIntegrationTest {
 		ReservationRequestDto canceledReq =
 			createReservationRequest(restaurantSlot.getSlotId(), date.plusDays(1), 2, "note-canceled");
 
-		Reservation confirmed = reservationService.create(customer.getEmail(), confirmedReq);
-		Reservation willBeCanceled = reservationService.create(customer.getEmail(), canceledReq);
-		reservationService.cancel(customer.getEmail(), willBeCanceled.getReservationId());
+		Reservation confirmed = reservationService.create(customer.getUserId(), confirmedReq);
+		Reservation willBeCanceled = reservationService.create(customer.getUserId(), canceledReq);
+		reservationService.cancel(customer.getUserId(), willBeCanceled.getReservationId());
 
 		ReservationSearchDto searchDto = createSearchDto(
 			BASE_DATE.minusDays(1),
@@ -245,7 +245,7 @@ class ReservationServiceIntegrationTest {
 
 		// when
 		PageResponseDto<ReservationListResponseDto> result =
-			reservationService.findMyReservations(customer.getEmail(), searchDto);
+			reservationService.findMyReservations(customer.getUserId(), searchDto);
 
 		// then
 		assertThat(result.getContent()).hasSize(1);
@@ -267,10 +267,10 @@ class ReservationServiceIntegrationTest {
 		ReservationRequestDto canceledReq =
 			createReservationRequest(restaurantSlot.getSlotId(), date.plusDays(1), 2, "canceled");
 
-		reservationService.create(customer.getEmail(), confirmedReq);
+		reservationService.create(customer.getUserId(), confirmedReq);
 
-		Reservation canceledTarget = reservationService.create(customer.getEmail(), canceledReq);
-		reservationService.cancel(customer.getEmail(), canceledTarget.getReservationId());
+		Reservation canceledTarget = reservationService.create(customer.getUserId(), canceledReq);
+		reservationService.cancel(customer.getUserId(), canceledTarget.getReservationId());
 
 		ReservationSearchDto searchDto = createSearchDto(
 			BASE_DATE.minusDays(1),
@@ -280,7 +280,7 @@ class ReservationServiceIntegrationTest {
 
 		// when
 		PageResponseDto<ReservationListResponseDto> result =
-			reservationService.findMyReservations(customer.getEmail(), searchDto);
+			reservationService.findMyReservations(customer.getUserId(), searchDto);
 
 		// then
 		assertThat(result.getContent()).hasSize(2);
@@ -298,7 +298,7 @@ class ReservationServiceIntegrationTest {
 		saveCapacity(restaurantSlot.getSlotId(), date, 10);
 		ReservationRequestDto req = createReservationRequest(restaurantSlot.getSlotId(), date, 2, "note");
 
-		reservationService.create(customer.getEmail(), req);
+		reservationService.create(customer.getUserId(), req);
 
 		ReservationSearchDto searchDto = createSearchDto(
 			BASE_DATE.minusDays(1),
@@ -308,7 +308,7 @@ class ReservationServiceIntegrationTest {
 
 		// when
 		PageResponseDto<ReservationListResponseDto> result =
-			reservationService.findOwnerReservations(owner.getEmail(), searchDto);
+			reservationService.findOwnerReservations(owner.getUserId(), searchDto);
 
 		// then
 		assertThat(result.getContent()).hasSize(1);
@@ -321,7 +321,7 @@ class ReservationServiceIntegrationTest {
 	void cancel_success_canceled_and_restoreCapacity() {
 		// given
 		Long slotId = restaurantSlot.getSlotId();
-		String email = customer.getEmail();
+		Long userId = customer.getUserId();
 		int partySize = 2;
 
 		LocalDate visitDate = BASE_DATE.plusDays(3);
@@ -329,7 +329,7 @@ class ReservationServiceIntegrationTest {
 		saveCapacity(slotId, visitDate, 10);
 
 		ReservationRequestDto req = createReservationRequest(slotId, visitDate, partySize, "note");
-		Reservation created = reservationService.create(email, req);
+		Reservation created = reservationService.create(userId, req);
 
 		// 생성 시점 capacity가 10 -> 8로 감소했는지 확인
 		DailySlotCapacity afterCreate = dailySlotCapacityRepository.findBySlotIdAndDate(slotId, visitDate)
@@ -337,7 +337,7 @@ class ReservationServiceIntegrationTest {
 		assertThat(afterCreate.getRemainingCount()).isEqualTo(8);
 
 		// when
-		Reservation canceled = reservationService.cancel(email, created.getReservationId());
+		Reservation canceled = reservationService.cancel(userId, created.getReservationId());
 
 		// then
 		assertThat(canceled.getStatus()).isEqualTo(ReservationStatus.CANCELED);
@@ -363,7 +363,7 @@ class ReservationServiceIntegrationTest {
 		saveCapacity(slotId, visitDate, 10);
 
 		ReservationRequestDto req = createReservationRequest(slotId, visitDate, partySize, "note");
-		Reservation created = reservationService.create(customer.getEmail(), req);
+		Reservation created = reservationService.create(customer.getUserId(), req);
 
 		User other = userRepository.save(
 			UserFixture.customer()
@@ -374,7 +374,7 @@ class ReservationServiceIntegrationTest {
 		);
 
 		// when & then
-		assertThatThrownBy(() -> reservationService.cancel(other.getEmail(), created.getReservationId()))
+		assertThatThrownBy(() -> reservationService.cancel(other.getUserId(), created.getReservationId()))
 			.isInstanceOf(ReservationException.class)
 			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
 				.isEqualTo(ErrorCode.RESERVATION_FORBIDDEN));
@@ -391,13 +391,13 @@ class ReservationServiceIntegrationTest {
 		saveCapacity(slotId, visitDate, 10);
 
 		ReservationRequestDto req = createReservationRequest(slotId, visitDate, partySize, "note");
-		Reservation created = reservationService.create(customer.getEmail(), req);
+		Reservation created = reservationService.create(customer.getUserId(), req);
 
 		// 한 번 취소 성공
-		reservationService.cancel(customer.getEmail(), created.getReservationId());
+		reservationService.cancel(customer.getUserId(), created.getReservationId());
 
 		// when & then (두 번째 취소)
-		assertThatThrownBy(() -> reservationService.cancel(customer.getEmail(), created.getReservationId()))
+		assertThatThrownBy(() -> reservationService.cancel(customer.getUserId(), created.getReservationId()))
 			.isInstanceOf(ReservationException.class)
 			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
 				.isEqualTo(ErrorCode.RESERVATION_ALREADY_CANCELED));
@@ -418,11 +418,11 @@ class ReservationServiceIntegrationTest {
 		saveCapacity(slotId, date, 8);
 
 		ReservationRequestDto req = createReservationRequest(slotId, date, partySize, "note");
-		Reservation created = reservationService.create(customer.getEmail(), req);
+		Reservation created = reservationService.create(customer.getUserId(), req);
 		Long reservationId = created.getReservationId();
 
 		// when & then
-		assertThatThrownBy(() -> reservationService.cancel(customer.getEmail(), reservationId))
+		assertThatThrownBy(() -> reservationService.cancel(customer.getUserId(), reservationId))
 			.isInstanceOf(ReservationException.class)
 			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
 				.isEqualTo(ErrorCode.RESERVATION_CANCEL_DEADLINE_PASSED));
@@ -7,34 +7,47 @@ import static org.mockito.BDDMockito.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.Optional;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
-import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacity;
-import com.reservation.tablereservationservice.domain.reservation.DailySlotCapacityRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityKey;
+import com.reservation.tablereservationservice.application.reservation.availability.AvailabilitySnapshot;
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityShortageException;
+import com.reservation.tablereservationservice.application.reservation.concurrency.CapacityStrategy;
+import com.reservation.tablereservationservice.application.reservation.soldout.SoldOutIndex;
+import com.reservation.tablereservationservice.domain.reservation.OwnerReservationRow;
 import com.reservation.tablereservationservice.domain.reservation.Reservation;
+import com.reservation.tablereservationservice.domain.reservation.ReservationCursor;
 import com.reservation.tablereservationservice.domain.reservation.ReservationRepository;
 import com.reservation.tablereservationservice.domain.reservation.ReservationStatus;
+import com.reservation.tablereservationservice.domain.restaurant.Restaurant;
 import com.reservation.tablereservationservice.domain.restaurant.RestaurantRepository;
 import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlot;
 import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlotRepository;
 import com.reservation.tablereservationservice.domain.user.User;
 import com.reservation.tablereservationservice.domain.user.UserRepository;
-import com.reservation.tablereservationservice.fixture.DailySlotCapacityFixture;
 import com.reservation.tablereservationservice.fixture.ReservationFixture;
+import com.reservation.tablereservationservice.fixture.RestaurantFixture;
 import com.reservation.tablereservationservice.fixture.RestaurantSlotFixture;
 import com.reservation.tablereservationservice.fixture.UserFixture;
+import com.reservation.tablereservationservice.global.concurrent.FanOutExecutor;
 import com.reservation.tablereservationservice.global.exception.ErrorCode;
 import com.reservation.tablereservationservice.global.exception.ReservationException;
+import com.reservation.tablereservationservice.presentation.common.PageResponseDto;
+import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationListResponseDto;
 import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationRequestDto;
+import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationSearchDto;
 
 @ExtendWith(MockitoExtension.class)
 class ReservationServiceTest {
@@ -49,7 +62,7 @@ class ReservationServiceTest {
 	private RestaurantSlotRepository restaurantSlotRepository;
 
 	@Mock
-	private DailySlotCapacityRepository dailySlotCapacityRepository;
+	private CapacityStrategy capacityStrategy;
 
 	@Mock
 	private ReservationRepository reservationRepository;
@@ -57,6 +70,15 @@ class ReservationServiceTest {
 	@Mock
 	private RestaurantRepository restaurantRepository;
 
+	@Mock
+	private AvailabilitySnapshot availabilitySnapshot;
+
+	@Mock
+	private SoldOutIndex soldOutIndex;
+
+	@Spy
+	private FanOutExecutor fanOutExecutor = new FanOutExecutor(4);
+
 	@InjectMocks
 	private ReservationService reservationService;
 
@@ -84,38 +106,27 @@ class ReservationServiceTest {
 		LocalDateTime visitAt = LocalDateTime.of(date, restaurantSlot.getTime());
 		int partySize = 2;
 
-		DailySlotCapacity capacity = DailySlotCapacityFixture.capacity()
-			.slotId(restaurantSlot.getSlotId())
-			.date(date)
-			.remainingCount(10)
-			.build();
-
-		ReservationRequestDto req = new ReservationRequestDto(restaurantSlot.getSlotId(), date, partySize, "note");
+		ReservationRequestDto req = new ReservationRequestDto("req-1", restaurantSlot.getSlotId(), date, partySize,
+			"note");
 
-		given(userRepository.fetchByEmail(customer.getEmail())).willReturn(customer);
 		given(restaurantSlotRepository.fetchById(restaurantSlot.getSlotId())).willReturn(restaurantSlot);
 		given(reservationRepository.existsByUserIdAndVisitAtAndStatus(
 			customer.getUserId(), visitAt, ReservationStatus.CONFIRMED
 		)).willReturn(false);
 
-		given(dailySlotCapacityRepository.findBySlotIdAndDate(restaurantSlot.getSlotId(), date))
-			.willReturn(Optional.of(capacity));
-
-		given(reservationRepository.save(any(Reservation.class))).willAnswer(inv -> inv.getArgument(0));
+		given(reservationRepository.saveAndFlush(any(Reservation.class))).willAnswer(inv -> inv.getArgument(0));
 
 		// when
-		Reservation saved = reservationService.create(customer.getEmail(), req);
+		Reservation saved = reservationService.create(customer.getUserId(), req);
 
 		// then (반환값은 핵심만 확인)
 		assertThat(saved.getUserId()).isEqualTo(customer.getUserId());
 		assertThat(saved.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
 
-		verify(reservationRepository).save(any(Reservation.class));
+		verify(reservationRepository).saveAndFlush(any(Reservation.class));
 
 		// capacity 차감 확인
-		ArgumentCaptor<DailySlotCapacity> capacityCaptor = ArgumentCaptor.forClass(DailySlotCapacity.class);
-		verify(dailySlotCapacityRepository).updateRemainingCount(capacityCaptor.capture());
-		assertThat(capacityCaptor.getValue().getRemainingCount()).isEqualTo(8);
+		verify(capacityStrategy).decrease(restaurantSlot.getSlotId(), date, partySize);
 	}
 
 	@Test
@@ -125,31 +136,23 @@ class ReservationServiceTest {
 		LocalDate date = BASE_DATE;
 		LocalDateTime visitAt = LocalDateTime.of(date, restaurantSlot.getTime());
 
-		DailySlotCapacity capacity = DailySlotCapacityFixture.capacity()
-			.slotId(restaurantSlot.getSlotId())
-			.date(date)
-			.remainingCount(1)
-			.build();
-
-		ReservationRequestDto req = new ReservationRequestDto(restaurantSlot.getSlotId(), date, 2, "");
+		ReservationRequestDto req = new ReservationRequestDto("req-1", restaurantSlot.getSlotId(), date, 2, "");
 
-		given(userRepository.fetchByEmail(customer.getEmail())).willReturn(customer);
 		given(restaurantSlotRepository.fetchById(restaurantSlot.getSlotId())).willReturn(restaurantSlot);
 		given(reservationRepository.existsByUserIdAndVisitAtAndStatus(
 			customer.getUserId(), visitAt, ReservationStatus.CONFIRMED
 		)).willReturn(false);
 
-		given(dailySlotCapacityRepository.findBySlotIdAndDate(restaurantSlot.getSlotId(), date))
-			.willReturn(Optional.of(capacity));
+		willThrow(new ReservationException(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH))
+			.given(capacityStrategy).decrease(restaurantSlot.getSlotId(), date, 2);
 
 		// when & then
-		assertThatThrownBy(() -> reservationService.create(customer.getEmail(), req))
+		assertThatThrownBy(() -> reservationService.create(customer.getUserId(), req))
 			.isInstanceOf(ReservationException.class)
 			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
 				.isEqualTo(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH));
 
-		verify(reservationRepository, never()).save(any());
-		verify(dailySlotCapacityRepository, never()).updateRemainingCount(any(DailySlotCapacity.class));
+		verify(reservationRepository, never()).saveAndFlush(any());
 	}
 
 	@Test
@@ -168,16 +171,15 @@ class ReservationServiceTest {
 			.partySize(2)
 			.build();
 
-		given(userRepository.fetchByEmail(customer.getEmail())).willReturn(customer);
 		given(reservationRepository.fetchById(reservationId)).willReturn(reservation);
 
 		// when & then
-		assertThatThrownBy(() -> reservationService.cancel(customer.getEmail(), reservationId))
+		assertThatThrownBy(() -> reservationService.cancel(customer.getUserId(), reservationId))
 			.isInstanceOf(ReservationException.class)
 			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
 				.isEqualTo(ErrorCode.RESERVATION_FORBIDDEN));
 
-		verifyNoInteractions(dailySlotCapacityRepository);
+		verifyNoInteractions(capacityStrategy);
 		verify(reservationRepository, never()).updateStatus(any());
 	}
 
@@ -197,16 +199,15 @@ class ReservationServiceTest {
 			.partySize(2)
 			.build();
 
-		given(userRepository.fetchByEmail(customer.getEmail())).willReturn(customer);
 		given(reservationRepository.fetchById(reservationId)).willReturn(reservation);
 
 		// when & then
-		assertThatThrownBy(() -> reservationService.cancel(customer.getEmail(), reservationId))
+		assertThatThrownBy(() -> reservationService.cancel(customer.getUserId(), reservationId))
 			.isInstanceOf(ReservationException.class)
 			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
 				.isEqualTo(ErrorCode.RESERVATION_ALREADY_CANCELED));
 
-		verifyNoInteractions(dailySlotCapacityRepository);
+		verifyNoInteractions(capacityStrategy);
 		verify(reservationRepository, never()).updateStatus(any());
 	}
 
@@ -226,16 +227,223 @@ class ReservationServiceTest {
 			.partySize(2)
 			.build();
 
-		given(userRepository.fetchByEmail(customer.getEmail())).willReturn(customer);
 		given(reservationRepository.fetchById(reservationId)).willReturn(reservation);
 
 		// when & then
-		assertThatThrownBy(() -> reservationService.cancel(customer.getEmail(), reservationId))
+		assertThatThrownBy(() -> reservationService.cancel(customer.getUserId(), reservationId))
 			.isInstanceOf(ReservationException.class)
 			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
 				.isEqualTo(ErrorCode.RESERVATION_CANCEL_DEADLINE_PASSED));
 
-		verifyNoInteractions(dailySlotCapacityRepository);
+		verifyNoInteractions(capacityStrategy);
 		verify(reservationRepository, never()).updateStatus(any());
 	}
+
+	@Test
+	@DisplayName("일괄 예약 성공 - 슬롯은 한 번에 조회하고 좌석은 (slotId, date) 별로 한 번에 차감한다.")
+	void createAll_success() {
+		// given
+		LocalDate nextDate = BASE_DATE.plusDays(1);
+
+		List<ReservationRequestDto> reqs = List.of(
+			new ReservationRequestDto("req-1", restaurantSlot.getSlotId(), BASE_DATE, 2, ""),
+			new ReservationRequestDto("req-2", restaurantSlot.getSlotId(), nextDate, 3, "")
+		);
+
+		given(restaurantSlotRepository.findAllById(List.of(restaurantSlot.getSlotId())))
+			.willReturn(List.of(restaurantSlot));
+		given(reservationRepository.existsByUserIdAndVisitAtInAndStatus(
+			eq(customer.getUserId()), anyCollection(), eq(ReservationStatus.CONFIRMED)
+		)).willReturn(false);
+		given(reservationRepository.saveAllAndFlush(anyList())).willAnswer(inv -> inv.getArgument(0));
+
+		// when
+		List<Reservation> saved = reservationService.createAll(customer.getUserId(), reqs);
+
+		// then
+		assertThat(saved).extracting(Reservation::getRequestId).containsExactly("req-1", "req-2");
+		assertThat(saved).extracting(Reservation::getVisitAt).containsExactly(
+			LocalDateTime.of(BASE_DATE, BASE_TIME),
+			LocalDateTime.of(nextDate, BASE_TIME)
+		);
+
+		verify(capacityStrategy).decreaseAll(Map.of(
+			new CapacityKey(restaurantSlot.getSlotId(), BASE_DATE), 2,
+			new CapacityKey(restaurantSlot.getSlotId(), nextDate), 3
+		));
+	}
+
+	@Test
+	@DisplayName("일괄 예약 실패 - 요청 안에 같은 방문 시각이 있으면 좌석을 차감하지 않는다.")
+	void createAll_fail_duplicatedTimeInRequest() {
+		// given
+		List<ReservationRequestDto> reqs = List.of(
+			new ReservationRequestDto("req-1", restaurantSlot.getSlotId(), BASE_DATE, 2, ""),
+			new ReservationRequestDto("req-2", restaurantSlot.getSlotId(), BASE_DATE, 2, "")
+		);
+
+		given(restaurantSlotRepository.findAllById(List.of(restaurantSlot.getSlotId())))
+			.willReturn(List.of(restaurantSlot));
+
+		// when & then
+		assertThatThrownBy(() -> reservationService.createAll(customer.getUserId(), reqs))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
+				.isEqualTo(ErrorCode.RESERVATION_DUPLICATED_TIME));
+
+		verify(capacityStrategy, never()).decreaseAll(anyMap());
+		verify(reservationRepository, never()).saveAllAndFlush(anyList());
+	}
+
+	@Test
+	@DisplayName("일괄 예약 실패 - 한 건이라도 좌석이 부족하면 아무것도 저장하지 않는다.")
+	void createAll_fail_capacityNotEnough() {
+		// given
+		List<ReservationRequestDto> reqs = List.of(
+			new ReservationRequestDto("req-1", restaurantSlot.getSlotId(), BASE_DATE, 2, ""),
+			new ReservationRequestDto("req-2", restaurantSlot.getSlotId(), BASE_DATE.plusDays(1), 2, "")
+		);
+
+		given(restaurantSlotRepository.findAllById(List.of(restaurantSlot.getSlotId())))
+			.willReturn(List.of(restaurantSlot));
+		given(reservationRepository.existsByUserIdAndVisitAtInAndStatus(
+			eq(customer.getUserId()), anyCollection(), eq(ReservationStatus.CONFIRMED)
+		)).willReturn(false);
+
+		willThrow(new ReservationException(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH))
+			.given(capacityStrategy).decreaseAll(anyMap());
+
+		// when & then
+		assertThatThrownBy(() -> reservationService.createAll(customer.getUserId(), reqs))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
+				.isEqualTo(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH));
+
+		verify(reservationRepository, never()).saveAllAndFlush(anyList());
+	}
+
+	@Test
+	@DisplayName("일괄 예약 실패 - 좌석이 부족한 (slotId, date) 와 인원을 SoldOutIndex 에 기록한다.")
+	void createAll_fail_recordsShortage() {
+		// given
+		List<ReservationRequestDto> reqs = List.of(
+			new ReservationRequestDto("req-1", restaurantSlot.getSlotId(), BASE_DATE, 2, "")
+		);
+
+		given(restaurantSlotRepository.findAllById(List.of(restaurantSlot.getSlotId())))
+			.willReturn(List.of(restaurantSlot));
+		given(reservationRepository.existsByUserIdAndVisitAtInAndStatus(
+			eq(customer.getUserId()), anyCollection(), eq(ReservationStatus.CONFIRMED)
+		)).willReturn(false);
+
+		willThrow(new CapacityShortageException(new CapacityKey(restaurantSlot.getSlotId(), BASE_DATE), 2))
+			.given(capacityStrategy).decreaseAll(anyMap());
+
+		// when & then
+		assertThatThrownBy(() -> reservationService.createAll(customer.getUserId(), reqs))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
+				.isEqualTo(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH));
+
+		verify(soldOutIndex).recordShortage(restaurantSlot.getSlotId(), BASE_DATE, 2);
+		verify(reservationRepository, never()).saveAllAndFlush(anyList());
+	}
+
+	@Test
+	@DisplayName("점주 예약 목록 - join 조회 결과(row)를 COUNT/추가 조회 없이 응답으로 옮긴다.")
+	void findOwnerReservations_success() {
+		// given
+		Long ownerId = 2L;
+		OwnerReservationRow row = new OwnerReservationRow(
+			1000L, LocalDateTime.of(BASE_DATE, BASE_TIME), 2, "note", ReservationStatus.CONFIRMED,
+			100L, "강남 한상", customer.getName(), customer.getPhone()
+		);
+
+		ReservationSearchDto searchDto = new ReservationSearchDto();
+		searchDto.setPageable(PageRequest.of(0, 10));
+
+		given(reservationRepository.findOwnerReservationRows(eq(ownerId), any(), any(), any(), any()))
+			.willReturn(new SliceImpl<>(List.of(row), searchDto.getPageable(), false));
+
+		// when
+		PageResponseDto<ReservationListResponseDto> response =
+			reservationService.findOwnerReservations(ownerId, searchDto);
+
+		// then
+		assertThat(response.getContent())
+			.singleElement()
+			.satisfies(dto -> {
+				assertThat(dto.getReservationId()).isEqualTo(1000L);
+				assertThat(dto.getRestaurantName()).isEqualTo("강남 한상");
+				assertThat(dto.getUserName()).isEqualTo(customer.getName());
+			});
+		assertThat(response.getTotalElements()).isEqualTo(-1L);
+		assertThat(response.isHasNext()).isFalse();
+
+		verifyNoInteractions(restaurantRepository, userRepository, restaurantSlotRepository);
+	}
+
+	@Test
+	@DisplayName("내 예약 목록 - cursor 가 있으면 COUNT 없이 cursor 다음부터 size + 1 건을 읽어 다음 cursor 를 돌려준다.")
+	void findMyReservations_cursor_seeksWithoutCount() {
+		// given
+		Restaurant restaurant = RestaurantFixture.restaurant()
+			.restaurantId(restaurantSlot.getRestaurantId())
+			.build();
+		Reservation newer = ReservationFixture.confirmed()
+			.reservationId(30L)
+			.userId(customer.getUserId())
+			.slotId(restaurantSlot.getSlotId())
+			.visitAt(LocalDateTime.of(BASE_DATE.plusDays(2), BASE_TIME))
+			.build();
+		Reservation older = ReservationFixture.confirmed()
+			.reservationId(20L)
+			.userId(customer.getUserId())
+			.slotId(restaurantSlot.getSlotId())
+			.visitAt(LocalDateTime.of(BASE_DATE.plusDays(1), BASE_TIME))
+			.build();
+		ReservationCursor cursor = new ReservationCursor(LocalDateTime.of(BASE_DATE.plusDays(3), BASE_TIME), 40L);
+
+		ReservationSearchDto searchDto = new ReservationSearchDto();
+		searchDto.setPageable(PageRequest.of(0, 1));
+		searchDto.setCursor(cursor.encode());
+
+		given(reservationRepository.findMyReservationsAfter(
+			eq(customer.getUserId()), any(), any(), any(), eq(cursor), eq(2)
+		)).willReturn(List.of(newer, older));
+		given(userRepository.findAllById(List.of(customer.getUserId()))).willReturn(List.of(customer));
+		given(restaurantSlotRepository.findAllById(List.of(restaurantSlot.getSlotId())))
+			.willReturn(List.of(restaurantSlot));
+		given(restaurantRepository.findAllById(List.of(restaurant.getRestaurantId())))
+			.willReturn(List.of(restaurant));
+
+		// when
+		PageResponseDto<ReservationListResponseDto> response =
+			reservationService.findMyReservations(customer.getUserId(), searchDto);
+
+		// then
+		assertThat(response.getContent())
+			.extracting(ReservationListResponseDto::getReservationId)
+			.containsExactly(30L);
+		assertThat(response.isHasNext()).isTrue();
+		assertThat(response.getTotalElements()).isEqualTo(-1L);
+		assertThat(ReservationCursor.decode(response.getNextCursor())).isEqualTo(ReservationCursor.of(newer));
+
+		verify(reservationRepository, never()).findMyReservations(any(), any(), any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("내 예약 목록 - 잘못된 cursor 는 400 예외가 발생한다.")
+	void findMyReservations_fail_invalidCursor() {
+		// given
+		ReservationSearchDto searchDto = new ReservationSearchDto();
+		searchDto.setPageable(PageRequest.of(0, 10));
+		searchDto.setCursor("not-a-cursor");
+
+		// when & then
+		assertThatThrownBy(() -> reservationService.findMyReservations(customer.getUserId(), searchDto))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
+				.isEqualTo(ErrorCode.INVALID_INPUT_VALUE));
+	}
 }
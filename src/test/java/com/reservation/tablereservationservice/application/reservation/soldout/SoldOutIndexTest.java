@@ -0,0 +1,85 @@
+package com.reservation.tablereservationservice.application.reservation.soldout;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SoldOutIndexTest {
+
+	private static final Long SLOT_ID = 10L;
+	private static final LocalDate DATE = LocalDate.of(2030, 1, 1);
+
+	private final AtomicLong nanos = new AtomicLong();
+	private SoldOutIndex soldOutIndex;
+
+	@BeforeEach
+	void setUp() {
+		soldOutIndex = new SoldOutIndex(new SimpleMeterRegistry(), 100, 5, nanos::get);
+	}
+
+	@Test
+	@DisplayName("부족했던 인원 이상은 거절하고, 더 적은 인원은 DB 로 확인하도록 통과시킨다.")
+	void check_rejectsPartySizeAtLeastShortage() {
+		// given: 4명 차감 실패 = 잔여 좌석 3석 이하
+		soldOutIndex.recordShortage(SLOT_ID, DATE, 4);
+
+		// when & then
+		assertThatThrownBy(() -> soldOutIndex.check(SLOT_ID, DATE, 4))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
+				.isEqualTo(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH));
+
+		assertThatCode(() -> soldOutIndex.check(SLOT_ID, DATE, 3)).doesNotThrowAnyException();
+		assertThatCode(() -> soldOutIndex.check(SLOT_ID, DATE.plusDays(1), 4)).doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("더 작은 인원이 실패하면 거절 기준을 낮추고, 1명도 부족하면 모든 요청을 거절한다.")
+	void recordShortage_keepsSmallestPartySize() {
+		// given
+		soldOutIndex.recordShortage(SLOT_ID, DATE, 4);
+		soldOutIndex.recordShortage(SLOT_ID, DATE, 1);
+		soldOutIndex.recordShortage(SLOT_ID, DATE, 3);
+
+		// when & then
+		assertThatThrownBy(() -> soldOutIndex.check(SLOT_ID, DATE, 1))
+			.isInstanceOf(ReservationException.class);
+	}
+
+	@Test
+	@DisplayName("좌석이 돌아오면(트랜잭션 밖에서는 즉시) 기록을 지운다.")
+	void restockAfterCommit_clearsShortage() {
+		// given
+		soldOutIndex.recordShortage(SLOT_ID, DATE, 1);
+
+		// when
+		soldOutIndex.restockAfterCommit(SLOT_ID, DATE);
+
+		// then
+		assertThatCode(() -> soldOutIndex.check(SLOT_ID, DATE, 2)).doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("ttl 이 지나면 다시 DB 로 확인하도록 기록이 사라진다.")
+	void check_expiresAfterTtl() {
+		// given
+		soldOutIndex.recordShortage(SLOT_ID, DATE, 1);
+
+		// when
+		nanos.addAndGet(TimeUnit.SECONDS.toNanos(6));
+
+		// then
+		assertThatCode(() -> soldOutIndex.check(SLOT_ID, DATE, 2)).doesNotThrowAnyException();
+	}
+}
@@ -0,0 +1,123 @@
+package com.reservation.tablereservationservice.application.reservation.waiting;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.reservation.tablereservationservice.application.reservation.facade.ReservationOptimisticFacade;
+import com.reservation.tablereservationservice.application.reservation.service.ReservationService;
+import com.reservation.tablereservationservice.domain.reservation.Reservation;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+import com.reservation.tablereservationservice.global.request.RequestSequenceGenerator;
+import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationRequestDto;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationAsyncAcceptorTest {
+
+	@Mock
+	private ReservationService reservationService;
+
+	@Mock
+	private ReservationOptimisticFacade reservationOptimisticFacade;
+
+	private WaitingTicketStore ticketStore;
+
+	@BeforeEach
+	void setUp() {
+		ticketStore = new WaitingTicketStore(300);
+	}
+
+	@Test
+	@DisplayName("예약이 끝나면 결과를 구독자에게 알린다.")
+	void accept_confirmsAndNotifies() {
+		// given
+		ReservationAsyncAcceptor acceptor = acceptor(Runnable::run);
+		Reservation reservation = mock(Reservation.class);
+
+		given(reservationOptimisticFacade.createIdempotent(eq(1L), any())).willReturn(reservation);
+
+		// when
+		WaitingTicket ticket = acceptor.accept(1L, request());
+
+		// then
+		AtomicReference<WaitingTicket> notified = new AtomicReference<>();
+		ticket.whenFinished(notified::set);
+
+		assertThat(ticket.getStatus()).isEqualTo(WaitingStatus.CONFIRMED);
+		assertThat(ticket.getReservation()).isSameAs(reservation);
+		assertThat(notified.get()).isSameAs(ticket);
+		assertThat(ticketStore.fetch(1L, ticket.getToken())).isSameAs(ticket);
+	}
+
+	@Test
+	@DisplayName("예상하지 못한 예외는 WaitingRoom 과 같이 INTERNAL_SERVER_ERROR 로 대기표를 끝낸다.")
+	void accept_unexpectedFailure_mapsToInternalError() {
+		// given
+		ReservationAsyncAcceptor acceptor = acceptor(Runnable::run);
+		given(reservationOptimisticFacade.createIdempotent(eq(1L), any()))
+			.willThrow(new IllegalStateException("boom"));
+
+		// when
+		WaitingTicket ticket = acceptor.accept(1L, request());
+
+		// then
+		assertThat(ticket.getStatus()).isEqualTo(WaitingStatus.FAILED);
+		assertThat(ticket.getErrorCode()).isEqualTo(ErrorCode.INTERNAL_SERVER_ERROR);
+	}
+
+	@Test
+	@DisplayName("검증에 실패하면 대기표를 만들지 않고 바로 예외가 발생한다.")
+	void accept_invalidRequest_throwsImmediately() {
+		// given
+		ReservationAsyncAcceptor acceptor = acceptor(Runnable::run);
+		willThrow(new ReservationException(ErrorCode.INVALID_PARTY_SIZE))
+			.given(reservationService).validate(any());
+
+		// when & then
+		assertThatThrownBy(() -> acceptor.accept(1L, request()))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
+				.isEqualTo(ErrorCode.INVALID_PARTY_SIZE));
+
+		assertThat(ticketStore.size()).isZero();
+		verify(reservationOptimisticFacade, never()).createIdempotent(anyLong(), any());
+	}
+
+	@Test
+	@DisplayName("worker 큐가 가득 차면 WAITING_ROOM_FULL 로 거절하고 대기표를 지운다.")
+	void accept_queueFull_rejects() {
+		// given
+		ReservationAsyncAcceptor acceptor = acceptor(task -> {
+			throw new RejectedExecutionException();
+		});
+
+		// when & then
+		assertThatThrownBy(() -> acceptor.accept(1L, request()))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
+				.isEqualTo(ErrorCode.WAITING_ROOM_FULL));
+
+		assertThat(ticketStore.size()).isZero();
+	}
+
+	private ReservationAsyncAcceptor acceptor(Executor executor) {
+		return new ReservationAsyncAcceptor(reservationService, new WaitingTicketProcessor(reservationOptimisticFacade),
+			new RequestSequenceGenerator(), ticketStore, new ReservationInFlightLimiter(1, 0), executor);
+	}
+
+	private ReservationRequestDto request() {
+		return new ReservationRequestDto("req-1", 10L, LocalDate.of(2026, 1, 10), 2, null);
+	}
+}
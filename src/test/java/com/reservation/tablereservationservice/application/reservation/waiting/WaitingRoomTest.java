@@ -0,0 +1,216 @@
+package com.reservation.tablereservationservice.application.reservation.waiting;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.reservation.tablereservationservice.application.reservation.facade.ReservationOptimisticFacade;
+import com.reservation.tablereservationservice.domain.reservation.Reservation;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+import com.reservation.tablereservationservice.global.request.RequestSequenceGenerator;
+import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationRequestDto;
+
+@ExtendWith(MockitoExtension.class)
+class WaitingRoomTest {
+
+	private static final int RELEASE_PER_TICK = 2;
+	private static final int MAX_IN_FLIGHT = 3;
+	private static final int MAX_WAITING = 5;
+
+	@Mock
+	private ReservationOptimisticFacade reservationOptimisticFacade;
+
+	// 꺼낸 요청을 바로 실행하지 않고 쌓아두어, 처리 중(in-flight) 상태를 테스트에서 제어한다.
+	private final Queue<Runnable> pending = new ArrayDeque<>();
+
+	private WaitingTicketStore ticketStore;
+	private ReservationInFlightLimiter inFlightLimiter;
+	private WaitingRoom waitingRoom;
+
+	@BeforeEach
+	void setUp() {
+		ticketStore = new WaitingTicketStore(300);
+		inFlightLimiter = new ReservationInFlightLimiter(MAX_IN_FLIGHT, 0);
+		waitingRoom = new WaitingRoom(new WaitingTicketProcessor(reservationOptimisticFacade), new RequestSequenceGenerator(),
+			ticketStore, inFlightLimiter, pending::add, RELEASE_PER_TICK, MAX_WAITING);
+	}
+
+	@Test
+	@DisplayName("tick 마다 release-per-tick 건씩 도착 순서대로 예약 처리에 넘긴다.")
+	void release_fcfsWithinRate() {
+		// given
+		List<WaitingTicket> tickets = new ArrayList<>();
+		for (long userId = 1; userId <= 3; userId++) {
+			tickets.add(waitingRoom.enter(userId, request()));
+		}
+		given(reservationOptimisticFacade.createIdempotent(anyLong(), any())).willReturn(mock(Reservation.class));
+
+		// when
+		waitingRoom.release();
+
+		// then
+		assertThat(tickets).extracting(WaitingTicket::getStatus)
+			.containsExactly(WaitingStatus.PROCESSING, WaitingStatus.PROCESSING, WaitingStatus.WAITING);
+		assertThat(waitingRoom.positionOf(tickets.get(2))).isEqualTo(1);
+
+		runPending();
+
+		assertThat(tickets.get(0).getStatus()).isEqualTo(WaitingStatus.CONFIRMED);
+		assertThat(tickets.get(1).getStatus()).isEqualTo(WaitingStatus.CONFIRMED);
+
+		var order = inOrder(reservationOptimisticFacade);
+		order.verify(reservationOptimisticFacade).createIdempotent(eq(1L), any());
+		order.verify(reservationOptimisticFacade).createIdempotent(eq(2L), any());
+	}
+
+	@Test
+	@DisplayName("처리 중인 요청이 in-flight 상한에 닿으면 더 꺼내지 않는다.")
+	void release_boundedByMaxInFlight() {
+		// given
+		for (long userId = 1; userId <= 5; userId++) {
+			waitingRoom.enter(userId, request());
+		}
+
+		// when
+		waitingRoom.release();
+		waitingRoom.release();
+
+		// then
+		assertThat(pending).hasSize(MAX_IN_FLIGHT);
+		assertThat(waitingRoom.waitingCount()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("바로 처리하는 경로가 in-flight 상한을 쓰고 있으면 그만큼 덜 꺼낸다.")
+	void release_sharesInFlightWithDirectPaths() {
+		// given - 바로 처리하는 요청 2건이 처리 중
+		for (long userId = 1; userId <= 3; userId++) {
+			waitingRoom.enter(userId, request());
+		}
+		assertThat(inFlightLimiter.tryAcquire()).isTrue();
+		assertThat(inFlightLimiter.tryAcquire()).isTrue();
+
+		// when
+		waitingRoom.release();
+
+		// then
+		assertThat(pending).hasSize(MAX_IN_FLIGHT - 2);
+		assertThat(waitingRoom.waitingCount()).isEqualTo(2);
+		assertThatThrownBy(() -> inFlightLimiter.call(() -> null))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
+				.isEqualTo(ErrorCode.WAITING_ROOM_FULL));
+	}
+
+	@Test
+	@DisplayName("예약이 실패하면 대기표에 에러 코드가 남는다.")
+	void release_failureIsRecorded() {
+		// given
+		WaitingTicket ticket = waitingRoom.enter(1L, request());
+		given(reservationOptimisticFacade.createIdempotent(anyLong(), any()))
+			.willThrow(new ReservationException(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH));
+
+		// when
+		waitingRoom.release();
+		runPending();
+
+		// then
+		assertThat(ticket.getStatus()).isEqualTo(WaitingStatus.FAILED);
+		assertThat(ticket.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_CAPACITY_NOT_ENOUGH);
+	}
+
+	@Test
+	@DisplayName("대기 인원이 max-waiting 이면 새 요청을 받지 않는다.")
+	void enter_full_throws() {
+		// given
+		for (long userId = 1; userId <= MAX_WAITING; userId++) {
+			waitingRoom.enter(userId, request());
+		}
+
+		// when & then
+		assertThatThrownBy(() -> waitingRoom.enter(99L, request()))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
+				.isEqualTo(ErrorCode.WAITING_ROOM_FULL));
+	}
+
+	@Test
+	@DisplayName("동시에 들어와도 대기 인원은 max-waiting 을 넘지 않는다.")
+	void enter_concurrent_neverExceedsMaxWaiting() throws InterruptedException {
+		// given
+		int threadCount = 50;
+		ExecutorService pool = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(threadCount);
+		AtomicInteger entered = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+
+		// when
+		for (int i = 0; i < threadCount; i++) {
+			long userId = i;
+			pool.submit(() -> {
+				try {
+					start.await();
+					waitingRoom.enter(userId, request());
+					entered.incrementAndGet();
+				} catch (ReservationException e) {
+					rejected.incrementAndGet();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		start.countDown();
+		done.await();
+		pool.shutdown();
+
+		// then
+		assertThat(entered.get()).isEqualTo(MAX_WAITING);
+		assertThat(rejected.get()).isEqualTo(threadCount - MAX_WAITING);
+		assertThat(waitingRoom.waitingCount()).isEqualTo(MAX_WAITING);
+	}
+
+	@Test
+	@DisplayName("다른 사용자의 대기표는 조회할 수 없다.")
+	void fetch_otherUser_notFound() {
+		// given
+		WaitingTicket ticket = waitingRoom.enter(1L, request());
+
+		// when & then
+		assertThat(ticketStore.fetch(1L, ticket.getToken())).isSameAs(ticket);
+		assertThatThrownBy(() -> ticketStore.fetch(2L, ticket.getToken()))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
+				.isEqualTo(ErrorCode.RESOURCE_NOT_FOUND));
+	}
+
+	private void runPending() {
+		Runnable task;
+		while ((task = pending.poll()) != null) {
+			task.run();
+		}
+	}
+
+	private ReservationRequestDto request() {
+		return new ReservationRequestDto(null, 10L, LocalDate.of(2026, 1, 10), 2, null);
+	}
+}
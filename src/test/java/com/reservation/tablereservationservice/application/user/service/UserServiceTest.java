@@ -112,7 +112,7 @@ class UserServiceTest {
 
 		given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
 		given(passwordEncoder.matches(rawPassword, encodedPassword)).willReturn(true);
-		given(jwtProvider.createAccessToken(email, UserRole.CUSTOMER)).willReturn(token);
+		given(jwtProvider.createAccessToken(user)).willReturn(token);
 
 		// when
 		LoginResponseDto result = userService.login(email, rawPassword);
@@ -1,6 +1,7 @@
 package com.reservation.tablereservationservice.fixture;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 import com.reservation.tablereservationservice.domain.reservation.Reservation;
 import com.reservation.tablereservationservice.domain.reservation.ReservationStatus;
@@ -20,11 +21,14 @@ public class ReservationFixture {
 	private Long reservationId = null;
 	private Long userId = 1L;
 	private Long slotId = 10L;
+	private Long restaurantId = 100L;
 
 	private LocalDateTime visitAt = LocalDateTime.of(2030, 1, 1, 19, 0);
 	private int partySize = 2;
 	private String note = "note";
 	private ReservationStatus status = ReservationStatus.CONFIRMED;
+	private String requestId = UUID.randomUUID().toString();
+	private long serverReceivedSeq = 0L;
 
 	public static ReservationFixture confirmed() {
 		return new ReservationFixture().status(ReservationStatus.CONFIRMED);
@@ -38,10 +42,13 @@ public class ReservationFixture {
 		Reservation.ReservationBuilder builder = Reservation.builder()
 			.userId(userId)
 			.slotId(slotId)
+			.restaurantId(restaurantId)
 			.visitAt(visitAt)
 			.partySize(partySize)
 			.note(note)
-			.status(status);
+			.status(status)
+			.requestId(requestId)
+			.serverReceivedSeq(serverReceivedSeq);
 
 		if (reservationId != null) {
 			builder.reservationId(reservationId);
@@ -0,0 +1,106 @@
+package com.reservation.tablereservationservice.global.concurrent;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.reservation.tablereservationservice.global.datasource.ReplicaReadScope;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+
+class FanOutExecutorTest {
+
+	private final FanOutExecutor fanOutExecutor = new FanOutExecutor(4);
+
+	@Test
+	@DisplayName("두 조회를 동시에 실행하고 결과를 합친다.")
+	void join_runsConcurrently() {
+		// given: 양쪽이 서로를 기다리므로 순차 실행이면 끝나지 않는다.
+		CountDownLatch bothStarted = new CountDownLatch(2);
+
+		// when
+		String result = fanOutExecutor.join(
+			() -> awaitOther(bothStarted, "left"),
+			() -> awaitOther(bothStarted, "right"),
+			(left, right) -> left + "-" + right
+		);
+
+		// then
+		assertThat(result).isEqualTo("left-right");
+	}
+
+	@Test
+	@DisplayName("한쪽이 실패하면 다른 쪽을 중단하고 원래 예외를 던진다.")
+	void join_failFast() {
+		// given
+		AtomicBoolean interrupted = new AtomicBoolean(false);
+
+		// when & then
+		assertThatThrownBy(() -> fanOutExecutor.join(
+			() -> {
+				try {
+					Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+				} catch (InterruptedException e) {
+					interrupted.set(true);
+				}
+				return "slow";
+			},
+			() -> {
+				throw new ReservationException(ErrorCode.RESOURCE_NOT_FOUND, "RestaurantSlot");
+			},
+			(left, right) -> left + right
+		))
+			.isInstanceOf(ReservationException.class)
+			.satisfies(ex -> assertThat(((ReservationException)ex).getErrorCode())
+				.isEqualTo(ErrorCode.RESOURCE_NOT_FOUND));
+
+		// 호출이 끝나면 시작한 작업도 모두 끝나 있다.
+		assertThat(interrupted).isTrue();
+	}
+
+	@Test
+	@DisplayName("호출한 스레드의 replica 읽기 범위를 작업에 넘기고, 범위 밖 호출에는 넘기지 않는다.")
+	void join_propagatesReplicaReadScope() {
+		// given
+		ReplicaReadScope.enter();
+		Boolean inScope;
+		try {
+			// when
+			inScope = fanOutExecutor.join(
+				ReplicaReadScope::isActive,
+				ReplicaReadScope::isActive,
+				(left, right) -> left && right
+			);
+		} finally {
+			ReplicaReadScope.exit();
+		}
+
+		Boolean outOfScope = fanOutExecutor.join(
+			ReplicaReadScope::isActive,
+			ReplicaReadScope::isActive,
+			(left, right) -> left || right
+		);
+
+		// then
+		assertThat(inScope).isTrue();
+		assertThat(outOfScope).isFalse();
+	}
+
+	private String awaitOther(CountDownLatch bothStarted, String value) {
+		bothStarted.countDown();
+		try {
+			if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("not concurrent");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+		return value;
+	}
+}
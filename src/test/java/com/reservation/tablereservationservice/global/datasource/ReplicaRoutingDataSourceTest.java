@@ -0,0 +1,129 @@
+package com.reservation.tablereservationservice.global.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 복제 없이 H2 두 개를 primary/replica 로 두고, 어느 쪽에서 읽었는지 node 테이블 값으로 확인한다.
+ */
+class ReplicaRoutingDataSourceTest {
+
+	private static final long MAX_STALENESS_MS = 1000;
+
+	private final AtomicLong now = new AtomicLong(10_000);
+
+	private JdbcTemplate primary;
+	private JdbcTemplate replica;
+	private ReplicaLagMonitor lagMonitor;
+	private JdbcTemplate routed;
+	private TransactionTemplate readOnly;
+	private TransactionTemplate readWrite;
+
+	@BeforeEach
+	void setUp() {
+		primary = node("primary");
+		replica = node("replica");
+
+		lagMonitor = new ReplicaLagMonitor(primary, replica, MAX_STALENESS_MS, now::get);
+		lagMonitor.init();
+
+		ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+			primary.getDataSource(), replica.getDataSource(), lagMonitor, new SimpleMeterRegistry());
+		routing.afterPropertiesSet();
+
+		DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+		routed = new JdbcTemplate(dataSource);
+		readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+		readWrite = new TransactionTemplate(transactionManager);
+	}
+
+	@AfterEach
+	void tearDown() {
+		ReplicaReadScope.exit();
+		primary.execute("drop all objects");
+		replica.execute("drop all objects");
+	}
+
+	@Test
+	@DisplayName("@ReplicaRead 범위의 readOnly 트랜잭션만 replica 에서 읽는다.")
+	void route_readOnlyInScope_goesToReplica() {
+		// given: replica 가 최신 heartbeat 를 보고 있음
+		replicate();
+		lagMonitor.check();
+
+		// when & then
+		assertThat(readNode(readOnly)).isEqualTo("primary");
+
+		ReplicaReadScope.enter();
+		assertThat(readNode(readOnly)).isEqualTo("replica");
+		assertThat(readNode(readWrite)).isEqualTo("primary");
+	}
+
+	@Test
+	@DisplayName("heartbeat 지연이 max-staleness 를 넘거나 확인되지 않으면 primary 로 돌리고, 따라잡으면 다시 replica 로 보낸다.")
+	void route_staleReplica_fallsBackToPrimary() {
+		ReplicaReadScope.enter();
+
+		// heartbeat 가 아직 replica 에 없음
+		assertThat(lagMonitor.isUsable()).isFalse();
+		assertThat(readNode(readOnly)).isEqualTo("primary");
+
+		// 따라잡음
+		replicate();
+		lagMonitor.check();
+		assertThat(lagMonitor.getLagMillis()).isZero();
+		assertThat(readNode(readOnly)).isEqualTo("replica");
+
+		// 복제가 멈춘 채 시간이 지남
+		now.addAndGet(MAX_STALENESS_MS + 1);
+		lagMonitor.check();
+		assertThat(lagMonitor.getLagMillis()).isEqualTo(MAX_STALENESS_MS + 1);
+		assertThat(readNode(readOnly)).isEqualTo("primary");
+	}
+
+	private String readNode(TransactionTemplate transactionTemplate) {
+		return transactionTemplate.execute(status -> routed.queryForObject("select name from node", String.class));
+	}
+
+	// primary 의 heartbeat 를 replica 로 복사한다.
+	private void replicate() {
+		replica.execute("""
+			create table if not exists replica_heartbeat (
+			  instance_id varchar(36) not null primary key,
+			  beat_at bigint not null
+			)
+			""");
+		replica.update("delete from replica_heartbeat");
+		primary.queryForList("select instance_id, beat_at from replica_heartbeat").forEach(row ->
+			replica.update("insert into replica_heartbeat (instance_id, beat_at) values (?, ?)",
+				row.get("INSTANCE_ID"), row.get("BEAT_AT"))
+		);
+	}
+
+	private static JdbcTemplate node(String name) {
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(
+			new DriverManagerDataSource("jdbc:h2:mem:" + name + "-route;DB_CLOSE_DELAY=-1", "sa", ""));
+
+		jdbcTemplate.execute("create table node (name varchar(20))");
+		jdbcTemplate.update("insert into node (name) values (?)", name);
+		return jdbcTemplate;
+	}
+}
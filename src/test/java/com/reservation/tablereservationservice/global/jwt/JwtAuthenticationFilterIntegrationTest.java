@@ -25,6 +25,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.reservation.tablereservationservice.domain.user.User;
 import com.reservation.tablereservationservice.domain.user.UserRole;
 import com.reservation.tablereservationservice.global.config.SecurityConfig;
 
@@ -53,7 +54,7 @@ class JwtAuthenticationFilterIntegrationTest {
 	@DisplayName("정상 토큰이면 200과 이메일이 반환된다")
 	void me_Success() throws Exception {
 		String email = "tester@email.com";
-		String token = jwtProvider.createAccessToken(email, UserRole.CUSTOMER);
+		String token = jwtProvider.createAccessToken(createUser(email));
 
 		mockMvc.perform(get("/test/me").header("Authorization", "Bearer " + token))
 			.andExpect(status().isOk())
@@ -78,12 +79,21 @@ class JwtAuthenticationFilterIntegrationTest {
 	@DisplayName("Bearer 접두사가 없으면 인증에 실패하여 401을 반환한다")
 	void me_Fail_NoBearerPrefix() throws Exception {
 		String email = "tester@email.com";
-		String token = jwtProvider.createAccessToken(email, UserRole.CUSTOMER);
+		String token = jwtProvider.createAccessToken(createUser(email));
 
 		mockMvc.perform(get("/test/me").header("Authorization", token)) // Bearer 누락
 			.andExpect(status().isUnauthorized());
 	}
 
+	private User createUser(String email) {
+		return User.builder()
+			.userId(1L)
+			.email(email)
+			.name("테스터")
+			.userRole(UserRole.CUSTOMER)
+			.build();
+	}
+
 	@TestConfiguration
 	static class TestSecurityConfig {
 
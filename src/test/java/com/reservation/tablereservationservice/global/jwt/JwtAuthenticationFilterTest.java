@@ -16,6 +16,8 @@ import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import com.reservation.tablereservationservice.domain.user.UserRole;
+import com.reservation.tablereservationservice.global.common.CurrentUser;
 import com.reservation.tablereservationservice.global.exception.ErrorCode;
 import com.reservation.tablereservationservice.global.exception.JwtAuthenticationException;
 
@@ -53,8 +55,9 @@ class JwtAuthenticationFilterTest {
 		request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
 		MockHttpServletResponse response = new MockHttpServletResponse();
 
+		CurrentUser currentUser = new CurrentUser(1L, email, UserRole.CUSTOMER, "테스터");
 		UsernamePasswordAuthenticationToken authentication =
-			new UsernamePasswordAuthenticationToken(email, null);
+			new UsernamePasswordAuthenticationToken(currentUser, null);
 
 		given(jwtProvider.getAuthenticationFromAccessToken(token)).willReturn(authentication);
 
@@ -63,7 +66,7 @@ class JwtAuthenticationFilterTest {
 
 		// then
 		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
-		assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isEqualTo(email);
+		assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isEqualTo(currentUser);
 
 	}
 
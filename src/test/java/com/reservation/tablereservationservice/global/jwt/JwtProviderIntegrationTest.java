@@ -10,7 +10,9 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.reservation.tablereservationservice.domain.user.User;
 import com.reservation.tablereservationservice.domain.user.UserRole;
+import com.reservation.tablereservationservice.global.common.CurrentUser;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -26,12 +28,15 @@ class JwtProviderIntegrationTest {
 		String email = "tester@email.com";
 
 		// when
-		String token = jwtProvider.createAccessToken(email, UserRole.CUSTOMER);
+		String token = jwtProvider.createAccessToken(
+			User.builder().userId(1L).email(email).name("테스터").userRole(UserRole.CUSTOMER).build()
+		);
 		Authentication authentication = jwtProvider.getAuthenticationFromAccessToken(token);
 
 		// then
 		assertThat(token).isNotBlank();
-		assertThat(authentication.getPrincipal()).isEqualTo(email);
+		assertThat(authentication.getPrincipal())
+			.isEqualTo(new CurrentUser(1L, email, UserRole.CUSTOMER, "테스터"));
 		assertThat(authentication.getAuthorities())
 			.extracting(GrantedAuthority::getAuthority)
 			.containsExactly("ROLE_CUSTOMER");
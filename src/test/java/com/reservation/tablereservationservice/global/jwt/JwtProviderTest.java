@@ -7,10 +7,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 
+import com.reservation.tablereservationservice.domain.user.User;
 import com.reservation.tablereservationservice.domain.user.UserRole;
+import com.reservation.tablereservationservice.global.common.CurrentUser;
 
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
 
 class JwtProviderTest {
 
@@ -22,16 +28,18 @@ class JwtProviderTest {
 		// given
 		JwtProvider jwtProvider = new JwtProvider(TEST_BASE64_SECRET, 60_000L);
 		String email = "tester@email.com";
-		UserRole role = UserRole.CUSTOMER;
+		User user = createUser(email);
 
 		// when
-		String token = jwtProvider.createAccessToken(email, role);
+		String token = jwtProvider.createAccessToken(user);
 		Authentication authentication = jwtProvider.getAuthenticationFromAccessToken(token);
 
 		// then
 		assertThat(token).isNotBlank();
 		assertThat(authentication).isNotNull();
-		assertThat(authentication.getPrincipal()).isEqualTo(email);
+		assertThat(authentication.getPrincipal())
+			.isEqualTo(new CurrentUser(1L, email, UserRole.CUSTOMER, "테스터"));
+		assertThat(authentication.getName()).isEqualTo(email);
 		assertThat(authentication.getAuthorities())
 			.extracting(GrantedAuthority::getAuthority)
 			.containsExactly("ROLE_CUSTOMER");
@@ -43,7 +51,7 @@ class JwtProviderTest {
 		// given
 		// expirationMs를 음수로 만들어 즉시 만료 토큰 생성
 		JwtProvider jwtProvider = new JwtProvider(TEST_BASE64_SECRET, -1L);
-		String token = jwtProvider.createAccessToken("tester@email.com", UserRole.CUSTOMER);
+		String token = jwtProvider.createAccessToken(createUser("tester@email.com"));
 
 		// when & then
 		assertThatThrownBy(() -> jwtProvider.getAuthenticationFromAccessToken(token))
@@ -55,7 +63,7 @@ class JwtProviderTest {
 	void getAuthentication_TamperedToken_ThrowsJwtException() {
 		// given
 		JwtProvider jwtProvider = new JwtProvider(TEST_BASE64_SECRET, 60_000L);
-		String token = jwtProvider.createAccessToken("tester@email.com", UserRole.CUSTOMER);
+		String token = jwtProvider.createAccessToken(createUser("tester@email.com"));
 
 		// 토큰 일부 변조
 		String tampered = token.substring(0, token.length() - 2) + "xx";
@@ -64,4 +72,29 @@ class JwtProviderTest {
 		assertThatThrownBy(() -> jwtProvider.getAuthenticationFromAccessToken(tampered))
 			.isInstanceOf(JwtException.class);
 	}
+
+	@Test
+	@DisplayName("userId 가 없는 이전 형식의 토큰이면 JwtException이 발생한다")
+	void getAuthentication_TokenWithoutUserId_ThrowsJwtException() {
+		// given
+		JwtProvider jwtProvider = new JwtProvider(TEST_BASE64_SECRET, 60_000L);
+		String legacyToken = Jwts.builder()
+			.setSubject("tester@email.com")
+			.claim("role", UserRole.CUSTOMER.name())
+			.signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(TEST_BASE64_SECRET)), SignatureAlgorithm.HS256)
+			.compact();
+
+		// when & then
+		assertThatThrownBy(() -> jwtProvider.getAuthenticationFromAccessToken(legacyToken))
+			.isInstanceOf(JwtException.class);
+	}
+
+	private User createUser(String email) {
+		return User.builder()
+			.userId(1L)
+			.email(email)
+			.name("테스터")
+			.userRole(UserRole.CUSTOMER)
+			.build();
+	}
 }
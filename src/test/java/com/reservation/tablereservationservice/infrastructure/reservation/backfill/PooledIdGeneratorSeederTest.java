@@ -0,0 +1,92 @@
+package com.reservation.tablereservationservice.infrastructure.reservation.backfill;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.reservation.tablereservationservice.domain.reservation.Reservation;
+import com.reservation.tablereservationservice.domain.reservation.ReservationRepository;
+import com.reservation.tablereservationservice.fixture.ReservationFixture;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PooledIdGeneratorSeederTest {
+
+	// IDENTITY 로 발급되던 기존 id (pooled 구간보다 뒤)
+	private static final long LEGACY_ID = 900_000L;
+
+	@Autowired
+	private PooledIdGeneratorSeeder seeder;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		reservationRepository.deleteAll();
+
+		Reservation saved = reservationRepository.save(ReservationFixture.confirmed().build());
+		jdbcTemplate.update("update reservation set reservation_id = ? where reservation_id = ?",
+			LEGACY_ID, saved.getReservationId());
+	}
+
+	@AfterEach
+	void tearDown() {
+		reservationRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("generator 값이 기존 최대 id 보다 작으면 MAX(id) + allocationSize + 1 로 올린다.")
+	void seed_raisesBelowMaxId() {
+		// given
+		jdbcTemplate.update("update id_generator set next_val = 1000 where gen_name = 'reservation'");
+
+		// when
+		seeder.seed();
+
+		// then
+		assertThat(nextVal("reservation")).isEqualTo(LEGACY_ID + 51);
+	}
+
+	@Test
+	@DisplayName("generator row 가 없으면 MAX(id) 기준으로 만든다.")
+	void seed_insertsMissingRow() {
+		// given
+		jdbcTemplate.update("delete from id_generator where gen_name = 'reservation'");
+
+		// when
+		seeder.seed();
+
+		// then
+		assertThat(nextVal("reservation")).isEqualTo(LEGACY_ID + 51);
+	}
+
+	@Test
+	@DisplayName("generator 값이 이미 최대 id 뒤에 있으면 그대로 둔다.")
+	void seed_keepsHigherValue() {
+		// given
+		jdbcTemplate.update("update id_generator set next_val = ? where gen_name = 'reservation'", LEGACY_ID + 1000);
+
+		// when
+		seeder.seed();
+
+		// then
+		assertThat(nextVal("reservation")).isEqualTo(LEGACY_ID + 1000);
+	}
+
+	private long nextVal(String genName) {
+		return jdbcTemplate.queryForObject(
+			"select next_val from id_generator where gen_name = ?", Long.class, genName
+		);
+	}
+}
@@ -0,0 +1,159 @@
+package com.reservation.tablereservationservice.infrastructure.reservation.backfill;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.reservation.tablereservationservice.domain.reservation.OwnerReservationRow;
+import com.reservation.tablereservationservice.domain.reservation.Reservation;
+import com.reservation.tablereservationservice.domain.reservation.ReservationExportRepository;
+import com.reservation.tablereservationservice.domain.reservation.ReservationExportRow;
+import com.reservation.tablereservationservice.domain.reservation.ReservationRepository;
+import com.reservation.tablereservationservice.domain.restaurant.Restaurant;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantRepository;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlot;
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlotRepository;
+import com.reservation.tablereservationservice.domain.user.User;
+import com.reservation.tablereservationservice.domain.user.UserRepository;
+import com.reservation.tablereservationservice.fixture.ReservationFixture;
+import com.reservation.tablereservationservice.fixture.RestaurantFixture;
+import com.reservation.tablereservationservice.fixture.RestaurantSlotFixture;
+import com.reservation.tablereservationservice.fixture.UserFixture;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReservationRestaurantIdBackfillTest {
+
+	private static final LocalDate BASE_DATE = LocalDate.of(2030, 1, 1);
+
+	@Autowired
+	private ReservationRestaurantIdBackfill backfill;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private RestaurantRepository restaurantRepository;
+
+	@Autowired
+	private RestaurantSlotRepository restaurantSlotRepository;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private ReservationExportRepository reservationExportRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private User owner;
+	private Restaurant restaurant;
+	private Reservation legacy;
+
+	@BeforeEach
+	void setUp() {
+		User customer = userRepository.save(UserFixture.customer().build());
+		owner = userRepository.save(UserFixture.owner().build());
+
+		restaurant = restaurantRepository.save(
+			RestaurantFixture.restaurant()
+				.ownerId(owner.getUserId())
+				.build()
+		);
+
+		RestaurantSlot slot = restaurantSlotRepository.save(
+			RestaurantSlotFixture.slot()
+				.restaurantId(restaurant.getRestaurantId())
+				.time(LocalTime.of(19, 0))
+				.build()
+		);
+
+		// restaurant_id 컬럼이 생기기 전의 DB: 컬럼이 nullable 이고 비어 있는 예약이 있다.
+		jdbcTemplate.execute("alter table reservation alter column restaurant_id set null");
+		legacy = reservationRepository.save(
+			ReservationFixture.confirmed()
+				.userId(customer.getUserId())
+				.slotId(slot.getSlotId())
+				.restaurantId(null)
+				.visitAt(BASE_DATE.atTime(slot.getTime()))
+				.build()
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		reservationRepository.deleteAll();
+		restaurantSlotRepository.deleteAll();
+		restaurantRepository.deleteAll();
+		userRepository.deleteAll();
+
+		// 다른 테스트를 위해 컬럼을 NOT NULL 로 되돌린다.
+		backfill.enforceNotNull();
+	}
+
+	@Test
+	@DisplayName("백필하면 restaurant_id 가 비어 있는 예약에 슬롯의 restaurant_id 가 채워지고, 다시 실행하면 채울 row 가 없다.")
+	void backfill_fillsRestaurantIdFromSlot() {
+		// when
+		long updated = backfill.backfill();
+
+		// then
+		assertThat(updated).isEqualTo(1);
+		assertThat(reservationRepository.fetchById(legacy.getReservationId()).getRestaurantId())
+			.isEqualTo(restaurant.getRestaurantId());
+		assertThat(backfill.backfill()).isZero();
+	}
+
+	@Test
+	@DisplayName("다 채운 뒤 NOT NULL 로 바꾸고, 점주 목록과 내보내기는 restaurant_id 로 예약을 찾는다.")
+	void enforceNotNull_afterBackfill() {
+		// given
+		backfill.backfill();
+
+		// when
+		boolean applied = backfill.enforceNotNull();
+
+		// then
+		assertThat(applied).isTrue();
+		assertThat(backfill.enforceNotNull()).isFalse();
+
+		Slice<OwnerReservationRow> page = reservationRepository.findOwnerReservationRows(
+			owner.getUserId(), null, BASE_DATE.atStartOfDay(), BASE_DATE.plusDays(1).atStartOfDay(),
+			PageRequest.of(0, 10)
+		);
+
+		List<ReservationExportRow> exported = new ArrayList<>();
+		reservationExportRepository.forEachByRestaurantIds(
+			List.of(restaurant.getRestaurantId()), null,
+			BASE_DATE.atStartOfDay(), BASE_DATE.plusDays(1).atStartOfDay(),
+			exported::add
+		);
+
+		assertThat(page.getContent()).extracting(OwnerReservationRow::reservationId)
+			.containsExactly(legacy.getReservationId());
+		assertThat(exported).extracting(ReservationExportRow::reservationId)
+			.containsExactly(legacy.getReservationId());
+	}
+
+	@Test
+	@DisplayName("채우지 않은 row 가 남아 있으면 NOT NULL 로 바꾸지 않는다.")
+	void enforceNotNull_skipsWhenNullRowsRemain() {
+		// when & then
+		assertThat(backfill.enforceNotNull()).isFalse();
+	}
+}
@@ -0,0 +1,75 @@
+package com.reservation.tablereservationservice.infrastructure.reservation.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class LockWaitTimeoutTest {
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	private LockWaitTimeout lockWaitTimeout;
+
+	@BeforeEach
+	void setUp() {
+		lockWaitTimeout = new LockWaitTimeout(jdbcTemplate, 3);
+		TransactionSynchronizationManager.initSynchronization();
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.unbindResourceIfPossible(lockWaitTimeout);
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+
+	@Test
+	@DisplayName("MySQL 이면 트랜잭션에서 한 번만 innodb_lock_wait_timeout 을 줄이고, 끝나기 전에 기본값으로 되돌린다.")
+	void mySql_appliesOncePerTransaction() {
+		// given
+		given(jdbcTemplate.execute(any(ConnectionCallback.class))).willReturn("MySQL");
+
+		// when
+		lockWaitTimeout.applyToCurrentTransaction();
+		lockWaitTimeout.applyToCurrentTransaction();
+		completeTransaction();
+
+		// then
+		verify(jdbcTemplate, times(1)).execute("set session innodb_lock_wait_timeout = 3");
+		verify(jdbcTemplate, times(1)).execute("set session innodb_lock_wait_timeout = default");
+		assertThat(TransactionSynchronizationManager.hasResource(lockWaitTimeout)).isFalse();
+	}
+
+	@Test
+	@DisplayName("MySQL 이 아니면 lock timeout 힌트를 따르므로 세션 변수를 건드리지 않는다.")
+	void otherDatabase_noop() {
+		// given
+		given(jdbcTemplate.execute(any(ConnectionCallback.class))).willReturn("H2");
+
+		// when
+		lockWaitTimeout.applyToCurrentTransaction();
+
+		// then
+		verify(jdbcTemplate, never()).execute(anyString());
+		assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+	}
+
+	private void completeTransaction() {
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			synchronization.beforeCompletion();
+			synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+		}
+	}
+}
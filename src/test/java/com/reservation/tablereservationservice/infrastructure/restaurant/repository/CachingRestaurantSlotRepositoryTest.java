@@ -0,0 +1,111 @@
+package com.reservation.tablereservationservice.infrastructure.restaurant.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlot;
+import com.reservation.tablereservationservice.fixture.RestaurantSlotFixture;
+import com.reservation.tablereservationservice.global.exception.ErrorCode;
+import com.reservation.tablereservationservice.global.exception.RestaurantException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CachingRestaurantSlotRepositoryTest {
+
+	@Mock
+	private JpaRestaurantSlotRepository delegate;
+
+	private MeterRegistry meterRegistry;
+	private CachingRestaurantSlotRepository repository;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		repository = new CachingRestaurantSlotRepository(delegate, meterRegistry, 100, 10, false);
+	}
+
+	@Test
+	@DisplayName("같은 슬롯을 두 번 조회하면 DB 는 한 번만 조회하고 hit/miss 가 기록된다")
+	void fetchById_SecondCall_HitsCache() {
+		// given
+		RestaurantSlot slot = RestaurantSlotFixture.slot().slotId(1L).build();
+		given(delegate.findById(1L)).willReturn(Optional.of(slot));
+
+		// when
+		repository.fetchById(1L);
+		RestaurantSlot result = repository.fetchById(1L);
+
+		// then
+		assertThat(result).isSameAs(slot);
+		verify(delegate, times(1)).findById(1L);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "restaurantSlot").tag("result", "hit")
+			.functionCounter().count()).isEqualTo(1.0);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "restaurantSlot").tag("result", "miss")
+			.functionCounter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("없는 슬롯은 캐시하지 않고 매번 예외가 발생한다")
+	void fetchById_NotFound_NotCached() {
+		// given
+		given(delegate.findById(1L)).willReturn(Optional.empty());
+
+		// when & then
+		for (int i = 0; i < 2; i++) {
+			assertThatThrownBy(() -> repository.fetchById(1L))
+				.isInstanceOf(RestaurantException.class)
+				.satisfies(ex -> assertThat(((RestaurantException)ex).getErrorCode()).isEqualTo(ErrorCode.RESOURCE_NOT_FOUND));
+		}
+		verify(delegate, times(2)).findById(1L);
+	}
+
+	@Test
+	@DisplayName("save 하면 해당 슬롯 캐시가 무효화되어 다음 조회는 DB 를 다시 읽는다")
+	void save_InvalidatesEntry() {
+		// given
+		RestaurantSlot before = RestaurantSlotFixture.slot().slotId(1L).maxCapacity(10).build();
+		RestaurantSlot after = RestaurantSlotFixture.slot().slotId(1L).maxCapacity(20).build();
+		given(delegate.findById(1L)).willReturn(Optional.of(before), Optional.of(after));
+		given(delegate.save(after)).willReturn(after);
+
+		repository.fetchById(1L);
+
+		// when
+		repository.save(after);
+
+		// then
+		assertThat(repository.fetchById(1L).getMaxCapacity()).isEqualTo(20);
+		verify(delegate, times(2)).findById(1L);
+	}
+
+	@Test
+	@DisplayName("findAllById 는 캐시에 없는 id 만 DB 에서 조회한다")
+	void findAllById_LoadsOnlyMissing() {
+		// given
+		RestaurantSlot slot1 = RestaurantSlotFixture.slot().slotId(1L).build();
+		RestaurantSlot slot2 = RestaurantSlotFixture.slot().slotId(2L).build();
+		given(delegate.findById(1L)).willReturn(Optional.of(slot1));
+		given(delegate.findAllById(List.of(2L))).willReturn(List.of(slot2));
+
+		repository.fetchById(1L);
+
+		// when
+		List<RestaurantSlot> result = repository.findAllById(List.of(1L, 2L));
+
+		// then
+		assertThat(result).containsExactlyInAnyOrder(slot1, slot2);
+		verify(delegate).findAllById(List.of(2L));
+	}
+}
@@ -26,7 +26,6 @@ import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlot;
 import com.reservation.tablereservationservice.domain.restaurant.RestaurantSlotRepository;
 import com.reservation.tablereservationservice.domain.user.User;
 import com.reservation.tablereservationservice.domain.user.UserRepository;
-import com.reservation.tablereservationservice.domain.user.UserRole;
 import com.reservation.tablereservationservice.fixture.DailySlotCapacityFixture;
 import com.reservation.tablereservationservice.fixture.RestaurantFixture;
 import com.reservation.tablereservationservice.fixture.RestaurantSlotFixture;
@@ -83,8 +82,8 @@ class ReservationControllerIntegrationTest {
 		User owner = userRepository.save(UserFixture.owner().build());
 		User customer = userRepository.save(UserFixture.customer().build());
 
-		this.ownerAccessToken = jwtProvider.createAccessToken(owner.getEmail(), UserRole.OWNER);
-		this.customerAccessToken = jwtProvider.createAccessToken(customer.getEmail(), UserRole.CUSTOMER);
+		this.ownerAccessToken = jwtProvider.createAccessToken(owner);
+		this.customerAccessToken = jwtProvider.createAccessToken(customer);
 
 		Restaurant restaurant = restaurantRepository.save(
 			RestaurantFixture.restaurant()
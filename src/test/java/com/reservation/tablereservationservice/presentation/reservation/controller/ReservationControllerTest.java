@@ -11,7 +11,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,12 +35,27 @@ import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reservation.tablereservationservice.application.reservation.export.ReservationExportService;
+import com.reservation.tablereservationservice.application.reservation.facade.ReservationAdaptiveFacade;
+import com.reservation.tablereservationservice.application.reservation.facade.ReservationIdempotentFacade;
+import com.reservation.tablereservationservice.application.reservation.facade.ReservationMailboxFacade;
+import com.reservation.tablereservationservice.application.reservation.facade.ReservationOptimisticFacade;
+import com.reservation.tablereservationservice.application.reservation.hold.SeatHoldService;
 import com.reservation.tablereservationservice.application.reservation.service.ReservationService;
+import com.reservation.tablereservationservice.application.reservation.waiting.ReservationAsyncAcceptor;
+import com.reservation.tablereservationservice.application.reservation.waiting.ReservationInFlightLimiter;
+import com.reservation.tablereservationservice.application.reservation.waiting.WaitingRoom;
+import com.reservation.tablereservationservice.application.reservation.waiting.WaitingTicket;
+import com.reservation.tablereservationservice.application.reservation.waiting.WaitingTicketStore;
 import com.reservation.tablereservationservice.domain.reservation.Reservation;
 import com.reservation.tablereservationservice.domain.reservation.ReservationStatus;
+import com.reservation.tablereservationservice.global.common.CurrentUser;
 import com.reservation.tablereservationservice.global.exception.ErrorCode;
 import com.reservation.tablereservationservice.global.exception.GlobalExceptionHandler;
+import com.reservation.tablereservationservice.global.exception.ReservationException;
+import com.reservation.tablereservationservice.global.request.RequestSequenceGenerator;
 import com.reservation.tablereservationservice.presentation.common.ApiResponse;
+import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationBatchRequestDto;
 import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationRequestDto;
 import com.reservation.tablereservationservice.presentation.reservation.dto.ReservationResponseDto;
 
@@ -49,6 +66,7 @@ class ReservationControllerTest {
 
 	private static final LocalDate BASE_DATE = LocalDate.of(2030, 1, 1);
 	private static final LocalDateTime BASE_VISIT_AT = LocalDateTime.of(2030, 1, 1, 19, 0);
+	private static final Long USER_ID = 1L;
 
 	@Autowired
 	private MockMvc mockMvc;
@@ -59,6 +77,45 @@ class ReservationControllerTest {
 	@MockitoBean
 	private ReservationService reservationService;
 
+	@MockitoBean
+	private ReservationOptimisticFacade reservationOptimisticFacade;
+
+	@MockitoBean
+	private ReservationMailboxFacade reservationMailboxFacade;
+
+	@MockitoBean
+	private ReservationAdaptiveFacade reservationAdaptiveFacade;
+
+	@MockitoBean
+	private ReservationIdempotentFacade reservationIdempotentFacade;
+
+	@MockitoBean
+	private RequestSequenceGenerator sequenceGenerator;
+
+	@MockitoBean
+	private SeatHoldService seatHoldService;
+
+	@MockitoBean
+	private WaitingRoom waitingRoom;
+
+	@MockitoBean
+	private WaitingTicketStore ticketStore;
+
+	@MockitoBean
+	private ReservationAsyncAcceptor reservationAsyncAcceptor;
+
+	@MockitoBean
+	private ReservationExportService reservationExportService;
+
+	@MockitoBean
+	private ReservationInFlightLimiter inFlightLimiter;
+
+	@BeforeEach
+	void setUp() {
+		// 자리가 있는 상태: 받은 작업을 그대로 실행한다.
+		given(inFlightLimiter.call(any())).willAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+	}
+
 	@Test
 	@DisplayName("예약 요청 성공 - CUSTOMER 권한이면 200 및 응답 바디 반환")
 	void create_success_whenCustomerRole() throws Exception {
@@ -82,11 +139,11 @@ class ReservationControllerTest {
 			.status(ReservationStatus.CONFIRMED)
 			.build();
 
-		given(reservationService.create(eq(email), any(ReservationRequestDto.class)))
+		given(reservationIdempotentFacade.create(eq(USER_ID), any(ReservationRequestDto.class)))
 			.willReturn(reservation);
 
 		Authentication auth = new UsernamePasswordAuthenticationToken(
-			email,
+			currentUser(email),
 			null,
 			List.of(new SimpleGrantedAuthority("ROLE_CUSTOMER"))
 		);
@@ -115,7 +172,7 @@ class ReservationControllerTest {
 		assertThat(data.getPartySize()).isEqualTo(2);
 		assertThat(data.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
 
-		verify(reservationService).create(eq(email), any(ReservationRequestDto.class));
+		verify(reservationIdempotentFacade).create(eq(USER_ID), any(ReservationRequestDto.class));
 	}
 
 	@Test
@@ -132,7 +189,7 @@ class ReservationControllerTest {
 		);
 
 		Authentication auth = new UsernamePasswordAuthenticationToken(
-			email,
+			currentUser(email),
 			null,
 			List.of(new SimpleGrantedAuthority("ROLE_CUSTOMER"))
 		);
@@ -162,7 +219,7 @@ class ReservationControllerTest {
 		assertThat(errors.get("date")).isEqualTo("예약 날짜는 필수입니다.");
 		assertThat(errors.get("partySize")).isEqualTo("예약 인원은 1명 이상이어야 합니다.");
 
-		verify(reservationService, never()).create(anyString(), any());
+		verify(reservationIdempotentFacade, never()).create(anyLong(), any());
 	}
 
 	@Test
@@ -178,7 +235,7 @@ class ReservationControllerTest {
 		);
 
 		Authentication auth = new UsernamePasswordAuthenticationToken(
-			email,
+			currentUser(email),
 			null,
 			List.of(new SimpleGrantedAuthority("ROLE_OWNER"))
 		);
@@ -191,7 +248,7 @@ class ReservationControllerTest {
 			.andExpect(status().isForbidden());
 
 		// then
-		verify(reservationService, never()).create(anyString(), any());
+		verify(reservationIdempotentFacade, never()).create(anyLong(), any());
 	}
 
 	@Test
@@ -211,11 +268,11 @@ class ReservationControllerTest {
 			.status(ReservationStatus.CANCELED)
 			.build();
 
-		given(reservationService.cancel(eq(email), eq(reservationId)))
+		given(reservationService.cancel(eq(USER_ID), eq(reservationId)))
 			.willReturn(canceledReservation);
 
 		Authentication auth = new UsernamePasswordAuthenticationToken(
-			email,
+			currentUser(email),
 			null,
 			List.of(new SimpleGrantedAuthority("ROLE_CUSTOMER"))
 		);
@@ -242,7 +299,7 @@ class ReservationControllerTest {
 		assertThat(data.getReservationId()).isEqualTo(reservationId);
 		assertThat(data.getStatus()).isEqualTo(ReservationStatus.CANCELED);
 
-		verify(reservationService).cancel(eq(email), eq(reservationId));
+		verify(reservationService).cancel(eq(USER_ID), eq(reservationId));
 	}
 
 	@Test
@@ -253,7 +310,7 @@ class ReservationControllerTest {
 		Long reservationId = 999L;
 
 		Authentication auth = new UsernamePasswordAuthenticationToken(
-			email,
+			currentUser(email),
 			null,
 			List.of(new SimpleGrantedAuthority("ROLE_OWNER"))
 		);
@@ -265,7 +322,123 @@ class ReservationControllerTest {
 			.andExpect(status().isForbidden());
 
 		// then
-		verify(reservationService, never()).cancel(anyString(), anyLong());
+		verify(reservationService, never()).cancel(anyLong(), anyLong());
+	}
+
+	@Test
+	@DisplayName("일괄 예약 요청 성공 - 요청 순서대로 예약 목록을 반환한다.")
+	void createAll_success_whenCustomerRole() throws Exception {
+		// given
+		String email = "customer01@test.com";
+
+		ReservationBatchRequestDto requestDto = new ReservationBatchRequestDto(List.of(
+			new ReservationRequestDto("req-1", 10L, BASE_DATE, 2, ""),
+			new ReservationRequestDto("req-2", 10L, BASE_DATE.plusDays(1), 3, "")
+		));
+
+		given(reservationOptimisticFacade.createAll(eq(USER_ID), anyList())).willReturn(List.of(
+			Reservation.builder()
+				.reservationId(1L)
+				.userId(1L)
+				.slotId(10L)
+				.visitAt(BASE_VISIT_AT)
+				.partySize(2)
+				.status(ReservationStatus.CONFIRMED)
+				.build(),
+			Reservation.builder()
+				.reservationId(2L)
+				.userId(1L)
+				.slotId(10L)
+				.visitAt(BASE_VISIT_AT.plusDays(1))
+				.partySize(3)
+				.status(ReservationStatus.CONFIRMED)
+				.build()
+		));
+
+		Authentication auth = new UsernamePasswordAuthenticationToken(
+			currentUser(email),
+			null,
+			List.of(new SimpleGrantedAuthority("ROLE_CUSTOMER"))
+		);
+
+		// when
+		MvcResult mvcResult = mockMvc.perform(post("/api/reservations/batch")
+				.with(authentication(auth))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(requestDto)))
+			.andExpect(status().isOk())
+			.andReturn();
+
+		// then
+		ApiResponse<List<ReservationResponseDto>> response = readResponse(
+			mvcResult,
+			new TypeReference<ApiResponse<List<ReservationResponseDto>>>() {
+			}
+		);
+
+		assertThat(response.getMessage()).isEqualTo("일괄 예약 요청 성공");
+		assertThat(response.getData()).extracting(ReservationResponseDto::getReservationId).containsExactly(1L, 2L);
+	}
+
+	@Test
+	@DisplayName("비동기 예약 접수 - Prefer: respond-async 이면 202 와 대기표를 반환한다.")
+	void createAsync_returnsAcceptedWithTicket() throws Exception {
+		// given
+		String email = "customer01@test.com";
+		ReservationRequestDto requestDto = new ReservationRequestDto("req-1", 10L, BASE_DATE, 2, "note");
+
+		given(reservationAsyncAcceptor.accept(eq(USER_ID), any(ReservationRequestDto.class)))
+			.willReturn(new WaitingTicket("ticket-1", USER_ID, 1L, requestDto));
+
+		Authentication auth = new UsernamePasswordAuthenticationToken(
+			currentUser(email),
+			null,
+			List.of(new SimpleGrantedAuthority("ROLE_CUSTOMER"))
+		);
+
+		// when & then
+		mockMvc.perform(post("/api/reservations")
+				.with(authentication(auth))
+				.header("Prefer", "respond-async")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(requestDto)))
+			.andExpect(status().isAccepted())
+			.andExpect(jsonPath("$.code").value(202))
+			.andExpect(jsonPath("$.data.token").value("ticket-1"))
+			.andExpect(jsonPath("$.data.status").value("WAITING"));
+
+		verify(reservationIdempotentFacade, never()).create(anyLong(), any());
+	}
+
+	@Test
+	@DisplayName("예약 요청 실패 - 다른 생성 경로와 함께 쓰는 in-flight 상한이 차 있으면 503 을 반환하고 예약을 처리하지 않는다.")
+	void create_inFlightFull_returnsServiceUnavailable() throws Exception {
+		// given
+		String email = "customer01@test.com";
+		ReservationRequestDto requestDto = new ReservationRequestDto("req-1", 10L, BASE_DATE, 2, "note");
+
+		willThrow(new ReservationException(ErrorCode.WAITING_ROOM_FULL)).given(inFlightLimiter).call(any());
+
+		Authentication auth = new UsernamePasswordAuthenticationToken(
+			currentUser(email),
+			null,
+			List.of(new SimpleGrantedAuthority("ROLE_CUSTOMER"))
+		);
+
+		// when & then
+		mockMvc.perform(post("/api/reservations")
+				.with(authentication(auth))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(requestDto)))
+			.andExpect(status().isServiceUnavailable())
+			.andExpect(jsonPath("$.code").value(503));
+
+		verify(reservationIdempotentFacade, never()).create(anyLong(), any());
+	}
+
+	// 필터가 access token 에서 만드는 principal 과 같은 형태
+	private CurrentUser currentUser(String email) {
+		return new CurrentUser(USER_ID, email, null, null);
 	}
 
 	private <T> ApiResponse<T> readResponse(
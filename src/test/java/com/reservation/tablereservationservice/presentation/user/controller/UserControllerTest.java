@@ -22,6 +22,8 @@ import org.springframework.test.web.servlet.MvcResult;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reservation.tablereservationservice.application.user.service.UserService;
+import com.reservation.tablereservationservice.domain.user.UserRole;
+import com.reservation.tablereservationservice.global.common.CurrentUser;
 import com.reservation.tablereservationservice.global.exception.ErrorCode;
 import com.reservation.tablereservationservice.global.exception.GlobalExceptionHandler;
 import com.reservation.tablereservationservice.global.exception.UserException;
@@ -237,7 +239,7 @@ class UserControllerTest {
 	}
 
 	@Test
-	@DisplayName("내 정보 조회 성공 - Authentication principal(email)로 /me 호출")
+	@DisplayName("내 정보 조회 성공 - Authentication principal(CurrentUser)의 email 로 /me 호출")
 	void me_Success() throws Exception {
 		// given
 		String email = "test@email.com";
@@ -253,7 +255,7 @@ class UserControllerTest {
 
 		// when
 		MvcResult mvcResult = mockMvc.perform(get("/api/users/me")
-				.principal(new UsernamePasswordAuthenticationToken(email, null)))
+				.principal(new UsernamePasswordAuthenticationToken(currentUser(email), null)))
 			.andReturn();
 
 		// then
@@ -285,7 +287,7 @@ class UserControllerTest {
 
 		// when
 		MvcResult mvcResult = mockMvc.perform(get("/api/users/me")
-				.principal(new UsernamePasswordAuthenticationToken(email, null)))
+				.principal(new UsernamePasswordAuthenticationToken(currentUser(email), null)))
 			.andReturn();
 
 		// then
@@ -307,4 +309,8 @@ class UserControllerTest {
 		String body = mvcResult.getResponse().getContentAsString();
 		return objectMapper.readValue(body, typeRef);
 	}
+
+	private CurrentUser currentUser(String email) {
+		return new CurrentUser(1L, email, UserRole.CUSTOMER, "테스터");
+	}
 }